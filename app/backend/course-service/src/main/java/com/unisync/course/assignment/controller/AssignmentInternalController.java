@@ -0,0 +1,35 @@
+package com.unisync.course.assignment.controller;
+
+import com.unisync.course.assignment.dto.UserAssignmentsBatchEvent;
+import com.unisync.course.assignment.service.AssignmentFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 내부용 Assignment 조회 컨트롤러 (Schedule-Service 등 내부 호출 전용)
+ */
+@RestController
+@RequestMapping("/internal/v1/assignments")
+@RequiredArgsConstructor
+public class AssignmentInternalController {
+
+    private final AssignmentFeedService assignmentFeedService;
+
+    /**
+     * 사용자 assignments snapshot 조회
+     */
+    @GetMapping("/snapshot")
+    @Operation(summary = "사용자 assignments snapshot 조회",
+            description = "활성 과목 과제 전체와 마지막 발급 sequence 반환 (delta 누락 시 복구용, 내부용)")
+    public ResponseEntity<UserAssignmentsBatchEvent> getSnapshot(
+            @Parameter(hidden = true) @RequestHeader("X-Cognito-Sub") String cognitoSub
+    ) {
+        return ResponseEntity.ok(assignmentFeedService.getSnapshot(cognitoSub));
+    }
+}
@@ -0,0 +1,56 @@
+package com.unisync.course.assignment.dto;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Canvas 동기화 메시지 bulk upsert 결과
+ *
+ * @param inserted 새로 저장된 과제 수
+ * @param updated 내용이 바뀌어 갱신된 과제 수
+ * @param removed Canvas에서 사라져 삭제된 과제 수
+ * @param unchanged 변경 없이 건너뛴 과제 수
+ * @param changes 과제 단위 변경 내역 (fan-out 대상 산출 및 delta 이벤트 구성용)
+ */
+public record AssignmentBulkUpsertResult(
+        int inserted,
+        int updated,
+        int removed,
+        int unchanged,
+        List<AssignmentChange> changes
+) {
+
+    public static AssignmentBulkUpsertResult empty() {
+        return new AssignmentBulkUpsertResult(0, 0, 0, 0, List.of());
+    }
+
+    /**
+     * 과제가 추가/변경/삭제된 Course ID
+     */
+    public Set<Long> changedCourseIds() {
+        return changes.stream()
+                .map(AssignmentChange::courseId)
+                .collect(Collectors.toSet());
+    }
+
+    public boolean hasChanges() {
+        return !changes.isEmpty();
+    }
+
+    /**
+     * 과제 단위 변경 내역
+     *
+     * @param courseId 과제가 속한 Course ID
+     * @param canvasAssignmentId Canvas Assignment ID
+     * @param type 변경 유형
+     */
+    public record AssignmentChange(Long courseId, Long canvasAssignmentId, ChangeType type) {
+    }
+
+    public enum ChangeType {
+        ADDED,
+        CHANGED,
+        REMOVED
+    }
+}
@@ -1,5 +1,6 @@
 package com.unisync.course.assignment.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -9,16 +10,22 @@ import lombok.NoArgsConstructor;
 import java.util.List;
 
 /**
- * 사용자별 assignments 배치 이벤트 (USER_ASSIGNMENTS_CREATED)
+ * 사용자별 assignments 배치 이벤트
+ * - USER_ASSIGNMENTS_CREATED: 사용자의 활성 과목 과제 전체 (snapshot)
+ * - USER_ASSIGNMENTS_DELTA: 직전 이벤트 이후 추가/변경/삭제된 과제만 포함
  */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class UserAssignmentsBatchEvent {
 
+    public static final String EVENT_TYPE_SNAPSHOT = "USER_ASSIGNMENTS_CREATED";
+    public static final String EVENT_TYPE_DELTA = "USER_ASSIGNMENTS_DELTA";
+
     @Schema(description = "이벤트 타입", example = "USER_ASSIGNMENTS_CREATED")
-    private String eventType; // USER_ASSIGNMENTS_CREATED
+    private String eventType; // USER_ASSIGNMENTS_CREATED | USER_ASSIGNMENTS_DELTA
 
     @Schema(description = "사용자 Cognito Sub")
     private String cognitoSub;
@@ -26,9 +33,21 @@ public class UserAssignmentsBatchEvent {
     @Schema(description = "동기화 완료 시각", example = "2025-11-30T12:00:00Z")
     private String syncedAt;
 
-    @Schema(description = "사용자의 assignments 배치")
+    @Schema(description = "사용자별 이벤트 sequence (소비자의 누락 감지용, 1부터 증가)", example = "42")
+    private Long sequence;
+
+    @Schema(description = "사용자의 assignments 배치 (snapshot)")
     private List<AssignmentPayload> assignments;
 
+    @Schema(description = "새로 추가된 assignments (delta)")
+    private List<AssignmentPayload> addedAssignments;
+
+    @Schema(description = "내용이 바뀐 assignments (delta)")
+    private List<AssignmentPayload> changedAssignments;
+
+    @Schema(description = "삭제된 Canvas Assignment ID (delta)")
+    private List<Long> removedCanvasAssignmentIds;
+
     @Data
     @Builder
     @NoArgsConstructor
@@ -43,5 +62,7 @@ public class UserAssignmentsBatchEvent {
         private String description;
         private String dueAt;
         private Double pointsPossible;
+        private String submissionTypes;
+        private String contentHash; // Canvas 과제 내용 fingerprint (SHA-256)
     }
 }
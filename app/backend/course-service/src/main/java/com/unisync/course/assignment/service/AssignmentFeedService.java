@@ -0,0 +1,187 @@
+package com.unisync.course.assignment.service;
+
+import com.unisync.course.assignment.dto.AssignmentBulkUpsertResult;
+import com.unisync.course.assignment.dto.AssignmentBulkUpsertResult.AssignmentChange;
+import com.unisync.course.assignment.dto.AssignmentBulkUpsertResult.ChangeType;
+import com.unisync.course.assignment.dto.UserAssignmentsBatchEvent;
+import com.unisync.course.assignment.dto.UserAssignmentsBatchEvent.AssignmentPayload;
+import com.unisync.course.common.repository.AssignmentFeedSequenceRepository;
+import com.unisync.course.common.repository.AssignmentProjection;
+import com.unisync.course.common.repository.AssignmentRepository;
+import com.unisync.course.common.repository.EnrollmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 assignments 이벤트(snapshot/delta) 구성 서비스
+ *
+ * 모든 이벤트에는 사용자별로 1씩 증가하는 sequence가 붙는다.
+ * Schedule-Service는 sequence가 이어지지 않으면 delta를 버리고 getSnapshot()으로 전체 상태를 다시 받는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AssignmentFeedService {
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final AssignmentRepository assignmentRepository;
+    private final AssignmentFeedSequenceRepository feedSequenceRepository;
+
+    /**
+     * 사용자별 전체 snapshot 이벤트 구성 (활성 과목 과제가 없는 사용자는 제외)
+     *
+     * @param cognitoSubs 대상 사용자
+     * @param syncedAt 동기화 완료 시각
+     * @return sequence가 발급된 snapshot 이벤트
+     */
+    @Transactional
+    public List<UserAssignmentsBatchEvent> buildSnapshotEvents(Collection<String> cognitoSubs, String syncedAt) {
+        List<UserAssignmentsBatchEvent> events = new ArrayList<>();
+
+        for (String userSub : cognitoSubs) {
+            List<AssignmentPayload> assignments = findUserAssignments(userSub);
+            if (assignments.isEmpty()) {
+                continue;
+            }
+
+            events.add(UserAssignmentsBatchEvent.builder()
+                    .eventType(UserAssignmentsBatchEvent.EVENT_TYPE_SNAPSHOT)
+                    .cognitoSub(userSub)
+                    .syncedAt(syncedAt)
+                    .assignments(assignments)
+                    .build());
+        }
+
+        return assignSequences(events);
+    }
+
+    /**
+     * 사용자별 delta 이벤트 구성
+     *
+     * 사용자가 동기화를 활성화한 과목의 변경분만 담는다.
+     *
+     * @param enabledCourseIdsByUser cognitoSub -> 변경된 과목 중 사용자가 활성화한 Course ID
+     * @param upsertResult bulk upsert 결과
+     * @param syncedAt 동기화 완료 시각
+     * @return sequence가 발급된 delta 이벤트
+     */
+    @Transactional
+    public List<UserAssignmentsBatchEvent> buildDeltaEvents(Map<String, Set<Long>> enabledCourseIdsByUser,
+                                                            AssignmentBulkUpsertResult upsertResult,
+                                                            String syncedAt) {
+        if (enabledCourseIdsByUser.isEmpty() || !upsertResult.hasChanges()) {
+            return List.of();
+        }
+
+        // 추가/변경 과제 payload는 한 번에 조회 (JDBC INSERT된 행 포함)
+        Set<Long> upsertedIds = upsertResult.changes().stream()
+                .filter(change -> change.type() != ChangeType.REMOVED)
+                .map(AssignmentChange::canvasAssignmentId)
+                .collect(Collectors.toSet());
+        Map<Long, AssignmentPayload> payloadByCanvasId = upsertedIds.isEmpty()
+                ? Map.of()
+                : assignmentRepository.findProjectionsByCanvasAssignmentIdIn(upsertedIds).stream()
+                        .map(this::toPayload)
+                        .collect(Collectors.toMap(AssignmentPayload::getCanvasAssignmentId, Function.identity()));
+
+        List<UserAssignmentsBatchEvent> events = new ArrayList<>();
+
+        enabledCourseIdsByUser.forEach((userSub, courseIds) -> {
+            List<AssignmentPayload> added = new ArrayList<>();
+            List<AssignmentPayload> changed = new ArrayList<>();
+            List<Long> removed = new ArrayList<>();
+
+            for (AssignmentChange change : upsertResult.changes()) {
+                if (!courseIds.contains(change.courseId())) {
+                    continue;
+                }
+                switch (change.type()) {
+                    case ADDED -> addIfPresent(added, payloadByCanvasId.get(change.canvasAssignmentId()));
+                    case CHANGED -> addIfPresent(changed, payloadByCanvasId.get(change.canvasAssignmentId()));
+                    case REMOVED -> removed.add(change.canvasAssignmentId());
+                }
+            }
+
+            if (added.isEmpty() && changed.isEmpty() && removed.isEmpty()) {
+                return;
+            }
+
+            events.add(UserAssignmentsBatchEvent.builder()
+                    .eventType(UserAssignmentsBatchEvent.EVENT_TYPE_DELTA)
+                    .cognitoSub(userSub)
+                    .syncedAt(syncedAt)
+                    .addedAssignments(added)
+                    .changedAssignments(changed)
+                    .removedCanvasAssignmentIds(removed)
+                    .build());
+        });
+
+        return assignSequences(events);
+    }
+
+    /**
+     * 사용자의 현재 snapshot 조회 (Schedule-Service의 gap 복구용)
+     *
+     * sequence는 새로 발급하지 않고 마지막 발급 값을 그대로 싣는다.
+     * 소비자는 이 값 이후의 delta부터 이어서 적용한다.
+     */
+    @Transactional(readOnly = true)
+    public UserAssignmentsBatchEvent getSnapshot(String cognitoSub) {
+        return UserAssignmentsBatchEvent.builder()
+                .eventType(UserAssignmentsBatchEvent.EVENT_TYPE_SNAPSHOT)
+                .cognitoSub(cognitoSub)
+                .sequence(feedSequenceRepository.currentSequence(cognitoSub))
+                .assignments(findUserAssignments(cognitoSub))
+                .build();
+    }
+
+    private List<UserAssignmentsBatchEvent> assignSequences(List<UserAssignmentsBatchEvent> events) {
+        if (events.isEmpty()) {
+            return events;
+        }
+
+        Map<String, Long> sequences = feedSequenceRepository.nextSequences(
+                events.stream().map(UserAssignmentsBatchEvent::getCognitoSub).toList());
+        events.forEach(event -> event.setSequence(sequences.get(event.getCognitoSub())));
+        return events;
+    }
+
+    private List<AssignmentPayload> findUserAssignments(String cognitoSub) {
+        // 해당 사용자의 과제 전체 조회 (enabled 과목만)
+        return enrollmentRepository.findAssignmentsByCognitoSub(cognitoSub).stream()
+                .map(this::toPayload)
+                .collect(Collectors.toList());
+    }
+
+    private void addIfPresent(List<AssignmentPayload> target, AssignmentPayload payload) {
+        if (payload != null) {
+            target.add(payload);
+        }
+    }
+
+    private AssignmentPayload toPayload(AssignmentProjection a) {
+        return AssignmentPayload.builder()
+                .assignmentId(a.getAssignmentId())
+                .canvasAssignmentId(a.getCanvasAssignmentId())
+                .canvasCourseId(a.getCanvasCourseId())
+                .courseId(a.getCourseId())
+                .courseName(a.getCourseName())
+                .title(a.getTitle())
+                .description(a.getDescription())
+                .dueAt(a.getDueAt())
+                .pointsPossible(a.getPointsPossible())
+                .submissionTypes(a.getSubmissionTypes())
+                .contentHash(a.getContentHash())
+                .build();
+    }
+}
@@ -1,19 +1,38 @@
 package com.unisync.course.assignment.service;
 
 import com.unisync.shared.dto.sqs.AssignmentEventMessage;
+import com.unisync.shared.util.CanvasContentHash;
+import com.unisync.course.assignment.dto.AssignmentBulkUpsertResult;
+import com.unisync.course.assignment.dto.AssignmentBulkUpsertResult.AssignmentChange;
+import com.unisync.course.assignment.dto.AssignmentBulkUpsertResult.ChangeType;
 import com.unisync.course.assignment.dto.AssignmentResponse;
 import com.unisync.course.assignment.exception.AssignmentNotFoundException;
 import com.unisync.course.common.entity.Assignment;
 import com.unisync.course.common.entity.Course;
+import com.unisync.course.common.repository.AssignmentJdbcRepository;
 import com.unisync.course.common.repository.AssignmentRepository;
 import com.unisync.course.common.repository.CourseRepository;
+import com.unisync.course.common.util.CanvasDateTimes;
 import com.unisync.course.course.exception.CourseNotFoundException;
+import com.unisync.course.sync.dto.CanvasSyncMessage;
+import com.unisync.course.sync.dto.CanvasSyncMessage.AssignmentData;
+import com.unisync.course.sync.dto.CanvasSyncMessage.CourseData;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Assignment Service
@@ -27,6 +46,7 @@ public class AssignmentService {
 
     private final AssignmentRepository assignmentRepository;
     private final CourseRepository courseRepository;
+    private final AssignmentJdbcRepository assignmentJdbcRepository;
 
     /**
      * Assignment 생성
@@ -54,6 +74,8 @@ public class AssignmentService {
             .dueAt(message.getDueAt())
             .pointsPossible(message.getPointsPossible())
             .submissionTypes(message.getSubmissionTypes())
+            .contentHash(CanvasContentHash.of(message.getTitle(), message.getDescription(), message.getDueAt(),
+                message.getPointsPossible(), message.getSubmissionTypes()))
             .build();
 
         Assignment saved = assignmentRepository.save(assignment);
@@ -64,6 +86,116 @@ public class AssignmentService {
         // 4. Schedule-Service 이벤트 발행은 배치 단계에서 처리 (CanvasSyncListener에서 일괄 발행)
     }
 
+    /**
+     * Canvas 동기화 메시지의 과제를 일괄 저장/갱신 (set 기반 bulk upsert)
+     *
+     * 1. 메시지에 포함된 Course를 한 번에 조회
+     * 2. 해당 Course들의 기존 Assignment를 한 번에 조회하여 메모리에서 비교
+     * 3. content hash로 변경 여부 판단 → 새 과제는 JDBC 배치 INSERT, 내용이 바뀐 과제만 updateFromCanvas
+     * 4. 과제 목록이 포함된 Course에서 Canvas가 더 이상 반환하지 않는 과제는 삭제
+     *
+     * @param syncMessage Canvas 통합 동기화 메시지
+     * @return 저장/갱신/삭제 결과 (과제 단위 변경 내역 포함)
+     */
+    @Transactional
+    public AssignmentBulkUpsertResult upsertAssignments(CanvasSyncMessage syncMessage) {
+        List<CourseData> courses = syncMessage.getCourses() != null ? syncMessage.getCourses() : List.of();
+
+        // 1. Course 일괄 조회 (canvasCourseId -> Course)
+        Set<Long> canvasCourseIds = courses.stream()
+                .map(CourseData::getCanvasCourseId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (canvasCourseIds.isEmpty()) {
+            return AssignmentBulkUpsertResult.empty();
+        }
+
+        Map<Long, Course> courseByCanvasId = courseRepository.findAllByCanvasCourseIdIn(canvasCourseIds).stream()
+                .collect(Collectors.toMap(Course::getCanvasCourseId, Function.identity()));
+
+        // 2. 기존 Assignment 일괄 조회 (canvasAssignmentId -> Assignment)
+        Set<Long> courseIds = courseByCanvasId.values().stream()
+                .map(Course::getId)
+                .collect(Collectors.toSet());
+        Map<Long, Assignment> existingByCanvasId = courseIds.isEmpty()
+                ? Map.of()
+                : assignmentRepository.findAllByCourseIdIn(courseIds).stream()
+                        .collect(Collectors.toMap(Assignment::getCanvasAssignmentId, Function.identity()));
+
+        // 3. 메모리에서 diff
+        Map<Long, Assignment> toInsert = new LinkedHashMap<>();
+        Set<Long> seenCanvasAssignmentIds = new HashSet<>();
+        Set<Long> listedCourseIds = new HashSet<>();
+        List<AssignmentChange> changes = new ArrayList<>();
+        int updated = 0;
+        int unchanged = 0;
+
+        for (CourseData courseData : courses) {
+            Course course = courseByCanvasId.get(courseData.getCanvasCourseId());
+            if (course == null || courseData.getAssignments() == null) {
+                continue;
+            }
+            listedCourseIds.add(course.getId());
+
+            for (AssignmentData data : courseData.getAssignments()) {
+                Long canvasAssignmentId = data.getCanvasAssignmentId();
+                if (canvasAssignmentId == null || !seenCanvasAssignmentIds.add(canvasAssignmentId)) {
+                    continue;
+                }
+
+                LocalDateTime dueAt = CanvasDateTimes.parse(data.getDueAt());
+                Integer pointsPossible = data.getPointsPossible() != null
+                        ? data.getPointsPossible().intValue()
+                        : null;
+
+                String contentHash = CanvasContentHash.of(data.getTitle(), data.getDescription(), dueAt,
+                        pointsPossible, data.getSubmissionTypes());
+
+                Assignment existing = existingByCanvasId.get(canvasAssignmentId);
+                if (existing == null) {
+                    toInsert.put(canvasAssignmentId, Assignment.builder()
+                            .canvasAssignmentId(canvasAssignmentId)
+                            .course(course)
+                            .title(data.getTitle())
+                            .description(data.getDescription())
+                            .dueAt(dueAt)
+                            .pointsPossible(pointsPossible)
+                            .submissionTypes(data.getSubmissionTypes())
+                            .contentHash(contentHash)
+                            .build());
+                    changes.add(new AssignmentChange(course.getId(), canvasAssignmentId, ChangeType.ADDED));
+                } else if (contentHash.equals(existing.currentContentHash())) {
+                    // 내용 동일 → 엔티티를 건드리지 않아 dirty checking/UPDATE 모두 발생하지 않음
+                    unchanged++;
+                } else {
+                    // managed 엔티티 → flush 시 dirty checking으로 배치 UPDATE
+                    existing.updateFromCanvas(data.getTitle(), data.getDescription(), dueAt,
+                            pointsPossible, data.getSubmissionTypes());
+                    changes.add(new AssignmentChange(course.getId(), canvasAssignmentId, ChangeType.CHANGED));
+                    updated++;
+                }
+            }
+        }
+
+        // 4. 과제 목록을 받은 Course에서 Canvas가 더 이상 반환하지 않는 과제 삭제
+        List<Assignment> toRemove = existingByCanvasId.values().stream()
+                .filter(a -> listedCourseIds.contains(a.getCourse().getId()))
+                .filter(a -> !seenCanvasAssignmentIds.contains(a.getCanvasAssignmentId()))
+                .toList();
+        if (!toRemove.isEmpty()) {
+            assignmentRepository.deleteAllInBatch(toRemove);
+            toRemove.forEach(a -> changes.add(
+                    new AssignmentChange(a.getCourse().getId(), a.getCanvasAssignmentId(), ChangeType.REMOVED)));
+        }
+
+        int inserted = assignmentJdbcRepository.batchInsert(new ArrayList<>(toInsert.values()));
+
+        log.info("✅ Bulk upserted assignments: courses={}, inserted={}, updated={}, removed={}, unchanged={}",
+                courseByCanvasId.size(), inserted, updated, toRemove.size(), unchanged);
+
+        return new AssignmentBulkUpsertResult(inserted, updated, toRemove.size(), unchanged, changes);
+    }
+
     /**
      * Assignment 업데이트
      * @param message SQS에서 수신한 Assignment 업데이트 메시지
@@ -0,0 +1,13 @@
+package com.unisync.course.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * OutboxRelay의 주기적 전송에 사용
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
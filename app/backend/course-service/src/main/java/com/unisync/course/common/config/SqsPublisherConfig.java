@@ -1,6 +1,7 @@
 package com.unisync.course.common.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
@@ -15,6 +16,7 @@ import java.net.URI;
  * Course-Service -> Schedule-Service로 Assignment 이벤트 발행
  */
 @Configuration
+@EnableConfigurationProperties(SqsPublisherProperties.class)
 public class SqsPublisherConfig {
 
     @Value("${aws.sqs.endpoint}")
@@ -0,0 +1,43 @@
+package com.unisync.course.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * SQS 배치 발행 설정 프로퍼티
+ *
+ * application.yml의 aws.sqs.publisher 설정을 바인딩합니다.
+ * 모든 Publisher(Assignment, Course)가 SqsBatchPublisher를 통해 같은 설정으로 발행합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "aws.sqs.publisher")
+public class SqsPublisherProperties {
+
+    /**
+     * 동시에 전송 중일 수 있는 SendMessageBatch 요청 수
+     * 가득 차면 발행 호출 스레드가 대기한다
+     */
+    private int maxConcurrentBatches = 8;
+
+    /**
+     * 실패 entry의 최대 전송 시도 횟수 (최초 전송 포함)
+     */
+    private int maxAttempts = 4;
+
+    /**
+     * 재시도 backoff 기준 시간 (ms), 시도마다 2배씩 증가
+     */
+    private long initialBackoffMillis = 100;
+
+    /**
+     * 재시도 backoff 상한 (ms)
+     */
+    private long maxBackoffMillis = 5000;
+
+    /**
+     * 종료 시 전송 중인 메시지를 기다리는 최대 시간 (초)
+     */
+    private int shutdownTimeoutSeconds = 30;
+}
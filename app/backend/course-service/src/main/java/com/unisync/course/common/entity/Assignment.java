@@ -1,5 +1,6 @@
 package com.unisync.course.common.entity;
 
+import com.unisync.shared.util.CanvasContentHash;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -69,6 +70,13 @@ public class Assignment {
     @Column(name = "submission_types")
     private String submissionTypes;
 
+    /**
+     * Canvas 과제 내용 fingerprint (title, description, dueAt, pointsPossible, submissionTypes의 SHA-256)
+     * 동기화 시 내용이 바뀌지 않은 과제의 UPDATE와 하위 이벤트 발행을 건너뛰는 데 사용
+     */
+    @Column(name = "content_hash", length = CanvasContentHash.LENGTH)
+    private String contentHash;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -90,5 +98,15 @@ public class Assignment {
         this.dueAt = dueAt;
         this.pointsPossible = pointsPossible;
         this.submissionTypes = submissionTypes;
+        this.contentHash = CanvasContentHash.of(title, description, dueAt, pointsPossible, submissionTypes);
+    }
+
+    /**
+     * 현재 내용의 fingerprint (content_hash 컬럼 추가 이전 행은 필드로부터 계산)
+     */
+    public String currentContentHash() {
+        return contentHash != null
+                ? contentHash
+                : CanvasContentHash.of(title, description, dueAt, pointsPossible, submissionTypes);
     }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.unisync.course.common.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * AssignmentFeedState Entity - 사용자별 assignments 이벤트 sequence
+ *
+ * Schedule-Service로 발행하는 snapshot/delta 이벤트마다 1씩 증가한다.
+ * 소비자는 마지막으로 반영한 sequence와 비교해 누락(gap)을 감지하고 전체 snapshot으로 복구한다.
+ * 증가는 AssignmentFeedSequenceRepository의 upsert 쿼리로만 수행한다.
+ */
+@Entity
+@Table(name = "assignment_feed_states")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class AssignmentFeedState {
+
+    /**
+     * Cognito 사용자 ID
+     */
+    @Id
+    @Column(name = "cognito_sub", length = 255)
+    private String cognitoSub;
+
+    /**
+     * 마지막으로 발급한 sequence
+     */
+    @Column(name = "last_sequence", nullable = false)
+    private Long lastSequence;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,98 @@
+package com.unisync.course.common.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * OutboxEvent Entity - SQS 발행 대기 이벤트 (transactional outbox)
+ *
+ * 도메인 변경과 같은 트랜잭션에서 저장되고, 커밋 후 OutboxRelay가 SQS로 전송한 뒤 삭제한다.
+ * 같은 partitionKey(cognitoSub)의 이벤트는 id 순서대로 전송된다.
+ * 전송 중인 이벤트는 claimedBy/claimedUntil로 표시되며, 그동안 같은 키의 뒤 이벤트는 다른 relay가 가져가지 않는다.
+ * 저장은 OutboxJdbcRepository의 배치 INSERT로만 수행한다.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+    @Index(name = "idx_outbox_failed_at_id", columnList = "failed_at, id"),
+    @Index(name = "idx_outbox_partition_key_id", columnList = "partition_key, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 대상 SQS 큐 이름
+     */
+    @Column(name = "queue_name", nullable = false)
+    private String queueName;
+
+    /**
+     * 전송 순서를 보장할 키 (cognitoSub)
+     */
+    @Column(name = "partition_key", nullable = false)
+    private String partitionKey;
+
+    /**
+     * 메시지 본문 (JSON)
+     */
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String payload;
+
+    /**
+     * 전송 실패 횟수
+     */
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    /**
+     * 최대 시도 횟수를 넘겨 전송을 포기한 시각 (null이면 전송 대기)
+     */
+    @Column(name = "failed_at")
+    private LocalDateTime failedAt;
+
+    /**
+     * 이벤트를 가져가 전송 중인 relay 인스턴스 ID (null이면 대기)
+     */
+    @Column(name = "claimed_by", length = 64)
+    private String claimedBy;
+
+    /**
+     * 전송 점유 만료 시각 (지나면 relay가 죽은 것으로 보고 다른 relay가 다시 가져감)
+     */
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 전송 실패 기록 (maxAttempts에 도달하면 전송 포기)
+     */
+    public void recordFailure(String error, int maxAttempts) {
+        this.attempts = this.attempts + 1;
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        if (this.attempts >= maxAttempts) {
+            this.failedAt = LocalDateTime.now();
+        }
+        release();
+    }
+
+    /**
+     * 전송 점유 해제 (다음 relay가 다시 가져갈 수 있음)
+     */
+    public void release() {
+        this.claimedBy = null;
+        this.claimedUntil = null;
+    }
+}
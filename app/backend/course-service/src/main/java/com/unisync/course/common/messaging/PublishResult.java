@@ -0,0 +1,27 @@
+package com.unisync.course.common.messaging;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * SqsBatchPublisher 발행 결과
+ *
+ * @param sent 전송에 성공한 메시지 수
+ * @param failedIndexes 재시도 후에도 전송하지 못한 메시지의 입력 리스트 인덱스
+ */
+public record PublishResult(int sent, Set<Integer> failedIndexes) {
+
+    public static PublishResult empty() {
+        return new PublishResult(0, Set.of());
+    }
+
+    public boolean hasFailures() {
+        return !failedIndexes.isEmpty();
+    }
+
+    PublishResult merge(PublishResult other) {
+        Set<Integer> failed = new HashSet<>(failedIndexes);
+        failed.addAll(other.failedIndexes);
+        return new PublishResult(sent + other.sent, failed);
+    }
+}
@@ -0,0 +1,294 @@
+package com.unisync.course.common.messaging;
+
+import com.unisync.course.common.config.SqsPublisherProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * SQS 배치 발행기
+ *
+ * - 메시지를 SendMessageBatch 단위(최대 10건, 합계 256KiB)로 묶어 전송
+ * - 동시에 전송 중인 배치 수를 maxConcurrentBatches로 제한 (가득 차면 호출 스레드 대기)
+ * - 실패한 entry 중 재시도 가능한 것(senderFault=false, 요청 자체 실패)만 지수 backoff + full jitter로 재전송
+ * - publish()는 모든 배치(재시도 포함)가 끝나면 완료되는 future를 반환하고,
+ *   flush()는 지금까지 요청된 모든 발행이 끝날 때까지 대기한다
+ *
+ * 메트릭 (tag: queue)
+ * - sqs.publisher.sent / sqs.publisher.failed: 전송 성공/최종 실패 메시지 수
+ * - sqs.publisher.retries: 재시도한 entry 수
+ * - sqs.publisher.batch.size: SendMessageBatch 1회당 entry 수
+ */
+@Slf4j
+@Component
+public class SqsBatchPublisher {
+
+    static final int MAX_BATCH_ENTRIES = 10;
+    static final int MAX_BATCH_BYTES = 256 * 1024;
+
+    private final SqsAsyncClient sqsAsyncClient;
+    private final SqsPublisherProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final String sqsEndpoint;
+    private final String region;
+    private final Semaphore permits;
+    private final Set<CompletableFuture<PublishResult>> pending = ConcurrentHashMap.newKeySet();
+
+    public SqsBatchPublisher(SqsAsyncClient sqsAsyncClient,
+                             SqsPublisherProperties properties,
+                             MeterRegistry meterRegistry,
+                             @Value("${aws.sqs.endpoint}") String sqsEndpoint,
+                             @Value("${aws.region}") String region) {
+        this.sqsAsyncClient = sqsAsyncClient;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.sqsEndpoint = sqsEndpoint;
+        this.region = region;
+        this.permits = new Semaphore(Math.max(1, properties.getMaxConcurrentBatches()));
+    }
+
+    /**
+     * 메시지 본문 목록을 배치로 발행
+     *
+     * @param queueName 대상 큐 이름
+     * @param messageBodies 메시지 본문 (결과의 failedIndexes는 이 리스트의 인덱스)
+     * @return 모든 배치 전송(재시도 포함)이 끝나면 완료되는 future (예외로 완료되지 않음)
+     */
+    public CompletableFuture<PublishResult> publish(String queueName, List<String> messageBodies) {
+        if (messageBodies.isEmpty()) {
+            return CompletableFuture.completedFuture(PublishResult.empty());
+        }
+
+        String queueUrl = queueUrl(queueName);
+        Set<Integer> oversized = new HashSet<>();
+        List<CompletableFuture<PublishResult>> batches = new ArrayList<>();
+
+        for (List<Entry> batch : pack(messageBodies, oversized)) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(entry -> oversized.add(entry.index()));
+                continue;
+            }
+            batches.add(sendWithRetry(queueName, queueUrl, batch, 1)
+                    .whenComplete((result, error) -> permits.release()));
+        }
+
+        if (!oversized.isEmpty()) {
+            meterRegistry.counter("sqs.publisher.failed", "queue", queueName).increment(oversized.size());
+        }
+
+        CompletableFuture<PublishResult> result = CompletableFuture
+                .allOf(batches.toArray(CompletableFuture[]::new))
+                .thenApply(v -> batches.stream()
+                        .map(CompletableFuture::join)
+                        .reduce(new PublishResult(0, oversized), PublishResult::merge));
+
+        pending.add(result);
+        result.whenComplete((r, e) -> pending.remove(result));
+        return result;
+    }
+
+    /**
+     * 지금까지 요청된 모든 발행이 끝날 때까지 대기
+     *
+     * @throws TimeoutException timeout 안에 끝나지 않은 경우
+     */
+    public void flush(Duration timeout) throws InterruptedException, TimeoutException {
+        CompletableFuture<?>[] inFlight = pending.toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(inFlight).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // publish() future는 예외로 완료되지 않지만 방어적으로 로그만 남김
+            log.error("Unexpected publish failure during flush", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        try {
+            flush(Duration.ofSeconds(properties.getShutdownTimeoutSeconds()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (TimeoutException e) {
+            log.warn("Timed out waiting for pending SQS publishes: pending={}", pending.size());
+        }
+    }
+
+    /**
+     * SQS Queue URL 생성
+     */
+    public String queueUrl(String queueName) {
+        // LocalStack: http://localhost:4566/000000000000/queue-name
+        // AWS: https://sqs.{region}.amazonaws.com/{accountId}/{queueName}
+        if (sqsEndpoint != null && !sqsEndpoint.isEmpty()) {
+            return String.format("%s/000000000000/%s", sqsEndpoint, queueName);
+        } else {
+            // AWS 실제 환경 (accountId는 별도 설정 필요)
+            return String.format("https://sqs.%s.amazonaws.com/000000000000/%s", region, queueName);
+        }
+    }
+
+    /**
+     * entry 수/크기 제한에 맞춰 배치 구성 (단독으로도 제한을 넘는 메시지는 oversized로 분리)
+     */
+    static List<List<Entry>> pack(List<String> messageBodies, Set<Integer> oversized) {
+        List<List<Entry>> batches = new ArrayList<>();
+        List<Entry> current = new ArrayList<>();
+        int currentBytes = 0;
+
+        for (int i = 0; i < messageBodies.size(); i++) {
+            String body = messageBodies.get(i);
+            int bytes = body.getBytes(StandardCharsets.UTF_8).length;
+            if (bytes > MAX_BATCH_BYTES) {
+                log.error("Message exceeds SQS size limit: bytes={}", bytes);
+                oversized.add(i);
+                continue;
+            }
+            if (current.size() == MAX_BATCH_ENTRIES || currentBytes + bytes > MAX_BATCH_BYTES) {
+                batches.add(current);
+                current = new ArrayList<>();
+                currentBytes = 0;
+            }
+            current.add(new Entry(i, body));
+            currentBytes += bytes;
+        }
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+
+    private CompletableFuture<PublishResult> sendWithRetry(String queueName, String queueUrl,
+                                                           List<Entry> batch, int attempt) {
+        // entry id는 입력 인덱스로 부여 (응답의 실패 entry를 원래 메시지와 매칭)
+        SendMessageBatchRequest request = SendMessageBatchRequest.builder()
+                .queueUrl(queueUrl)
+                .entries(batch.stream()
+                        .map(entry -> SendMessageBatchRequestEntry.builder()
+                                .id(String.valueOf(entry.index()))
+                                .messageBody(entry.body())
+                                .build())
+                        .toList())
+                .build();
+
+        meterRegistry.summary("sqs.publisher.batch.size", "queue", queueName).record(batch.size());
+
+        CompletableFuture<PublishResult> sent;
+        try {
+            sent = sqsAsyncClient.sendMessageBatch(request)
+                    .handle((response, error) -> {
+                        if (error != null) {
+                            log.warn("SendMessageBatch failed: queue={}, entries={}, attempt={}",
+                                    queueName, batch.size(), attempt, error);
+                            return retryOrFail(queueName, queueUrl, batch, 0, Set.of(), attempt);
+                        }
+
+                        Set<Integer> permanentFailures = new HashSet<>();
+                        List<Entry> retryable = new ArrayList<>();
+                        for (BatchResultErrorEntry failure : response.failed()) {
+                            Optional<Entry> found = findEntry(batch, failure.id());
+                            if (found.isEmpty()) {
+                                // 요청하지 않은 id는 매칭할 메시지가 없으므로 로그만 남기고 건너뜀 (future를 예외로 끝내지 않음)
+                                log.error("Unknown entry id in SendMessageBatch response: queue={}, id={}, code={}",
+                                        queueName, failure.id(), failure.code());
+                                continue;
+                            }
+                            Entry entry = found.get();
+                            if (Boolean.TRUE.equals(failure.senderFault())) {
+                                log.error("SQS rejected message: queue={}, code={}, reason={}",
+                                        queueName, failure.code(), failure.message());
+                                permanentFailures.add(entry.index());
+                            } else {
+                                retryable.add(entry);
+                            }
+                        }
+                        if (!permanentFailures.isEmpty()) {
+                            meterRegistry.counter("sqs.publisher.failed", "queue", queueName)
+                                    .increment(permanentFailures.size());
+                        }
+                        return retryOrFail(queueName, queueUrl, retryable, response.successful().size(),
+                                permanentFailures, attempt);
+                    })
+                    .thenCompose(Function.identity());
+        } catch (RuntimeException e) {
+            // 요청 생성 단계의 동기 예외도 재시도 대상으로 처리
+            log.warn("SendMessageBatch failed: queue={}, entries={}, attempt={}", queueName, batch.size(), attempt, e);
+            sent = retryOrFail(queueName, queueUrl, batch, 0, Set.of(), attempt);
+        }
+        return sent;
+    }
+
+    private CompletableFuture<PublishResult> retryOrFail(String queueName, String queueUrl, List<Entry> retryable,
+                                                         int sentCount, Set<Integer> failed, int attempt) {
+        if (sentCount > 0) {
+            meterRegistry.counter("sqs.publisher.sent", "queue", queueName).increment(sentCount);
+        }
+        PublishResult settled = new PublishResult(sentCount, failed);
+        if (retryable.isEmpty()) {
+            return CompletableFuture.completedFuture(settled);
+        }
+
+        if (attempt >= properties.getMaxAttempts()) {
+            log.error("Giving up SQS publish after {} attempts: queue={}, entries={}",
+                    attempt, queueName, retryable.size());
+            meterRegistry.counter("sqs.publisher.failed", "queue", queueName).increment(retryable.size());
+            Set<Integer> allFailed = new HashSet<>(failed);
+            retryable.forEach(entry -> allFailed.add(entry.index()));
+            return CompletableFuture.completedFuture(new PublishResult(sentCount, allFailed));
+        }
+
+        meterRegistry.counter("sqs.publisher.retries", "queue", queueName).increment(retryable.size());
+        return CompletableFuture
+                .runAsync(() -> { }, CompletableFuture.delayedExecutor(backoffMillis(attempt), TimeUnit.MILLISECONDS))
+                .thenCompose(v -> sendWithRetry(queueName, queueUrl, retryable, attempt + 1))
+                .thenApply(settled::merge);
+    }
+
+    /**
+     * 지수 backoff + full jitter: [0, min(max, initial * 2^(attempt-1))]
+     */
+    long backoffMillis(int attempt) {
+        long ceiling = Math.min(properties.getMaxBackoffMillis(),
+                properties.getInitialBackoffMillis() << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private Optional<Entry> findEntry(List<Entry> batch, String id) {
+        int index;
+        try {
+            index = Integer.parseInt(id);
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+        return batch.stream()
+                .filter(entry -> entry.index() == index)
+                .findFirst();
+    }
+
+    record Entry(int index, String body) {
+    }
+}
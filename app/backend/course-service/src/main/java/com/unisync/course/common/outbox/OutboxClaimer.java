@@ -0,0 +1,91 @@
+package com.unisync.course.common.outbox;
+
+import com.unisync.course.common.entity.OutboxEvent;
+import com.unisync.course.common.repository.OutboxEventRepository;
+import com.unisync.course.common.repository.OutboxEventRepository.PendingKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Outbox 이벤트 점유/완료 처리
+ *
+ * OutboxService가 SQS 전송 전후로 호출하는 짧은 트랜잭션들이다.
+ * SQS 전송(재시도 대기 포함)은 트랜잭션 밖에서 하므로 DB 커넥션과 행 잠금을 잡고 있지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxClaimer {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    /**
+     * 전송할 이벤트를 최대 limit건 점유
+     *
+     * 같은 키에서 앞선 대기 이벤트가 이번 잠금 조회에 없으면(다른 relay가 전송 중이거나 잠근 경우)
+     * 그 키의 이벤트는 가져가지 않는다. 따라서 한 키의 이벤트는 항상 한 relay만 순서대로 전송한다.
+     *
+     * @return 점유한 이벤트 (id 순)
+     */
+    @Transactional
+    public List<OutboxEvent> claim(int limit, String owner, LocalDateTime now, LocalDateTime claimedUntil) {
+        List<OutboxEvent> locked = outboxEventRepository.lockClaimable(now, limit);
+        if (locked.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, OutboxEvent> lockedById = locked.stream()
+                .collect(Collectors.toMap(OutboxEvent::getId, Function.identity()));
+        Set<String> partitionKeys = locked.stream().map(OutboxEvent::getPartitionKey).collect(Collectors.toSet());
+        Long maxId = locked.get(locked.size() - 1).getId();
+
+        // 키별로 앞에서부터 잠근 이벤트가 끊기지 않고 이어지는 구간만 점유
+        List<OutboxEvent> claimed = new ArrayList<>();
+        Set<String> blockedKeys = new HashSet<>();
+        for (PendingKey pending : outboxEventRepository.findPendingKeys(partitionKeys, maxId)) {
+            if (blockedKeys.contains(pending.getPartitionKey())) {
+                continue;
+            }
+            OutboxEvent event = lockedById.get(pending.getId());
+            if (event != null) {
+                claimed.add(event);
+            } else {
+                blockedKeys.add(pending.getPartitionKey());
+            }
+        }
+
+        if (!claimed.isEmpty()) {
+            outboxEventRepository.claim(claimed.stream().map(OutboxEvent::getId).toList(), owner, claimedUntil);
+        }
+        return claimed;
+    }
+
+    /**
+     * 전송 결과 반영: 성공한 이벤트 삭제, 실패 기록 저장, 보내지 않은 이벤트 점유 해제
+     *
+     * @param failed recordFailure()로 실패를 기록한 이벤트
+     */
+    @Transactional
+    public void complete(Collection<Long> sentIds, Collection<OutboxEvent> failed,
+                         Collection<Long> unsentIds, String owner) {
+        if (!sentIds.isEmpty()) {
+            outboxEventRepository.deleteAllByIdInBatch(sentIds);
+        }
+        if (!failed.isEmpty()) {
+            outboxEventRepository.saveAll(failed);
+        }
+        if (!unsentIds.isEmpty()) {
+            outboxEventRepository.release(unsentIds, owner);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.unisync.course.common.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Outbox Relay
+ * 커밋된 outbox 이벤트를 주기적으로 SQS로 전송한다.
+ * 가득 찬 배치를 모두 전송하면 대기 없이 이어서 전송하여 대량 동기화 직후 밀린 이벤트를 빠르게 비운다.
+ * 실패가 섞인 배치는 다음 주기까지 기다린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private final OutboxService outboxService;
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-millis:500}")
+    public void relay() {
+        try {
+            while (outboxService.relayBatch(batchSize) == batchSize) {
+                log.debug("Outbox relay drained a full batch, continuing");
+            }
+        } catch (Exception e) {
+            log.error("Outbox relay failed", e);
+        }
+    }
+}
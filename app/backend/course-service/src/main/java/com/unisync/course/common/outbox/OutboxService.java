@@ -0,0 +1,183 @@
+package com.unisync.course.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unisync.course.common.entity.OutboxEvent;
+import com.unisync.course.common.messaging.PublishResult;
+import com.unisync.course.common.messaging.SqsBatchPublisher;
+import com.unisync.course.common.repository.OutboxJdbcRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Transactional outbox
+ *
+ * - append(): 이벤트를 호출자의 트랜잭션 안에서 outbox_events에 저장 (SQS 호출 없음)
+ * - relayBatch(): 커밋된 이벤트를 점유(OutboxClaimer)한 뒤 트랜잭션 밖에서 SqsBatchPublisher로 전송하고, 성공한 행을 삭제
+ *
+ * 도메인 트랜잭션이 롤백되면 이벤트도 사라지고, 커밋되면 relay가 최소 한 번 전송한다 (at-least-once).
+ * 같은 partitionKey(cognitoSub)의 이벤트는 id 순서대로 한 건씩 전송하며,
+ * 앞선 이벤트가 실패하면 같은 키의 뒤 이벤트는 다음 relay로 미룬다.
+ * 여러 인스턴스가 relay해도 한 키의 이벤트는 점유한 인스턴스 하나만 전송한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxClaimer outboxClaimer;
+    private final OutboxJdbcRepository outboxJdbcRepository;
+    private final SqsBatchPublisher sqsBatchPublisher;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 전송을 포기하기까지의 relay 시도 횟수 (SqsBatchPublisher 내부 재시도와 별개)
+     */
+    @Value("${outbox.relay.max-attempts:10}")
+    private int maxAttempts;
+
+    /**
+     * 전송 점유 유지 시간 (초)
+     * SqsBatchPublisher 재시도를 포함한 한 번의 relay보다 길어야 한다 (만료되면 다른 relay가 다시 전송)
+     */
+    @Value("${outbox.relay.lease-seconds:120}")
+    private int leaseSeconds;
+
+    /**
+     * 이 relay 인스턴스의 점유 ID
+     */
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /**
+     * 이벤트를 outbox에 저장 (호출자의 트랜잭션 필수)
+     *
+     * @param queueName 대상 SQS 큐 이름
+     * @param events 발행할 이벤트 (리스트 순서대로 전송)
+     * @param partitionKey 이벤트별 순서 키 (cognitoSub)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> void append(String queueName, Collection<T> events, Function<T, String> partitionKey) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> outboxEvents = new ArrayList<>(events.size());
+        for (T event : events) {
+            outboxEvents.add(OutboxEvent.builder()
+                    .queueName(queueName)
+                    .partitionKey(partitionKey.apply(event))
+                    .payload(serialize(event))
+                    .attempts(0)
+                    .createdAt(now)
+                    .build());
+        }
+
+        outboxJdbcRepository.batchInsert(outboxEvents);
+        meterRegistry.counter("outbox.appended", "queue", queueName).increment(outboxEvents.size());
+    }
+
+    /**
+     * 전송 대기 이벤트를 최대 limit건 전송
+     *
+     * 1. 짧은 트랜잭션에서 이벤트를 점유(claimed_by/claimed_until)하고 커밋
+     * 2. 트랜잭션 밖에서 SQS로 전송 (SqsBatchPublisher 재시도 대기 중에도 DB 커넥션/잠금을 잡지 않음)
+     * 3. 짧은 트랜잭션에서 성공한 이벤트 삭제, 실패 기록, 보내지 않은 이벤트 점유 해제
+     *
+     * 점유가 만료되기 전까지 같은 키의 뒤 이벤트는 다른 relay가 가져가지 않는다.
+     *
+     * @return 전송에 성공한 이벤트 수 (limit과 같으면 남은 이벤트가 더 있을 수 있음)
+     */
+    public int relayBatch(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> claimed = outboxClaimer.claim(limit, instanceId, now, now.plusSeconds(leaseSeconds));
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        // 키별 대기열 (id 순서 유지)
+        Map<String, Deque<OutboxEvent>> queuesByKey = new LinkedHashMap<>();
+        claimed.forEach(event -> queuesByKey
+                .computeIfAbsent(event.getPartitionKey(), k -> new ArrayDeque<>())
+                .add(event));
+
+        List<Long> sentIds = new ArrayList<>();
+        List<OutboxEvent> failedEvents = new ArrayList<>();
+        List<Long> unsentIds = new ArrayList<>();
+
+        // 각 키의 다음 이벤트 1건씩을 한 wave로 묶어 전송 (키 간에는 병렬, 키 안에서는 순서대로)
+        while (!queuesByKey.isEmpty()) {
+            List<OutboxEvent> wave = queuesByKey.values().stream().map(Deque::poll).toList();
+            Map<String, List<OutboxEvent>> waveByQueue = wave.stream()
+                    .collect(Collectors.groupingBy(OutboxEvent::getQueueName, LinkedHashMap::new, Collectors.toList()));
+
+            Map<String, CompletableFuture<PublishResult>> results = new LinkedHashMap<>();
+            waveByQueue.forEach((queueName, events) -> results.put(queueName, sqsBatchPublisher.publish(
+                    queueName, events.stream().map(OutboxEvent::getPayload).toList())));
+
+            for (Map.Entry<String, List<OutboxEvent>> entry : waveByQueue.entrySet()) {
+                List<OutboxEvent> events = entry.getValue();
+                PublishResult result = results.get(entry.getKey()).join();
+
+                for (int i = 0; i < events.size(); i++) {
+                    OutboxEvent event = events.get(i);
+                    if (result.failedIndexes().contains(i)) {
+                        event.recordFailure("SQS publish failed", maxAttempts);
+                        failedEvents.add(event);
+                        // 순서 보장을 위해 같은 키의 뒤 이벤트는 이번 relay에서 보내지 않고 점유 해제
+                        Deque<OutboxEvent> heldBack = queuesByKey.remove(event.getPartitionKey());
+                        heldBack.forEach(held -> unsentIds.add(held.getId()));
+                        if (event.getFailedAt() != null) {
+                            log.error("Giving up outbox event after {} attempts: id={}, queue={}, partitionKey={}",
+                                    event.getAttempts(), event.getId(), event.getQueueName(), event.getPartitionKey());
+                            meterRegistry.counter("outbox.dead", "queue", event.getQueueName()).increment();
+                        }
+                    } else {
+                        sentIds.add(event.getId());
+                    }
+                }
+            }
+
+            queuesByKey.values().removeIf(Deque::isEmpty);
+        }
+
+        outboxClaimer.complete(sentIds, failedEvents, unsentIds, instanceId);
+
+        meterRegistry.counter("outbox.relayed").increment(sentIds.size());
+        if (!failedEvents.isEmpty()) {
+            meterRegistry.counter("outbox.relay.failures").increment(failedEvents.size());
+            log.warn("Outbox relay: sent={}, failed={}", sentIds.size(), failedEvents.size());
+        } else {
+            log.debug("Outbox relay: sent={}", sentIds.size());
+        }
+        return sentIds.size();
+    }
+
+    private String serialize(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            // 직렬화 실패는 도메인 변경과 함께 롤백
+            throw new IllegalStateException("Failed to serialize outbox event: " + event.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.unisync.course.common.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 assignments 이벤트 sequence 발급 Repository (assignment_feed_states)
+ *
+ * fan-out 대상이 수백 명이어도 왕복 횟수가 일정하도록
+ * INSERT ... ON DUPLICATE KEY UPDATE 배치 + IN 조회 한 번으로 sequence를 발급한다.
+ * 증가된 행은 트랜잭션이 끝날 때까지 잠기므로 같은 사용자의 sequence는 커밋 순서대로 발급된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AssignmentFeedSequenceRepository {
+
+    static final int BATCH_SIZE = 100;
+
+    private static final String INCREMENT_SQL = """
+            INSERT INTO assignment_feed_states (cognito_sub, last_sequence, updated_at)
+            VALUES (?, 1, ?)
+            ON DUPLICATE KEY UPDATE last_sequence = last_sequence + 1, updated_at = VALUES(updated_at)
+            """;
+
+    private static final String SELECT_SQL = """
+            SELECT cognito_sub, last_sequence FROM assignment_feed_states WHERE cognito_sub IN (:cognitoSubs)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 사용자별 다음 sequence 발급
+     *
+     * @param cognitoSubs 이벤트를 받을 사용자
+     * @return cognitoSub -> 발급된 sequence
+     */
+    public Map<String, Long> nextSequences(Collection<String> cognitoSubs) {
+        if (cognitoSubs.isEmpty()) {
+            return Map.of();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<String> subs = new ArrayList<>(cognitoSubs);
+        jdbcTemplate.batchUpdate(INCREMENT_SQL, subs, BATCH_SIZE, (ps, cognitoSub) -> {
+            ps.setString(1, cognitoSub);
+            ps.setTimestamp(2, now);
+        });
+
+        Map<String, Long> sequences = new HashMap<>();
+        for (int from = 0; from < subs.size(); from += BATCH_SIZE) {
+            List<String> chunk = subs.subList(from, Math.min(from + BATCH_SIZE, subs.size()));
+            namedParameterJdbcTemplate.query(SELECT_SQL, new MapSqlParameterSource("cognitoSubs", chunk),
+                    rs -> {
+                        sequences.put(rs.getString("cognito_sub"), rs.getLong("last_sequence"));
+                    });
+        }
+        return sequences;
+    }
+
+    /**
+     * 사용자의 현재 sequence 조회 (발급 이력이 없으면 0)
+     */
+    public long currentSequence(String cognitoSub) {
+        List<Long> result = jdbcTemplate.queryForList(
+                "SELECT last_sequence FROM assignment_feed_states WHERE cognito_sub = ?", Long.class, cognitoSub);
+        return result.isEmpty() ? 0L : result.get(0);
+    }
+}
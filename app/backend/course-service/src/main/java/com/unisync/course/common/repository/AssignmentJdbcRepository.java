@@ -0,0 +1,63 @@
+package com.unisync.course.common.repository;
+
+import com.unisync.course.common.entity.Assignment;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Assignment 대량 저장용 JDBC Repository
+ *
+ * Assignment ID는 IDENTITY 전략이라 Hibernate가 INSERT를 배치로 묶지 못한다.
+ * 동기화처럼 한 번에 수십~수백 건을 넣는 경로는 이 Repository로 JDBC 배치 INSERT를 수행하고,
+ * ID는 DB auto_increment에 맡긴다 (rewriteBatchedStatements로 multi-row INSERT 전송).
+ */
+@Repository
+@RequiredArgsConstructor
+public class AssignmentJdbcRepository {
+
+    static final int BATCH_SIZE = 100;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO assignments (canvas_assignment_id, course_id, title, description, due_at,
+                                     points_possible, submission_types, content_hash, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 새 Assignment 일괄 INSERT
+     *
+     * @param assignments 저장할 Assignment (course 참조 필수, id는 무시)
+     * @return 저장 요청한 건수
+     */
+    public int batchInsert(List<Assignment> assignments) {
+        if (assignments.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, assignments, BATCH_SIZE, (ps, assignment) -> {
+            ps.setLong(1, assignment.getCanvasAssignmentId());
+            ps.setLong(2, assignment.getCourse().getId());
+            ps.setString(3, assignment.getTitle());
+            ps.setObject(4, assignment.getDescription(), Types.LONGVARCHAR);
+            ps.setObject(5, assignment.getDueAt() != null ? Timestamp.valueOf(assignment.getDueAt()) : null,
+                    Types.TIMESTAMP);
+            ps.setObject(6, assignment.getPointsPossible(), Types.INTEGER);
+            ps.setObject(7, assignment.getSubmissionTypes(), Types.VARCHAR);
+            ps.setObject(8, assignment.getContentHash(), Types.CHAR);
+            ps.setTimestamp(9, now);
+            ps.setTimestamp(10, now);
+        });
+
+        return assignments.size();
+    }
+}
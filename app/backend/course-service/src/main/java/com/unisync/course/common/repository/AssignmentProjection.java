@@ -10,4 +10,6 @@ public interface AssignmentProjection {
     String getDescription();
     String getDueAt();
     Double getPointsPossible();
+    String getSubmissionTypes();
+    String getContentHash();
 }
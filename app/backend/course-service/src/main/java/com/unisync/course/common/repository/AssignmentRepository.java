@@ -2,8 +2,11 @@ package com.unisync.course.common.repository;
 
 import com.unisync.course.common.entity.Assignment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,4 +36,35 @@ public interface AssignmentRepository extends JpaRepository<Assignment, Long> {
      * @return Assignment 목록
      */
     List<Assignment> findAllByCourseId(Long courseId);
-}
\ No newline at end of file
+
+    /**
+     * 여러 Course의 Assignment 일괄 조회 (동기화 bulk upsert용)
+     * @param courseIds Course ID 목록
+     * @return Assignment 목록
+     */
+    List<Assignment> findAllByCourseIdIn(Collection<Long> courseIds);
+
+    /**
+     * Canvas Assignment ID 목록으로 이벤트 payload용 projection 조회 (delta 이벤트 구성용)
+     * @param canvasAssignmentIds Canvas Assignment ID 목록
+     * @return Assignment projection 목록
+     */
+    @Query("""
+            SELECT a.id AS assignmentId,
+                   a.canvasAssignmentId AS canvasAssignmentId,
+                   c.canvasCourseId AS canvasCourseId,
+                   c.id AS courseId,
+                   c.name AS courseName,
+                   a.title AS title,
+                   a.description AS description,
+                   FUNCTION('DATE_FORMAT', a.dueAt, '%Y-%m-%dT%H:%i:%s') AS dueAt,
+                   a.pointsPossible AS pointsPossible,
+                   a.submissionTypes AS submissionTypes,
+                   a.contentHash AS contentHash
+            FROM Assignment a
+            JOIN a.course c
+            WHERE a.canvasAssignmentId IN :canvasAssignmentIds
+        """)
+    List<AssignmentProjection> findProjectionsByCanvasAssignmentIdIn(
+            @Param("canvasAssignmentIds") Collection<Long> canvasAssignmentIds);
+}
@@ -4,6 +4,8 @@ import com.unisync.course.common.entity.Course;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -25,4 +27,11 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
      * @return 존재 여부
      */
     boolean existsByCanvasCourseId(Long canvasCourseId);
+
+    /**
+     * 여러 Canvas Course ID로 일괄 조회
+     * @param canvasCourseIds Canvas Course ID 목록
+     * @return Course 목록
+     */
+    List<Course> findAllByCanvasCourseIdIn(Collection<Long> canvasCourseIds);
 }
\ No newline at end of file
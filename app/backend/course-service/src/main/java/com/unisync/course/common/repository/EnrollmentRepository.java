@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -63,6 +64,12 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
     @Query("SELECT e FROM Enrollment e JOIN FETCH e.course WHERE e.isSyncEnabled = true")
     List<Enrollment> findAllByIsSyncEnabledTrue();
 
+    /**
+     * 특정 과목들의 활성화된 수강생 조회 (증분 fan-out 대상 및 사용자별 delta 범위 산출용)
+     */
+    @Query("SELECT e FROM Enrollment e WHERE e.course.id IN :courseIds AND e.isSyncEnabled = true")
+    List<Enrollment> findAllSyncEnabledByCourseIdIn(@Param("courseIds") Collection<Long> courseIds);
+
     /**
      * 사용자별 Assignments 조회 (enabled enrollment 대상)
      */
@@ -75,7 +82,9 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
                    a.title AS title,
                    a.description AS description,
                    FUNCTION('DATE_FORMAT', a.dueAt, '%Y-%m-%dT%H:%i:%s') AS dueAt,
-                   a.pointsPossible AS pointsPossible
+                   a.pointsPossible AS pointsPossible,
+                   a.submissionTypes AS submissionTypes,
+                   a.contentHash AS contentHash
             FROM Enrollment e
             JOIN e.course c
             JOIN Assignment a ON a.course.id = c.id
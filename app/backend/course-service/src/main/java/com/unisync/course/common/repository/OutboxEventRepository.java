@@ -0,0 +1,74 @@
+package com.unisync.course.common.repository;
+
+import com.unisync.course.common.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 점유되지 않은(또는 점유가 만료된) 전송 대기 이벤트를 오래된 순으로 잠금 조회
+     *
+     * 다른 인스턴스의 relay가 잠근 행은 건너뛴다 (SKIP LOCKED, MySQL 8+).
+     * 잠금은 점유 표시를 커밋할 때까지만 유지된다.
+     */
+    @Query(value = """
+            SELECT * FROM outbox_events
+            WHERE failed_at IS NULL
+              AND (claimed_until IS NULL OR claimed_until < :now)
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEvent> lockClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 주어진 키들의 전송 대기 이벤트 (점유 여부 무관, id 순)
+     *
+     * 잠금 조회에서 빠진 앞선 이벤트(다른 relay가 전송 중이거나 잠근 행)를 찾는 데 쓴다.
+     */
+    @Query("""
+            SELECT e.id AS id, e.partitionKey AS partitionKey FROM OutboxEvent e
+            WHERE e.partitionKey IN :partitionKeys
+              AND e.failedAt IS NULL
+              AND e.id <= :maxId
+            ORDER BY e.id
+            """)
+    List<PendingKey> findPendingKeys(@Param("partitionKeys") Collection<String> partitionKeys,
+                                     @Param("maxId") Long maxId);
+
+    /**
+     * 이벤트 전송 점유 표시
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.claimedBy = :owner, e.claimedUntil = :until WHERE e.id IN :ids")
+    int claim(@Param("ids") Collection<Long> ids, @Param("owner") String owner,
+              @Param("until") LocalDateTime until);
+
+    /**
+     * 전송하지 않은 이벤트의 점유 해제 (내가 점유한 행만)
+     */
+    @Modifying
+    @Query("""
+            UPDATE OutboxEvent e SET e.claimedBy = NULL, e.claimedUntil = NULL
+            WHERE e.id IN :ids AND e.claimedBy = :owner
+            """)
+    int release(@Param("ids") Collection<Long> ids, @Param("owner") String owner);
+
+    /**
+     * 전송 대기 이벤트의 (id, partitionKey) projection
+     */
+    interface PendingKey {
+        Long getId();
+
+        String getPartitionKey();
+    }
+}
@@ -0,0 +1,51 @@
+package com.unisync.course.common.repository;
+
+import com.unisync.course.common.entity.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * OutboxEvent 대량 저장용 JDBC Repository
+ *
+ * 동기화 1회에 수백~수천 건의 이벤트가 쌓이는데 OutboxEvent ID는 IDENTITY 전략이라
+ * Hibernate가 INSERT를 배치로 묶지 못한다. 이 Repository로 JDBC 배치 INSERT를 수행한다.
+ * id는 리스트 순서대로 발급되므로 같은 partitionKey의 전송 순서가 유지된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxJdbcRepository {
+
+    static final int BATCH_SIZE = 100;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO outbox_events (queue_name, partition_key, payload, attempts, created_at)
+            VALUES (?, ?, ?, 0, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * OutboxEvent 일괄 INSERT
+     *
+     * @param events 저장할 이벤트 (id, attempts는 무시)
+     * @return 저장 요청한 건수
+     */
+    public int batchInsert(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, BATCH_SIZE, (ps, event) -> {
+            ps.setString(1, event.getQueueName());
+            ps.setString(2, event.getPartitionKey());
+            ps.setString(3, event.getPayload());
+            ps.setTimestamp(4, Timestamp.valueOf(event.getCreatedAt()));
+        });
+
+        return events.size();
+    }
+}
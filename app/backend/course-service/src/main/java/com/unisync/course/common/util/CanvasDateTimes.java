@@ -0,0 +1,25 @@
+package com.unisync.course.common.util;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Canvas 동기화 메시지의 날짜/시간 문자열 변환
+ */
+public final class CanvasDateTimes {
+
+    private CanvasDateTimes() {
+    }
+
+    /**
+     * ISO 8601 문자열을 LocalDateTime으로 변환 (null-safe)
+     * Canvas API는 'Z' suffix를 포함하므로 제거 후 파싱
+     */
+    public static LocalDateTime parse(String dateTimeStr) {
+        if (dateTimeStr == null || dateTimeStr.isBlank()) {
+            return null;
+        }
+        String normalized = dateTimeStr.replace("Z", "").split("\\.")[0];
+        return LocalDateTime.parse(normalized, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+}
@@ -89,6 +89,7 @@ public class EnrollmentService {
     /**
      * 과목 비활성화 이벤트 발행
      * Schedule-Service가 해당 과목의 모든 일정을 삭제하도록 함
+     * 동기화 상태 변경과 같은 트랜잭션에서 outbox에 저장되어, 롤백 시 이벤트도 발행되지 않는다
      */
     private void publishCourseDisabledEvent(Enrollment enrollment) {
         CourseDisabledEventDto event = CourseDisabledEventDto.builder()
@@ -101,7 +102,7 @@ public class EnrollmentService {
 
         courseEventPublisher.publishCourseDisabledEvent(event);
 
-        log.info("📤 Published COURSE_DISABLED event: courseId={}, cognitoSub={}",
+        log.info("📤 Queued COURSE_DISABLED event: courseId={}, cognitoSub={}",
                 enrollment.getCourse().getId(), enrollment.getCognitoSub());
     }
 }
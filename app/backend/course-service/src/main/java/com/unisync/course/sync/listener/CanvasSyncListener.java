@@ -2,32 +2,34 @@ package com.unisync.course.sync.listener;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unisync.course.assignment.dto.AssignmentBulkUpsertResult;
 import com.unisync.course.assignment.dto.UserAssignmentsBatchEvent;
-import com.unisync.course.assignment.dto.UserAssignmentsBatchEvent.AssignmentPayload;
 import com.unisync.course.assignment.publisher.AssignmentEventPublisher;
+import com.unisync.course.assignment.service.AssignmentFeedService;
 import com.unisync.course.assignment.service.AssignmentService;
 import com.unisync.course.common.entity.Course;
 import com.unisync.course.common.entity.Enrollment;
-import com.unisync.course.common.repository.AssignmentProjection;
 import com.unisync.course.common.repository.CourseRepository;
 import com.unisync.course.common.repository.EnrollmentRepository;
+import com.unisync.course.common.util.CanvasDateTimes;
 import com.unisync.course.sync.dto.CanvasSyncMessage;
-import com.unisync.course.sync.dto.CanvasSyncMessage.AssignmentData;
 import com.unisync.course.sync.dto.CanvasSyncMessage.CourseData;
-import com.unisync.shared.dto.sqs.AssignmentEventMessage;
 import io.awspring.cloud.sqs.annotation.SqsListener;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 /**
  * Canvas Sync Listener
@@ -41,8 +43,21 @@ public class CanvasSyncListener {
     private final CourseRepository courseRepository;
     private final EnrollmentRepository enrollmentRepository;
     private final AssignmentService assignmentService;
+    private final AssignmentFeedService assignmentFeedService;
     private final AssignmentEventPublisher assignmentEventPublisher;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private static final String FAN_OUT_MODE_FULL = "full";
+    private static final String FAN_OUT_MODE_INCREMENTAL = "incremental";
+
+    /**
+     * 배치 이벤트 fan-out 모드
+     * - incremental: 동기화 요청자에게 snapshot, 과제가 변경된 과목의 다른 활성 수강생에게 delta 발행
+     * - full: 전체 활성 수강생에게 snapshot 발행 (기존 동작)
+     */
+    @Value("${canvas.sync.fan-out-mode:incremental}")
+    private String fanOutMode;
 
     /**
      * lambda-to-courseservice-sync 큐에서 통합 동기화 메시지 수신
@@ -114,8 +129,8 @@ public class CanvasSyncListener {
                     .canvasCourseId(courseData.getCanvasCourseId())
                     .name(courseData.getCourseName())
                     .courseCode(courseData.getCourseCode())
-                    .startAt(parseDateTime(courseData.getStartAt()))
-                    .endAt(parseDateTime(courseData.getEndAt()))
+                    .startAt(CanvasDateTimes.parse(courseData.getStartAt()))
+                    .endAt(CanvasDateTimes.parse(courseData.getEndAt()))
                     .build();
 
             return courseRepository.save(course);
@@ -124,108 +139,81 @@ public class CanvasSyncListener {
         }
     }
 
-    /**
-     * ISO 8601 문자열을 LocalDateTime으로 변환 (null-safe)
-     * Canvas API는 'Z' suffix를 포함하므로 제거 후 파싱
-     */
-    private LocalDateTime parseDateTime(String dateTimeStr) {
-        if (dateTimeStr == null || dateTimeStr.isBlank()) {
-            return null;
-        }
-        String normalized = dateTimeStr.replace("Z", "").split("\\.")[0];
-        return LocalDateTime.parse(normalized, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-    }
-
     /**
      * assignments 모드에서 사용자별 배치 메시지 발행
+     *
+     * incremental 모드(기본)에서는 동기화 요청자 본인에게 전체 snapshot을, 이번 메시지에서 과제가
+     * 추가/변경/삭제된 과목의 다른 활성 수강생에게는 변경분만 담은 delta를 발행한다.
+     * full 모드는 기존처럼 전체 활성 수강생에게 snapshot을 발행한다.
      */
     private void publishUserAssignmentBatches(CanvasSyncMessage syncMessage) {
         String cognitoSub = syncMessage.getCognitoSub();
 
-        // 1) 과목/과제 데이터를 저장 (AssignmentEventMessage를 통해 AssignmentService에 위임)
-        // 저장하면서 Assignment ID를 가져올 수 있도록 AssignmentService가 CANVAS assignment -> DB 저장 수행
-        // AssignmentService는 현재 SQS 이벤트 기반이므로, 여기서는 assignmentService.createAssignment(...) 호출
-        // 대신 assignment 데이터를 일괄 저장하는 헬퍼가 필요하지만, 간소화를 위해 기존 createAssignment를 재사용
-
-        List<Course> courses = syncMessage.getCourses().stream()
-                .map(this::processCourse) // 이미 처리했지만 안전 차원에서 매핑
-                .collect(Collectors.toList());
-
-        // CanvasSyncMessage의 courseData는 Assignments를 포함하고 있으므로, DB에 저장한다
-        syncMessage.getCourses().forEach(courseData -> {
-            Course course = courseRepository.findByCanvasCourseId(courseData.getCanvasCourseId())
-                    .orElse(null);
-            if (course == null) {
-                return;
-            }
-            courseData.getAssignments().forEach(assignmentData -> {
-                // AssignmentService.createAssignment를 재사용 (이미 저장된 경우 중복 체크)
-                assignmentService.createAssignment(AssignmentEventMessage.builder()
-                        .eventType("ASSIGNMENT_CREATED")
-                        .canvasCourseId(course.getCanvasCourseId())
-                        .canvasAssignmentId(assignmentData.getCanvasAssignmentId())
-                        .title(assignmentData.getTitle())
-                        .description(assignmentData.getDescription())
-                        .dueAt(parseDateTime(assignmentData.getDueAt()))
-                        .pointsPossible(assignmentData.getPointsPossible() != null
-                                ? assignmentData.getPointsPossible().intValue()
-                                : null)
-                        .submissionTypes(assignmentData.getSubmissionTypes())
-                        .createdAt(parseDateTime(assignmentData.getCreatedAt()))
-                        .updatedAt(parseDateTime(assignmentData.getUpdatedAt()))
-                        .build());
-            });
-        });
-
-        // 2) 사용자별로 Assignment를 조회하여 배치 메시지 구성
-        // 현재 Course-Service는 사용자별 assignments 조회 API가 없으므로, repository에서 직접 조회 (Batch 발행을 위한 내부 처리)
-        // enabled enrollments 조회
-        Map<String, List<Enrollment>> enrollmentsByUser = enrollmentRepository.findAllByIsSyncEnabledTrue()
-                .stream()
-                .collect(Collectors.groupingBy(Enrollment::getCognitoSub));
+        // 1) CanvasSyncMessage의 과제를 set 기반으로 일괄 저장/갱신
+        // 저장 결과로 과제 단위 변경 내역을 받아 fan-out 대상 및 delta 구성에 사용
+        AssignmentBulkUpsertResult upsertResult = assignmentService.upsertAssignments(syncMessage);
+        Set<Long> changedCourseIds = upsertResult.changedCourseIds();
 
+        // 2) 사용자별 snapshot/delta 이벤트 구성
         List<UserAssignmentsBatchEvent> batchEvents = new ArrayList<>();
 
-        for (Map.Entry<String, List<Enrollment>> entry : enrollmentsByUser.entrySet()) {
-            String userSub = entry.getKey();
-            List<Enrollment> enrollments = entry.getValue();
-
-            // 해당 사용자의 과제 전체 조회 (enabled 과목만)
-            List<AssignmentPayload> assignments = enrollmentRepository.findAssignmentsByCognitoSub(userSub)
-                    .stream()
-                    .map(a -> AssignmentPayload.builder()
-                            .assignmentId(a.getAssignmentId())
-                            .canvasAssignmentId(a.getCanvasAssignmentId())
-                            .canvasCourseId(a.getCanvasCourseId())
-                            .courseId(a.getCourseId())
-                            .courseName(a.getCourseName())
-                            .title(a.getTitle())
-                            .description(a.getDescription())
-                            .dueAt(a.getDueAt())
-                            .pointsPossible(a.getPointsPossible())
-                            .build())
-                    .collect(Collectors.toList());
-
-            if (assignments.isEmpty()) {
-                continue;
-            }
+        if (FAN_OUT_MODE_FULL.equals(fanOutMode())) {
+            Set<String> targetUsers = new LinkedHashSet<>();
+            enrollmentRepository.findAllByIsSyncEnabledTrue()
+                    .forEach(enrollment -> targetUsers.add(enrollment.getCognitoSub()));
+            batchEvents.addAll(assignmentFeedService.buildSnapshotEvents(targetUsers, syncMessage.getSyncedAt()));
+        } else {
+            // 동기화 요청자는 변경 여부와 무관하게 최신 snapshot을 받는다 (재활성화 과목 반영 등)
+            batchEvents.addAll(assignmentFeedService.buildSnapshotEvents(List.of(cognitoSub), syncMessage.getSyncedAt()));
 
-            batchEvents.add(UserAssignmentsBatchEvent.builder()
-                    .eventType("USER_ASSIGNMENTS_CREATED")
-                    .cognitoSub(userSub)
-                    .syncedAt(syncMessage.getSyncedAt())
-                    .assignments(assignments)
-                    .build());
+            // 과제가 바뀐 과목의 다른 수강생에게는 변경분만 전파
+            Map<String, Set<Long>> enabledCourseIdsByUser = resolveDeltaTargets(cognitoSub, changedCourseIds);
+            batchEvents.addAll(assignmentFeedService.buildDeltaEvents(
+                    enabledCourseIdsByUser, upsertResult, syncMessage.getSyncedAt()));
         }
 
+        // fan-out 지표: 동기화 1회당 발행 사용자 수 분포 + 누적 발행 수
+        meterRegistry.summary("canvas.sync.fanout.users", "mode", fanOutMode()).record(batchEvents.size());
+
         if (!batchEvents.isEmpty()) {
+            // 같은 트랜잭션에서 outbox에 저장 (SQS 전송은 커밋 후 OutboxRelay가 수행)
             assignmentEventPublisher.publishAssignmentBatchEvents(batchEvents);
-            log.info("📤 Published {} batch events for assignments", batchEvents.size());
+            meterRegistry.counter("canvas.sync.fanout.events", "mode", fanOutMode()).increment(batchEvents.size());
+            log.info("📤 Queued {} batch events for assignments (mode={}, changedCourses={})",
+                    batchEvents.size(), fanOutMode(), changedCourseIds.size());
         } else {
             log.info("No assignments to publish for enabled users");
         }
     }
 
+    /**
+     * delta 이벤트를 받을 사용자와 사용자별 대상 과목 산출
+     *
+     * @param cognitoSub 동기화를 요청한 사용자 (snapshot을 받으므로 제외)
+     * @param changedCourseIds 이번 동기화에서 과제가 추가/변경/삭제된 과목 ID
+     * @return cognitoSub -> 변경된 과목 중 동기화를 활성화한 Course ID
+     */
+    private Map<String, Set<Long>> resolveDeltaTargets(String cognitoSub, Set<Long> changedCourseIds) {
+        if (changedCourseIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Set<Long>> enabledCourseIdsByUser = new LinkedHashMap<>();
+        for (Enrollment enrollment : enrollmentRepository.findAllSyncEnabledByCourseIdIn(changedCourseIds)) {
+            if (cognitoSub.equals(enrollment.getCognitoSub())) {
+                continue;
+            }
+            enabledCourseIdsByUser
+                    .computeIfAbsent(enrollment.getCognitoSub(), k -> new HashSet<>())
+                    .add(enrollment.getCourse().getId());
+        }
+        return enabledCourseIdsByUser;
+    }
+
+    private String fanOutMode() {
+        return FAN_OUT_MODE_FULL.equalsIgnoreCase(fanOutMode) ? FAN_OUT_MODE_FULL : FAN_OUT_MODE_INCREMENTAL;
+    }
+
     /**
      * Enrollment 생성 (중복 체크)
      */
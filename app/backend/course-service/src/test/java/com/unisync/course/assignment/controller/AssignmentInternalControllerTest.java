@@ -0,0 +1,57 @@
+package com.unisync.course.assignment.controller;
+
+import com.unisync.course.assignment.dto.UserAssignmentsBatchEvent;
+import com.unisync.course.assignment.dto.UserAssignmentsBatchEvent.AssignmentPayload;
+import com.unisync.course.assignment.service.AssignmentFeedService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AssignmentInternalController.class)
+@DisplayName("AssignmentInternalController 테스트")
+class AssignmentInternalControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AssignmentFeedService assignmentFeedService;
+
+    @Test
+    @DisplayName("GET /internal/v1/assignments/snapshot - 사용자 assignments snapshot 조회")
+    void getSnapshot() throws Exception {
+        String cognitoSub = "user-123";
+        given(assignmentFeedService.getSnapshot(cognitoSub)).willReturn(UserAssignmentsBatchEvent.builder()
+                .eventType(UserAssignmentsBatchEvent.EVENT_TYPE_SNAPSHOT)
+                .cognitoSub(cognitoSub)
+                .sequence(7L)
+                .assignments(List.of(AssignmentPayload.builder()
+                        .canvasAssignmentId(999L)
+                        .title("과제")
+                        .build()))
+                .build());
+
+        mockMvc.perform(get("/internal/v1/assignments/snapshot")
+                        .header("X-Cognito-Sub", cognitoSub)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.eventType").value("USER_ASSIGNMENTS_CREATED"))
+                .andExpect(jsonPath("$.sequence").value(7L))
+                .andExpect(jsonPath("$.assignments[0].canvasAssignmentId").value(999L))
+                .andExpect(jsonPath("$.addedAssignments").doesNotExist());
+
+        then(assignmentFeedService).should().getSnapshot(cognitoSub);
+    }
+}
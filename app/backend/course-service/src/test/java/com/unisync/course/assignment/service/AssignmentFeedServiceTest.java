@@ -0,0 +1,134 @@
+package com.unisync.course.assignment.service;
+
+import com.unisync.course.assignment.dto.AssignmentBulkUpsertResult;
+import com.unisync.course.assignment.dto.AssignmentBulkUpsertResult.AssignmentChange;
+import com.unisync.course.assignment.dto.AssignmentBulkUpsertResult.ChangeType;
+import com.unisync.course.assignment.dto.UserAssignmentsBatchEvent;
+import com.unisync.course.common.repository.AssignmentFeedSequenceRepository;
+import com.unisync.course.common.repository.AssignmentProjection;
+import com.unisync.course.common.repository.AssignmentRepository;
+import com.unisync.course.common.repository.EnrollmentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+/**
+ * AssignmentFeedService 단위 테스트
+ * snapshot/delta 이벤트 구성과 sequence 발급 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class AssignmentFeedServiceTest {
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private AssignmentRepository assignmentRepository;
+
+    @Mock
+    private AssignmentFeedSequenceRepository feedSequenceRepository;
+
+    @InjectMocks
+    private AssignmentFeedService assignmentFeedService;
+
+    @Test
+    @DisplayName("delta - 사용자가 활성화한 과목의 변경분만 담고 사용자별 sequence를 붙인다")
+    void buildDeltaEvents_FiltersByUserCoursesAndAssignsSequence() {
+        // given
+        AssignmentBulkUpsertResult result = new AssignmentBulkUpsertResult(1, 1, 1, 0, List.of(
+                new AssignmentChange(1L, 100L, ChangeType.ADDED),
+                new AssignmentChange(2L, 200L, ChangeType.CHANGED),
+                new AssignmentChange(1L, 300L, ChangeType.REMOVED)));
+
+        AssignmentProjection added = projection(100L, 1L);
+        AssignmentProjection changed = projection(200L, 2L);
+        given(assignmentRepository.findProjectionsByCanvasAssignmentIdIn(Set.of(100L, 200L)))
+                .willReturn(List.of(added, changed));
+        given(feedSequenceRepository.nextSequences(anyCollection()))
+                .willReturn(Map.of("user-2", 5L, "user-3", 9L));
+
+        Map<String, Set<Long>> targets = new LinkedHashMap<>();
+        targets.put("user-2", Set.of(1L));
+        targets.put("user-3", Set.of(1L, 2L));
+
+        // when
+        List<UserAssignmentsBatchEvent> events = assignmentFeedService.buildDeltaEvents(targets, result, "2025-11-30T12:00:00Z");
+
+        // then
+        assertThat(events).hasSize(2);
+
+        UserAssignmentsBatchEvent user2 = events.get(0);
+        assertThat(user2.getEventType()).isEqualTo(UserAssignmentsBatchEvent.EVENT_TYPE_DELTA);
+        assertThat(user2.getSequence()).isEqualTo(5L);
+        assertThat(user2.getAddedAssignments()).extracting("canvasAssignmentId").containsExactly(100L);
+        assertThat(user2.getChangedAssignments()).isEmpty();
+        assertThat(user2.getRemovedCanvasAssignmentIds()).containsExactly(300L);
+        assertThat(user2.getAssignments()).isNull();
+
+        UserAssignmentsBatchEvent user3 = events.get(1);
+        assertThat(user3.getSequence()).isEqualTo(9L);
+        assertThat(user3.getChangedAssignments()).extracting("canvasAssignmentId").containsExactly(200L);
+    }
+
+    @Test
+    @DisplayName("delta - 변경이 없으면 sequence를 발급하지 않는다")
+    void buildDeltaEvents_NoChanges_SkipsSequence() {
+        List<UserAssignmentsBatchEvent> events = assignmentFeedService.buildDeltaEvents(
+                Map.of("user-2", Set.of(1L)), AssignmentBulkUpsertResult.empty(), null);
+
+        assertThat(events).isEmpty();
+        then(feedSequenceRepository).should(never()).nextSequences(anyCollection());
+    }
+
+    @Test
+    @DisplayName("snapshot - 과제가 없는 사용자는 제외하고 나머지에 sequence를 붙인다")
+    void buildSnapshotEvents_SkipsEmptyUsers() {
+        AssignmentProjection projection = projection(100L, 1L);
+        given(enrollmentRepository.findAssignmentsByCognitoSub("user-1")).willReturn(List.of(projection));
+        given(enrollmentRepository.findAssignmentsByCognitoSub("user-2")).willReturn(List.of());
+        given(feedSequenceRepository.nextSequences(List.of("user-1"))).willReturn(Map.of("user-1", 3L));
+
+        List<UserAssignmentsBatchEvent> events = assignmentFeedService.buildSnapshotEvents(
+                List.of("user-1", "user-2"), null);
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getEventType()).isEqualTo(UserAssignmentsBatchEvent.EVENT_TYPE_SNAPSHOT);
+        assertThat(events.get(0).getSequence()).isEqualTo(3L);
+        assertThat(events.get(0).getAssignments()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("복구용 snapshot은 sequence를 새로 발급하지 않고 현재 값을 싣는다")
+    void getSnapshot_UsesCurrentSequence() {
+        given(feedSequenceRepository.currentSequence("user-1")).willReturn(12L);
+        given(enrollmentRepository.findAssignmentsByCognitoSub("user-1")).willReturn(List.of());
+
+        UserAssignmentsBatchEvent snapshot = assignmentFeedService.getSnapshot("user-1");
+
+        assertThat(snapshot.getSequence()).isEqualTo(12L);
+        assertThat(snapshot.getAssignments()).isEmpty();
+        then(feedSequenceRepository).should(never()).nextSequences(anyCollection());
+    }
+
+    private AssignmentProjection projection(Long canvasAssignmentId, Long courseId) {
+        AssignmentProjection projection = mock(AssignmentProjection.class);
+        given(projection.getCanvasAssignmentId()).willReturn(canvasAssignmentId);
+        given(projection.getCourseId()).willReturn(courseId);
+        return projection;
+    }
+}
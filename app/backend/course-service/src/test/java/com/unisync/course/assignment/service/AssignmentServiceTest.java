@@ -4,22 +4,32 @@ import com.unisync.shared.dto.sqs.AssignmentEventMessage;
 import com.unisync.course.assignment.exception.AssignmentNotFoundException;
 import com.unisync.course.common.entity.Assignment;
 import com.unisync.course.common.entity.Course;
+import com.unisync.course.assignment.dto.AssignmentBulkUpsertResult;
+import com.unisync.course.assignment.dto.AssignmentBulkUpsertResult.AssignmentChange;
+import com.unisync.course.assignment.dto.AssignmentBulkUpsertResult.ChangeType;
+import com.unisync.course.common.repository.AssignmentJdbcRepository;
 import com.unisync.course.common.repository.AssignmentRepository;
 import com.unisync.course.common.repository.CourseRepository;
 import com.unisync.course.course.exception.CourseNotFoundException;
+import com.unisync.course.sync.dto.CanvasSyncMessage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
@@ -38,6 +48,9 @@ class AssignmentServiceTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private AssignmentJdbcRepository assignmentJdbcRepository;
+
     @InjectMocks
     private AssignmentService assignmentService;
 
@@ -177,4 +190,105 @@ class AssignmentServiceTest {
         then(assignmentRepository).should(never()).save(any(Assignment.class));
         // no batch publish here; handled elsewhere
     }
+
+    @Test
+    @DisplayName("bulk upsert - 새 과제는 배치 INSERT, 변경된 과제만 갱신하고 동일한 과제는 건너뜀")
+    void upsertAssignments_InsertsNewUpdatesChangedSkipsUnchanged() {
+        // given
+        Assignment unchanged = Assignment.builder()
+            .id(1L)
+            .canvasAssignmentId(100L)
+            .course(mockCourse)
+            .title("과제1")
+            .dueAt(LocalDateTime.of(2025, 11, 15, 23, 59, 59))
+            .pointsPossible(10)
+            .build();
+        Assignment changed = Assignment.builder()
+            .id(2L)
+            .canvasAssignmentId(200L)
+            .course(mockCourse)
+            .title("과제2")
+            .build();
+
+        given(courseRepository.findAllByCanvasCourseIdIn(Set.of(789L))).willReturn(List.of(mockCourse));
+        given(assignmentRepository.findAllByCourseIdIn(Set.of(1L))).willReturn(List.of(unchanged, changed));
+        given(assignmentJdbcRepository.batchInsert(anyList())).willAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        CanvasSyncMessage message = CanvasSyncMessage.builder()
+            .cognitoSub("user-1")
+            .courses(List.of(CanvasSyncMessage.CourseData.builder()
+                .canvasCourseId(789L)
+                .assignments(List.of(
+                    CanvasSyncMessage.AssignmentData.builder()
+                        .canvasAssignmentId(100L).title("과제1")
+                        .dueAt("2025-11-15T23:59:59Z").pointsPossible(10.0).build(),
+                    CanvasSyncMessage.AssignmentData.builder()
+                        .canvasAssignmentId(200L).title("과제2 (수정)").build(),
+                    CanvasSyncMessage.AssignmentData.builder()
+                        .canvasAssignmentId(300L).title("과제3").build()))
+                .build()))
+            .build();
+
+        // when
+        AssignmentBulkUpsertResult result = assignmentService.upsertAssignments(message);
+
+        // then
+        assertThat(result.inserted()).isEqualTo(1);
+        assertThat(result.updated()).isEqualTo(1);
+        assertThat(result.unchanged()).isEqualTo(1);
+        assertThat(result.changedCourseIds()).containsExactly(1L);
+        assertThat(result.changes()).containsExactly(
+            new AssignmentChange(1L, 200L, ChangeType.CHANGED),
+            new AssignmentChange(1L, 300L, ChangeType.ADDED));
+        assertThat(changed.getTitle()).isEqualTo("과제2 (수정)");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Assignment>> captor = ArgumentCaptor.forClass(List.class);
+        then(assignmentJdbcRepository).should().batchInsert(captor.capture());
+        assertThat(captor.getValue()).extracting(Assignment::getCanvasAssignmentId).containsExactly(300L);
+        then(assignmentRepository).should(never()).existsByCanvasAssignmentId(anyLong());
+        then(assignmentRepository).should(never()).save(any(Assignment.class));
+        then(assignmentRepository).should(never()).deleteAllInBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("bulk upsert - Canvas가 더 이상 반환하지 않는 과제는 삭제하고 REMOVED로 보고")
+    void upsertAssignments_RemovesAssignmentsMissingFromCanvas() {
+        // given
+        Assignment kept = Assignment.builder()
+            .id(1L)
+            .canvasAssignmentId(100L)
+            .course(mockCourse)
+            .title("과제1")
+            .build();
+        Assignment deleted = Assignment.builder()
+            .id(2L)
+            .canvasAssignmentId(200L)
+            .course(mockCourse)
+            .title("삭제된 과제")
+            .build();
+
+        given(courseRepository.findAllByCanvasCourseIdIn(Set.of(789L))).willReturn(List.of(mockCourse));
+        given(assignmentRepository.findAllByCourseIdIn(Set.of(1L))).willReturn(List.of(kept, deleted));
+        given(assignmentJdbcRepository.batchInsert(anyList())).willReturn(0);
+
+        CanvasSyncMessage message = CanvasSyncMessage.builder()
+            .cognitoSub("user-1")
+            .courses(List.of(CanvasSyncMessage.CourseData.builder()
+                .canvasCourseId(789L)
+                .assignments(List.of(
+                    CanvasSyncMessage.AssignmentData.builder()
+                        .canvasAssignmentId(100L).title("과제1").build()))
+                .build()))
+            .build();
+
+        // when
+        AssignmentBulkUpsertResult result = assignmentService.upsertAssignments(message);
+
+        // then
+        assertThat(result.removed()).isEqualTo(1);
+        assertThat(result.unchanged()).isEqualTo(1);
+        assertThat(result.changes()).containsExactly(new AssignmentChange(1L, 200L, ChangeType.REMOVED));
+        then(assignmentRepository).should().deleteAllInBatch(List.of(deleted));
+    }
 }
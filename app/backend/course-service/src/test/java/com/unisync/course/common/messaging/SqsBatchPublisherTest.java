@@ -0,0 +1,196 @@
+package com.unisync.course.common.messaging;
+
+import com.unisync.course.common.config.SqsPublisherProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SqsBatchPublisher 테스트")
+class SqsBatchPublisherTest {
+
+    private static final String QUEUE = "test-queue";
+
+    @Mock
+    private SqsAsyncClient sqsAsyncClient;
+
+    private SqsPublisherProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private SqsBatchPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SqsPublisherProperties();
+        properties.setInitialBackoffMillis(1);
+        properties.setMaxBackoffMillis(5);
+        properties.setMaxAttempts(3);
+        meterRegistry = new SimpleMeterRegistry();
+        publisher = new SqsBatchPublisher(sqsAsyncClient, properties, meterRegistry, "http://localhost:4566", "ap-northeast-2");
+    }
+
+    @Test
+    @DisplayName("메시지를 10건 단위 SendMessageBatch로 묶어 전송")
+    void publish_packsIntoBatchesOfTen() {
+        // given
+        given(sqsAsyncClient.sendMessageBatch(any(SendMessageBatchRequest.class))).willAnswer(invocation -> allSuccessful(invocation.getArgument(0)));
+        List<String> bodies = IntStream.range(0, 23).mapToObj(i -> "message-" + i).toList();
+
+        // when
+        PublishResult result = publisher.publish(QUEUE, bodies).join();
+
+        // then
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        then(sqsAsyncClient).should(times(3)).sendMessageBatch(captor.capture());
+        assertThat(captor.getAllValues()).extracting(request -> request.entries().size()).containsExactly(10, 10, 3);
+        assertThat(captor.getValue().queueUrl()).isEqualTo("http://localhost:4566/000000000000/test-queue");
+        assertThat(result.sent()).isEqualTo(23);
+        assertThat(result.hasFailures()).isFalse();
+    }
+
+    @Test
+    @DisplayName("배치 합계 크기가 256KiB를 넘지 않도록 분할하고, 단독으로 넘는 메시지는 실패 처리")
+    void pack_respectsSizeLimit() {
+        // given
+        String large = "x".repeat(100 * 1024);
+        String tooLarge = "x".repeat(SqsBatchPublisher.MAX_BATCH_BYTES + 1);
+        Set<Integer> oversized = new HashSet<>();
+
+        // when
+        List<List<SqsBatchPublisher.Entry>> batches = SqsBatchPublisher.pack(List.of(large, large, large, tooLarge, "small"), oversized);
+
+        // then
+        assertThat(batches).extracting(List::size).containsExactly(2, 2);
+        assertThat(oversized).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("재시도 가능한 실패 entry만 다시 전송")
+    void publish_retriesFailedEntries() {
+        // given - 첫 전송에서 1번은 일시 실패, 2번은 요청 오류(senderFault)
+        given(sqsAsyncClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .willReturn(CompletableFuture.completedFuture(SendMessageBatchResponse.builder()
+                        .successful(SendMessageBatchResultEntry.builder().id("0").build())
+                        .failed(
+                                BatchResultErrorEntry.builder().id("1").senderFault(false).code("ServiceUnavailable").build(),
+                                BatchResultErrorEntry.builder().id("2").senderFault(true).code("InvalidMessageContents").build())
+                        .build()))
+                .willAnswer(invocation -> allSuccessful(invocation.getArgument(0)));
+
+        // when
+        PublishResult result = publisher.publish(QUEUE, List.of("a", "b", "c")).join();
+
+        // then
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        then(sqsAsyncClient).should(times(2)).sendMessageBatch(captor.capture());
+        assertThat(captor.getValue().entries()).extracting(entry -> entry.messageBody()).containsExactly("b");
+        assertThat(result.sent()).isEqualTo(2);
+        assertThat(result.failedIndexes()).containsExactly(2);
+        assertThat(meterRegistry.get("sqs.publisher.retries").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("응답에 요청하지 않은 entry id가 있어도 예외 없이 나머지 결과로 완료")
+    void publish_unknownFailedEntryId_completesNormally() {
+        // given
+        given(sqsAsyncClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .willReturn(CompletableFuture.completedFuture(SendMessageBatchResponse.builder()
+                        .successful(SendMessageBatchResultEntry.builder().id("0").build())
+                        .failed(
+                                BatchResultErrorEntry.builder().id("99").senderFault(true).code("InvalidMessageContents").build(),
+                                BatchResultErrorEntry.builder().id("not-a-number").senderFault(false).code("ServiceUnavailable").build())
+                        .build()));
+
+        // when
+        CompletableFuture<PublishResult> future = publisher.publish(QUEUE, List.of("a"));
+
+        // then
+        assertThat(future).succeedsWithin(Duration.ofSeconds(1));
+        PublishResult result = future.join();
+        assertThat(result.sent()).isEqualTo(1);
+        assertThat(result.hasFailures()).isFalse();
+        then(sqsAsyncClient).should(times(1)).sendMessageBatch(any(SendMessageBatchRequest.class));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수까지 실패하면 실패 인덱스로 반환")
+    void publish_givesUpAfterMaxAttempts() {
+        // given
+        given(sqsAsyncClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .willReturn(CompletableFuture.failedFuture(SdkClientException.create("connection reset")));
+
+        // when
+        PublishResult result = publisher.publish(QUEUE, List.of("a", "b")).join();
+
+        // then
+        then(sqsAsyncClient).should(times(3)).sendMessageBatch(any(SendMessageBatchRequest.class));
+        assertThat(result.sent()).isZero();
+        assertThat(result.failedIndexes()).containsExactlyInAnyOrder(0, 1);
+    }
+
+    @Test
+    @DisplayName("flush는 전송 중인 발행이 끝날 때까지 대기")
+    void flush_waitsForPendingPublishes() throws Exception {
+        // given
+        CompletableFuture<SendMessageBatchResponse> response = new CompletableFuture<>();
+        given(sqsAsyncClient.sendMessageBatch(any(SendMessageBatchRequest.class))).willReturn(response);
+        CompletableFuture<PublishResult> published = publisher.publish(QUEUE, List.of("a"));
+
+        // when
+        CompletableFuture<Void> flushed = CompletableFuture.runAsync(() -> {
+            try {
+                publisher.flush(Duration.ofSeconds(5));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(50);
+        assertThat(flushed).isNotDone();
+        response.complete(SendMessageBatchResponse.builder()
+                .successful(SendMessageBatchResultEntry.builder().id("0").build())
+                .build());
+
+        // then
+        flushed.get(5, java.util.concurrent.TimeUnit.SECONDS);
+        assertThat(published.join().sent()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("backoff는 상한을 넘지 않는 jitter 값")
+    void backoffMillis_boundedJitter() {
+        properties.setInitialBackoffMillis(100);
+        properties.setMaxBackoffMillis(1000);
+
+        assertThat(IntStream.range(0, 100).mapToLong(i -> publisher.backoffMillis(1))).allMatch(delay -> delay >= 0 && delay <= 100);
+        assertThat(IntStream.range(0, 100).mapToLong(i -> publisher.backoffMillis(10))).allMatch(delay -> delay >= 0 && delay <= 1000);
+    }
+
+    private static CompletableFuture<SendMessageBatchResponse> allSuccessful(SendMessageBatchRequest request) {
+        return CompletableFuture.completedFuture(SendMessageBatchResponse.builder()
+                .successful(request.entries().stream()
+                        .map(entry -> SendMessageBatchResultEntry.builder().id(entry.id()).build())
+                        .toList())
+                .build());
+    }
+}
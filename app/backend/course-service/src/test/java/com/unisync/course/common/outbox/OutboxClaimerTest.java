@@ -0,0 +1,143 @@
+package com.unisync.course.common.outbox;
+
+import com.unisync.course.common.entity.OutboxEvent;
+import com.unisync.course.common.repository.OutboxEventRepository;
+import com.unisync.course.common.repository.OutboxEventRepository.PendingKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+/**
+ * OutboxClaimer 단위 테스트
+ * 여러 relay가 동시에 돌 때 한 키의 이벤트를 한 relay만 순서대로 점유하는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxClaimerTest {
+
+    private static final String OWNER = "relay-a";
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 11, 3, 9, 0);
+    private static final LocalDateTime UNTIL = NOW.plusSeconds(120);
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @InjectMocks
+    private OutboxClaimer outboxClaimer;
+
+    @Test
+    @DisplayName("claim - 잠근 이벤트가 키별 대기 이벤트와 모두 이어지면 전부 점유한다")
+    void claim_AllContiguous() {
+        // given
+        given(outboxEventRepository.lockClaimable(NOW, 100)).willReturn(List.of(
+                event(1L, "user-1"), event(2L, "user-2"), event(3L, "user-1")));
+        given(outboxEventRepository.findPendingKeys(Set.of("user-1", "user-2"), 3L)).willReturn(List.of(
+                pending(1L, "user-1"), pending(2L, "user-2"), pending(3L, "user-1")));
+
+        // when
+        List<OutboxEvent> claimed = outboxClaimer.claim(100, OWNER, NOW, UNTIL);
+
+        // then
+        assertThat(claimed).extracting(OutboxEvent::getId).containsExactly(1L, 2L, 3L);
+        then(outboxEventRepository).should().claim(List.of(1L, 2L, 3L), OWNER, UNTIL);
+    }
+
+    @Test
+    @DisplayName("claim - 같은 키의 앞선 이벤트가 다른 relay에서 전송 중이면 그 키는 가져가지 않는다")
+    void claim_EarlierEventInFlight_SkipsKey() {
+        // given - user-1의 1번은 다른 relay가 점유 중이라 잠금 조회에서 빠짐
+        given(outboxEventRepository.lockClaimable(NOW, 100)).willReturn(List.of(
+                event(2L, "user-2"), event(3L, "user-1")));
+        given(outboxEventRepository.findPendingKeys(Set.of("user-1", "user-2"), 3L)).willReturn(List.of(
+                pending(1L, "user-1"), pending(2L, "user-2"), pending(3L, "user-1")));
+
+        // when
+        List<OutboxEvent> claimed = outboxClaimer.claim(100, OWNER, NOW, UNTIL);
+
+        // then
+        assertThat(claimed).extracting(OutboxEvent::getId).containsExactly(2L);
+        then(outboxEventRepository).should().claim(List.of(2L), OWNER, UNTIL);
+    }
+
+    @Test
+    @DisplayName("claim - 같은 키 중간 이벤트를 다른 relay가 잠갔으면 그 앞까지만 점유한다")
+    void claim_GapInKey_ClaimsPrefixOnly() {
+        // given - user-1의 2번은 다른 relay가 잠가 SKIP LOCKED로 빠짐
+        given(outboxEventRepository.lockClaimable(NOW, 100)).willReturn(List.of(
+                event(1L, "user-1"), event(3L, "user-1")));
+        given(outboxEventRepository.findPendingKeys(Set.of("user-1"), 3L)).willReturn(List.of(
+                pending(1L, "user-1"), pending(2L, "user-1"), pending(3L, "user-1")));
+
+        // when
+        List<OutboxEvent> claimed = outboxClaimer.claim(100, OWNER, NOW, UNTIL);
+
+        // then
+        assertThat(claimed).extracting(OutboxEvent::getId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("claim - 점유할 이벤트가 없으면 점유 표시를 하지 않는다")
+    void claim_NothingClaimable() {
+        given(outboxEventRepository.lockClaimable(NOW, 100)).willReturn(List.of(event(3L, "user-1")));
+        given(outboxEventRepository.findPendingKeys(Set.of("user-1"), 3L)).willReturn(List.of(
+                pending(1L, "user-1"), pending(3L, "user-1")));
+
+        assertThat(outboxClaimer.claim(100, OWNER, NOW, UNTIL)).isEmpty();
+        then(outboxEventRepository).should(never()).claim(any(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("complete - 성공은 삭제, 실패는 저장, 보내지 않은 이벤트는 점유 해제")
+    void complete_DeletesSavesAndReleases() {
+        // given
+        OutboxEvent failed = event(1L, "user-1");
+        failed.recordFailure("SQS publish failed", 10);
+
+        // when
+        outboxClaimer.complete(List.of(2L), List.of(failed), List.of(3L), OWNER);
+
+        // then
+        then(outboxEventRepository).should().deleteAllByIdInBatch(List.of(2L));
+        then(outboxEventRepository).should().saveAll(List.of(failed));
+        then(outboxEventRepository).should().release(List.of(3L), OWNER);
+        assertThat(failed.getClaimedBy()).isNull();
+    }
+
+    private static OutboxEvent event(Long id, String partitionKey) {
+        return OutboxEvent.builder()
+                .id(id)
+                .queueName("assignment-queue")
+                .partitionKey(partitionKey)
+                .payload("p" + id)
+                .attempts(0)
+                .createdAt(NOW)
+                .build();
+    }
+
+    private static PendingKey pending(Long id, String partitionKey) {
+        return new PendingKey() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getPartitionKey() {
+                return partitionKey;
+            }
+        };
+    }
+}
@@ -0,0 +1,188 @@
+package com.unisync.course.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unisync.course.common.entity.OutboxEvent;
+import com.unisync.course.common.messaging.PublishResult;
+import com.unisync.course.common.messaging.SqsBatchPublisher;
+import com.unisync.course.common.repository.OutboxJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+/**
+ * OutboxService 단위 테스트
+ * outbox 저장과 relay의 키별 순서/실패 처리 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceTest {
+
+    private static final String QUEUE = "assignment-queue";
+
+    @Mock
+    private OutboxClaimer outboxClaimer;
+
+    @Mock
+    private OutboxJdbcRepository outboxJdbcRepository;
+
+    @Mock
+    private SqsBatchPublisher sqsBatchPublisher;
+
+    private OutboxService outboxService;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = new OutboxService(outboxClaimer, outboxJdbcRepository, sqsBatchPublisher,
+                new ObjectMapper(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(outboxService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(outboxService, "leaseSeconds", 120);
+    }
+
+    @Test
+    @DisplayName("append - 이벤트를 직렬화하여 순서 키와 함께 배치 저장한다")
+    void append_BatchInsertsSerializedEvents() {
+        // when
+        outboxService.append(QUEUE, List.of(Map.of("cognitoSub", "user-1"), Map.of("cognitoSub", "user-2")),
+                event -> event.get("cognitoSub"));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboxEvent>> captor = ArgumentCaptor.forClass(List.class);
+        then(outboxJdbcRepository).should().batchInsert(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(OutboxEvent::getQueueName, OutboxEvent::getPartitionKey, OutboxEvent::getPayload)
+                .containsExactly(
+                        tuple(QUEUE, "user-1", "{\"cognitoSub\":\"user-1\"}"),
+                        tuple(QUEUE, "user-2", "{\"cognitoSub\":\"user-2\"}"));
+    }
+
+    @Test
+    @DisplayName("relay - 키별로 한 건씩 wave로 전송하고 성공한 이벤트를 삭제한다")
+    void relayBatch_SendsInKeyOrderAndDeletesSent() {
+        // given - user-1: 1 → 3, user-2: 2
+        givenClaimed(List.of(
+                event(1L, "user-1", "p1"), event(2L, "user-2", "p2"), event(3L, "user-1", "p3")));
+        given(sqsBatchPublisher.publish(eq(QUEUE), anyList())).willAnswer(invocation ->
+                CompletableFuture.completedFuture(new PublishResult(invocation.<List<?>>getArgument(1).size(), Set.of())));
+
+        // when
+        int sent = outboxService.relayBatch(100);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> payloads = ArgumentCaptor.forClass(List.class);
+        then(sqsBatchPublisher).should(times(2)).publish(eq(QUEUE), payloads.capture());
+        assertThat(payloads.getAllValues()).containsExactly(List.of("p1", "p2"), List.of("p3"));
+        then(outboxClaimer).should().complete(List.of(1L, 2L, 3L), List.of(), List.of(), instanceId());
+        assertThat(sent).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("relay - 앞선 이벤트가 실패하면 같은 키의 뒤 이벤트는 보내지 않고 점유를 해제한다")
+    void relayBatch_FailureHoldsBackSameKey() {
+        // given - user-1의 첫 이벤트 전송 실패
+        OutboxEvent first = event(1L, "user-1", "p1");
+        givenClaimed(List.of(
+                first, event(2L, "user-2", "p2"), event(3L, "user-1", "p3")));
+        given(sqsBatchPublisher.publish(QUEUE, List.of("p1", "p2")))
+                .willReturn(CompletableFuture.completedFuture(new PublishResult(1, Set.of(0))));
+
+        // when
+        int sent = outboxService.relayBatch(100);
+
+        // then
+        then(sqsBatchPublisher).should(never()).publish(QUEUE, List.of("p3"));
+        then(outboxClaimer).should().complete(List.of(2L), List.of(first), List.of(3L), instanceId());
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(first.getFailedAt()).isNull();
+        assertThat(sent).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("relay - 최대 시도 횟수에 도달하면 전송을 포기한다")
+    void relayBatch_GivesUpAfterMaxAttempts() {
+        // given
+        OutboxEvent event = OutboxEvent.builder()
+                .id(1L).queueName(QUEUE).partitionKey("user-1").payload("p1")
+                .attempts(2).createdAt(LocalDateTime.now())
+                .build();
+        givenClaimed(List.of(event));
+        given(sqsBatchPublisher.publish(QUEUE, List.of("p1")))
+                .willReturn(CompletableFuture.completedFuture(new PublishResult(0, Set.of(0))));
+
+        // when
+        outboxService.relayBatch(100);
+
+        // then
+        assertThat(event.getAttempts()).isEqualTo(3);
+        assertThat(event.getFailedAt()).isNotNull();
+        then(outboxClaimer).should().complete(List.of(), List.of(event), List.of(), instanceId());
+    }
+
+    @Test
+    @DisplayName("relay - 점유 만료 시각은 현재 시각 + lease")
+    void relayBatch_ClaimsWithLease() {
+        // given
+        givenClaimed(List.of());
+
+        // when
+        outboxService.relayBatch(100);
+
+        // then
+        ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> until = ArgumentCaptor.forClass(LocalDateTime.class);
+        then(outboxClaimer).should().claim(eq(100), eq(instanceId()), now.capture(), until.capture());
+        assertThat(until.getValue()).isEqualTo(now.getValue().plusSeconds(120));
+    }
+
+    @Test
+    @DisplayName("relay - 대기 이벤트가 없으면 전송하지 않는다")
+    void relayBatch_Empty() {
+        givenClaimed(List.of());
+
+        assertThat(outboxService.relayBatch(100)).isZero();
+        then(sqsBatchPublisher).should(never()).publish(any(), anyList());
+        then(outboxClaimer).should(never()).complete(any(), any(), any(), any());
+    }
+
+    private void givenClaimed(List<OutboxEvent> events) {
+        given(outboxClaimer.claim(eq(100), eq(instanceId()), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn(events);
+    }
+
+    private String instanceId() {
+        return (String) ReflectionTestUtils.getField(outboxService, "instanceId");
+    }
+
+    private OutboxEvent event(Long id, String partitionKey, String payload) {
+        return OutboxEvent.builder()
+                .id(id)
+                .queueName(QUEUE)
+                .partitionKey(partitionKey)
+                .payload(payload)
+                .attempts(0)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -1,13 +1,19 @@
 package com.unisync.course.sync.listener;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unisync.course.assignment.service.AssignmentFeedService;
 import com.unisync.course.assignment.service.AssignmentService;
 import com.unisync.course.assignment.publisher.AssignmentEventPublisher;
 import com.unisync.course.common.entity.Course;
 import com.unisync.course.common.entity.Enrollment;
 import com.unisync.course.common.repository.CourseRepository;
 import com.unisync.course.common.repository.EnrollmentRepository;
+import com.unisync.course.assignment.dto.AssignmentBulkUpsertResult;
+import com.unisync.course.assignment.dto.AssignmentBulkUpsertResult.AssignmentChange;
+import com.unisync.course.assignment.dto.AssignmentBulkUpsertResult.ChangeType;
+import com.unisync.course.assignment.dto.UserAssignmentsBatchEvent;
 import com.unisync.course.sync.dto.CanvasSyncMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,10 +23,14 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.when;
@@ -37,11 +47,16 @@ class CanvasSyncListenerTest {
     @Mock
     private AssignmentService assignmentService;
 
+    @Mock
+    private AssignmentFeedService assignmentFeedService;
+
     @Mock
     private AssignmentEventPublisher assignmentEventPublisher;
 
     private ObjectMapper objectMapper;
 
+    private SimpleMeterRegistry meterRegistry;
+
 @InjectMocks
     private CanvasSyncListener canvasSyncListener;
 
@@ -49,7 +64,8 @@ class CanvasSyncListenerTest {
 void setUp() {
     MockitoAnnotations.openMocks(this);
     objectMapper = new ObjectMapper();
-    canvasSyncListener = new CanvasSyncListener(courseRepository, enrollmentRepository, assignmentService, assignmentEventPublisher, objectMapper);
+    meterRegistry = new SimpleMeterRegistry();
+    canvasSyncListener = new CanvasSyncListener(courseRepository, enrollmentRepository, assignmentService, assignmentFeedService, assignmentEventPublisher, objectMapper, meterRegistry);
 }
 
 @Test
@@ -90,7 +106,7 @@ void coursesModeSkipsAssignments() throws Exception {
         canvasSyncListener.receiveCanvasSync(payload);
 
         // then
-        then(assignmentService).should(never()).createAssignment(any());
+        then(assignmentService).should(never()).upsertAssignments(any());
     }
 
     @Test
@@ -105,6 +121,7 @@ void coursesModeSkipsAssignments() throws Exception {
 
         when(courseRepository.findByCanvasCourseId(123L)).thenReturn(Optional.of(course));
         when(enrollmentRepository.existsByCognitoSubAndCourseId("user-1", 1L)).thenReturn(true);
+        when(assignmentService.upsertAssignments(any())).thenReturn(addedResult());
 
         CanvasSyncMessage message = CanvasSyncMessage.builder()
                 .eventType("CANVAS_SYNC_COMPLETED")
@@ -131,11 +148,11 @@ void coursesModeSkipsAssignments() throws Exception {
         canvasSyncListener.receiveCanvasSync(payload);
 
         // then
-        ArgumentCaptor<com.unisync.shared.dto.sqs.AssignmentEventMessage> captor =
-                ArgumentCaptor.forClass(com.unisync.shared.dto.sqs.AssignmentEventMessage.class);
+        ArgumentCaptor<CanvasSyncMessage> captor = ArgumentCaptor.forClass(CanvasSyncMessage.class);
 
-        then(assignmentService).should().createAssignment(captor.capture());
-        assertThat(captor.getValue().getCanvasAssignmentId()).isEqualTo(999L);
+        then(assignmentService).should().upsertAssignments(captor.capture());
+        assertThat(captor.getValue().getCourses().get(0).getAssignments().get(0).getCanvasAssignmentId())
+                .isEqualTo(999L);
     }
 
     @Test
@@ -173,7 +190,7 @@ void coursesModeSkipsAssignments() throws Exception {
 
         canvasSyncListener.receiveCanvasSync(payload);
 
-        then(assignmentService).should(never()).createAssignment(any());
+        then(assignmentService).should(never()).upsertAssignments(any());
     }
 
     @Test
@@ -192,7 +209,7 @@ void coursesModeSkipsAssignments() throws Exception {
 
         then(courseRepository).should(never()).save(any());
         then(enrollmentRepository).should(never()).save(any());
-        then(assignmentService).should(never()).createAssignment(any());
+        then(assignmentService).should(never()).upsertAssignments(any());
     }
 
     @Test
@@ -229,4 +246,98 @@ void coursesModeSkipsAssignments() throws Exception {
         then(courseRepository).should().save(any(Course.class));
         then(enrollmentRepository).should().save(any(Enrollment.class));
     }
+
+    @Test
+    @DisplayName("incremental 모드에서는 요청자에게 snapshot, 과제가 변경된 과목의 다른 수강생에게 delta를 발행한다")
+    void incrementalModePublishesSnapshotToRequesterAndDeltaToAffectedUsers() throws Exception {
+        Course course = Course.builder()
+                .id(1L)
+                .canvasCourseId(123L)
+                .name("테스트 과목")
+                .build();
+        AssignmentBulkUpsertResult upsertResult = addedResult();
+
+        when(courseRepository.findByCanvasCourseId(123L)).thenReturn(Optional.of(course));
+        when(enrollmentRepository.existsByCognitoSubAndCourseId("user-1", 1L)).thenReturn(true);
+        when(assignmentService.upsertAssignments(any())).thenReturn(upsertResult);
+        when(enrollmentRepository.findAllSyncEnabledByCourseIdIn(Set.of(1L))).thenReturn(List.of(
+                Enrollment.builder().cognitoSub("user-1").course(course).build(),
+                Enrollment.builder().cognitoSub("user-2").course(course).build()));
+        when(assignmentFeedService.buildSnapshotEvents(eq(List.of("user-1")), any()))
+                .thenReturn(List.of(event("user-1", UserAssignmentsBatchEvent.EVENT_TYPE_SNAPSHOT)));
+        when(assignmentFeedService.buildDeltaEvents(eq(Map.of("user-2", Set.of(1L))), eq(upsertResult), any()))
+                .thenReturn(List.of(event("user-2", UserAssignmentsBatchEvent.EVENT_TYPE_DELTA)));
+
+        canvasSyncListener.receiveCanvasSync(objectMapper.writeValueAsString(assignmentsMessage()));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UserAssignmentsBatchEvent>> captor = ArgumentCaptor.forClass(List.class);
+        then(assignmentEventPublisher).should().publishAssignmentBatchEvents(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(UserAssignmentsBatchEvent::getCognitoSub, UserAssignmentsBatchEvent::getEventType)
+                .containsExactly(
+                        tuple("user-1", UserAssignmentsBatchEvent.EVENT_TYPE_SNAPSHOT),
+                        tuple("user-2", UserAssignmentsBatchEvent.EVENT_TYPE_DELTA));
+        then(enrollmentRepository).should(never()).findAllByIsSyncEnabledTrue();
+        assertThat(meterRegistry.get("canvas.sync.fanout.users").summary().totalAmount()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("incremental 모드에서 과제 변경이 없으면 요청자 본인에게만 발행한다")
+    void incrementalModeWithoutChangesPublishesOnlyToRequester() throws Exception {
+        Course course = Course.builder()
+                .id(1L)
+                .canvasCourseId(123L)
+                .name("테스트 과목")
+                .build();
+
+        when(courseRepository.findByCanvasCourseId(123L)).thenReturn(Optional.of(course));
+        when(enrollmentRepository.existsByCognitoSubAndCourseId("user-1", 1L)).thenReturn(true);
+        when(assignmentService.upsertAssignments(any())).thenReturn(AssignmentBulkUpsertResult.empty());
+        when(assignmentFeedService.buildSnapshotEvents(eq(List.of("user-1")), any()))
+                .thenReturn(List.of(event("user-1", UserAssignmentsBatchEvent.EVENT_TYPE_SNAPSHOT)));
+
+        canvasSyncListener.receiveCanvasSync(objectMapper.writeValueAsString(assignmentsMessage()));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UserAssignmentsBatchEvent>> captor = ArgumentCaptor.forClass(List.class);
+        then(assignmentEventPublisher).should().publishAssignmentBatchEvents(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(UserAssignmentsBatchEvent::getCognitoSub)
+                .containsExactly("user-1");
+        then(enrollmentRepository).should(never()).findAllSyncEnabledByCourseIdIn(any());
+    }
+
+    private AssignmentBulkUpsertResult addedResult() {
+        return new AssignmentBulkUpsertResult(1, 0, 0, 0,
+                List.of(new AssignmentChange(1L, 999L, ChangeType.ADDED)));
+    }
+
+    private UserAssignmentsBatchEvent event(String cognitoSub, String eventType) {
+        return UserAssignmentsBatchEvent.builder()
+                .eventType(eventType)
+                .cognitoSub(cognitoSub)
+                .build();
+    }
+
+    private CanvasSyncMessage assignmentsMessage() {
+        return CanvasSyncMessage.builder()
+                .eventType("CANVAS_SYNC_COMPLETED")
+                .cognitoSub("user-1")
+                .syncMode("assignments")
+                .courses(List.of(
+                        CanvasSyncMessage.CourseData.builder()
+                                .canvasCourseId(123L)
+                                .courseName("테스트 과목")
+                                .courseCode("CS101")
+                                .assignments(List.of(
+                                        CanvasSyncMessage.AssignmentData.builder()
+                                                .canvasAssignmentId(999L)
+                                                .title("과제")
+                                                .build()
+                                ))
+                                .build()
+                ))
+                .build();
+    }
 }
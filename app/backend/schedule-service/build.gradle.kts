@@ -13,6 +13,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.5.7"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.unisync"
@@ -65,6 +66,20 @@ dependencies {
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
+// JMH 벤치마크 (src/jmh/java, 실행: ./gradlew jmh, 결과: build/results/jmh/results.json)
+// 특정 벤치마크/파라미터만: ./gradlew jmh -PjmhIncludes=mergeIntervals
+jmh {
+    jmhVersion = "1.37"
+    includes = providers.gradleProperty("jmhIncludes").map { listOf(it) }.orElse(listOf())
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    fork = 1
+    warmupIterations = 3
+    warmup = "1s"
+    iterations = 5
+    timeOnIteration = "1s"
+}
+
 // 루트 디렉토리 (schedule-service -> backend -> app -> UniSync)
 val rootDir = projectDir.parentFile.parentFile.parentFile
 
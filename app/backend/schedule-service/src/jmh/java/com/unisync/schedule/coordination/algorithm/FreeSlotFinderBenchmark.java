@@ -0,0 +1,195 @@
+package com.unisync.schedule.coordination.algorithm;
+
+import com.unisync.schedule.common.config.ParallelSearchProperties;
+import com.unisync.schedule.common.entity.Schedule;
+import com.unisync.schedule.common.recurrence.RecurrenceExpander;
+import com.unisync.schedule.coordination.dto.FreeSlotDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공강 찾기 알고리즘 벤치마크
+ *
+ * 시나리오 파라미터
+ * - groupSize: 그룹 멤버 수
+ * - rangeDays: 검색 기간 (일)
+ * - perDay: 멤버 1명의 하루 일정 수 (일정 밀도)
+ * - layout: OVERLAPPING(멤버들이 같은 시간대에 몰림, 병합 후 구간이 크게 줄어듦) / DISJOINT(서로 겹치지 않음, 병합 후에도 그대로)
+ *
+ * 벤치마크
+ * - mergeIntervals / extractFreeIntervals: TimeInterval 기반 기준 구현
+ * - primitiveEngine: 운영 경로의 IntervalBuffer 병합 + 일별 창 공강 추출
+ * - findFreeSlots: 일정 목록 → 공강 DTO 전체 흐름 (순차 계산)
+ *
+ * 모든 시나리오는 고정 seed로 만들어 실행마다 같은 입력을 쓴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FreeSlotFinderBenchmark {
+
+    private static final LocalDate START_DATE = LocalDate.of(2025, 9, 1);
+    private static final LocalTime WORKING_HOURS_START = LocalTime.of(9, 0);
+    private static final LocalTime WORKING_HOURS_END = LocalTime.of(22, 0);
+    private static final List<Integer> WEEKDAYS = List.of(1, 2, 3, 4, 5);
+    private static final int MIN_DURATION_MINUTES = 60;
+
+    @Param({"5", "30"})
+    public int groupSize;
+
+    @Param({"7", "56"})
+    public int rangeDays;
+
+    @Param({"2", "8"})
+    public int perDay;
+
+    @Param({"OVERLAPPING", "DISJOINT"})
+    public Layout layout;
+
+    public enum Layout {
+        OVERLAPPING, DISJOINT
+    }
+
+    private FreeSlotFinder finder;
+    private ForkJoinPool pool;
+    private LocalDate endDate;
+    private LocalDateTime searchStart;
+    private LocalDateTime searchEnd;
+    private List<Schedule> schedules;
+    private List<TimeInterval> busyIntervals;
+    private List<TimeInterval> mergedBusyIntervals;
+    private long[] busyStarts;
+    private long[] busyEnds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 병렬 경로는 ShardedIntervalEngine 비교용이 아니므로 끔 (단일 스레드 처리량 측정)
+        ParallelSearchProperties properties = new ParallelSearchProperties();
+        properties.setEnabled(false);
+        pool = new ForkJoinPool(1);
+        finder = new FreeSlotFinder(new RecurrenceExpander(), properties, pool);
+
+        endDate = START_DATE.plusDays(rangeDays - 1);
+        searchStart = START_DATE.atStartOfDay();
+        searchEnd = endDate.atTime(23, 59, 59);
+        schedules = layout == Layout.OVERLAPPING ? overlapping() : disjoint();
+
+        busyIntervals = new ArrayList<>(schedules.size());
+        busyStarts = new long[schedules.size()];
+        busyEnds = new long[schedules.size()];
+        for (int i = 0; i < schedules.size(); i++) {
+            Schedule schedule = schedules.get(i);
+            busyIntervals.add(new TimeInterval(schedule.getStartTime(), schedule.getEndTime()));
+            busyStarts[i] = IntervalBuffer.toEpochSecond(schedule.getStartTime());
+            busyEnds[i] = IntervalBuffer.toEpochSecond(schedule.getEndTime());
+        }
+        mergedBusyIntervals = finder.mergeIntervals(copyBusyIntervals());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    /**
+     * merge가 병합 대상 구간의 끝 시간을 바꾸므로 매번 원본 구간을 복사해 넘긴다 (복사 비용 포함, primitiveEngine과 동일)
+     */
+    @Benchmark
+    public List<TimeInterval> mergeIntervals() {
+        return finder.mergeIntervals(copyBusyIntervals());
+    }
+
+    @Benchmark
+    public List<TimeInterval> extractFreeIntervals() {
+        return finder.extractFreeIntervals(mergedBusyIntervals, searchStart, searchEnd, MIN_DURATION_MINUTES);
+    }
+
+    /**
+     * merge가 버퍼를 바꾸므로 매번 원본 배열에서 새 버퍼를 채운다 (채우는 비용 포함)
+     */
+    @Benchmark
+    public IntervalBuffer primitiveEngine() {
+        IntervalBuffer busy = new IntervalBuffer(busyStarts.length);
+        for (int i = 0; i < busyStarts.length; i++) {
+            busy.add(busyStarts[i], busyEnds[i]);
+        }
+        PrimitiveIntervalEngine.merge(busy);
+        return PrimitiveIntervalEngine.freeWithinDailyWindows(busy,
+                IntervalBuffer.toEpochSecond(searchStart), IntervalBuffer.toEpochSecond(searchEnd),
+                WORKING_HOURS_START, WORKING_HOURS_END, WEEKDAYS, MIN_DURATION_MINUTES);
+    }
+
+    @Benchmark
+    public List<FreeSlotDto> findFreeSlots() {
+        return finder.findFreeSlots(schedules, START_DATE, endDate, MIN_DURATION_MINUTES,
+                WORKING_HOURS_START, WORKING_HOURS_END, WEEKDAYS);
+    }
+
+    private List<TimeInterval> copyBusyIntervals() {
+        List<TimeInterval> copy = new ArrayList<>(busyIntervals.size());
+        for (TimeInterval interval : busyIntervals) {
+            copy.add(new TimeInterval(interval.getStart(), interval.getEnd()));
+        }
+        return copy;
+    }
+
+    /**
+     * 수업 시간표처럼 멤버들이 같은 블록(09:00부터 90분 간격)에 몰리고 시작/길이만 조금씩 다름
+     */
+    private List<Schedule> overlapping() {
+        Random random = new Random(42);
+        List<Schedule> result = new ArrayList<>(groupSize * rangeDays * perDay);
+        for (int day = 0; day < rangeDays; day++) {
+            LocalDateTime dayStart = START_DATE.plusDays(day).atStartOfDay();
+            for (int member = 0; member < groupSize; member++) {
+                for (int block = 0; block < perDay; block++) {
+                    LocalDateTime start = dayStart.plusMinutes(9 * 60 + block * 90L + 15L * random.nextInt(3));
+                    result.add(schedule(member, start, start.plusMinutes(60 + 15L * random.nextInt(5))));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 하루를 (멤버 수 × 하루 일정 수)개 칸으로 나눠 칸 앞쪽 절반만 차지 (서로 겹치지도 맞닿지도 않음)
+     */
+    private List<Schedule> disjoint() {
+        int lanes = groupSize * perDay;
+        long laneSeconds = 86_400L / lanes;
+        List<Schedule> result = new ArrayList<>(lanes * rangeDays);
+        for (int day = 0; day < rangeDays; day++) {
+            LocalDateTime dayStart = START_DATE.plusDays(day).atStartOfDay();
+            for (int lane = 0; lane < lanes; lane++) {
+                LocalDateTime start = dayStart.plusSeconds(lane * laneSeconds);
+                result.add(schedule(lane % groupSize, start, start.plusSeconds(laneSeconds / 2)));
+            }
+        }
+        return result;
+    }
+
+    private static Schedule schedule(int member, LocalDateTime start, LocalDateTime end) {
+        return Schedule.builder()
+                .cognitoSub("member-" + member)
+                .startTime(start)
+                .endTime(end)
+                .build();
+    }
+}
@@ -3,10 +3,16 @@ package com.unisync.schedule.assignment.service;
 import com.unisync.schedule.assignment.dto.UserAssignmentsBatchMessage;
 import com.unisync.schedule.assignment.dto.UserAssignmentsBatchMessage.AssignmentPayload;
 import com.unisync.schedule.categories.service.CategoryService;
+import com.unisync.schedule.common.entity.AssignmentSyncState;
 import com.unisync.schedule.common.entity.Schedule;
 import com.unisync.schedule.common.entity.Schedule.ScheduleSource;
 import com.unisync.schedule.common.entity.Schedule.ScheduleStatus;
+import com.unisync.schedule.common.repository.AssignmentSyncStateRepository;
+import com.unisync.schedule.common.repository.ScheduleJdbcRepository;
 import com.unisync.schedule.common.repository.ScheduleRepository;
+import com.unisync.schedule.coordination.index.BusyBitmapIndex;
+import com.unisync.schedule.internal.client.CourseServiceClient;
+import com.unisync.shared.util.CanvasContentHash;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -14,10 +20,14 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -32,18 +42,93 @@ public class AssignmentService {
 
     private final ScheduleRepository scheduleRepository;
     private final CategoryService categoryService;
+    private final ScheduleJdbcRepository scheduleJdbcRepository;
+    private final AssignmentSyncStateRepository assignmentSyncStateRepository;
+    private final CourseServiceClient courseServiceClient;
+    private final BusyBitmapIndex busyBitmapIndex;
 
+    /**
+     * 사용자별 assignments 이벤트 반영
+     *
+     * - snapshot: 전체 목록으로 일정 생성/수정/정리. 이미 더 최신 sequence를 반영했다면 무시
+     * - delta: 직전 sequence 바로 다음일 때만 변경분 반영. 중복은 무시하고,
+     *   누락(gap)이 있으면 Course-Service에서 snapshot을 받아 전체를 다시 맞춘다
+     */
     @Transactional
     public void processAssignmentsBatch(UserAssignmentsBatchMessage message) {
-        if (!"USER_ASSIGNMENTS_CREATED".equals(message.getEventType())) {
-            log.warn("Unknown assignment batch event type: {}", message.getEventType());
+        switch (message.getEventType() != null ? message.getEventType() : "") {
+            case UserAssignmentsBatchMessage.EVENT_TYPE_SNAPSHOT -> processSnapshotEvent(message);
+            case UserAssignmentsBatchMessage.EVENT_TYPE_DELTA -> processDeltaEvent(message);
+            default -> log.warn("Unknown assignment batch event type: {}", message.getEventType());
+        }
+    }
+
+    private void processSnapshotEvent(UserAssignmentsBatchMessage message) {
+        String cognitoSub = message.getCognitoSub();
+
+        // sequence 없는 snapshot(이전 버전 발행분)은 순서 검사 없이 반영
+        if (message.getSequence() == null) {
+            applySnapshot(cognitoSub, message.getAssignments());
             return;
         }
 
+        AssignmentSyncState state = lockSyncState(cognitoSub);
+        if (message.getSequence() <= state.getLastSequence()) {
+            log.info("Skip stale assignment snapshot: cognitoSub={}, sequence={}, lastSequence={}",
+                    cognitoSub, message.getSequence(), state.getLastSequence());
+            return;
+        }
+
+        applySnapshot(cognitoSub, message.getAssignments());
+        state.setLastSequence(message.getSequence());
+        assignmentSyncStateRepository.save(state);
+    }
+
+    private void processDeltaEvent(UserAssignmentsBatchMessage message) {
         String cognitoSub = message.getCognitoSub();
-        List<AssignmentPayload> assignments = message.getAssignments() != null
-                ? message.getAssignments()
-                : Collections.emptyList();
+        AssignmentSyncState state = lockSyncState(cognitoSub);
+        long lastSequence = state.getLastSequence();
+        Long sequence = message.getSequence();
+
+        if (sequence != null && sequence <= lastSequence) {
+            log.info("Skip duplicate assignment delta: cognitoSub={}, sequence={}, lastSequence={}",
+                    cognitoSub, sequence, lastSequence);
+            return;
+        }
+
+        if (sequence == null || sequence != lastSequence + 1) {
+            // 누락된 delta가 있으므로 이 delta만으로는 상태를 맞출 수 없다 → snapshot으로 복구
+            log.warn("Assignment delta gap detected: cognitoSub={}, sequence={}, lastSequence={} → fetching snapshot",
+                    cognitoSub, sequence, lastSequence);
+            UserAssignmentsBatchMessage snapshot = courseServiceClient.getAssignmentSnapshot(cognitoSub)
+                    .orElseThrow(() -> new IllegalStateException(
+                            "assignments snapshot 조회 실패: cognitoSub=" + cognitoSub));
+
+            applySnapshot(cognitoSub, snapshot.getAssignments());
+            if (snapshot.getSequence() != null) {
+                state.setLastSequence(snapshot.getSequence());
+            }
+            assignmentSyncStateRepository.save(state);
+            return;
+        }
+
+        applyDelta(cognitoSub, message);
+        state.setLastSequence(sequence);
+        assignmentSyncStateRepository.save(state);
+    }
+
+    private AssignmentSyncState lockSyncState(String cognitoSub) {
+        return assignmentSyncStateRepository.findForUpdate(cognitoSub)
+                .orElseGet(() -> AssignmentSyncState.builder()
+                        .cognitoSub(cognitoSub)
+                        .build());
+    }
+
+    /**
+     * snapshot 반영: 목록에 없는 기존 Canvas 일정은 삭제
+     */
+    private void applySnapshot(String cognitoSub, List<AssignmentPayload> payloads) {
+        List<AssignmentPayload> assignments = payloads != null ? payloads : Collections.emptyList();
 
         // 기존 Canvas 일정 조회 (사용자별)
         List<Schedule> existingSchedules = scheduleRepository.findByCognitoSubAndSource(
@@ -51,6 +136,7 @@ public class AssignmentService {
         Map<String, Schedule> existingBySourceId = existingSchedules.stream()
                 .collect(Collectors.toMap(Schedule::getSourceId, s -> s));
 
+        ScheduleWrites writes = new ScheduleWrites();
         Set<String> incomingSourceIds = new HashSet<>();
 
         for (AssignmentPayload payload : assignments) {
@@ -58,41 +144,128 @@ public class AssignmentService {
                 continue;
             }
 
-            String sourceId = buildSourceId(payload.getCanvasAssignmentId(), cognitoSub);
-            LocalDateTime dueAt = parseDateTime(payload.getDueAt());
+            incomingSourceIds.add(buildSourceId(payload.getCanvasAssignmentId(), cognitoSub));
+            applyPayload(cognitoSub, payload, existingBySourceId, writes);
+        }
 
-            // dueAt이 없으면 기존 일정 삭제 후 skip
-            if (dueAt == null) {
-                if (existingBySourceId.containsKey(sourceId)) {
-                    scheduleRepository.delete(existingBySourceId.get(sourceId));
-                }
-                incomingSourceIds.add(sourceId);
-                continue;
+        // 배치에 포함되지 않은 기존 Canvas 일정 삭제 (비활성 과목 등)
+        for (Schedule schedule : existingSchedules) {
+            if (!incomingSourceIds.contains(schedule.getSourceId())) {
+                writes.deletes.add(schedule.getScheduleId());
             }
+        }
+
+        flush(cognitoSub, writes);
+    }
+
+    /**
+     * delta 반영: 언급된 과제의 일정만 조회하여 생성/수정/삭제
+     */
+    private void applyDelta(String cognitoSub, UserAssignmentsBatchMessage message) {
+        List<AssignmentPayload> upserts = new ArrayList<>();
+        if (message.getAddedAssignments() != null) {
+            upserts.addAll(message.getAddedAssignments());
+        }
+        if (message.getChangedAssignments() != null) {
+            upserts.addAll(message.getChangedAssignments());
+        }
+        List<Long> removedIds = message.getRemovedCanvasAssignmentIds() != null
+                ? message.getRemovedCanvasAssignmentIds()
+                : Collections.emptyList();
 
-            incomingSourceIds.add(sourceId);
-            Schedule schedule = existingBySourceId.get(sourceId);
-            Long categoryId = categoryService.getOrCreateCourseCategory(
-                    cognitoSub,
-                    payload.getCourseId(),
-                    payload.getCourseName()
-            );
-
-            if (schedule == null) {
-                schedule = buildScheduleFromPayload(payload, cognitoSub, categoryId, dueAt, sourceId);
-            } else {
-                updateScheduleFromPayload(schedule, payload, dueAt);
+        Set<String> sourceIds = new HashSet<>();
+        upserts.stream()
+                .map(AssignmentPayload::getCanvasAssignmentId)
+                .filter(Objects::nonNull)
+                .forEach(id -> sourceIds.add(buildSourceId(id, cognitoSub)));
+        removedIds.forEach(id -> sourceIds.add(buildSourceId(id, cognitoSub)));
+        if (sourceIds.isEmpty()) {
+            return;
+        }
+
+        Map<String, Schedule> existingBySourceId = scheduleRepository
+                .findBySourceAndSourceIdIn(ScheduleSource.CANVAS, sourceIds).stream()
+                .collect(Collectors.toMap(Schedule::getSourceId, s -> s));
+
+        ScheduleWrites writes = new ScheduleWrites();
+
+        for (AssignmentPayload payload : upserts) {
+            if (payload.getCanvasAssignmentId() != null) {
+                applyPayload(cognitoSub, payload, existingBySourceId, writes);
             }
+        }
 
-            scheduleRepository.save(schedule);
+        for (Long canvasAssignmentId : removedIds) {
+            Schedule schedule = existingBySourceId.get(buildSourceId(canvasAssignmentId, cognitoSub));
+            if (schedule != null) {
+                writes.deletes.add(schedule.getScheduleId());
+            }
         }
 
-        // 배치에 포함되지 않은 기존 Canvas 일정 삭제 (비활성 과목 등)
-        for (Schedule schedule : existingSchedules) {
-            if (!incomingSourceIds.contains(schedule.getSourceId())) {
-                scheduleRepository.delete(schedule);
+        flush(cognitoSub, writes);
+    }
+
+    /**
+     * 과제 1건의 반영 내용을 writes에 모은다 (생성/수정/dueAt 제거 시 삭제)
+     * 수정은 managed 엔티티를 변경하여 flush 시 Hibernate 배치 UPDATE로 처리된다.
+     */
+    private void applyPayload(String cognitoSub,
+                              AssignmentPayload payload,
+                              Map<String, Schedule> existingBySourceId,
+                              ScheduleWrites writes) {
+        String sourceId = buildSourceId(payload.getCanvasAssignmentId(), cognitoSub);
+        LocalDateTime dueAt = parseDateTime(payload.getDueAt());
+        Schedule schedule = existingBySourceId.get(sourceId);
+
+        // dueAt이 없으면 기존 일정 삭제 후 skip
+        if (dueAt == null) {
+            if (schedule != null) {
+                writes.deletes.add(schedule.getScheduleId());
             }
+            return;
+        }
+
+        String contentHash = resolveContentHash(payload, dueAt);
+
+        if (schedule == null) {
+            // 카테고리는 flush 시 과목 단위로 한 번에 조회/생성
+            writes.inserts.add(new PendingSchedule(payload.getCourseId(),
+                    buildScheduleFromPayload(payload, cognitoSub, null, dueAt, sourceId, contentHash)));
+            writes.courseNames.putIfAbsent(payload.getCourseId(), payload.getCourseName());
+        } else if (!contentHash.equals(schedule.getSourceContentHash())) {
+            updateScheduleFromPayload(schedule, payload, dueAt, contentHash);
+            writes.updated++;
+        }
+        // 내용 동일 → 엔티티를 건드리지 않아 UPDATE/flush 생략
+    }
+
+    /**
+     * 모아 둔 쓰기 작업 일괄 실행
+     * - 새 일정: 과목 카테고리를 한 번에 조회/생성한 뒤 JDBC 배치 INSERT
+     * - 삭제: 단일 DELETE ... WHERE schedule_id IN
+     */
+    private void flush(String cognitoSub, ScheduleWrites writes) {
+        if (!writes.inserts.isEmpty()) {
+            Map<Long, Long> categoryIds = categoryService.getOrCreateCourseCategories(cognitoSub, writes.courseNames);
+            List<Schedule> inserts = writes.inserts.stream()
+                    .map(pending -> {
+                        pending.schedule().setCategoryId(categoryIds.get(pending.courseId()));
+                        return pending.schedule();
+                    })
+                    .toList();
+            scheduleJdbcRepository.batchInsert(inserts);
         }
+
+        if (!writes.deletes.isEmpty()) {
+            scheduleRepository.deleteAllByScheduleIdIn(writes.deletes);
+        }
+
+        if (!writes.inserts.isEmpty() || writes.updated > 0 || !writes.deletes.isEmpty()) {
+            busyBitmapIndex.ownersChanged(List.of(cognitoSub), List.of());
+        }
+
+        log.info("Applied assignment schedules: cognitoSub={}, inserted={}, updated={}, deleted={}",
+                cognitoSub, writes.inserts.size(), writes.updated, writes.deletes.size());
     }
 
     /**
@@ -102,7 +275,8 @@ public class AssignmentService {
                                               String cognitoSub,
                                               Long categoryId,
                                               LocalDateTime dueAt,
-                                              String sourceId) {
+                                              String sourceId,
+                                              String contentHash) {
         return Schedule.builder()
                 .cognitoSub(cognitoSub)
                 .groupId(null)
@@ -117,17 +291,31 @@ public class AssignmentService {
                 .recurrenceRule(null)
                 .source(ScheduleSource.CANVAS)
                 .sourceId(sourceId)
+                .sourceContentHash(contentHash)
                 .build();
     }
 
     private void updateScheduleFromPayload(Schedule schedule,
                                            AssignmentPayload payload,
-                                           LocalDateTime dueAt) {
+                                           LocalDateTime dueAt,
+                                           String contentHash) {
         schedule.setTitle(buildScheduleTitle(payload));
         schedule.setDescription(payload.getDescription());
         schedule.setStartTime(dueAt);
         schedule.setEndTime(dueAt);
         schedule.setIsAllDay(false);
+        schedule.setSourceContentHash(contentHash);
+    }
+
+    /**
+     * Course-Service가 계산한 fingerprint를 우선 사용하고, 없으면 payload로부터 같은 필드로 계산
+     */
+    private String resolveContentHash(AssignmentPayload payload, LocalDateTime dueAt) {
+        if (payload.getContentHash() != null && !payload.getContentHash().isBlank()) {
+            return payload.getContentHash();
+        }
+        return CanvasContentHash.of(payload.getTitle(), payload.getDescription(), dueAt,
+                payload.getPointsPossible(), payload.getSubmissionTypes());
     }
 
     private String buildSourceId(Long canvasAssignmentId, String cognitoSub) {
@@ -145,4 +333,20 @@ public class AssignmentService {
         String normalized = dateTimeStr.replace("Z", "").split("\\.")[0];
         return LocalDateTime.parse(normalized, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
     }
+
+    /**
+     * 한 배치에서 모은 일정 쓰기 작업
+     */
+    private static final class ScheduleWrites {
+        private final List<PendingSchedule> inserts = new ArrayList<>();
+        private final Map<Long, String> courseNames = new LinkedHashMap<>();
+        private final Set<Long> deletes = new LinkedHashSet<>();
+        private int updated;
+    }
+
+    /**
+     * 카테고리 지정 전의 새 일정
+     */
+    private record PendingSchedule(Long courseId, Schedule schedule) {
+    }
 }
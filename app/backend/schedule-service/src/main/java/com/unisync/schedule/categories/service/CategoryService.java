@@ -15,7 +15,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -282,6 +285,52 @@ public class CategoryService {
                 });
     }
 
+    /**
+     * Canvas 과목별 카테고리 일괄 조회 또는 생성
+     * Assignment 배치 처리 시 과목마다 조회하지 않도록 한 번의 IN 조회로 기존 카테고리를 찾고,
+     * 없는 과목의 카테고리는 함께 생성한다.
+     *
+     * @param cognitoSub 사용자 Cognito Sub
+     * @param courseNames courseId -> 과목명 (카테고리 이름으로 사용)
+     * @return courseId -> 카테고리 ID
+     */
+    @Transactional
+    public Map<Long, Long> getOrCreateCourseCategories(String cognitoSub, Map<Long, String> courseNames) {
+        if (courseNames.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<String> sourceIds = courseNames.keySet().stream()
+                .map(String::valueOf)
+                .collect(Collectors.toSet());
+
+        Map<Long, Long> categoryIds = new HashMap<>();
+        categoryRepository.findByCognitoSubAndSourceTypeAndSourceIdIn(cognitoSub, CANVAS_COURSE, sourceIds)
+                .forEach(category -> categoryIds.put(Long.valueOf(category.getSourceId()), category.getCategoryId()));
+
+        List<Category> missing = courseNames.entrySet().stream()
+                .filter(entry -> !categoryIds.containsKey(entry.getKey()))
+                .map(entry -> Category.builder()
+                        .cognitoSub(cognitoSub)
+                        .groupId(null)
+                        .name(entry.getValue())
+                        .color(generateColorForCourse(entry.getKey()))
+                        .icon("📚")
+                        .isDefault(true)
+                        .sourceType(CANVAS_COURSE)
+                        .sourceId(entry.getKey().toString())
+                        .build())
+                .toList();
+
+        if (!missing.isEmpty()) {
+            categoryRepository.saveAll(missing).forEach(saved ->
+                    categoryIds.put(Long.valueOf(saved.getSourceId()), saved.getCategoryId()));
+            log.info("✅ Created {} course categories: cognitoSub={}", missing.size(), cognitoSub);
+        }
+
+        return categoryIds;
+    }
+
     /**
      * 과목별 색상 자동 생성
      * courseId를 해시하여 일관된 색상 할당
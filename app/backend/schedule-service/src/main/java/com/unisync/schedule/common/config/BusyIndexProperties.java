@@ -0,0 +1,32 @@
+package com.unisync.schedule.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 사용자별 busy bitmap 인덱스 설정 프로퍼티
+ *
+ * application.yml의 coordination.busy-index 설정을 바인딩합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "coordination.busy-index")
+public class BusyIndexProperties {
+
+    /**
+     * 공강 찾기에 bitmap 인덱스를 사용할지 여부 (false면 일정 엔티티로 직접 계산)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 주 단위 bitmap 유지 시간 (초)
+     * 일정 변경은 공유 소유자 버전(ScheduleVersions)으로 즉시 반영되므로, 버전 갱신을 거치지 않은 변경에 대한 안전망이다
+     */
+    private long ttlSeconds = 300;
+
+    /**
+     * bitmap을 보관할 최대 소유자(사용자/그룹) 수 (초과 시 가장 오래 안 쓴 소유자부터 제거)
+     */
+    private int maxOwners = 10_000;
+}
@@ -0,0 +1,28 @@
+package com.unisync.schedule.common.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 일정 조율(공강 찾기) 설정
+ */
+@Configuration
+@EnableConfigurationProperties({BusyIndexProperties.class, ParallelSearchProperties.class,
+        ResultCacheProperties.class})
+public class CoordinationConfig {
+
+    /**
+     * 공강 찾기 전용 fork-join pool
+     * parallel stream 등이 쓰는 common pool과 분리해 응답 지연이 다른 작업에 묶이지 않게 한다
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool coordinationForkJoinPool(ParallelSearchProperties properties) {
+        int parallelism = properties.getParallelism() > 0
+                ? properties.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(parallelism);
+    }
+}
@@ -0,0 +1,36 @@
+package com.unisync.schedule.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 공강 찾기 병렬 계산 설정 프로퍼티
+ *
+ * application.yml의 coordination.parallel 설정을 바인딩합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "coordination.parallel")
+public class ParallelSearchProperties {
+
+    /**
+     * 기간을 나눠 fork-join pool에서 병렬 계산할지 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 병렬 계산을 시작할 최소 busy 구간 수 (이보다 적으면 순차 계산이 더 빠름)
+     */
+    private int minIntervals = 20_000;
+
+    /**
+     * shard 하나가 맡는 일수 (검색 기간이 shard 2개 이상일 때만 병렬 계산)
+     */
+    private int shardDays = 7;
+
+    /**
+     * 전용 fork-join pool 병렬도 (0이면 CPU 코어 수)
+     */
+    private int parallelism = 0;
+}
@@ -0,0 +1,32 @@
+package com.unisync.schedule.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 공강 찾기 결과 캐시 설정 프로퍼티
+ *
+ * application.yml의 coordination.result-cache 설정을 바인딩합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "coordination.result-cache")
+public class ResultCacheProperties {
+
+    /**
+     * 같은 조건의 공강 찾기 결과를 재사용할지 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 결과 유지 시간 (초)
+     * 그룹 멤버 구성 변경과 다른 인스턴스에서 바뀐 일정은 이 시간 안에 반영된다
+     */
+    private long ttlSeconds = 60;
+
+    /**
+     * 보관할 최대 결과 수 (초과 시 가장 오래 안 쓴 결과부터 제거)
+     */
+    private int maxEntries = 1_000;
+}
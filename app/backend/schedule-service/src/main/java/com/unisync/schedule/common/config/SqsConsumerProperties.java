@@ -0,0 +1,92 @@
+package com.unisync.schedule.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * SQS Consumer 엔진 설정 프로퍼티
+ *
+ * application.yml의 aws.sqs.consumer 설정을 바인딩합니다.
+ * 모든 Listener(Assignment, Course)가 같은 설정으로 SqsConsumerEngine을 구성합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "aws.sqs.consumer")
+public class SqsConsumerProperties {
+
+    /**
+     * 큐당 동시 long polling 스레드 수
+     */
+    private int pollers = 2;
+
+    /**
+     * 메시지 처리 worker 스레드 수 (virtualThreads=true이면 무시)
+     */
+    private int workerThreads = 8;
+
+    /**
+     * worker를 virtual thread로 실행할지 여부
+     */
+    private boolean virtualThreads = false;
+
+    /**
+     * 큐당 동시에 처리 중일 수 있는 최대 메시지 수
+     * 가득 차면 poller가 receive를 멈춰 back-pressure를 건다
+     */
+    private int maxInFlight = 20;
+
+    /**
+     * receive 1회당 최대 메시지 수 (SQS 최대 10)
+     */
+    private int maxMessages = 10;
+
+    /**
+     * long polling 대기 시간 (초, SQS 최대 20)
+     */
+    private int waitTimeSeconds = 10;
+
+    /**
+     * 배치가 가득 차지 않았을 때 다음 receive까지 대기 시간 (ms)
+     * 가득 찬 배치를 받으면 대기 없이 바로 다시 poll한다
+     */
+    private long idlePollDelayMillis = 1000;
+
+    /**
+     * 종료 시 처리 중인 메시지를 기다리는 최대 시간 (초)
+     */
+    private int shutdownTimeoutSeconds = 30;
+
+    /**
+     * 처리 완료 메시지를 DeleteMessageBatch로 묶는 최대 수 (SQS 최대 10)
+     */
+    private int ackBatchSize = 10;
+
+    /**
+     * 배치가 차지 않은 ack를 모아 두는 최대 시간 (ms)
+     */
+    private long ackFlushIntervalMillis = 200;
+
+    /**
+     * receive 시 지정하고 heartbeat가 연장하는 visibility timeout (초)
+     * 큐의 기본 VisibilityTimeout보다 이 값이 우선한다
+     */
+    private int visibilityTimeoutSeconds = 60;
+
+    /**
+     * 처리 중 메시지의 visibility를 연장하는 주기 (초)
+     * visibilityTimeoutSeconds의 절반 이하여야 한다 (엔진 생성 시 검증)
+     */
+    private int heartbeatIntervalSeconds = 20;
+
+    /**
+     * 처리 완료 메시지 장부 보관 시간 (초)
+     * SQS 재전달이 일어날 수 있는 기간(visibility timeout × 재시도)보다 길어야 한다
+     */
+    private int ledgerTtlSeconds = 3600;
+
+    /**
+     * 처리 완료 메시지 장부 최대 항목 수 (messageId, 키별 sequence 각각)
+     */
+    private int ledgerMaxEntries = 100_000;
+}
@@ -0,0 +1,33 @@
+package com.unisync.schedule.common.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 assignments 이벤트 반영 상태
+ * Course-Service가 발급한 sequence 중 마지막으로 반영한 값을 기록하여 delta 누락을 감지한다.
+ */
+@Entity
+@Table(name = "assignment_sync_states")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AssignmentSyncState {
+
+    @Id
+    @Column(name = "cognito_sub", length = 255)
+    private String cognitoSub;
+
+    @Column(name = "last_sequence", nullable = false)
+    @Builder.Default
+    private Long lastSequence = 0L;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -1,5 +1,6 @@
 package com.unisync.schedule.common.entity;
 
+import com.unisync.shared.util.CanvasContentHash;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -9,8 +10,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "schedules", indexes = {
-    @Index(name = "idx_cognito_sub", columnList = "cognito_sub"),
-    @Index(name = "idx_group_id", columnList = "group_id"),
+    @Index(name = "idx_cognito_sub_start_time", columnList = "cognito_sub, start_time"),
+    @Index(name = "idx_group_id_start_time", columnList = "group_id, start_time"),
     @Index(name = "idx_category_id", columnList = "category_id"),
     @Index(name = "idx_start_time", columnList = "start_time"),
     @Index(name = "idx_end_time", columnList = "end_time"),
@@ -69,6 +70,13 @@ public class Schedule {
     @Column(name = "source_id", length = 255)
     private String sourceId;
 
+    /**
+     * 외부 소스 내용 fingerprint (Canvas 과제: title, description, dueAt, pointsPossible, submissionTypes의 SHA-256)
+     * 동기화 시 내용이 바뀌지 않은 일정의 UPDATE를 건너뛰는 데 사용
+     */
+    @Column(name = "source_content_hash", length = CanvasContentHash.LENGTH)
+    private String sourceContentHash;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
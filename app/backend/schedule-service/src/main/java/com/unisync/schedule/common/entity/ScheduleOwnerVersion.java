@@ -0,0 +1,28 @@
+package com.unisync.schedule.common.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 소유자(사용자/그룹)별 일정 버전
+ * 일정을 바꾸는 트랜잭션 안에서 1씩 올려, 모든 인스턴스가 인스턴스 로컬 캐시(busy bitmap, 공강 찾기 결과)의 최신 여부를 판단한다.
+ */
+@Entity
+@Table(name = "schedule_owner_versions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduleOwnerVersion {
+
+    /**
+     * "user:{cognitoSub}" 또는 "group:{groupId}"
+     */
+    @Id
+    @Column(name = "owner_key", length = 300)
+    private String ownerKey;
+
+    @Column(nullable = false)
+    private Long version;
+}
@@ -10,8 +10,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "todos", indexes = {
-    @Index(name = "idx_cognito_sub", columnList = "cognito_sub"),
-    @Index(name = "idx_group_id", columnList = "group_id"),
+    @Index(name = "idx_cognito_sub_group_due_date", columnList = "cognito_sub, group_id, due_date"),
+    @Index(name = "idx_group_due_date", columnList = "group_id, due_date"),
     @Index(name = "idx_category_id", columnList = "category_id"),
     @Index(name = "idx_status", columnList = "status"),
     @Index(name = "idx_priority", columnList = "priority"),
@@ -70,6 +70,16 @@ public class Todo {
     @Column(name = "parent_todo_id")
     private Long parentTodoId;
 
+    // 직계 서브태스크 집계 (진행률 = subtaskProgressSum / subtaskCount, 서브태스크 변경 시 delta로 갱신)
+    // 행을 잠근 뒤 TodoRepository.updateRollup으로만 바꾸고, 엔티티 저장 시에는 쓰지 않음 (오래된 값으로 덮어쓰지 않도록)
+    @Builder.Default
+    @Column(name = "subtask_count", nullable = false, updatable = false)
+    private Integer subtaskCount = 0;
+
+    @Builder.Default
+    @Column(name = "subtask_progress_sum", nullable = false, updatable = false)
+    private Integer subtaskProgressSum = 0;
+
     @Column(name = "schedule_id")
     private Long scheduleId;
 
@@ -0,0 +1,50 @@
+package com.unisync.schedule.common.messaging;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 키별 직렬 실행기
+ *
+ * 같은 키의 작업은 제출 순서대로 하나씩, 다른 키의 작업은 executor에서 병렬로 실행한다.
+ * 키별로 마지막 작업의 future만 유지하고, 완료되면 제거하여 키가 무한히 쌓이지 않는다.
+ */
+class KeyedSerialExecutor {
+
+    private final Executor executor;
+    private final Map<String, CompletableFuture<Void>> tails = new HashMap<>();
+
+    KeyedSerialExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * @return 작업 완료 future (executor가 작업을 거부하면 예외로 완료)
+     */
+    CompletableFuture<Void> execute(String key, Runnable task) {
+        if (key == null) {
+            return CompletableFuture.runAsync(task, executor);
+        }
+
+        synchronized (tails) {
+            CompletableFuture<Void> tail = tails.getOrDefault(key, CompletableFuture.completedFuture(null));
+            // 앞선 작업이 실패해도 다음 작업은 실행
+            CompletableFuture<Void> next = tail.exceptionally(e -> null).thenRunAsync(task, executor);
+            tails.put(key, next);
+            // 반환 future가 완료되는 시점에는 이미 키가 정리되어 있도록 정리를 먼저 수행
+            return next.whenComplete((result, error) -> {
+                synchronized (tails) {
+                    tails.remove(key, next);
+                }
+            });
+        }
+    }
+
+    int pendingKeys() {
+        synchronized (tails) {
+            return tails.size();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.unisync.schedule.common.messaging;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 처리 완료 메시지 장부 (인스턴스 메모리, TTL 기반)
+ *
+ * 두 가지 기준으로 중복을 판단하여 DB 작업 전에 걸러낸다.
+ * - messageId: SQS 재전달(visibility timeout 만료, ack 실패 등)된 같은 메시지
+ * - orderingKey별 sequence: 같은 내용이 다른 messageId로 다시 발행된 경우 (outbox 재전송 등).
+ *   키별로 처리한 최대 sequence만 기억하고, 그 이하의 sequence는 중복으로 본다
+ *
+ * TTL이 모두 같으므로 삽입 순서가 곧 만료 순서이다. LinkedHashMap 앞쪽부터 만료된 항목을 제거하고,
+ * maxEntries를 넘으면 가장 오래된 항목부터 제거한다.
+ * 장부는 최적화일 뿐 정확성의 근거는 아니다. 장부에서 빠진 중복은 Service의 sequence 검사가 걸러낸다.
+ */
+class ProcessedMessageLedger {
+
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final LongSupplier clock;
+
+    /** messageId → 만료 시각 */
+    private final LinkedHashMap<String, Long> messageIds = new LinkedHashMap<>();
+    /** orderingKey → 처리한 최대 sequence (갱신 시 맨 뒤로 이동) */
+    private final LinkedHashMap<String, SequenceMark> sequences = new LinkedHashMap<>();
+
+    ProcessedMessageLedger(long ttlMillis, int maxEntries) {
+        this(ttlMillis, maxEntries, System::currentTimeMillis);
+    }
+
+    ProcessedMessageLedger(long ttlMillis, int maxEntries, LongSupplier clock) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.clock = clock;
+    }
+
+    /**
+     * @param messageId SQS messageId
+     * @param key orderingKey (null이면 sequence 검사 생략)
+     * @param sequence 키별 sequence (null이면 sequence 검사 생략)
+     * @return 이미 처리한 메시지면 true
+     */
+    synchronized boolean isDuplicate(String messageId, String key, Long sequence) {
+        long now = clock.getAsLong();
+        evictExpired(now);
+
+        if (messageId != null && messageIds.containsKey(messageId)) {
+            return true;
+        }
+        if (key != null && sequence != null) {
+            SequenceMark mark = sequences.get(key);
+            return mark != null && sequence <= mark.sequence();
+        }
+        return false;
+    }
+
+    /**
+     * 처리 완료 기록
+     */
+    synchronized void record(String messageId, String key, Long sequence) {
+        long now = clock.getAsLong();
+        long expiresAt = now + ttlMillis;
+
+        if (messageId != null) {
+            messageIds.remove(messageId);
+            messageIds.put(messageId, expiresAt);
+            trim(messageIds);
+        }
+        if (key != null && sequence != null) {
+            SequenceMark previous = sequences.remove(key);
+            long highest = previous != null ? Math.max(previous.sequence(), sequence) : sequence;
+            sequences.put(key, new SequenceMark(highest, expiresAt));
+            trim(sequences);
+        }
+    }
+
+    synchronized int size() {
+        return messageIds.size() + sequences.size();
+    }
+
+    /**
+     * 만료 항목 제거 (엔진 스케줄러에서도 주기적으로 호출)
+     */
+    synchronized void evictExpired() {
+        evictExpired(clock.getAsLong());
+    }
+
+    private void evictExpired(long now) {
+        Iterator<Long> messageIt = messageIds.values().iterator();
+        while (messageIt.hasNext() && messageIt.next() <= now) {
+            messageIt.remove();
+        }
+        Iterator<SequenceMark> sequenceIt = sequences.values().iterator();
+        while (sequenceIt.hasNext() && sequenceIt.next().expiresAt() <= now) {
+            sequenceIt.remove();
+        }
+    }
+
+    private void trim(Map<String, ?> entries) {
+        Iterator<?> it = entries.values().iterator();
+        while (entries.size() > maxEntries && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private record SequenceMark(long sequence, long expiresAt) {
+    }
+}
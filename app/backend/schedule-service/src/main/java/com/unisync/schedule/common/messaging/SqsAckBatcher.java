@@ -0,0 +1,144 @@
+package com.unisync.schedule.common.messaging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.Message;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQS 메시지 삭제(ack) 배치기
+ *
+ * 처리 완료된 메시지를 모아 DeleteMessageBatch(최대 10건) 한 번으로 삭제한다.
+ * batchSize에 도달하면 즉시, 아니면 엔진의 스케줄러가 주기적으로 flush()를 호출한다.
+ *
+ * 메트릭 (tag: queue)
+ * - sqs.consumer.ack.latency: ack 요청부터 삭제 확인까지 걸린 시간
+ * - sqs.consumer.ack.batch.size: DeleteMessageBatch 1회당 메시지 수
+ * - sqs.consumer.ack.failures: 삭제에 실패한 메시지 수 (visibility timeout 후 재전달됨)
+ */
+@Slf4j
+class SqsAckBatcher {
+
+    static final int MAX_BATCH_SIZE = 10;
+
+    private final String name;
+    private final SqsAsyncClient sqsAsyncClient;
+    private final String queueUrl;
+    private final int batchSize;
+    private final MeterRegistry meterRegistry;
+    private final List<PendingAck> pending = new ArrayList<>();
+
+    SqsAckBatcher(String name, SqsAsyncClient sqsAsyncClient, String queueUrl, int batchSize,
+                  MeterRegistry meterRegistry) {
+        this.name = name;
+        this.sqsAsyncClient = sqsAsyncClient;
+        this.queueUrl = queueUrl;
+        this.batchSize = Math.max(1, Math.min(MAX_BATCH_SIZE, batchSize));
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 메시지 삭제 요청 (batchSize에 도달하면 바로 전송)
+     */
+    void ack(Message message) {
+        List<PendingAck> batch = null;
+        synchronized (pending) {
+            pending.add(new PendingAck(message, System.nanoTime()));
+            if (pending.size() >= batchSize) {
+                batch = drain();
+            }
+        }
+        if (batch != null) {
+            send(batch);
+        }
+    }
+
+    /**
+     * 모아 둔 ack를 모두 전송
+     *
+     * @return 전송한 모든 배치의 완료 future
+     */
+    CompletableFuture<Void> flush() {
+        List<CompletableFuture<Void>> sent = new ArrayList<>();
+        while (true) {
+            List<PendingAck> batch;
+            synchronized (pending) {
+                if (pending.isEmpty()) {
+                    break;
+                }
+                batch = drain();
+            }
+            sent.add(send(batch));
+        }
+        return CompletableFuture.allOf(sent.toArray(CompletableFuture[]::new));
+    }
+
+    int pendingCount() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    private List<PendingAck> drain() {
+        int size = Math.min(batchSize, pending.size());
+        List<PendingAck> batch = new ArrayList<>(pending.subList(0, size));
+        pending.subList(0, size).clear();
+        return batch;
+    }
+
+    private CompletableFuture<Void> send(List<PendingAck> batch) {
+        // 배치 내 entry id는 인덱스로 부여 (응답의 성공/실패 entry를 원래 메시지와 매칭)
+        List<DeleteMessageBatchRequestEntry> entries = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            entries.add(DeleteMessageBatchRequestEntry.builder()
+                    .id(String.valueOf(i))
+                    .receiptHandle(batch.get(i).message().receiptHandle())
+                    .build());
+        }
+
+        DeleteMessageBatchRequest request = DeleteMessageBatchRequest.builder()
+                .queueUrl(queueUrl)
+                .entries(entries)
+                .build();
+
+        meterRegistry.summary("sqs.consumer.ack.batch.size", "queue", name).record(batch.size());
+
+        return sqsAsyncClient.deleteMessageBatch(request)
+                .thenAccept(response -> {
+                    long now = System.nanoTime();
+                    for (DeleteMessageBatchResultEntry success : response.successful()) {
+                        PendingAck ack = batch.get(Integer.parseInt(success.id()));
+                        meterRegistry.timer("sqs.consumer.ack.latency", "queue", name)
+                                .record(now - ack.requestedAt(), TimeUnit.NANOSECONDS);
+                    }
+                    for (BatchResultErrorEntry failure : response.failed()) {
+                        PendingAck ack = batch.get(Integer.parseInt(failure.id()));
+                        log.error("Failed to delete message from SQS: name={}, messageId={}, code={}, reason={}",
+                                name, ack.message().messageId(), failure.code(), failure.message());
+                    }
+                    if (!response.failed().isEmpty()) {
+                        meterRegistry.counter("sqs.consumer.ack.failures", "queue", name)
+                                .increment(response.failed().size());
+                    }
+                    log.debug("Messages deleted from SQS: name={}, count={}", name, response.successful().size());
+                })
+                .exceptionally(throwable -> {
+                    log.error("Failed to delete message batch from SQS: name={}, count={}",
+                            name, batch.size(), throwable);
+                    meterRegistry.counter("sqs.consumer.ack.failures", "queue", name).increment(batch.size());
+                    return null;
+                });
+    }
+
+    private record PendingAck(Message message, long requestedAt) {
+    }
+}
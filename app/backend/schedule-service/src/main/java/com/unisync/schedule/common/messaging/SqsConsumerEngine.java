@@ -0,0 +1,318 @@
+package com.unisync.schedule.common.messaging;
+
+import com.unisync.schedule.common.config.SqsConsumerProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageSystemAttributeName;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * SQS 동시 소비 엔진
+ *
+ * - pollers개의 스레드가 같은 큐를 동시에 long polling
+ * - 수신한 메시지는 worker 풀(고정 스레드 또는 virtual thread)에서 처리
+ * - 같은 orderingKey(cognitoSub)의 메시지는 동시에 처리하지 않고 수신 순서대로 처리
+ * - 처리 중 메시지가 maxInFlight에 도달하면 poller가 receive를 멈춤 (back-pressure)
+ * - 가득 찬 배치를 받으면 대기 없이 바로 다시 poll, 아니면 idlePollDelayMillis 후 poll
+ *
+ * 처리에 성공하거나 파싱에 실패한 메시지는 삭제하고, 처리 중 예외가 난 메시지는
+ * 남겨 두어 visibility timeout 후 재전달되게 한다.
+ * 삭제는 SqsAckBatcher가 DeleteMessageBatch로 묶어 보내고, 처리가 길어지는 메시지는
+ * SqsVisibilityHeartbeat가 visibility timeout을 연장하여 처리 중 재전달되지 않게 한다.
+ *
+ * 이미 처리한 메시지(messageId 또는 키별 sequence 기준)는 ProcessedMessageLedger로 걸러
+ * Handler를 호출하지 않고 삭제한다.
+ *
+ * 재전달 메트릭 (tag: queue)
+ * - sqs.consumer.receive.count: 수신한 메시지의 ApproximateReceiveCount 분포
+ * - sqs.consumer.redelivered: 두 번 이상 수신된 메시지 수
+ * - sqs.consumer.duplicates: 장부에서 중복으로 걸러진 메시지 수
+ *
+ * @param <T> 메시지 본문을 파싱한 이벤트 타입
+ */
+@Slf4j
+public class SqsConsumerEngine<T> {
+
+    private final String name;
+    private final SqsAsyncClient sqsAsyncClient;
+    private final String queueUrl;
+    private final SqsMessageHandler<T> handler;
+    private final SqsConsumerProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final int maxMessages;
+    private final Semaphore inFlight;
+    private final SqsAckBatcher ackBatcher;
+    private final SqsVisibilityHeartbeat heartbeat;
+    private final ProcessedMessageLedger ledger;
+
+    private ExecutorService pollerExecutor;
+    private ExecutorService workerExecutor;
+    private ScheduledExecutorService scheduler;
+    private KeyedSerialExecutor keyedExecutor;
+    private volatile boolean running = false;
+
+    public SqsConsumerEngine(String name,
+                             SqsAsyncClient sqsAsyncClient,
+                             String queueUrl,
+                             SqsMessageHandler<T> handler,
+                             SqsConsumerProperties properties,
+                             MeterRegistry meterRegistry) {
+        // heartbeat 연장이 visibility timeout 안에 도착하도록 주기를 절반 이하로 제한
+        if (properties.getHeartbeatIntervalSeconds() * 2 > properties.getVisibilityTimeoutSeconds()) {
+            throw new IllegalArgumentException(String.format(
+                    "heartbeatIntervalSeconds(%d) must be at most half of visibilityTimeoutSeconds(%d): name=%s",
+                    properties.getHeartbeatIntervalSeconds(), properties.getVisibilityTimeoutSeconds(), name));
+        }
+        this.name = name;
+        this.sqsAsyncClient = sqsAsyncClient;
+        this.queueUrl = queueUrl;
+        this.handler = handler;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.maxMessages = Math.max(1, Math.min(10, properties.getMaxMessages()));
+        this.inFlight = new Semaphore(Math.max(1, properties.getMaxInFlight()));
+        this.ackBatcher = new SqsAckBatcher(name, sqsAsyncClient, queueUrl, properties.getAckBatchSize(),
+                meterRegistry);
+        this.heartbeat = new SqsVisibilityHeartbeat(name, sqsAsyncClient, queueUrl,
+                properties.getVisibilityTimeoutSeconds(), properties.getHeartbeatIntervalSeconds(), meterRegistry);
+        this.ledger = new ProcessedMessageLedger(TimeUnit.SECONDS.toMillis(properties.getLedgerTtlSeconds()),
+                properties.getLedgerMaxEntries());
+    }
+
+    /**
+     * LocalStack/AWS 환경에 맞는 SQS Queue URL 생성
+     */
+    public static String queueUrl(String sqsEndpoint, String region, String queueName) {
+        // LocalStack: http://localhost:4566/000000000000/queue-name
+        // AWS: https://sqs.{region}.amazonaws.com/{accountId}/{queueName}
+        if (sqsEndpoint != null && !sqsEndpoint.isEmpty()) {
+            return String.format("%s/000000000000/%s", sqsEndpoint, queueName);
+        } else {
+            // AWS 실제 환경 (accountId는 별도 설정 필요)
+            return String.format("https://sqs.%s.amazonaws.com/000000000000/%s", region, queueName);
+        }
+    }
+
+    public void start() {
+        int pollers = Math.max(1, properties.getPollers());
+        log.info("Starting SQS consumer: name={}, queueUrl={}, pollers={}, workers={}, maxInFlight={}",
+                name, queueUrl, pollers,
+                properties.isVirtualThreads() ? "virtual" : properties.getWorkerThreads(),
+                properties.getMaxInFlight());
+
+        workerExecutor = properties.isVirtualThreads()
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-worker-", 0).factory())
+                : Executors.newFixedThreadPool(Math.max(1, properties.getWorkerThreads()),
+                        Thread.ofPlatform().name(name + "-worker-", 0).daemon().factory());
+        keyedExecutor = new KeyedSerialExecutor(workerExecutor);
+        pollerExecutor = Executors.newFixedThreadPool(pollers,
+                Thread.ofPlatform().name(name + "-poller-", 0).daemon().factory());
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name(name + "-scheduler").daemon().factory());
+        running = true;
+
+        long ackFlushInterval = Math.max(1, properties.getAckFlushIntervalMillis());
+        scheduler.scheduleWithFixedDelay(() -> runSafely("ack flush", ackBatcher::flush),
+                ackFlushInterval, ackFlushInterval, TimeUnit.MILLISECONDS);
+        long heartbeatTick = heartbeat.tickSeconds();
+        scheduler.scheduleWithFixedDelay(() -> runSafely("visibility heartbeat", heartbeat::extend),
+                heartbeatTick, heartbeatTick, TimeUnit.SECONDS);
+        scheduler.scheduleWithFixedDelay(() -> runSafely("ledger eviction", ledger::evictExpired),
+                1, 1, TimeUnit.MINUTES);
+
+        for (int i = 0; i < pollers; i++) {
+            pollerExecutor.submit(this::pollLoop);
+        }
+    }
+
+    public void stop() {
+        log.info("Stopping SQS consumer: name={}", name);
+        running = false;
+
+        shutdown(pollerExecutor, 0);
+        shutdown(workerExecutor, properties.getShutdownTimeoutSeconds());
+
+        // 종료 전 처리 완료된 메시지의 ack를 모두 전송
+        try {
+            ackBatcher.flush().get(properties.getShutdownTimeoutSeconds(), TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Failed to flush pending acks on shutdown: name={}", name, e);
+        }
+        shutdown(scheduler, 0);
+    }
+
+    /**
+     * 스케줄 작업의 예외가 이후 실행을 취소하지 않도록 감싼다
+     */
+    private void runSafely(String taskName, Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.error("SQS consumer {} failed: name={}", taskName, name, e);
+        }
+    }
+
+    private void shutdown(ExecutorService executor, int timeoutSeconds) {
+        if (executor == null || executor.isShutdown()) {
+            return;
+        }
+        // poller는 receive/acquire 대기 중일 수 있으므로 즉시 interrupt
+        if (timeoutSeconds <= 0) {
+            executor.shutdownNow();
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutSeconds, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void pollLoop() {
+        while (running) {
+            boolean fullBatch = false;
+            try {
+                fullBatch = pollOnce();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Failed to receive messages from SQS: name={}", name, e);
+            }
+
+            if (!fullBatch && running) {
+                try {
+                    Thread.sleep(properties.getIdlePollDelayMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * receive 1회 수행 후 메시지를 worker에 분배
+     *
+     * @return 요청한 수만큼 가득 받았으면 true (큐에 메시지가 더 있을 가능성이 높음)
+     */
+    boolean pollOnce() throws InterruptedException, ExecutionException {
+        // worker가 포화 상태면 여기서 대기 (back-pressure)
+        inFlight.acquire();
+        int requested = 1;
+        while (requested < maxMessages && inFlight.tryAcquire()) {
+            requested++;
+        }
+
+        List<Message> messages;
+        try {
+            ReceiveMessageRequest receiveRequest = ReceiveMessageRequest.builder()
+                    .queueUrl(queueUrl)
+                    .maxNumberOfMessages(requested)
+                    .waitTimeSeconds(properties.getWaitTimeSeconds()) // Long polling
+                    // 큐 기본값(예: 30초) 대신 heartbeat가 전제하는 visibility timeout으로 수신
+                    .visibilityTimeout(properties.getVisibilityTimeoutSeconds())
+                    .messageSystemAttributeNames(MessageSystemAttributeName.APPROXIMATE_RECEIVE_COUNT)
+                    .build();
+            messages = sqsAsyncClient.receiveMessage(receiveRequest).get().messages();
+        } catch (InterruptedException | ExecutionException | RuntimeException e) {
+            inFlight.release(requested);
+            throw e;
+        }
+
+        // 받지 못한 만큼 슬롯 반환
+        inFlight.release(requested - messages.size());
+
+        if (!messages.isEmpty()) {
+            log.info("Received {} messages from SQS: name={}", messages.size(), name);
+            messages.forEach(message -> {
+                recordReceiveCount(message);
+                heartbeat.track(message);
+                dispatch(message);
+            });
+        }
+
+        return messages.size() == requested;
+    }
+
+    private void recordReceiveCount(Message message) {
+        String receiveCount = message.attributes().get(MessageSystemAttributeName.APPROXIMATE_RECEIVE_COUNT);
+        if (receiveCount == null) {
+            return;
+        }
+        int count = Integer.parseInt(receiveCount);
+        meterRegistry.summary("sqs.consumer.receive.count", "queue", name).record(count);
+        if (count > 1) {
+            meterRegistry.counter("sqs.consumer.redelivered", "queue", name).increment();
+            log.info("Redelivered message: name={}, messageId={}, receiveCount={}",
+                    name, message.messageId(), count);
+        }
+    }
+
+    private void dispatch(Message message) {
+        T event;
+        try {
+            event = handler.parse(message);
+        } catch (Exception e) {
+            log.error("Failed to parse message: name={}, body={}", name, message.body(), e);
+            // 파싱 실패 시에도 메시지 삭제 (DLQ로 이동 또는 재시도 방지)
+            heartbeat.untrack(message);
+            ackBatcher.ack(message);
+            inFlight.release();
+            return;
+        }
+
+        keyedExecutor.execute(handler.orderingKey(event), () -> process(message, event))
+                .exceptionally(throwable -> {
+                    // process()는 예외를 밖으로 던지지 않으므로 여기 오는 경우는 종료 중 worker 풀이 작업을 거부한 경우뿐
+                    // 메시지는 삭제하지 않았으므로 visibility timeout 후 재전달됨
+                    log.warn("Rejected message during shutdown: name={}, messageId={}", name, message.messageId());
+                    heartbeat.untrack(message);
+                    inFlight.release();
+                    return null;
+                });
+    }
+
+    private void process(Message message, T event) {
+        String key = handler.orderingKey(event);
+        Long sequence = handler.sequence(event);
+        try {
+            if (ledger.isDuplicate(message.messageId(), key, sequence)) {
+                log.info("Skip already processed message: name={}, messageId={}, key={}, sequence={}",
+                        name, message.messageId(), key, sequence);
+                meterRegistry.counter("sqs.consumer.duplicates", "queue", name).increment();
+                ackBatcher.ack(message);
+                return;
+            }
+
+            handler.handle(event);
+            ledger.record(message.messageId(), key, sequence);
+
+            // 처리 완료 후 메시지 삭제 (배치로 전송)
+            ackBatcher.ack(message);
+        } catch (Exception e) {
+            log.error("Failed to process message: name={}, body={}", name, message.body(), e);
+            // 처리 실패 시 메시지 재처리 (visibility timeout 후 재시도)
+        } finally {
+            heartbeat.untrack(message);
+            inFlight.release();
+        }
+    }
+}
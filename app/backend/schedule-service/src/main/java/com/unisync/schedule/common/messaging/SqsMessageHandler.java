@@ -0,0 +1,37 @@
+package com.unisync.schedule.common.messaging;
+
+import software.amazon.awssdk.services.sqs.model.Message;
+
+/**
+ * SqsConsumerEngine이 수신한 메시지를 처리하는 Listener 계약
+ *
+ * @param <T> 메시지 본문을 파싱한 이벤트 타입
+ */
+public interface SqsMessageHandler<T> {
+
+    /**
+     * 메시지 본문 파싱
+     * 실패하면 재시도해도 성공할 수 없으므로 엔진이 메시지를 삭제한다.
+     */
+    T parse(Message message) throws Exception;
+
+    /**
+     * 순서 보장 키 (보통 cognitoSub)
+     * 같은 키의 메시지는 동시에 처리되지 않고 수신 순서대로 처리된다. null이면 순서 제약 없음.
+     */
+    String orderingKey(T event);
+
+    /**
+     * orderingKey별로 단조 증가하는 sequence (중복 판단용)
+     * 같은 키에서 이미 처리한 sequence 이하의 메시지는 처리하지 않고 삭제한다. null이면 messageId로만 판단.
+     */
+    default Long sequence(T event) {
+        return null;
+    }
+
+    /**
+     * 이벤트 처리
+     * 예외가 발생하면 메시지를 삭제하지 않아 visibility timeout 후 재전달된다.
+     */
+    void handle(T event) throws Exception;
+}
@@ -0,0 +1,147 @@
+package com.unisync.schedule.common.messaging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.Message;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 처리 중인 SQS 메시지의 visibility timeout 연장
+ *
+ * 수신 후 아직 처리(또는 같은 사용자의 앞선 메시지 대기)가 끝나지 않은 메시지는
+ * visibility timeout이 지나면 다른 poller/인스턴스에 재전달되어 중복 처리된다.
+ * 엔진의 스케줄러가 tickSeconds(intervalSeconds / 4)마다 extend()를 호출하여, 다음 tick 전에
+ * intervalSeconds가 지나는 메시지의 visibility를 ChangeMessageVisibilityBatch(최대 10건)로
+ * visibilityTimeoutSeconds만큼 다시 늘린다.
+ * 따라서 수신(또는 마지막 연장) 후 늦어도 intervalSeconds 안에 연장되며, 엔진은
+ * intervalSeconds가 visibility timeout의 절반 이하인지 시작 시 검증한다.
+ *
+ * 메트릭 (tag: queue)
+ * - sqs.consumer.visibility.extended: visibility를 연장한 메시지 수
+ * - sqs.consumer.visibility.failures: 연장에 실패한 메시지 수
+ */
+@Slf4j
+class SqsVisibilityHeartbeat {
+
+    private static final int MAX_BATCH_SIZE = 10;
+
+    private final String name;
+    private final SqsAsyncClient sqsAsyncClient;
+    private final String queueUrl;
+    private final int visibilityTimeoutSeconds;
+    private final int tickSeconds;
+    private final long dueAfterNanos;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier clock;
+    private final Map<String, Tracked> inFlight = new ConcurrentHashMap<>();
+
+    SqsVisibilityHeartbeat(String name, SqsAsyncClient sqsAsyncClient, String queueUrl,
+                           int visibilityTimeoutSeconds, int intervalSeconds, MeterRegistry meterRegistry) {
+        this(name, sqsAsyncClient, queueUrl, visibilityTimeoutSeconds, intervalSeconds, meterRegistry,
+                System::nanoTime);
+    }
+
+    SqsVisibilityHeartbeat(String name, SqsAsyncClient sqsAsyncClient, String queueUrl,
+                           int visibilityTimeoutSeconds, int intervalSeconds, MeterRegistry meterRegistry,
+                           LongSupplier clock) {
+        this.name = name;
+        this.sqsAsyncClient = sqsAsyncClient;
+        this.queueUrl = queueUrl;
+        this.visibilityTimeoutSeconds = visibilityTimeoutSeconds;
+        this.tickSeconds = Math.max(1, intervalSeconds / 4);
+        // tick 사이에 수신된 메시지도 intervalSeconds 안에 연장되도록 한 tick만큼 앞당겨 연장
+        this.dueAfterNanos = TimeUnit.SECONDS.toNanos(Math.max(0, intervalSeconds - tickSeconds));
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    /**
+     * extend()를 호출해야 하는 주기 (초)
+     */
+    int tickSeconds() {
+        return tickSeconds;
+    }
+
+    void track(Message message) {
+        inFlight.put(message.messageId(), new Tracked(message, clock.getAsLong()));
+    }
+
+    void untrack(Message message) {
+        inFlight.remove(message.messageId());
+    }
+
+    int trackedCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * 다음 tick 전에 intervalSeconds가 지나는 메시지의 visibility 연장
+     */
+    void extend() {
+        long now = clock.getAsLong();
+        List<Tracked> due = inFlight.values().stream()
+                .filter(tracked -> now - tracked.lastExtendedAt() >= dueAfterNanos)
+                .toList();
+
+        for (int from = 0; from < due.size(); from += MAX_BATCH_SIZE) {
+            List<Tracked> batch = due.subList(from, Math.min(from + MAX_BATCH_SIZE, due.size()));
+            send(batch, now);
+        }
+    }
+
+    private void send(List<Tracked> batch, long now) {
+        List<ChangeMessageVisibilityBatchRequestEntry> entries = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            entries.add(ChangeMessageVisibilityBatchRequestEntry.builder()
+                    .id(String.valueOf(i))
+                    .receiptHandle(batch.get(i).message().receiptHandle())
+                    .visibilityTimeout(visibilityTimeoutSeconds)
+                    .build());
+        }
+
+        ChangeMessageVisibilityBatchRequest request = ChangeMessageVisibilityBatchRequest.builder()
+                .queueUrl(queueUrl)
+                .entries(entries)
+                .build();
+
+        sqsAsyncClient.changeMessageVisibilityBatch(request)
+                .thenAccept(response -> {
+                    response.successful().forEach(success -> {
+                        Message message = batch.get(Integer.parseInt(success.id())).message();
+                        // 그 사이 처리가 끝나 untrack된 메시지는 다시 넣지 않음
+                        inFlight.computeIfPresent(message.messageId(), (id, tracked) -> new Tracked(message, now));
+                    });
+                    response.failed().forEach(failure -> log.warn(
+                            "Failed to extend message visibility: name={}, messageId={}, code={}, reason={}",
+                            name, batch.get(Integer.parseInt(failure.id())).message().messageId(),
+                            failure.code(), failure.message()));
+
+                    meterRegistry.counter("sqs.consumer.visibility.extended", "queue", name)
+                            .increment(response.successful().size());
+                    if (!response.failed().isEmpty()) {
+                        meterRegistry.counter("sqs.consumer.visibility.failures", "queue", name)
+                                .increment(response.failed().size());
+                    }
+                })
+                .exceptionally(throwable -> {
+                    log.error("Failed to extend message visibility: name={}, count={}", name, batch.size(), throwable);
+                    meterRegistry.counter("sqs.consumer.visibility.failures", "queue", name).increment(batch.size());
+                    return null;
+                });
+    }
+
+    /**
+     * @param lastExtendedAt 수신 또는 마지막으로 visibility를 연장한 시각 (nanoTime)
+     */
+    private record Tracked(Message message, long lastExtendedAt) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.unisync.schedule.common.recurrence;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정의 한 번 발생 구간
+ *
+ * @param start 시작 일시
+ * @param end 종료 일시
+ */
+public record Occurrence(LocalDateTime start, LocalDateTime end) {
+}
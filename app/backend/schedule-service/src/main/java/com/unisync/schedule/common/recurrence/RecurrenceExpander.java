@@ -0,0 +1,155 @@
+package com.unisync.schedule.common.recurrence;
+
+import com.unisync.schedule.common.entity.Schedule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * 반복 일정 전개기
+ *
+ * Schedule.recurrenceRule을 조회 구간 안에서만 occurrence로 펼친다.
+ * 결과는 리스트가 아니라 iterator라서, 호출자가 소비하는 만큼만 계산된다.
+ *
+ * 같은 RRULE 문자열은 여러 일정이 공유하므로 컴파일 결과를 LRU로 캐시한다.
+ * 잘못된 규칙도 캐시해 두고, 조회 시에는 반복 없는 일정으로 취급한다 (저장 시 validate로 막는다).
+ */
+@Slf4j
+@Component
+public class RecurrenceExpander {
+
+    static final int MAX_CACHED_RULES = 1_024;
+
+    private final Map<String, Optional<RecurrenceRule>> compiledRules = Collections.synchronizedMap(
+            new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Optional<RecurrenceRule>> eldest) {
+                    return size() > MAX_CACHED_RULES;
+                }
+            });
+
+    /**
+     * 반복 규칙 검증 (일정 생성/수정 시)
+     *
+     * @throws IllegalArgumentException 형식이 틀렸거나 지원하지 않는 규칙
+     */
+    public void validate(String recurrenceRule) {
+        if (recurrenceRule == null || recurrenceRule.isBlank()) {
+            return;
+        }
+        RecurrenceRule.parse(recurrenceRule);
+    }
+
+    /**
+     * 반복 일정 여부 (규칙이 올바른 경우만)
+     */
+    public boolean isRecurring(Schedule schedule) {
+        return isRecurring(schedule.getRecurrenceRule());
+    }
+
+    public boolean isRecurring(String recurrenceRule) {
+        return compile(recurrenceRule).isPresent();
+    }
+
+    /**
+     * [windowStart, windowEnd)와 겹치는 occurrence를 시작 순으로 생성
+     *
+     * 반복이 없는 일정은 원본 구간 하나 (겹칠 때만).
+     * 겹침 기준은 Repository 기간 조회와 같다 (start < windowEnd AND end > windowStart).
+     */
+    public Iterator<Occurrence> occurrences(Schedule schedule, LocalDateTime windowStart, LocalDateTime windowEnd) {
+        return occurrences(schedule.getStartTime(), schedule.getEndTime(), schedule.getRecurrenceRule(),
+                windowStart, windowEnd);
+    }
+
+    /**
+     * 엔티티 없이 시간/규칙 값만으로 occurrence 생성 (projection 조회용)
+     */
+    public Iterator<Occurrence> occurrences(LocalDateTime start, LocalDateTime end, String recurrenceRule,
+                                            LocalDateTime windowStart, LocalDateTime windowEnd) {
+        Optional<RecurrenceRule> rule = compile(recurrenceRule);
+
+        if (rule.isEmpty()) {
+            boolean overlaps = start.isBefore(windowEnd) && end.isAfter(windowStart);
+            return overlaps
+                    ? Collections.singletonList(new Occurrence(start, end)).iterator()
+                    : Collections.emptyIterator();
+        }
+
+        Duration duration = Duration.between(start, end);
+        // 시작이 windowStart - duration 이하인 occurrence는 windowStart 전에 끝난다
+        Iterator<LocalDateTime> starts = rule.get().startsBetween(start, windowStart.minus(duration), windowEnd);
+        return new OccurrenceIterator(starts, duration, windowStart);
+    }
+
+    Optional<RecurrenceRule> compile(String recurrenceRule) {
+        if (recurrenceRule == null || recurrenceRule.isBlank()) {
+            return Optional.empty();
+        }
+        return compiledRules.computeIfAbsent(recurrenceRule, rule -> {
+            try {
+                return Optional.of(RecurrenceRule.parse(rule));
+            } catch (IllegalArgumentException e) {
+                log.warn("반복 규칙 해석 실패, 단일 일정으로 처리 - rule: {}, reason: {}", rule, e.getMessage());
+                return Optional.empty();
+            }
+        });
+    }
+
+    int cachedRuleCount() {
+        return compiledRules.size();
+    }
+
+    /**
+     * 시작 시각을 occurrence로 바꾸며 windowStart 이전에 끝나는 것은 건너뜀
+     */
+    private static final class OccurrenceIterator implements Iterator<Occurrence> {
+
+        private final Iterator<LocalDateTime> starts;
+        private final Duration duration;
+        private final LocalDateTime windowStart;
+        private Occurrence next;
+
+        private OccurrenceIterator(Iterator<LocalDateTime> starts, Duration duration, LocalDateTime windowStart) {
+            this.starts = starts;
+            this.duration = duration;
+            this.windowStart = windowStart;
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Occurrence next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Occurrence current = next;
+            advance();
+            return current;
+        }
+
+        private void advance() {
+            next = null;
+            while (starts.hasNext()) {
+                LocalDateTime start = starts.next();
+                LocalDateTime end = start.plus(duration);
+                if (end.isAfter(windowStart)) {
+                    next = new Occurrence(start, end);
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,407 @@
+package com.unisync.schedule.common.recurrence;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * 컴파일된 반복 규칙 (RFC 5545 RRULE 부분 집합)
+ *
+ * 지원 범위:
+ * - FREQ: DAILY, WEEKLY, MONTHLY, YEARLY
+ * - INTERVAL, COUNT, UNTIL (yyyyMMdd 또는 yyyyMMdd'T'HHmmss[Z], Z는 무시)
+ * - BYDAY: WEEKLY에서만, 서수 없는 요일 목록 (MO,WE,FR)
+ * - WKST는 MO만 허용
+ *
+ * 발생 시각은 DTSTART(일정 startTime)의 시각을 그대로 쓰고, DTSTART는 항상 첫 번째 occurrence다.
+ * MONTHLY/YEARLY에서 해당 일이 없는 달(31일, 2월 29일)은 건너뛴다.
+ *
+ * 불변 객체라 여러 스레드에서 공유해도 된다.
+ */
+public final class RecurrenceRule {
+
+    public enum Frequency {
+        DAILY, WEEKLY, MONTHLY, YEARLY
+    }
+
+    private static final DateTimeFormatter UNTIL_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter UNTIL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private final Frequency frequency;
+    private final int interval;
+    private final Integer count;
+    private final LocalDateTime until;
+    /** BYDAY 요일 (1=월, 7=일) 오름차순, 없으면 null */
+    private final int[] byDay;
+
+    private RecurrenceRule(Frequency frequency, int interval, Integer count, LocalDateTime until, int[] byDay) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.count = count;
+        this.until = until;
+        this.byDay = byDay;
+    }
+
+    /**
+     * RRULE 문자열 컴파일
+     *
+     * @param rule "FREQ=WEEKLY;BYDAY=MO,WE" 형식 ("RRULE:" 접두어 허용)
+     * @throws IllegalArgumentException 형식이 틀렸거나 지원하지 않는 규칙
+     */
+    public static RecurrenceRule parse(String rule) {
+        if (rule == null || rule.isBlank()) {
+            throw new IllegalArgumentException("반복 규칙이 비어 있습니다.");
+        }
+
+        String body = rule.trim();
+        if (body.regionMatches(true, 0, "RRULE:", 0, 6)) {
+            body = body.substring(6);
+        }
+
+        Frequency frequency = null;
+        int interval = 1;
+        Integer count = null;
+        LocalDateTime until = null;
+        int[] byDay = null;
+
+        for (String part : body.split(";")) {
+            if (part.isBlank()) {
+                continue;
+            }
+            int eq = part.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("잘못된 반복 규칙 항목: " + part);
+            }
+            String name = part.substring(0, eq).trim().toUpperCase(Locale.ROOT);
+            String value = part.substring(eq + 1).trim().toUpperCase(Locale.ROOT);
+
+            switch (name) {
+                case "FREQ" -> frequency = parseFrequency(value);
+                case "INTERVAL" -> interval = parsePositive(name, value);
+                case "COUNT" -> count = parsePositive(name, value);
+                case "UNTIL" -> until = parseUntil(value);
+                case "BYDAY" -> byDay = parseByDay(value);
+                case "WKST" -> {
+                    if (!"MO".equals(value)) {
+                        throw new IllegalArgumentException("WKST는 MO만 지원합니다: " + value);
+                    }
+                }
+                default -> throw new IllegalArgumentException("지원하지 않는 반복 규칙 항목: " + name);
+            }
+        }
+
+        if (frequency == null) {
+            throw new IllegalArgumentException("FREQ가 필요합니다.");
+        }
+        if (count != null && until != null) {
+            throw new IllegalArgumentException("COUNT와 UNTIL은 함께 쓸 수 없습니다.");
+        }
+        if (byDay != null && frequency != Frequency.WEEKLY) {
+            throw new IllegalArgumentException("BYDAY는 FREQ=WEEKLY에서만 지원합니다.");
+        }
+
+        return new RecurrenceRule(frequency, interval, count, until, byDay);
+    }
+
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+    /**
+     * [from, to) 안에서 시작하는 occurrence 시작 시각을 순서대로 생성
+     *
+     * from이 속한 주기로 바로 건너뛰므로 비용은 구간 안의 occurrence 수에 비례하고,
+     * 반복이 시작된 뒤 지난 기간과는 무관하다.
+     * (COUNT가 있는 MONTHLY/YEARLY 중 없는 날짜가 끼는 규칙만 지난 주기 수만큼 센다)
+     *
+     * @param dtStart 첫 occurrence 시작 (일정 startTime)
+     * @param from 시작 하한 (포함)
+     * @param to 시작 상한 (제외)
+     */
+    public Iterator<LocalDateTime> startsBetween(LocalDateTime dtStart, LocalDateTime from, LocalDateTime to) {
+        return new StartIterator(dtStart, from, to);
+    }
+
+    private int slotsPerPeriod() {
+        return byDay != null ? byDay.length : 1;
+    }
+
+    /**
+     * 주기 번호의 기준 시각 (BYDAY면 그 주 월요일, 없는 날짜면 clamp된 값)
+     */
+    private LocalDateTime periodAnchor(LocalDateTime dtStart, long period) {
+        long step = period * interval;
+        return switch (frequency) {
+            case DAILY -> dtStart.plusDays(step);
+            case WEEKLY -> byDay != null
+                    ? weekStart(dtStart).plusWeeks(step)
+                    : dtStart.plusWeeks(step);
+            case MONTHLY -> dtStart.plusMonths(step);
+            case YEARLY -> dtStart.plusYears(step);
+        };
+    }
+
+    /**
+     * 주기 안 slot 번째 후보 (규칙상 없는 날짜면 null)
+     */
+    private LocalDateTime candidate(LocalDateTime dtStart, long period, int slot) {
+        LocalDateTime anchor = periodAnchor(dtStart, period);
+        return switch (frequency) {
+            case DAILY -> anchor;
+            case WEEKLY -> byDay != null ? anchor.plusDays(byDay[slot] - 1L) : anchor;
+            case MONTHLY -> anchor.getDayOfMonth() == dtStart.getDayOfMonth() ? anchor : null;
+            case YEARLY -> anchor.getDayOfMonth() == dtStart.getDayOfMonth()
+                    && anchor.getMonth() == dtStart.getMonth() ? anchor : null;
+        };
+    }
+
+    /**
+     * from 이전에 끝난 주기를 건너뛴 첫 주기 번호 (실제보다 이를 수는 있어도 늦지 않음)
+     */
+    private long firstPeriod(LocalDateTime dtStart, LocalDateTime from) {
+        if (!from.isAfter(dtStart)) {
+            return 0;
+        }
+        long elapsed = switch (frequency) {
+            case DAILY -> ChronoUnit.DAYS.between(dtStart, from);
+            case WEEKLY -> ChronoUnit.WEEKS.between(byDay != null ? weekStart(dtStart) : dtStart, from);
+            case MONTHLY -> ChronoUnit.MONTHS.between(dtStart, from);
+            case YEARLY -> ChronoUnit.YEARS.between(dtStart, from);
+        };
+        return Math.max(0, elapsed / interval);
+    }
+
+    /**
+     * period 이전 주기들에서 규칙이 만든 occurrence 수 (DTSTART 보정 제외)
+     */
+    private long occurrencesBefore(LocalDateTime dtStart, long period) {
+        if (period == 0) {
+            return 0;
+        }
+        if (byDay != null) {
+            return firstWeekSlots(dtStart) + (period - 1) * byDay.length;
+        }
+        if (frequency == Frequency.DAILY || frequency == Frequency.WEEKLY || alwaysValid(dtStart)) {
+            return period;
+        }
+        long valid = 0;
+        for (long p = 0; p < period; p++) {
+            if (candidate(dtStart, p, 0) != null) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    private boolean alwaysValid(LocalDateTime dtStart) {
+        int day = dtStart.getDayOfMonth();
+        return frequency == Frequency.MONTHLY
+                ? day <= 28
+                : !(dtStart.getMonthValue() == 2 && day == 29);
+    }
+
+    /** 첫 주에서 DTSTART 이후(당일 포함)에 있는 BYDAY 요일 수 */
+    private int firstWeekSlots(LocalDateTime dtStart) {
+        int startDay = dtStart.getDayOfWeek().getValue();
+        int slots = 0;
+        for (int day : byDay) {
+            if (day >= startDay) {
+                slots++;
+            }
+        }
+        return slots;
+    }
+
+    /** DTSTART가 규칙이 만드는 날짜가 아닌지 (그래도 첫 occurrence로 포함) */
+    private boolean dtStartIsExtra(LocalDateTime dtStart) {
+        if (byDay == null) {
+            return false;
+        }
+        int startDay = dtStart.getDayOfWeek().getValue();
+        for (int day : byDay) {
+            if (day == startDay) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static LocalDateTime weekStart(LocalDateTime dateTime) {
+        LocalDate monday = dateTime.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        return monday.atTime(dateTime.toLocalTime());
+    }
+
+    private static Frequency parseFrequency(String value) {
+        try {
+            return Frequency.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 FREQ: " + value);
+        }
+    }
+
+    private static int parsePositive(String name, String value) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed <= 0) {
+                throw new IllegalArgumentException(name + "는 1 이상이어야 합니다: " + value);
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " 값이 숫자가 아닙니다: " + value);
+        }
+    }
+
+    private static LocalDateTime parseUntil(String value) {
+        String raw = value.endsWith("Z") ? value.substring(0, value.length() - 1) : value;
+        try {
+            return raw.length() == 8
+                    ? LocalDate.parse(raw, UNTIL_DATE).atTime(LocalTime.MAX)
+                    : LocalDateTime.parse(raw, UNTIL_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 UNTIL: " + value);
+        }
+    }
+
+    private static int[] parseByDay(String value) {
+        boolean[] days = new boolean[8];
+        for (String token : value.split(",")) {
+            days[parseWeekday(token.trim())] = true;
+        }
+        int size = 0;
+        for (boolean day : days) {
+            if (day) {
+                size++;
+            }
+        }
+        int[] sorted = new int[size];
+        int index = 0;
+        for (int day = 1; day <= 7; day++) {
+            if (days[day]) {
+                sorted[index++] = day;
+            }
+        }
+        return sorted;
+    }
+
+    private static int parseWeekday(String token) {
+        return switch (token) {
+            case "MO" -> 1;
+            case "TU" -> 2;
+            case "WE" -> 3;
+            case "TH" -> 4;
+            case "FR" -> 5;
+            case "SA" -> 6;
+            case "SU" -> 7;
+            default -> throw new IllegalArgumentException("지원하지 않는 BYDAY 값: " + token);
+        };
+    }
+
+    /**
+     * 주기/slot 커서를 앞으로만 움직이는 lazy 생성기
+     */
+    private final class StartIterator implements Iterator<LocalDateTime> {
+
+        private final LocalDateTime dtStart;
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+        private long period;
+        private int slot;
+        /** 다음 후보의 occurrence 번호 (COUNT 판정용, 0부터) */
+        private long ordinal;
+        private boolean pendingDtStart;
+        private LocalDateTime next;
+        private boolean done;
+
+        private StartIterator(LocalDateTime dtStart, LocalDateTime from, LocalDateTime to) {
+            this.dtStart = dtStart;
+            this.from = from;
+            this.to = to;
+
+            boolean extra = dtStartIsExtra(dtStart);
+            this.pendingDtStart = extra;
+            this.period = firstPeriod(dtStart, from);
+            this.ordinal = (extra ? 1 : 0) + occurrencesBefore(dtStart, period);
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public LocalDateTime next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            LocalDateTime current = next;
+            advance();
+            return current;
+        }
+
+        private void advance() {
+            next = null;
+
+            // 규칙 밖의 DTSTART는 항상 첫 occurrence
+            if (pendingDtStart) {
+                pendingDtStart = false;
+                if (accepts(dtStart)) {
+                    next = dtStart;
+                    return;
+                }
+            }
+
+            while (!done) {
+                if (count != null && ordinal >= count) {
+                    done = true;
+                    return;
+                }
+                // 주기 기준 시각은 그 주기의 모든 후보보다 이르거나 같음
+                if (!periodAnchor(dtStart, period).isBefore(to)) {
+                    done = true;
+                    return;
+                }
+
+                LocalDateTime candidate = candidate(dtStart, period, slot);
+                moveCursor();
+
+                if (candidate == null || candidate.isBefore(dtStart)) {
+                    continue;
+                }
+                ordinal++;
+                if (until != null && candidate.isAfter(until)) {
+                    done = true;
+                    return;
+                }
+                if (!candidate.isBefore(to)) {
+                    done = true;
+                    return;
+                }
+                if (!candidate.isBefore(from)) {
+                    next = candidate;
+                    return;
+                }
+            }
+        }
+
+        private boolean accepts(LocalDateTime start) {
+            return !start.isBefore(from) && start.isBefore(to);
+        }
+
+        private void moveCursor() {
+            slot++;
+            if (slot >= slotsPerPeriod()) {
+                slot = 0;
+                period++;
+            }
+        }
+    }
+}
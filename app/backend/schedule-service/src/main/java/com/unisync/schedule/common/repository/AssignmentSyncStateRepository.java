@@ -0,0 +1,20 @@
+package com.unisync.schedule.common.repository;
+
+import com.unisync.schedule.common.entity.AssignmentSyncState;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface AssignmentSyncStateRepository extends JpaRepository<AssignmentSyncState, String> {
+
+    // 같은 사용자의 이벤트가 동시에 처리되어도 sequence 비교/갱신이 섞이지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AssignmentSyncState s WHERE s.cognitoSub = :cognitoSub")
+    Optional<AssignmentSyncState> findForUpdate(@Param("cognitoSub") String cognitoSub);
+}
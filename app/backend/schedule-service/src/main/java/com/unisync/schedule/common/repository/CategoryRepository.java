@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -58,6 +59,15 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
             String sourceId
     );
 
+    /**
+     * 외부 소스 ID 목록으로 카테고리 일괄 조회 (Canvas 과제 배치 처리용)
+     */
+    List<Category> findByCognitoSubAndSourceTypeAndSourceIdIn(
+            String cognitoSub,
+            String sourceType,
+            Collection<String> sourceIds
+    );
+
     @Query("SELECT c FROM Category c WHERE c.cognitoSub = :cognitoSub AND c.groupId IS NULL AND c.sourceType = :sourceType")
     List<Category> findByCognitoSubAndSourceType(@Param("cognitoSub") String cognitoSub, @Param("sourceType") String sourceType);
 
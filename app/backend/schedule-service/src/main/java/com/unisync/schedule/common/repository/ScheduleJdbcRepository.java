@@ -0,0 +1,69 @@
+package com.unisync.schedule.common.repository;
+
+import com.unisync.schedule.common.entity.Schedule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Schedule 대량 저장용 JDBC Repository
+ *
+ * Schedule ID는 IDENTITY 전략이라 Hibernate가 INSERT를 배치로 묶지 못한다.
+ * Canvas 과제 동기화처럼 한 번에 수십~수백 건을 넣는 경로는 이 Repository로 JDBC 배치 INSERT를 수행한다
+ * (rewriteBatchedStatements로 multi-row INSERT 전송).
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScheduleJdbcRepository {
+
+    static final int BATCH_SIZE = 100;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO schedules (cognito_sub, group_id, category_id, title, description, location,
+                                   start_time, end_time, is_all_day, status, recurrence_rule,
+                                   source, source_id, source_content_hash, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 새 Schedule 일괄 INSERT
+     *
+     * @param schedules 저장할 Schedule (scheduleId는 무시)
+     * @return 저장 요청한 건수
+     */
+    public int batchInsert(List<Schedule> schedules) {
+        if (schedules.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, schedules, BATCH_SIZE, (ps, schedule) -> {
+            ps.setString(1, schedule.getCognitoSub());
+            ps.setObject(2, schedule.getGroupId(), Types.BIGINT);
+            ps.setLong(3, schedule.getCategoryId());
+            ps.setString(4, schedule.getTitle());
+            ps.setObject(5, schedule.getDescription(), Types.LONGVARCHAR);
+            ps.setObject(6, schedule.getLocation(), Types.VARCHAR);
+            ps.setTimestamp(7, Timestamp.valueOf(schedule.getStartTime()));
+            ps.setTimestamp(8, Timestamp.valueOf(schedule.getEndTime()));
+            ps.setBoolean(9, Boolean.TRUE.equals(schedule.getIsAllDay()));
+            ps.setString(10, schedule.getStatus().name());
+            ps.setObject(11, schedule.getRecurrenceRule(), Types.VARCHAR);
+            ps.setString(12, schedule.getSource().name());
+            ps.setObject(13, schedule.getSourceId(), Types.VARCHAR);
+            ps.setObject(14, schedule.getSourceContentHash(), Types.CHAR);
+            ps.setTimestamp(15, now);
+            ps.setTimestamp(16, now);
+        });
+
+        return schedules.size();
+    }
+}
@@ -0,0 +1,29 @@
+package com.unisync.schedule.common.repository;
+
+import com.unisync.schedule.common.entity.ScheduleOwnerVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface ScheduleOwnerVersionRepository extends JpaRepository<ScheduleOwnerVersion, String> {
+
+    /**
+     * 소유자 버전 1 증가 (없으면 1로 생성)
+     * 행 잠금이 트랜잭션 끝까지 유지되므로 같은 소유자의 증가는 커밋 순서대로 이어진다
+     * (같은 소유자의 일정 변경 트랜잭션은 이 행에서 직렬화됨, docs/features/schedule-coordination.md 참고)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO schedule_owner_versions (owner_key, version) VALUES (:ownerKey, 1)
+            ON DUPLICATE KEY UPDATE version = version + 1
+            """, nativeQuery = true)
+    int increment(@Param("ownerKey") String ownerKey);
+
+    @Query("SELECT v.version FROM ScheduleOwnerVersion v WHERE v.ownerKey = :ownerKey")
+    long findVersion(@Param("ownerKey") String ownerKey);
+}
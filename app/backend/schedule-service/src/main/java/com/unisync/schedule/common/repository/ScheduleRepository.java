@@ -3,27 +3,80 @@ package com.unisync.schedule.common.repository;
 import com.unisync.schedule.common.entity.Schedule;
 import com.unisync.schedule.common.entity.Schedule.ScheduleSource;
 import com.unisync.schedule.common.entity.Schedule.ScheduleStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
 
-    // 사용자 ID로 조회
-    List<Schedule> findByCognitoSub(String cognitoSub);
-
     // 그룹 ID로 조회
     List<Schedule> findByGroupId(Long groupId);
 
+    // 목록 커서 페이지: (start_time, schedule_id) > (afterStartTime, afterScheduleId) 순으로 limit개
+    // 첫 페이지는 ScheduleCursor.FIRST(가장 이른 시각, ID 0)로 조회한다
+    // (cognito_sub, start_time) / (group_id, start_time) 인덱스 순서로 읽고, 상태는 SQL 조건으로 거른다
+    String PAGE_FILTER = "AND (:status IS NULL OR s.status = :status) " +
+            "AND (s.startTime > :afterStartTime OR (s.startTime = :afterStartTime AND s.scheduleId > :afterScheduleId)) " +
+            "ORDER BY s.startTime, s.scheduleId";
+    String NATIVE_PAGE_FILTER = "AND (:status IS NULL OR status = :status) " +
+            "AND (start_time > :afterStartTime OR (start_time = :afterStartTime AND schedule_id > :afterScheduleId)) " +
+            "ORDER BY start_time, schedule_id LIMIT :limit";
+
+    // 사용자 일정 페이지
+    @Query("SELECT s FROM Schedule s WHERE s.cognitoSub = :cognitoSub " + PAGE_FILTER)
+    List<Schedule> findPageByCognitoSub(
+        @Param("cognitoSub") String cognitoSub,
+        @Param("status") ScheduleStatus status,
+        @Param("afterStartTime") LocalDateTime afterStartTime,
+        @Param("afterScheduleId") Long afterScheduleId,
+        Limit limit
+    );
+
+    // 그룹 일정 페이지
+    @Query("SELECT s FROM Schedule s WHERE s.groupId = :groupId " + PAGE_FILTER)
+    List<Schedule> findPageByGroupId(
+        @Param("groupId") Long groupId,
+        @Param("status") ScheduleStatus status,
+        @Param("afterStartTime") LocalDateTime afterStartTime,
+        @Param("afterScheduleId") Long afterScheduleId,
+        Limit limit
+    );
+
+    // 사용자 + 여러 그룹 일정 페이지 (한 번의 UNION 쿼리)
+    // 각 쪽에서 인덱스 순서로 limit개씩 ID만 뽑아 UNION으로 중복(내가 만든 그룹 일정)을 없앤 뒤 다시 limit개만 본문 조회
+    @Query(value = "SELECT s.* FROM schedules s JOIN (" +
+                   "  (SELECT schedule_id, start_time FROM schedules WHERE cognito_sub = :cognitoSub " + NATIVE_PAGE_FILTER + ")" +
+                   "  UNION" +
+                   "  (SELECT schedule_id, start_time FROM schedules WHERE group_id IN (:groupIds) " + NATIVE_PAGE_FILTER + ")" +
+                   ") page ON s.schedule_id = page.schedule_id " +
+                   "ORDER BY page.start_time, page.schedule_id LIMIT :limit",
+           nativeQuery = true)
+    List<Schedule> findPageByCognitoSubOrGroupIds(
+        @Param("cognitoSub") String cognitoSub,
+        @Param("groupIds") List<Long> groupIds,
+        @Param("status") String status,
+        @Param("afterStartTime") LocalDateTime afterStartTime,
+        @Param("afterScheduleId") Long afterScheduleId,
+        @Param("limit") int limit
+    );
+
     // 특정 기간의 일정 조회 (사용자)
+    // 기간 조회는 기간 전에 시작한 반복 일정 원본도 포함한다 (RecurrenceExpander로 전개)
     @Query("SELECT s FROM Schedule s WHERE s.cognitoSub = :cognitoSub " +
-           "AND s.startTime < :endDate AND s.endTime > :startDate " +
+           "AND s.startTime < :endDate AND (s.endTime > :startDate OR s.recurrenceRule IS NOT NULL) " +
            "ORDER BY s.startTime")
     List<Schedule> findByCognitoSubAndDateRange(
         @Param("cognitoSub") String cognitoSub,
@@ -33,7 +86,7 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
 
     // 특정 기간의 일정 조회 (그룹)
     @Query("SELECT s FROM Schedule s WHERE s.groupId = :groupId " +
-           "AND s.startTime < :endDate AND s.endTime > :startDate " +
+           "AND s.startTime < :endDate AND (s.endTime > :startDate OR s.recurrenceRule IS NOT NULL) " +
            "ORDER BY s.startTime")
     List<Schedule> findByGroupIdAndDateRange(
         @Param("groupId") Long groupId,
@@ -56,6 +109,14 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     // 외부 소스로 조회 (Canvas, Google Calendar 등)
     Optional<Schedule> findBySourceAndSourceId(ScheduleSource source, String sourceId);
 
+    // 외부 소스 ID 일괄 조회 (Canvas delta 반영용)
+    List<Schedule> findBySourceAndSourceIdIn(ScheduleSource source, Collection<String> sourceIds);
+
+    // ID 목록 일괄 삭제 (Canvas 동기화 정리용, 단일 DELETE ... WHERE schedule_id IN)
+    @Modifying
+    @Query("DELETE FROM Schedule s WHERE s.scheduleId IN :scheduleIds")
+    int deleteAllByScheduleIdIn(@Param("scheduleIds") Collection<Long> scheduleIds);
+
     // 중복 체크 (Canvas 과제 등)
     boolean existsBySourceAndSourceId(ScheduleSource source, String sourceId);
 
@@ -65,11 +126,8 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     // 그룹 일정 존재 여부
     boolean existsByGroupId(Long groupId);
 
-    // 여러 그룹 일정 조회
-    List<Schedule> findByGroupIdIn(List<Long> groupIds);
-
     @Query("SELECT s FROM Schedule s WHERE s.groupId IN :groupIds " +
-           "AND s.startTime < :endDate AND s.endTime > :startDate " +
+           "AND s.startTime < :endDate AND (s.endTime > :startDate OR s.recurrenceRule IS NOT NULL) " +
            "ORDER BY s.startTime")
     List<Schedule> findByGroupIdsAndDateRange(
         @Param("groupIds") List<Long> groupIds,
@@ -77,13 +135,38 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
         @Param("endDate") LocalDateTime endDate
     );
 
-    // 여러 사용자 + 그룹의 일정 조회 (일정 조율용)
-    @Query("SELECT s FROM Schedule s WHERE " +
-           "(s.cognitoSub IN :cognitoSubs OR s.groupId = :groupId) " +
-           "AND s.startTime < :endDate AND s.endTime > :startDate " +
-           "ORDER BY s.startTime")
-    List<Schedule> findByUsersOrGroupAndDateRange(
+    // 공강 계산용 시간 projection stream (엔티티/영속성 컨텍스트 없이 시작 순으로 한 행씩 읽음)
+    // 호출자는 트랜잭션 안에서 try-with-resources로 닫아야 한다
+    // MySQL은 fetch size와 useCursorFetch=true일 때 서버 커서로 나눠 읽는다
+    String TIME_PROJECTION = "SELECT new com.unisync.schedule.common.repository.ScheduleTimeProjection(" +
+            "s.startTime, s.endTime, s.cognitoSub, s.groupId, s.recurrenceRule) FROM Schedule s ";
+    String TIME_RANGE = "AND s.startTime < :endDate AND (s.endTime > :startDate OR s.recurrenceRule IS NOT NULL) " +
+            "ORDER BY s.startTime";
+    String STREAM_FETCH_SIZE = "1000";
+
+    // 여러 사용자 + 그룹 (일정 조율용)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(TIME_PROJECTION + "WHERE (s.cognitoSub IN :cognitoSubs OR s.groupId = :groupId) " + TIME_RANGE)
+    Stream<ScheduleTimeProjection> streamTimesByUsersOrGroupAndDateRange(
+        @Param("cognitoSubs") List<String> cognitoSubs,
+        @Param("groupId") Long groupId,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate
+    );
+
+    // 여러 사용자 (busy bitmap 생성용)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(TIME_PROJECTION + "WHERE s.cognitoSub IN :cognitoSubs " + TIME_RANGE)
+    Stream<ScheduleTimeProjection> streamTimesByCognitoSubsAndDateRange(
         @Param("cognitoSubs") List<String> cognitoSubs,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate
+    );
+
+    // 그룹 (busy bitmap 생성용)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(TIME_PROJECTION + "WHERE s.groupId = :groupId " + TIME_RANGE)
+    Stream<ScheduleTimeProjection> streamTimesByGroupIdAndDateRange(
         @Param("groupId") Long groupId,
         @Param("startDate") LocalDateTime startDate,
         @Param("endDate") LocalDateTime endDate
@@ -0,0 +1,21 @@
+package com.unisync.schedule.common.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공강 계산용 일정 시간 projection (관리 엔티티 없이 필요한 컬럼만)
+ *
+ * @param startTime 시작 시각
+ * @param endTime 종료 시각
+ * @param cognitoSub 소유 사용자
+ * @param groupId 그룹 ID (개인 일정이면 null)
+ * @param recurrenceRule 반복 규칙 (반복 없으면 null)
+ */
+public record ScheduleTimeProjection(
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        String cognitoSub,
+        Long groupId,
+        String recurrenceRule
+) {
+}
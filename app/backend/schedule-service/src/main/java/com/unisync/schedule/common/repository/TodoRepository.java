@@ -3,16 +3,23 @@ package com.unisync.schedule.common.repository;
 import com.unisync.schedule.common.entity.Todo;
 import com.unisync.schedule.common.entity.Todo.TodoPriority;
 import com.unisync.schedule.common.entity.Todo.TodoStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface TodoRepository extends JpaRepository<Todo, Long> {
+public interface TodoRepository extends JpaRepository<Todo, Long>, JpaSpecificationExecutor<Todo> {
+
+    // 목록 조회(필터 + 커서 페이지)는 TodoSpecifications 조건으로 findBy(spec, ...) 사용
 
     // 개인 할일 조회 (group_id IS NULL)
     @Query("SELECT t FROM Todo t WHERE t.cognitoSub = :cognitoSub AND t.groupId IS NULL")
@@ -53,14 +60,46 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
     // 서브태스크 조회
     List<Todo> findByParentTodoId(Long parentTodoId);
 
-    // 일정 기반 할일 조회 (루트 Todo)
-    List<Todo> findByScheduleIdAndParentTodoIdIsNull(Long scheduleId);
-
-    // 개인 + 여러 그룹의 Todo 조회
-    @Query("SELECT t FROM Todo t WHERE (t.cognitoSub = :cognitoSub AND t.groupId IS NULL) OR t.groupId IN :groupIds")
-    List<Todo> findByCognitoSubOrGroupIdIn(
-            @Param("cognitoSub") String cognitoSub,
-            @Param("groupIds") List<Long> groupIds
+    // 일정 기반 할일 트리 조회 (루트 Todo + 모든 하위 서브태스크, 한 번의 재귀 CTE 쿼리)
+    // 서브태스크는 schedule_id가 비어 있을 수 있으므로 parent_todo_id를 따라 내려감
+    // CTE에는 ID만 담고 마지막에 todos와 조인 (컬럼 목록을 명시해야 하는 H2에서도 같은 쿼리로 동작)
+    @Query(value = "WITH RECURSIVE todo_tree (todo_id) AS (" +
+                   "  SELECT todo_id FROM todos WHERE schedule_id = :scheduleId AND parent_todo_id IS NULL" +
+                   "  UNION ALL" +
+                   "  SELECT child.todo_id FROM todos child JOIN todo_tree parent ON child.parent_todo_id = parent.todo_id" +
+                   ") SELECT t.* FROM todos t JOIN todo_tree tree ON t.todo_id = tree.todo_id ORDER BY t.todo_id",
+           nativeQuery = true)
+    List<Todo> findTreeByScheduleId(@Param("scheduleId") Long scheduleId);
+
+    // 할일과 모든 조상 ID 조회 (자신 → 부모 → ... → 루트 순, 한 번의 재귀 CTE 쿼리)
+    @Query(value = "WITH RECURSIVE ancestors (todo_id, parent_todo_id, depth) AS (" +
+                   "  SELECT todo_id, parent_todo_id, 0 FROM todos WHERE todo_id = :todoId" +
+                   "  UNION ALL" +
+                   "  SELECT t.todo_id, t.parent_todo_id, a.depth + 1 FROM todos t" +
+                   "  JOIN ancestors a ON t.todo_id = a.parent_todo_id" +
+                   ") SELECT todo_id FROM ancestors ORDER BY depth",
+           nativeQuery = true)
+    List<Long> findAncestorIds(@Param("todoId") Long todoId);
+
+    // 집계/진행률을 ID 순으로 잠그며 조회 (SELECT ... FOR UPDATE 1회)
+    // 엔티티가 아닌 projection이라 이미 로드된 엔티티가 있어도 DB 값을 읽는다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.unisync.schedule.common.repository.TodoRollupProjection(" +
+           "t.todoId, t.subtaskCount, t.subtaskProgressSum, t.progressPercentage, t.status) " +
+           "FROM Todo t WHERE t.todoId IN :todoIds ORDER BY t.todoId")
+    List<TodoRollupProjection> lockRollups(@Param("todoIds") Collection<Long> todoIds);
+
+    // 잠근 행에 다시 계산한 집계/진행률/상태 반영
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Todo t SET t.subtaskCount = :subtaskCount, t.subtaskProgressSum = :subtaskProgressSum, " +
+           "t.progressPercentage = :progress, t.status = :status, t.updatedAt = LOCAL DATETIME " +
+           "WHERE t.todoId = :todoId")
+    int updateRollup(
+        @Param("todoId") Long todoId,
+        @Param("subtaskCount") int subtaskCount,
+        @Param("subtaskProgressSum") int subtaskProgressSum,
+        @Param("progress") int progress,
+        @Param("status") TodoStatus status
     );
 
     // 서브태스크 개수 조회
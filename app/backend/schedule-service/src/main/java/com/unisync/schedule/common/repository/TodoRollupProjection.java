@@ -0,0 +1,33 @@
+package com.unisync.schedule.common.repository;
+
+import com.unisync.schedule.common.entity.Todo.TodoStatus;
+
+/**
+ * 서브태스크 집계 projection (영속성 컨텍스트의 엔티티 대신 DB 값을 바로 읽음)
+ *
+ * @param todoId 할일 ID
+ * @param subtaskCount 직계 서브태스크 수
+ * @param subtaskProgressSum 직계 서브태스크 진행률 합
+ * @param progressPercentage 현재 진행률
+ * @param status 현재 상태
+ */
+public record TodoRollupProjection(
+        Long todoId,
+        int subtaskCount,
+        int subtaskProgressSum,
+        int progressPercentage,
+        TodoStatus status
+) {
+
+    /**
+     * 서브태스크 변화량을 더한 집계
+     */
+    public TodoRollupProjection addSubtasks(int countDelta, int progressDelta) {
+        return new TodoRollupProjection(todoId, subtaskCount + countDelta, subtaskProgressSum + progressDelta,
+                progressPercentage, status);
+    }
+
+    public TodoRollupProjection withProgress(int progress, TodoStatus newStatus) {
+        return new TodoRollupProjection(todoId, subtaskCount, subtaskProgressSum, progress, newStatus);
+    }
+}
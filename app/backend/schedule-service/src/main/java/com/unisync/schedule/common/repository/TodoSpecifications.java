@@ -0,0 +1,89 @@
+package com.unisync.schedule.common.repository;
+
+import com.unisync.schedule.common.entity.Todo;
+import com.unisync.schedule.common.entity.Todo.TodoPriority;
+import com.unisync.schedule.common.entity.Todo.TodoStatus;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Todo 목록 조회 조건
+ *
+ * 필터는 모두 SQL WHERE 절로 내려가고, 정렬/커서는 (due_date, todo_id) 기준이다.
+ * 소유자 조건 + due_date는 복합 인덱스(idx_cognito_sub_group_due_date, idx_group_due_date)를 타고,
+ * InnoDB 보조 인덱스에는 PK(todo_id)가 붙어 있어 정렬까지 인덱스 순서로 처리된다.
+ */
+public final class TodoSpecifications {
+
+    /**
+     * 커서 페이지 정렬 (마감일 → ID)
+     */
+    public static final Sort KEYSET_ORDER = Sort.by(Sort.Order.asc("dueDate"), Sort.Order.asc("todoId"));
+
+    private TodoSpecifications() {
+    }
+
+    /**
+     * 개인 할일 (group_id IS NULL)
+     */
+    public static Specification<Todo> personal(String cognitoSub) {
+        return (root, query, cb) -> cb.and(
+                cb.equal(root.get("cognitoSub"), cognitoSub),
+                cb.isNull(root.get("groupId")));
+    }
+
+    /**
+     * 그룹 할일
+     */
+    public static Specification<Todo> inGroup(Long groupId) {
+        return (root, query, cb) -> cb.equal(root.get("groupId"), groupId);
+    }
+
+    /**
+     * 개인 할일 + 여러 그룹 할일
+     */
+    public static Specification<Todo> personalOrInGroups(String cognitoSub, List<Long> groupIds) {
+        return personal(cognitoSub).or((root, query, cb) -> root.get("groupId").in(groupIds));
+    }
+
+    /**
+     * 시작일이 startDate 이후 (null이면 조건 없음)
+     */
+    public static Specification<Todo> startsOnOrAfter(LocalDate startDate) {
+        return startDate == null ? null
+                : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("startDate"), startDate);
+    }
+
+    /**
+     * 마감일이 endDate 이전 (null이면 조건 없음)
+     */
+    public static Specification<Todo> dueOnOrBefore(LocalDate endDate) {
+        return endDate == null ? null
+                : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("dueDate"), endDate);
+    }
+
+    public static Specification<Todo> hasStatus(TodoStatus status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Todo> hasPriority(TodoPriority priority) {
+        return priority == null ? null : (root, query, cb) -> cb.equal(root.get("priority"), priority);
+    }
+
+    /**
+     * 커서 다음 행: (due_date, todo_id) > (dueDate, todoId) (커서가 없으면 조건 없음)
+     */
+    public static Specification<Todo> after(LocalDate dueDate, Long todoId) {
+        if (dueDate == null || todoId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.or(
+                cb.greaterThan(root.get("dueDate"), dueDate),
+                cb.and(
+                        cb.equal(root.get("dueDate"), dueDate),
+                        cb.greaterThan(root.get("todoId"), todoId)));
+    }
+}
@@ -1,18 +1,30 @@
 package com.unisync.schedule.coordination.algorithm;
 
+import com.unisync.schedule.common.config.ParallelSearchProperties;
 import com.unisync.schedule.common.entity.Schedule;
+import com.unisync.schedule.common.recurrence.Occurrence;
+import com.unisync.schedule.common.recurrence.RecurrenceExpander;
+import com.unisync.schedule.common.repository.ScheduleTimeProjection;
 import com.unisync.schedule.coordination.dto.FreeSlotDto;
+import com.unisync.schedule.coordination.dto.QuorumSlotDto;
+import com.unisync.schedule.coordination.dto.SlotSuggestionDto;
+import com.unisync.schedule.coordination.model.SuggestionOrder;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 /**
  * 공강 시간 찾기 알고리즘 구현
@@ -21,11 +33,23 @@ import java.util.stream.Collectors;
  * 1. Interval Merging: 겹치는 busy 구간 병합
  * 2. Free Slot Extraction: busy 구간 사이의 공강 시간 추출
  * 3. Filtering: 근무 시간, 요일 필터링
+ *
+ * findFreeSlots()는 PrimitiveIntervalEngine(long 배열 기반)으로 계산한다.
+ * TimeInterval 기반 public 메서드는 같은 결과를 내는 기준 구현으로 유지한다
+ * (근무 시간이 있으면 applyWorkingHours → filterByDaysOfWeek 순서와 같음).
+ * 반복 일정은 검색 기간 안의 occurrence만 busy 구간으로 펼친다.
+ * busy 구간이 많고 기간이 길면 ShardedIntervalEngine으로 기간을 나눠 병렬 계산한다.
+ * 일부 멤버만 비어도 되는 공강은 멤버별 busy 구간을 QuorumSweep으로 훑어 찾는다.
  */
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class FreeSlotFinder {
 
+    private final RecurrenceExpander recurrenceExpander;
+    private final ParallelSearchProperties parallelSearchProperties;
+    private final ForkJoinPool coordinationForkJoinPool;
+
     /**
      * 공강 시간 찾기 메인 메서드
      *
@@ -50,42 +74,316 @@ public class FreeSlotFinder {
         log.info("공강 시간 검색 시작 - 일정 개수: {}, 기간: {} ~ {}, 최소 지속: {}분",
                 schedules.size(), startDate, endDate, minDurationMinutes);
 
-        // 1. Schedule을 TimeInterval로 변환
-        List<TimeInterval> busyIntervals = schedules.stream()
-                .map(s -> new TimeInterval(s.getStartTime(), s.getEndTime()))
-                .collect(Collectors.toList());
+        IntervalBuffer busy = toBusyIntervals(schedules, startDate, endDate);
 
-        // 2. Interval 병합
-        List<TimeInterval> mergedBusy = mergeIntervals(busyIntervals);
-        log.debug("Busy 구간 병합 완료 - 병합 전: {}, 병합 후: {}", busyIntervals.size(), mergedBusy.size());
+        return findFreeSlotsFromBusy(busy, startDate, endDate, minDurationMinutes,
+                workingHoursStart, workingHoursEnd, daysOfWeek);
+    }
 
-        // 3. 공강 시간 추출
+    /**
+     * 일정 목록을 busy 구간으로 변환
+     */
+    private IntervalBuffer toBusyIntervals(List<Schedule> schedules, LocalDate startDate, LocalDate endDate) {
         LocalDateTime searchStart = startDate.atStartOfDay();
         LocalDateTime searchEnd = endDate.atTime(23, 59, 59);
-        List<TimeInterval> freeIntervals = extractFreeIntervals(mergedBusy, searchStart, searchEnd, minDurationMinutes);
-        log.debug("공강 시간 추출 완료 - 공강 개수: {}", freeIntervals.size());
 
-        // 4. 근무 시간 필터링 (optional)
-        if (workingHoursStart != null && workingHoursEnd != null) {
-            freeIntervals = applyWorkingHours(freeIntervals, workingHoursStart, workingHoursEnd, minDurationMinutes);
-            log.debug("근무 시간 필터링 완료 - 남은 공강: {}", freeIntervals.size());
+        IntervalBuffer busy = new IntervalBuffer(schedules.size());
+        for (Schedule schedule : schedules) {
+            addBusy(busy, schedule.getStartTime(), schedule.getEndTime(), schedule.getRecurrenceRule(),
+                    searchStart, searchEnd);
         }
+        return busy;
+    }
 
-        // 5. 요일 필터링 (optional)
-        if (daysOfWeek != null && !daysOfWeek.isEmpty()) {
-            freeIntervals = filterByDaysOfWeek(freeIntervals, daysOfWeek);
-            log.debug("요일 필터링 완료 - 남은 공강: {}", freeIntervals.size());
+    /**
+     * 일정 시간 projection stream을 busy 구간으로 변환 (행을 읽는 대로 primitive 배열에 추가)
+     */
+    public IntervalBuffer toBusyIntervals(Stream<ScheduleTimeProjection> rows, LocalDate startDate,
+                                          LocalDate endDate) {
+        LocalDateTime searchStart = startDate.atStartOfDay();
+        LocalDateTime searchEnd = endDate.atTime(23, 59, 59);
+
+        IntervalBuffer busy = new IntervalBuffer();
+        rows.forEach(row -> addBusy(busy, row.startTime(), row.endTime(), row.recurrenceRule(),
+                searchStart, searchEnd));
+        return busy;
+    }
+
+    /**
+     * 일정 하나를 busy 구간으로 추가
+     *
+     * 반복 일정은 검색 기간 안의 occurrence로 펼치고,
+     * 길이 0인 일정(Canvas 마감 시각 등)은 시간을 차지하지 않으므로 공강을 나누지 않게 제외한다.
+     */
+    private void addBusy(IntervalBuffer busy, LocalDateTime start, LocalDateTime end, String recurrenceRule,
+                         LocalDateTime searchStart, LocalDateTime searchEnd) {
+        if (!end.isAfter(start)) {
+            return;
+        }
+        if (!recurrenceExpander.isRecurring(recurrenceRule)) {
+            busy.add(start, end);
+            return;
         }
+        Iterator<Occurrence> occurrences = recurrenceExpander.occurrences(start, end, recurrenceRule,
+                searchStart, searchEnd);
+        while (occurrences.hasNext()) {
+            Occurrence occurrence = occurrences.next();
+            busy.add(occurrence.start(), occurrence.end());
+        }
+    }
+
+    /**
+     * busy 구간으로 공강 시간 찾기 (busy bitmap 인덱스 경로)
+     *
+     * @param busy busy 구간 (정렬/병합 여부 무관, 병합하며 변경됨)
+     */
+    public List<FreeSlotDto> findFreeSlotsFromBusy(
+            IntervalBuffer busy,
+            LocalDate startDate,
+            LocalDate endDate,
+            int minDurationMinutes,
+            LocalTime workingHoursStart,
+            LocalTime workingHoursEnd,
+            List<Integer> daysOfWeek
+    ) {
+        IntervalBuffer free = computeFree(busy, startDate, endDate, minDurationMinutes,
+                workingHoursStart, workingHoursEnd, daysOfWeek, Integer.MAX_VALUE);
 
-        // 6. DTO 변환
-        List<FreeSlotDto> result = freeIntervals.stream()
-                .map(FreeSlotDto::from)
-                .collect(Collectors.toList());
+        // DTO 변환
+        List<FreeSlotDto> result = new ArrayList<>(free.size());
+        for (int i = 0; i < free.size(); i++) {
+            result.add(FreeSlotDto.of(free.start(i), free.end(i)));
+        }
 
         log.info("공강 시간 검색 완료 - 총 {}개 발견", result.size());
         return result;
     }
 
+    /**
+     * busy 구간으로 추천 공강 top-K 찾기
+     *
+     * EARLIEST는 K개를 찾는 즉시 스캔을 멈추고, BEST_MATCH는 전체 공강을 크기 K의 heap으로 거른다.
+     * 어느 쪽이든 응답 크기는 검색 기간과 무관하게 K개 이하이다.
+     *
+     * @param busy busy 구간 (정렬/병합 여부 무관, 병합하며 변경됨)
+     * @param criteria 추천 조건
+     * @return 순위순 추천 공강
+     */
+    public List<SlotSuggestionDto> suggestFromBusy(
+            IntervalBuffer busy,
+            LocalDate startDate,
+            LocalDate endDate,
+            int minDurationMinutes,
+            LocalTime workingHoursStart,
+            LocalTime workingHoursEnd,
+            List<Integer> daysOfWeek,
+            SuggestionCriteria criteria
+    ) {
+        int maxSlots = criteria.order() == SuggestionOrder.EARLIEST ? criteria.limit() : Integer.MAX_VALUE;
+        IntervalBuffer free = computeFree(busy, startDate, endDate, minDurationMinutes,
+                workingHoursStart, workingHoursEnd, daysOfWeek, maxSlots);
+
+        List<RankedSlot> ranked = SlotRanker.topK(free,
+                IntervalBuffer.toEpochSecond(startDate.atStartOfDay()),
+                IntervalBuffer.toEpochSecond(endDate.atTime(23, 59, 59)),
+                minDurationMinutes, criteria);
+
+        List<SlotSuggestionDto> result = new ArrayList<>(ranked.size());
+        for (int i = 0; i < ranked.size(); i++) {
+            result.add(SlotSuggestionDto.of(i + 1, ranked.get(i)));
+        }
+
+        log.info("공강 추천 완료 - 후보 {}개 중 {}개 ({})", free.size(), result.size(), criteria.order());
+        return result;
+    }
+
+    /**
+     * 일정 시간 projection stream을 멤버별 busy 구간으로 분리 (그룹 일정은 모든 멤버를 막는 shared로)
+     *
+     * @param members 대상 멤버 (중복 없음)
+     * @param groupId 그룹 ID (nullable)
+     */
+    public MemberBusy toMemberBusy(Stream<ScheduleTimeProjection> rows, List<String> members, Long groupId,
+                                   LocalDate startDate, LocalDate endDate) {
+        LocalDateTime searchStart = startDate.atStartOfDay();
+        LocalDateTime searchEnd = endDate.atTime(23, 59, 59);
+
+        Map<String, IntervalBuffer> byMember = new HashMap<>();
+        List<IntervalBuffer> memberBusy = new ArrayList<>(members.size());
+        for (String member : members) {
+            IntervalBuffer busy = new IntervalBuffer();
+            byMember.put(member, busy);
+            memberBusy.add(busy);
+        }
+        IntervalBuffer shared = new IntervalBuffer();
+
+        rows.forEach(row -> {
+            IntervalBuffer target = groupId != null && groupId.equals(row.groupId())
+                    ? shared
+                    : byMember.get(row.cognitoSub());
+            if (target != null) {
+                addBusy(target, row.startTime(), row.endTime(), row.recurrenceRule(), searchStart, searchEnd);
+            }
+        });
+        return new MemberBusy(members, memberBusy, shared);
+    }
+
+    /**
+     * M명 중 minAvailableMembers명 이상 비는 공강 찾기
+     *
+     * @param busy 멤버별 busy 구간 (shared는 병합하며 변경됨)
+     * @param minAvailableMembers 비어야 하는 최소 멤버 수 (N)
+     * @return 바쁜 멤버 합집합이 M-N명 이하인 가장 긴 공강 목록 (시작 순, 서로 겹칠 수 있음)
+     */
+    public List<QuorumSlotDto> findQuorumSlots(
+            MemberBusy busy,
+            LocalDate startDate,
+            LocalDate endDate,
+            int minDurationMinutes,
+            LocalTime workingHoursStart,
+            LocalTime workingHoursEnd,
+            List<Integer> daysOfWeek,
+            int minAvailableMembers
+    ) {
+        QuorumWindows quorum = computeQuorum(busy, startDate, endDate, minDurationMinutes,
+                workingHoursStart, workingHoursEnd, daysOfWeek, minAvailableMembers);
+
+        List<QuorumSlotDto> result = new ArrayList<>(quorum.size());
+        for (int i = 0; i < quorum.size(); i++) {
+            int[] busyMembers = quorum.busyMembers().get(i);
+            result.add(QuorumSlotDto.of(quorum.windows().start(i), quorum.windows().end(i),
+                    busy.memberCount() - busyMembers.length, memberIds(busy, busyMembers)));
+        }
+
+        log.info("부분 공강 검색 완료 - {}명 중 {}명 이상, 총 {}개 발견",
+                busy.memberCount(), minAvailableMembers, result.size());
+        return result;
+    }
+
+    /**
+     * M명 중 minAvailableMembers명 이상 비는 공강에서 추천 top-K 찾기 (비는 멤버 비율을 점수에 반영)
+     */
+    public List<SlotSuggestionDto> suggestQuorumSlots(
+            MemberBusy busy,
+            LocalDate startDate,
+            LocalDate endDate,
+            int minDurationMinutes,
+            LocalTime workingHoursStart,
+            LocalTime workingHoursEnd,
+            List<Integer> daysOfWeek,
+            int minAvailableMembers,
+            SuggestionCriteria criteria
+    ) {
+        QuorumWindows quorum = computeQuorum(busy, startDate, endDate, minDurationMinutes,
+                workingHoursStart, workingHoursEnd, daysOfWeek, minAvailableMembers);
+
+        int[] availableCounts = new int[quorum.size()];
+        for (int i = 0; i < quorum.size(); i++) {
+            availableCounts[i] = busy.memberCount() - quorum.busyMembers().get(i).length;
+        }
+        List<RankedSlot> ranked = SlotRanker.topK(quorum.windows(), availableCounts, busy.memberCount(),
+                IntervalBuffer.toEpochSecond(startDate.atStartOfDay()),
+                IntervalBuffer.toEpochSecond(endDate.atTime(23, 59, 59)),
+                minDurationMinutes, criteria);
+
+        // 구간 시작 시각은 모두 다르고 오름차순이므로 시작 시각으로 원래 인덱스를 찾음
+        long[] starts = new long[quorum.size()];
+        for (int i = 0; i < quorum.size(); i++) {
+            starts[i] = quorum.windows().start(i);
+        }
+        List<SlotSuggestionDto> result = new ArrayList<>(ranked.size());
+        for (int i = 0; i < ranked.size(); i++) {
+            int index = Arrays.binarySearch(starts, ranked.get(i).start());
+            SlotSuggestionDto suggestion = SlotSuggestionDto.of(i + 1, ranked.get(i));
+            suggestion.setAvailableMemberCount(availableCounts[index]);
+            suggestion.setBusyMembers(memberIds(busy, quorum.busyMembers().get(index)));
+            result.add(suggestion);
+        }
+        return result;
+    }
+
+    /**
+     * 근무 시간/요일 창에서 그룹 일정을 뺀 뒤 멤버 busy를 sweep
+     */
+    private QuorumWindows computeQuorum(
+            MemberBusy busy,
+            LocalDate startDate,
+            LocalDate endDate,
+            int minDurationMinutes,
+            LocalTime workingHoursStart,
+            LocalTime workingHoursEnd,
+            List<Integer> daysOfWeek,
+            int minAvailableMembers
+    ) {
+        IntervalBuffer shared = busy.shared();
+        PrimitiveIntervalEngine.merge(shared);
+        IntervalBuffer allowed = PrimitiveIntervalEngine.freeWithinDailyWindows(shared,
+                IntervalBuffer.toEpochSecond(startDate.atStartOfDay()),
+                IntervalBuffer.toEpochSecond(endDate.atTime(23, 59, 59)),
+                workingHoursStart, workingHoursEnd, daysOfWeek, minDurationMinutes);
+
+        int maxBusy = Math.max(0, busy.memberCount() - minAvailableMembers);
+        return QuorumSweep.sweep(busy.busy(), allowed, maxBusy, minDurationMinutes);
+    }
+
+    private static List<String> memberIds(MemberBusy busy, int[] memberIndexes) {
+        List<String> ids = new ArrayList<>(memberIndexes.length);
+        for (int index : memberIndexes) {
+            ids.add(busy.members().get(index));
+        }
+        return ids;
+    }
+
+    /**
+     * busy 구간을 병합해 공강 계산 (maxSlots개를 찾으면 중단, 제한이 없고 규모가 크면 병렬 계산)
+     */
+    private IntervalBuffer computeFree(
+            IntervalBuffer busy,
+            LocalDate startDate,
+            LocalDate endDate,
+            int minDurationMinutes,
+            LocalTime workingHoursStart,
+            LocalTime workingHoursEnd,
+            List<Integer> daysOfWeek,
+            int maxSlots
+    ) {
+        LocalDateTime searchStart = startDate.atStartOfDay();
+        LocalDateTime searchEnd = endDate.atTime(23, 59, 59);
+
+        long from = IntervalBuffer.toEpochSecond(searchStart);
+        long to = IntervalBuffer.toEpochSecond(searchEnd);
+        IntervalBuffer free;
+        if (maxSlots == Integer.MAX_VALUE && shouldParallelize(busy, startDate, endDate)) {
+            // 기간 shard별 병합/공강 추출을 병렬로 수행하고 경계에서 이어 붙임
+            free = ShardedIntervalEngine.freeWithinDailyWindows(busy, from, to,
+                    workingHoursStart, workingHoursEnd, daysOfWeek, minDurationMinutes,
+                    parallelSearchProperties.getShardDays(), coordinationForkJoinPool);
+            log.debug("병렬 공강 추출 완료 - busy 구간: {}, 공강 개수: {}", busy.size(), free.size());
+        } else {
+            // Interval 병합
+            int busyCount = busy.size();
+            PrimitiveIntervalEngine.merge(busy);
+            log.debug("Busy 구간 병합 완료 - 병합 전: {}, 병합 후: {}", busyCount, busy.size());
+
+            // 공강 시간 추출 + 근무 시간/요일 필터링 (일별 창과 busy를 한 번에 훑음)
+            free = PrimitiveIntervalEngine.freeWithinDailyWindows(busy, from, to,
+                    workingHoursStart, workingHoursEnd, daysOfWeek, minDurationMinutes, maxSlots);
+            log.debug("공강 시간 추출 완료 - 공강 개수: {}", free.size());
+        }
+        return free;
+    }
+
+    /**
+     * 병렬 계산 여부 (busy 구간이 임계값 이상이고 기간이 shard 2개 이상일 때)
+     */
+    private boolean shouldParallelize(IntervalBuffer busy, LocalDate startDate, LocalDate endDate) {
+        if (!parallelSearchProperties.isEnabled() || busy.size() < parallelSearchProperties.getMinIntervals()) {
+            return false;
+        }
+        long days = endDate.toEpochDay() - startDate.toEpochDay() + 1;
+        return days >= 2L * parallelSearchProperties.getShardDays();
+    }
+
     /**
      * 겹치는 구간 병합 (Interval Merging Algorithm)
      *
@@ -140,6 +438,11 @@ public class FreeSlotFinder {
         LocalDateTime currentTime = searchStart;
 
         for (TimeInterval busy : mergedBusy) {
+            // 검색 종료 이후의 busy는 볼 필요 없음
+            if (!busy.getStart().isBefore(searchEnd)) {
+                break;
+            }
+
             // busy 시작 전 공강 확인
             if (busy.getStart().isAfter(currentTime)) {
                 long freeMinutes = java.time.Duration.between(currentTime, busy.getStart()).toMinutes();
@@ -166,7 +469,8 @@ public class FreeSlotFinder {
     /**
      * 근무 시간 필터링
      *
-     * 각 공강 구간을 근무 시간 범위로 제한
+     * 각 공강 구간을 날짜별 근무 시간 범위로 제한한다.
+     * 여러 날에 걸친 공강은 걸친 날마다 근무 시간 구간으로 나뉜다.
      *
      * @param freeIntervals 공강 구간 목록
      * @param workingStart 근무 시간 시작
@@ -183,19 +487,23 @@ public class FreeSlotFinder {
         List<TimeInterval> filtered = new ArrayList<>();
 
         for (TimeInterval slot : freeIntervals) {
-            LocalDate slotDate = slot.getStart().toLocalDate();
-            LocalDateTime dayWorkingStart = slotDate.atTime(workingStart);
-            LocalDateTime dayWorkingEnd = slotDate.atTime(workingEnd);
-
-            // 공강 구간과 근무 시간의 교집합 계산
-            LocalDateTime adjustedStart = slot.getStart().isBefore(dayWorkingStart) ? dayWorkingStart : slot.getStart();
-            LocalDateTime adjustedEnd = slot.getEnd().isAfter(dayWorkingEnd) ? dayWorkingEnd : slot.getEnd();
-
-            // 유효한 구간인지 확인
-            if (adjustedStart.isBefore(adjustedEnd)) {
-                long durationMinutes = java.time.Duration.between(adjustedStart, adjustedEnd).toMinutes();
-                if (durationMinutes >= minDurationMinutes) {
-                    filtered.add(new TimeInterval(adjustedStart, adjustedEnd));
+            LocalDate lastDate = slot.getEnd().toLocalDate();
+
+            for (LocalDate slotDate = slot.getStart().toLocalDate(); !slotDate.isAfter(lastDate);
+                 slotDate = slotDate.plusDays(1)) {
+                LocalDateTime dayWorkingStart = slotDate.atTime(workingStart);
+                LocalDateTime dayWorkingEnd = slotDate.atTime(workingEnd);
+
+                // 공강 구간과 그날 근무 시간의 교집합 계산
+                LocalDateTime adjustedStart = slot.getStart().isBefore(dayWorkingStart) ? dayWorkingStart : slot.getStart();
+                LocalDateTime adjustedEnd = slot.getEnd().isAfter(dayWorkingEnd) ? dayWorkingEnd : slot.getEnd();
+
+                // 유효한 구간인지 확인
+                if (adjustedStart.isBefore(adjustedEnd)) {
+                    long durationMinutes = java.time.Duration.between(adjustedStart, adjustedEnd).toMinutes();
+                    if (durationMinutes >= minDurationMinutes) {
+                        filtered.add(new TimeInterval(adjustedStart, adjustedEnd));
+                    }
                 }
             }
         }
@@ -0,0 +1,90 @@
+package com.unisync.schedule.coordination.algorithm;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 시간 구간 목록의 primitive 표현 (알고리즘용)
+ *
+ * 구간을 epoch-second(LocalDateTime을 UTC로 간주) long 쌍으로 starts/ends 배열에 담는다.
+ * 구간마다 객체를 만들지 않으므로 수만 개 구간을 다뤄도 배열 두 개만 할당된다.
+ * 시각 변환은 toEpochSecond/toLocalDateTime으로만 한다 (초 미만은 버림).
+ */
+public final class IntervalBuffer {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    long[] starts;
+    long[] ends;
+    int size;
+
+    public IntervalBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntervalBuffer(int capacity) {
+        int initial = Math.max(1, capacity);
+        this.starts = new long[initial];
+        this.ends = new long[initial];
+    }
+
+    public static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    public static LocalDateTime toLocalDateTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    public void add(LocalDateTime start, LocalDateTime end) {
+        add(toEpochSecond(start), toEpochSecond(end));
+    }
+
+    public void add(long start, long end) {
+        if (size == starts.length) {
+            int capacity = starts.length << 1;
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+        }
+        starts[size] = start;
+        ends[size] = end;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long start(int index) {
+        return starts[index];
+    }
+
+    public long end(int index) {
+        return ends[index];
+    }
+
+    /**
+     * 구간 수를 줄인다 (in-place 필터/병합 후 정리용)
+     */
+    void truncate(int newSize) {
+        size = newSize;
+    }
+
+    /**
+     * TimeInterval 목록으로 변환 (테스트/호환용)
+     */
+    public List<TimeInterval> toTimeIntervals() {
+        List<TimeInterval> intervals = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            intervals.add(new TimeInterval(toLocalDateTime(starts[i]), toLocalDateTime(ends[i])));
+        }
+        return intervals;
+    }
+}
@@ -0,0 +1,17 @@
+package com.unisync.schedule.coordination.algorithm;
+
+import java.util.List;
+
+/**
+ * 멤버별 busy 구간 (일부 멤버만 비어도 되는 공강 찾기 입력)
+ *
+ * @param members 멤버 cognitoSub (busy와 같은 순서)
+ * @param busy 멤버별 busy 구간
+ * @param shared 모든 멤버를 막는 busy 구간 (그룹 일정)
+ */
+public record MemberBusy(List<String> members, List<IntervalBuffer> busy, IntervalBuffer shared) {
+
+    public int memberCount() {
+        return members.size();
+    }
+}
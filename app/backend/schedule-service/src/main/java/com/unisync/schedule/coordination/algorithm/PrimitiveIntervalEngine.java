@@ -0,0 +1,219 @@
+package com.unisync.schedule.coordination.algorithm;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * IntervalBuffer 기반 공강 계산 엔진
+ *
+ * FreeSlotFinder의 mergeIntervals / extractFreeIntervals / applyWorkingHours / filterByDaysOfWeek와
+ * 같은 결과를 내되, 구간 객체 없이 long 배열만으로 계산한다.
+ * - 병합: 시작/종료 배열을 각각 primitive 정렬한 뒤 한 번 훑어 in-place로 압축
+ * - 공강: 일별 근무 시간 창과 busy 구간을 나란히 훑는 단일 스캔 (근무 시간/요일 필터 포함)
+ */
+public final class PrimitiveIntervalEngine {
+
+    static final long SECONDS_PER_DAY = 86_400L;
+    private static final long SECONDS_PER_MINUTE = 60L;
+
+    private PrimitiveIntervalEngine() {
+    }
+
+    /**
+     * 겹치거나 인접한 구간 병합 (in-place)
+     *
+     * 구간 합집합의 경계는 시작/종료를 따로 정렬해도 같다.
+     * i번째까지의 시작이 모두 i번째 종료 이하이고 다음 시작이 i번째 종료보다 크면, 거기서 병합 구간이 끝난다.
+     */
+    public static void merge(IntervalBuffer buffer) {
+        int n = buffer.size;
+        if (n <= 1) {
+            return;
+        }
+
+        long[] starts = buffer.starts;
+        long[] ends = buffer.ends;
+        Arrays.sort(starts, 0, n);
+        Arrays.sort(ends, 0, n);
+
+        int merged = 0;
+        long blockStart = starts[0];
+        for (int i = 0; i < n; i++) {
+            // 겹치거나 인접하면 (다음 시작 <= 현재 종료) 같은 블록
+            if (i == n - 1 || starts[i + 1] > ends[i]) {
+                long blockEnd = ends[i];
+                starts[merged] = blockStart;
+                ends[merged] = blockEnd;
+                merged++;
+                if (i < n - 1) {
+                    blockStart = starts[i + 1];
+                }
+            }
+        }
+        buffer.truncate(merged);
+    }
+
+    /**
+     * 병합된 busy 구간 사이의 공강 추출
+     *
+     * 공강은 [searchStart, searchEnd] 안으로 자른다.
+     *
+     * @param mergedBusy 시작 순으로 병합된 busy 구간
+     * @param searchStart 검색 시작 (epoch-second)
+     * @param searchEnd 검색 종료 (epoch-second)
+     * @param minDurationMinutes 최소 지속 시간 (분)
+     */
+    public static IntervalBuffer extractFree(IntervalBuffer mergedBusy, long searchStart, long searchEnd,
+                                             int minDurationMinutes) {
+        IntervalBuffer free = new IntervalBuffer(mergedBusy.size + 1);
+        subtractBusy(mergedBusy, 0, searchStart, searchEnd, minDurationMinutes * SECONDS_PER_MINUTE, free);
+        return free;
+    }
+
+    /**
+     * 일별 근무 시간 창과 busy 구간의 차집합으로 공강 계산 (단일 선형 스캔)
+     *
+     * 검색 기간의 날짜를 순서대로 돌며 허용 요일의 근무 시간 창 [workingStart, workingEnd)를 만들고,
+     * 병합된 busy 구간 포인터를 앞으로만 움직이며 창에서 busy를 뺀다.
+     * 여러 날에 걸친 공강도 날마다 잘려 모두 나오고, 요일 필터도 같은 스캔에서 적용된다.
+     * 비용은 O(busy 구간 수 + 일수)이며 결과 배열 외에는 할당하지 않는다.
+     *
+     * 근무 시간이 없으면 하루 전체가 창이 되고, 이어지는 창은 하나로 합쳐
+     * 요일 필터가 없을 때는 extractFree와 같은 결과를 낸다.
+     *
+     * @param mergedBusy 시작 순으로 병합된 busy 구간
+     * @param searchStart 검색 시작 (epoch-second)
+     * @param searchEnd 검색 종료 (epoch-second)
+     * @param workingStart 근무 시간 시작 (nullable)
+     * @param workingEnd 근무 시간 종료 (nullable)
+     * @param daysOfWeek 허용 요일 (nullable, 1=월, 7=일)
+     * @param minDurationMinutes 최소 지속 시간 (분)
+     */
+    public static IntervalBuffer freeWithinDailyWindows(IntervalBuffer mergedBusy, long searchStart, long searchEnd,
+                                                        LocalTime workingStart, LocalTime workingEnd,
+                                                        List<Integer> daysOfWeek, int minDurationMinutes) {
+        return freeWithinDailyWindows(mergedBusy, searchStart, searchEnd, workingStart, workingEnd,
+                daysOfWeek, minDurationMinutes, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 앞에서부터 maxSlots개의 공강을 찾으면 스캔을 멈추는 freeWithinDailyWindows
+     *
+     * 공강은 시작 순으로 나오므로 결과는 전체 결과의 앞 maxSlots개와 같다.
+     *
+     * @param maxSlots 찾을 최대 공강 수
+     */
+    public static IntervalBuffer freeWithinDailyWindows(IntervalBuffer mergedBusy, long searchStart, long searchEnd,
+                                                        LocalTime workingStart, LocalTime workingEnd,
+                                                        List<Integer> daysOfWeek, int minDurationMinutes,
+                                                        int maxSlots) {
+        long minSeconds = minDurationMinutes * SECONDS_PER_MINUTE;
+        boolean hasWorkingHours = workingStart != null && workingEnd != null;
+        boolean[] allowed = daysOfWeek != null && !daysOfWeek.isEmpty() ? dayMask(daysOfWeek) : null;
+        long openOffset = hasWorkingHours ? workingStart.toSecondOfDay() : 0L;
+        long closeOffset = hasWorkingHours ? workingEnd.toSecondOfDay() : SECONDS_PER_DAY;
+
+        IntervalBuffer free = new IntervalBuffer(mergedBusy.size + 1);
+        if (closeOffset <= openOffset || searchEnd <= searchStart) {
+            return free;
+        }
+
+        int cursor = 0;
+        boolean pending = false;
+        long pendingOpen = 0L;
+        long pendingClose = 0L;
+
+        for (long day = Math.floorDiv(searchStart, SECONDS_PER_DAY) * SECONDS_PER_DAY;
+             day < searchEnd;
+             day += SECONDS_PER_DAY) {
+            if (allowed != null && !allowed[dayOfWeek(day)]) {
+                continue;
+            }
+            long open = Math.max(day + openOffset, searchStart);
+            long close = Math.min(day + closeOffset, searchEnd);
+            if (open >= close) {
+                continue;
+            }
+
+            // 앞 창과 맞닿으면 (근무 시간 없이 연속된 날) 한 창으로 이어 붙임
+            if (pending && open == pendingClose) {
+                pendingClose = close;
+                continue;
+            }
+            if (pending) {
+                cursor = subtractBusy(mergedBusy, cursor, pendingOpen, pendingClose, minSeconds, free);
+                if (free.size >= maxSlots) {
+                    pending = false;
+                    break;
+                }
+            }
+            pending = true;
+            pendingOpen = open;
+            pendingClose = close;
+        }
+
+        if (pending) {
+            subtractBusy(mergedBusy, cursor, pendingOpen, pendingClose, minSeconds, free);
+        }
+        if (free.size > maxSlots) {
+            free.truncate(maxSlots);
+        }
+        return free;
+    }
+
+    /**
+     * 창 [open, close)에서 busy를 뺀 구간을 free에 추가
+     *
+     * @param from 검사를 시작할 busy 인덱스 (이전 창에서 넘겨받음)
+     * @return 다음 창이 검사를 시작할 busy 인덱스 (close 이후까지 걸친 busy는 다시 검사)
+     */
+    private static int subtractBusy(IntervalBuffer mergedBusy, int from, long open, long close,
+                                     long minSeconds, IntervalBuffer free) {
+        long[] starts = mergedBusy.starts;
+        long[] ends = mergedBusy.ends;
+        int n = mergedBusy.size;
+
+        // 창 시작 전에 끝난 busy는 이후 창에서도 필요 없음
+        int first = from;
+        while (first < n && ends[first] <= open) {
+            first++;
+        }
+
+        long current = open;
+        for (int i = first; i < n && starts[i] < close; i++) {
+            if (starts[i] > current) {
+                emit(free, current, starts[i], minSeconds);
+            }
+            current = Math.max(current, ends[i]);
+        }
+        if (close > current) {
+            emit(free, current, close, minSeconds);
+        }
+        return first;
+    }
+
+    private static void emit(IntervalBuffer free, long start, long end, long minSeconds) {
+        if (end - start >= minSeconds) {
+            free.add(start, end);
+        }
+    }
+
+    /**
+     * epoch-second의 ISO 요일 (1=월, 7=일). 1970-01-01은 목요일.
+     */
+    static int dayOfWeek(long epochSecond) {
+        long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        return (int) Math.floorMod(epochDay + 3, 7L) + 1;
+    }
+
+    static boolean[] dayMask(List<Integer> daysOfWeek) {
+        boolean[] allowed = new boolean[8];
+        for (Integer day : daysOfWeek) {
+            if (day != null && day >= 1 && day <= 7) {
+                allowed[day] = true;
+            }
+        }
+        return allowed;
+    }
+}
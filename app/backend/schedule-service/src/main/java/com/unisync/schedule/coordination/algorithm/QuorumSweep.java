@@ -0,0 +1,271 @@
+package com.unisync.schedule.coordination.algorithm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * "M명 중 N명 이상 비는" 공강 찾기 (sweep-line)
+ *
+ * 멤버 busy 구간의 시작/종료를 하나의 long 배열 이벤트로 만들어 primitive 정렬한 뒤 한 번 훑는다.
+ * 멤버별 겹침 깊이로 바쁜 멤버 집합을 실시간으로 유지해, 상태가 일정한 조각으로 나눈다.
+ * 그 조각들을 두 포인터로 훑어 "구간 안 어느 순간이든 바쁜 멤버를 모두 합쳐도 M-N명 이하"인
+ * 가장 긴 구간을 내보내고, 결과 구간마다 그 합집합을 바쁜 멤버로 둔다.
+ * 바쁜 멤버가 바뀌어도 합집합이 M-N명 이하이면 끊지 않으므로 (예: A가 10:30까지, B가 10:30부터 바쁘고 M-N=2)
+ * 결과 구간은 서로 겹칠 수 있다. 시작 시각은 모두 다르고 오름차순이다.
+ * 최소 지속 시간은 가장 긴 구간을 구한 뒤 적용한다.
+ * 분 단위로 훑지 않으며 비용은 O(E log E + 조각 수 × (M-N))이다 (E = 이벤트 수).
+ *
+ * 이벤트 키 = (시각 << 22) | (시작 여부 << 21) | 멤버 인덱스.
+ * 같은 시각에는 종료가 시작보다 먼저 정렬되어, 맞닿은 두 일정 사이에 길이 0인 구간이 생기지 않는다.
+ */
+public final class QuorumSweep {
+
+    /**
+     * 멤버 인덱스에 쓰는 bit 수 (멤버 최대 약 200만 명)
+     */
+    static final int MEMBER_BITS = 21;
+    static final int MAX_MEMBERS = 1 << MEMBER_BITS;
+    private static final long MEMBER_MASK = MAX_MEMBERS - 1;
+    private static final long START_FLAG = 1L << MEMBER_BITS;
+    private static final int TIME_SHIFT = MEMBER_BITS + 1;
+
+    private QuorumSweep() {
+    }
+
+    /**
+     * 허용 창 안에서 바쁜 멤버 합집합이 maxBusy명 이하인 가장 긴 구간
+     *
+     * 길이 0인 busy 구간은 시간을 차지하지 않으므로 무시한다.
+     *
+     * @param memberBusy 멤버별 busy 구간 (정렬/병합 여부 무관, 변경하지 않음)
+     * @param allowed 공강이 될 수 있는 창 (시작 순, 겹치지 않음. 근무 시간/요일/그룹 일정을 뺀 결과)
+     * @param maxBusy 허용하는 최대 바쁜 멤버 수 (M-N)
+     * @param minDurationMinutes 최소 지속 시간 (분)
+     */
+    public static QuorumWindows sweep(List<IntervalBuffer> memberBusy, IntervalBuffer allowed, int maxBusy,
+                                      int minDurationMinutes) {
+        int memberCount = memberBusy.size();
+        if (memberCount >= MAX_MEMBERS) {
+            throw new IllegalArgumentException("멤버 수가 너무 많습니다: " + memberCount);
+        }
+
+        IntervalBuffer windows = new IntervalBuffer();
+        List<int[]> busyMembers = new ArrayList<>();
+        if (allowed.size == 0) {
+            return new QuorumWindows(windows, busyMembers);
+        }
+
+        long[] events = toSortedEvents(memberBusy, allowed.starts[0], allowed.ends[allowed.size - 1]);
+        Sweeper sweeper = new Sweeper(memberCount, maxBusy, windows, busyMembers);
+
+        int p = 0;
+        for (int w = 0; w < allowed.size; w++) {
+            long open = allowed.starts[w];
+            long close = allowed.ends[w];
+
+            // 창 시작 시점 상태까지 반영
+            while (p < events.length && time(events[p]) <= open) {
+                sweeper.apply(events[p++]);
+            }
+
+            long current = open;
+            while (p < events.length && time(events[p]) < close) {
+                long t = time(events[p]);
+                if (t > current) {
+                    sweeper.emit(current, t);
+                    current = t;
+                }
+                while (p < events.length && time(events[p]) == t) {
+                    sweeper.apply(events[p++]);
+                }
+            }
+            sweeper.emit(current, close);
+            // 창이 다르면 맞닿아도 이어 붙이지 않음
+            sweeper.flush();
+        }
+
+        // 최소 지속 시간은 가장 긴 구간을 구한 뒤 적용
+        long minSeconds = minDurationMinutes * 60L;
+        int kept = 0;
+        for (int i = 0; i < windows.size; i++) {
+            if (windows.ends[i] - windows.starts[i] >= minSeconds) {
+                windows.starts[kept] = windows.starts[i];
+                windows.ends[kept] = windows.ends[i];
+                busyMembers.set(kept, busyMembers.get(i));
+                kept++;
+            }
+        }
+        windows.truncate(kept);
+        busyMembers.subList(kept, busyMembers.size()).clear();
+        return new QuorumWindows(windows, busyMembers);
+    }
+
+    /**
+     * [from, to)와 겹치는 busy 구간만 이벤트로 변환해 정렬
+     */
+    private static long[] toSortedEvents(List<IntervalBuffer> memberBusy, long from, long to) {
+        int capacity = 0;
+        for (IntervalBuffer busy : memberBusy) {
+            capacity += busy.size * 2;
+        }
+
+        long[] events = new long[capacity];
+        int n = 0;
+        for (int member = 0; member < memberBusy.size(); member++) {
+            IntervalBuffer busy = memberBusy.get(member);
+            for (int i = 0; i < busy.size; i++) {
+                long start = busy.starts[i];
+                long end = busy.ends[i];
+                if (end <= start || end <= from || start >= to) {
+                    continue;
+                }
+                events[n++] = (start << TIME_SHIFT) | START_FLAG | member;
+                events[n++] = (end << TIME_SHIFT) | member;
+            }
+        }
+
+        Arrays.sort(events, 0, n);
+        return n == events.length ? events : Arrays.copyOf(events, n);
+    }
+
+    private static long time(long event) {
+        return event >> TIME_SHIFT;
+    }
+
+    /**
+     * sweep 상태: 멤버별 겹침 깊이 + 바쁜 멤버 집합 (O(1) 추가/삭제)
+     * 이어지는 조각(run)을 모았다가 flush()에서 두 포인터로 가장 긴 구간을 낸다.
+     */
+    private static final class Sweeper {
+
+        private final int maxBusy;
+        private final IntervalBuffer windows;
+        private final List<int[]> busyMembers;
+        private final MemberSet busy;
+
+        private final IntervalBuffer run = new IntervalBuffer();
+        private final List<int[]> runMembers = new ArrayList<>();
+        private final MemberSet union;
+
+        Sweeper(int memberCount, int maxBusy, IntervalBuffer windows, List<int[]> busyMembers) {
+            this.maxBusy = maxBusy;
+            this.windows = windows;
+            this.busyMembers = busyMembers;
+            this.busy = new MemberSet(memberCount);
+            this.union = new MemberSet(memberCount);
+        }
+
+        void apply(long event) {
+            int member = (int) (event & MEMBER_MASK);
+            if ((event & START_FLAG) != 0) {
+                busy.add(member);
+            } else {
+                busy.remove(member);
+            }
+        }
+
+        /**
+         * 상태가 일정한 조각 [start, end) 처리
+         */
+        void emit(long start, long end) {
+            if (end <= start) {
+                return;
+            }
+            if (busy.size > maxBusy) {
+                // 이 조각을 걸치는 구간은 없으므로 여기서 끊음
+                flush();
+                return;
+            }
+            run.add(start, end);
+            runMembers.add(busy.toArray());
+        }
+
+        /**
+         * 모은 조각에서 합집합이 maxBusy명 이하인 가장 긴 구간을 모두 내보냄
+         *
+         * 오른쪽 끝 r마다 합집합이 maxBusy명 이하가 되는 가장 앞선 l을 유지하고,
+         * 다음 조각을 더하면 maxBusy명을 넘는 r에서만 [l, r]을 내보낸다.
+         */
+        void flush() {
+            int n = run.size;
+            int l = 0;
+            for (int r = 0; r < n; r++) {
+                for (int member : runMembers.get(r)) {
+                    union.add(member);
+                }
+                while (union.size > maxBusy) {
+                    for (int member : runMembers.get(l)) {
+                        union.remove(member);
+                    }
+                    l++;
+                }
+                if (r == n - 1 || union.sizeWith(runMembers.get(r + 1)) > maxBusy) {
+                    windows.add(run.starts[l], run.ends[r]);
+                    busyMembers.add(union.toArray());
+                }
+            }
+            for (int i = l; i < n; i++) {
+                for (int member : runMembers.get(i)) {
+                    union.remove(member);
+                }
+            }
+            run.truncate(0);
+            runMembers.clear();
+        }
+    }
+
+    /**
+     * 겹침 횟수를 세는 멤버 집합 (O(1) 추가/삭제)
+     */
+    private static final class MemberSet {
+
+        private final int[] count;
+        private final int[] list;
+        private final int[] position;
+        private int size;
+
+        MemberSet(int memberCount) {
+            this.count = new int[memberCount];
+            this.list = new int[memberCount];
+            this.position = new int[memberCount];
+        }
+
+        void add(int member) {
+            if (count[member]++ == 0) {
+                position[member] = size;
+                list[size++] = member;
+            }
+        }
+
+        void remove(int member) {
+            if (--count[member] == 0) {
+                int last = list[--size];
+                list[position[member]] = last;
+                position[last] = position[member];
+            }
+        }
+
+        /**
+         * members를 더했을 때의 크기 (집합은 바꾸지 않음)
+         */
+        int sizeWith(int[] members) {
+            int result = size;
+            for (int member : members) {
+                if (count[member] == 0) {
+                    result++;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * 오름차순 멤버 배열
+         */
+        int[] toArray() {
+            int[] members = Arrays.copyOf(list, size);
+            Arrays.sort(members);
+            return members;
+        }
+    }
+}
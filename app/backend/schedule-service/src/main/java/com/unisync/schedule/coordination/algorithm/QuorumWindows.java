@@ -0,0 +1,18 @@
+package com.unisync.schedule.coordination.algorithm;
+
+import java.util.List;
+
+/**
+ * 일부 멤버만 비어도 되는 공강 (시작 순)
+ *
+ * 구간끼리 겹칠 수 있지만 시작 시각은 모두 다르다.
+ *
+ * @param windows 공강 구간
+ * @param busyMembers 구간마다 구간 중 한 번이라도 바쁜 멤버 인덱스 (오름차순, windows와 같은 순서)
+ */
+public record QuorumWindows(IntervalBuffer windows, List<int[]> busyMembers) {
+
+    public int size() {
+        return windows.size();
+    }
+}
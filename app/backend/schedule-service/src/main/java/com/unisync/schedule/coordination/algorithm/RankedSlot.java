@@ -0,0 +1,11 @@
+package com.unisync.schedule.coordination.algorithm;
+
+/**
+ * 점수가 매겨진 공강 (epoch-second)
+ *
+ * @param start 시작
+ * @param end 종료
+ * @param score 추천 점수 (0~1, 높을수록 좋음)
+ */
+public record RankedSlot(long start, long end, double score) {
+}
@@ -0,0 +1,162 @@
+package com.unisync.schedule.coordination.algorithm;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 기간 분할(shard) 기반 병렬 공강 계산 엔진
+ *
+ * 검색 기간을 자정 경계에서 shardDays일 단위로 나누고, shard마다 busy 구간을 잘라 담은 뒤
+ * fork-join pool에서 shard별로 병합/공강 추출을 동시에 수행한다.
+ * shard 경계에서 잘린 공강은 다시 이어 붙이고, 최소 지속 시간은 이어 붙인 뒤에 적용한다.
+ * 결과는 PrimitiveIntervalEngine.merge → freeWithinDailyWindows 순차 계산과 같다.
+ */
+public final class ShardedIntervalEngine {
+
+    private ShardedIntervalEngine() {
+    }
+
+    /**
+     * 병렬로 일별 근무 시간 창 안의 공강 계산
+     *
+     * @param busy busy 구간 (정렬/병합 여부 무관, 변경하지 않음)
+     * @param searchStart 검색 시작 (epoch-second)
+     * @param searchEnd 검색 종료 (epoch-second)
+     * @param workingStart 근무 시간 시작 (nullable)
+     * @param workingEnd 근무 시간 종료 (nullable)
+     * @param daysOfWeek 허용 요일 (nullable, 1=월, 7=일)
+     * @param minDurationMinutes 최소 지속 시간 (분)
+     * @param shardDays shard 하나가 맡는 일수
+     * @param pool 계산에 쓸 fork-join pool
+     */
+    public static IntervalBuffer freeWithinDailyWindows(IntervalBuffer busy, long searchStart, long searchEnd,
+                                                        LocalTime workingStart, LocalTime workingEnd,
+                                                        List<Integer> daysOfWeek, int minDurationMinutes,
+                                                        int shardDays, ForkJoinPool pool) {
+        if (searchEnd <= searchStart) {
+            return new IntervalBuffer();
+        }
+
+        long origin = Math.floorDiv(searchStart, PrimitiveIntervalEngine.SECONDS_PER_DAY)
+                * PrimitiveIntervalEngine.SECONDS_PER_DAY;
+        long shardLength = Math.max(1, shardDays) * PrimitiveIntervalEngine.SECONDS_PER_DAY;
+        int shardCount = (int) ((searchEnd - origin + shardLength - 1) / shardLength);
+
+        long[] lows = new long[shardCount];
+        long[] highs = new long[shardCount];
+        IntervalBuffer[] shards = new IntervalBuffer[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            lows[i] = Math.max(searchStart, origin + i * shardLength);
+            highs[i] = Math.min(searchEnd, origin + (i + 1) * shardLength);
+            shards[i] = new IntervalBuffer(busy.size / shardCount + 1);
+        }
+
+        // 1. busy 구간을 shard 범위로 잘라 분배 (O(구간 수 + 걸친 shard 수))
+        // 경계 시각에 길이 0인 busy가 있으면 순차 계산에서는 공강이 거기서 나뉘므로 이어 붙이지 않는다
+        boolean[] splitAtLow = new boolean[shardCount];
+        for (int i = 0; i < busy.size; i++) {
+            long start = busy.starts[i];
+            long end = busy.ends[i];
+            if (start >= searchEnd || end < searchStart) {
+                continue;
+            }
+            if (start == end) {
+                int shard = shardOf(start, origin, shardLength, shardCount);
+                if (start == lows[shard]) {
+                    splitAtLow[shard] = true;
+                } else {
+                    shards[shard].add(start, end);
+                }
+                continue;
+            }
+            int first = shardOf(Math.max(start, searchStart), origin, shardLength, shardCount);
+            int last = shardOf(Math.min(end, searchEnd) - 1, origin, shardLength, shardCount);
+            for (int shard = first; shard <= last; shard++) {
+                shards[shard].add(Math.max(start, lows[shard]), Math.min(end, highs[shard]));
+            }
+        }
+
+        // 2. shard별 병합 + 공강 추출 (최소 지속 시간은 이어 붙인 뒤 적용)
+        IntervalBuffer[] results = new IntervalBuffer[shardCount];
+        pool.invoke(new ShardTask(shards, lows, highs, results, 0, shardCount,
+                workingStart, workingEnd, daysOfWeek));
+
+        // 3. shard 경계에서 맞닿은 공강 이어 붙이기 + 최소 지속 시간 필터
+        long minSeconds = minDurationMinutes * 60L;
+        IntervalBuffer stitched = new IntervalBuffer();
+        for (int shard = 0; shard < shardCount; shard++) {
+            IntervalBuffer free = results[shard];
+            for (int i = 0; i < free.size; i++) {
+                long start = free.starts[i];
+                boolean continues = i == 0 && shard > 0 && !splitAtLow[shard] && start == lows[shard]
+                        && stitched.size > 0 && stitched.ends[stitched.size - 1] == start;
+                if (continues) {
+                    stitched.ends[stitched.size - 1] = free.ends[i];
+                } else {
+                    stitched.add(start, free.ends[i]);
+                }
+            }
+        }
+
+        int kept = 0;
+        for (int i = 0; i < stitched.size; i++) {
+            if (stitched.ends[i] - stitched.starts[i] >= minSeconds) {
+                stitched.starts[kept] = stitched.starts[i];
+                stitched.ends[kept] = stitched.ends[i];
+                kept++;
+            }
+        }
+        stitched.truncate(kept);
+        return stitched;
+    }
+
+    private static int shardOf(long epochSecond, long origin, long shardLength, int shardCount) {
+        return (int) Math.min(shardCount - 1, Math.max(0, (epochSecond - origin) / shardLength));
+    }
+
+    /**
+     * shard 범위를 반으로 나눠 fork하고, shard 하나는 순차 엔진으로 계산
+     */
+    private static final class ShardTask extends RecursiveAction {
+
+        private final IntervalBuffer[] shards;
+        private final long[] lows;
+        private final long[] highs;
+        private final IntervalBuffer[] results;
+        private final int from;
+        private final int to;
+        private final LocalTime workingStart;
+        private final LocalTime workingEnd;
+        private final List<Integer> daysOfWeek;
+
+        ShardTask(IntervalBuffer[] shards, long[] lows, long[] highs, IntervalBuffer[] results, int from, int to,
+                  LocalTime workingStart, LocalTime workingEnd, List<Integer> daysOfWeek) {
+            this.shards = shards;
+            this.lows = lows;
+            this.highs = highs;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.workingStart = workingStart;
+            this.workingEnd = workingEnd;
+            this.daysOfWeek = daysOfWeek;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                IntervalBuffer shard = shards[from];
+                PrimitiveIntervalEngine.merge(shard);
+                results[from] = PrimitiveIntervalEngine.freeWithinDailyWindows(shard, lows[from], highs[from],
+                        workingStart, workingEnd, daysOfWeek, 0);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                    new ShardTask(shards, lows, highs, results, from, mid, workingStart, workingEnd, daysOfWeek),
+                    new ShardTask(shards, lows, highs, results, mid, to, workingStart, workingEnd, daysOfWeek));
+        }
+    }
+}
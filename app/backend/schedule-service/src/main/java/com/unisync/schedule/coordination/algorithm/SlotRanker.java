@@ -0,0 +1,153 @@
+package com.unisync.schedule.coordination.algorithm;
+
+import com.unisync.schedule.coordination.model.SuggestionOrder;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 공강 top-K 추천
+ *
+ * 점수 = 가중 평균(선호 시간대 겹침, 요청 시간과의 근접도, 이른 날짜, 비는 멤버 비율).
+ * - 선호 시간대: 공강 시작일의 선호 시간대와 겹치는 길이 / min(요청 시간, 선호 시간대 길이)
+ * - 근접도: 요청 시간 / 공강 길이 (딱 맞는 공강일수록 1, 긴 공강을 쪼개 쓰지 않게 함)
+ * - 이른 날짜: 검색 기간 안에서 앞설수록 1
+ * - 비는 멤버 비율: 일부 멤버만 비어도 되는 공강일 때만 반영 (전원이 비면 1)
+ * 크기 K의 heap(가장 나쁜 후보가 머리)만 유지하므로 공강 n개에 O(n log K)이다.
+ * EARLIEST는 공강이 이미 시작 순이므로 앞에서 K개만 본다.
+ */
+public final class SlotRanker {
+
+    private static final double PREFERRED_WEIGHT = 4.0;
+    private static final double AVAILABILITY_WEIGHT = 4.0;
+    private static final double DURATION_FIT_WEIGHT = 2.0;
+    private static final double EARLINESS_WEIGHT = 1.0;
+
+    /**
+     * 좋은 순서 (점수 내림차순, 같으면 이른 시작)
+     */
+    static final Comparator<RankedSlot> BEST_FIRST = Comparator
+            .comparingDouble(RankedSlot::score).reversed()
+            .thenComparingLong(RankedSlot::start);
+
+    private SlotRanker() {
+    }
+
+    /**
+     * 공강 중 상위 K개 선택
+     *
+     * @param free 시작 순 공강
+     * @param searchStart 검색 시작 (epoch-second)
+     * @param searchEnd 검색 종료 (epoch-second)
+     * @param minDurationMinutes 요청 시간 (분)
+     * @param criteria 추천 조건
+     * @return 좋은 순서로 정렬된 최대 K개
+     */
+    public static List<RankedSlot> topK(IntervalBuffer free, long searchStart, long searchEnd,
+                                        int minDurationMinutes, SuggestionCriteria criteria) {
+        return topK(free, null, 0, searchStart, searchEnd, minDurationMinutes, criteria);
+    }
+
+    /**
+     * 비는 멤버 수를 반영해 공강 중 상위 K개 선택
+     *
+     * @param free 시작 순 공강
+     * @param availableCounts 공강마다 비는 멤버 수 (nullable, null이면 전원)
+     * @param memberCount 전체 멤버 수
+     */
+    public static List<RankedSlot> topK(IntervalBuffer free, int[] availableCounts, int memberCount,
+                                        long searchStart, long searchEnd,
+                                        int minDurationMinutes, SuggestionCriteria criteria) {
+        int k = criteria.limit();
+        if (k <= 0 || free.size == 0) {
+            return List.of();
+        }
+
+        Scorer scorer = new Scorer(searchStart, searchEnd, minDurationMinutes, criteria,
+                availableCounts != null && memberCount > 0);
+
+        if (criteria.order() == SuggestionOrder.EARLIEST) {
+            int count = Math.min(k, free.size);
+            List<RankedSlot> earliest = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                earliest.add(new RankedSlot(free.starts[i], free.ends[i],
+                        scorer.score(free.starts[i], free.ends[i], availability(availableCounts, memberCount, i))));
+            }
+            return earliest;
+        }
+
+        // 머리에 가장 나쁜 후보가 오도록 역순 비교
+        PriorityQueue<RankedSlot> heap = new PriorityQueue<>(k + 1, BEST_FIRST.reversed());
+        for (int i = 0; i < free.size; i++) {
+            double score = scorer.score(free.starts[i], free.ends[i],
+                    availability(availableCounts, memberCount, i));
+            if (heap.size() == k) {
+                RankedSlot worst = heap.peek();
+                // 점수가 같으면 먼저 들어온(더 이른) 후보를 유지
+                if (score <= worst.score()) {
+                    continue;
+                }
+                heap.poll();
+            }
+            heap.add(new RankedSlot(free.starts[i], free.ends[i], score));
+        }
+
+        List<RankedSlot> ranked = new ArrayList<>(heap);
+        ranked.sort(BEST_FIRST);
+        return ranked;
+    }
+
+    private static double availability(int[] availableCounts, int memberCount, int index) {
+        return availableCounts == null || memberCount <= 0 ? 1.0 : (double) availableCounts[index] / memberCount;
+    }
+
+    /**
+     * 공강 하나의 점수 계산기
+     */
+    private static final class Scorer {
+
+        private final long searchStart;
+        private final double searchLength;
+        private final long requestedSeconds;
+        private final boolean hasPreferred;
+        private final boolean hasAvailability;
+        private final long preferredOpen;
+        private final long preferredClose;
+        private final double totalWeight;
+
+        Scorer(long searchStart, long searchEnd, int minDurationMinutes, SuggestionCriteria criteria,
+               boolean hasAvailability) {
+            this.searchStart = searchStart;
+            this.searchLength = Math.max(1L, searchEnd - searchStart);
+            this.requestedSeconds = Math.max(1L, minDurationMinutes * 60L);
+            this.hasPreferred = criteria.hasPreferredHours();
+            this.preferredOpen = hasPreferred ? criteria.preferredStart().toSecondOfDay() : 0L;
+            this.preferredClose = hasPreferred ? criteria.preferredEnd().toSecondOfDay() : 0L;
+            this.hasAvailability = hasAvailability;
+            this.totalWeight = DURATION_FIT_WEIGHT + EARLINESS_WEIGHT
+                    + (hasPreferred ? PREFERRED_WEIGHT : 0.0)
+                    + (hasAvailability ? AVAILABILITY_WEIGHT : 0.0);
+        }
+
+        double score(long start, long end, double availability) {
+            long length = Math.max(1L, end - start);
+            double durationFit = Math.min(1.0, (double) requestedSeconds / length);
+            double earliness = 1.0 - Math.min(1.0, Math.max(0.0, (start - searchStart) / searchLength));
+
+            double weighted = DURATION_FIT_WEIGHT * durationFit + EARLINESS_WEIGHT * earliness;
+            if (hasPreferred) {
+                long day = Math.floorDiv(start, PrimitiveIntervalEngine.SECONDS_PER_DAY)
+                        * PrimitiveIntervalEngine.SECONDS_PER_DAY;
+                long overlap = Math.min(end, day + preferredClose) - Math.max(start, day + preferredOpen);
+                long needed = Math.min(requestedSeconds, preferredClose - preferredOpen);
+                weighted += PREFERRED_WEIGHT * Math.min(1.0, Math.max(0L, overlap) / (double) needed);
+            }
+            if (hasAvailability) {
+                weighted += AVAILABILITY_WEIGHT * availability;
+            }
+            return weighted / totalWeight;
+        }
+    }
+}
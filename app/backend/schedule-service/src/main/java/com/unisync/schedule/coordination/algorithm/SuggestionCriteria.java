@@ -0,0 +1,25 @@
+package com.unisync.schedule.coordination.algorithm;
+
+import com.unisync.schedule.coordination.model.SuggestionOrder;
+
+import java.time.LocalTime;
+
+/**
+ * 공강 추천(top-K) 조건
+ *
+ * @param limit 추천할 최대 개수 (K)
+ * @param order 정렬 기준
+ * @param preferredStart 선호 시간대 시작 (nullable)
+ * @param preferredEnd 선호 시간대 종료 (nullable)
+ */
+public record SuggestionCriteria(
+        int limit,
+        SuggestionOrder order,
+        LocalTime preferredStart,
+        LocalTime preferredEnd
+) {
+
+    public boolean hasPreferredHours() {
+        return preferredStart != null && preferredEnd != null && preferredEnd.isAfter(preferredStart);
+    }
+}
@@ -0,0 +1,178 @@
+package com.unisync.schedule.coordination.cache;
+
+import com.unisync.schedule.common.config.ResultCacheProperties;
+import com.unisync.schedule.coordination.dto.FindFreeSlotsRequest;
+import com.unisync.schedule.coordination.dto.FindFreeSlotsResponse;
+import com.unisync.schedule.coordination.index.ScheduleVersions;
+import com.unisync.schedule.coordination.model.SuggestionOrder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 공강 찾기 결과 캐시
+ *
+ * 정규화한 요청 조건을 키로 FindFreeSlotsResponse를 보관한다.
+ * 계산 직전의 멤버/그룹 일정 버전(ScheduleVersions)을 함께 저장하고,
+ * 조회 시 그 멤버들의 현재 버전과 하나라도 다르면 버리고 다시 계산한다.
+ *
+ * - 적중하면 그룹 멤버 조회(User-Service 호출)와 일정 기간 쿼리, 공강 계산을 모두 건너뛴다
+ * - 버전은 DB에 있어 다른 인스턴스에서 바뀐 일정도 커밋 직후 조회부터 반영된다
+ * - 그룹 멤버 구성 변경은 알림이 없으므로 ttlSeconds 안에 반영된다
+ * - maxEntries를 넘으면 가장 오래 안 쓴 결과부터 제거한다
+ * - 적중/미스 수와 적중으로 아낀 계산 시간을 메트릭으로 남긴다
+ */
+@Slf4j
+@Component
+public class FreeSlotResultCache {
+
+    private final ScheduleVersions scheduleVersions;
+    private final ResultCacheProperties properties;
+    private final LongSupplier clock;
+    private final Map<CacheKey, CachedResult> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder lookups = new LongAdder();
+    private final MeterRegistry meterRegistry;
+    private final Timer savedTime;
+
+    public FreeSlotResultCache(ScheduleVersions scheduleVersions,
+                               ResultCacheProperties properties,
+                               MeterRegistry meterRegistry) {
+        this(scheduleVersions, properties, meterRegistry, System::currentTimeMillis);
+    }
+
+    FreeSlotResultCache(ScheduleVersions scheduleVersions,
+                        ResultCacheProperties properties,
+                        MeterRegistry meterRegistry,
+                        LongSupplier clock) {
+        this.scheduleVersions = scheduleVersions;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        int maxEntries = properties.getMaxEntries();
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CachedResult> eldest) {
+                return size() > maxEntries;
+            }
+        });
+
+        this.savedTime = meterRegistry.timer("coordination.result.cache.saved");
+        meterRegistry.gaugeMapSize("coordination.result.cache.size", Tags.empty(), entries);
+        meterRegistry.gauge("coordination.result.cache.hit.ratio", this, FreeSlotResultCache::hitRatio);
+    }
+
+    /**
+     * 같은 조건의 최신 결과 (없거나, 만료됐거나, 멤버 일정이 바뀌었으면 null)
+     */
+    public FindFreeSlotsResponse get(FindFreeSlotsRequest request) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        lookups.increment();
+
+        CacheKey key = CacheKey.of(request);
+        CachedResult cached = entries.get(key);
+        if (cached == null) {
+            meterRegistry.counter("coordination.result.cache", "result", "miss").increment();
+            return null;
+        }
+
+        long expireBefore = clock.getAsLong() - properties.getTtlSeconds() * 1000L;
+        if (cached.cachedAt() < expireBefore
+                || !Arrays.equals(cached.stamp(), scheduleVersions.stamp(cached.members(), cached.groupId()))) {
+            entries.remove(key, cached);
+            meterRegistry.counter("coordination.result.cache", "result", "stale").increment();
+            return null;
+        }
+
+        hits.increment();
+        meterRegistry.counter("coordination.result.cache", "result", "hit").increment();
+        savedTime.record(cached.computeNanos(), TimeUnit.NANOSECONDS);
+        log.debug("공강 찾기 결과 캐시 적중: groupId={}", request.getGroupId());
+        return cached.response();
+    }
+
+    /**
+     * 계산 전에 잡아 둘 멤버 + 그룹 일정 버전
+     * 계산 중에 바뀐 일정은 저장된 버전과 달라지므로 다음 조회에서 버려진다
+     */
+    public long[] stamp(List<String> cognitoSubs, Long groupId) {
+        return scheduleVersions.stamp(cognitoSubs, groupId);
+    }
+
+    /**
+     * 계산 결과 보관
+     *
+     * @param request 요청
+     * @param cognitoSubs 계산에 쓴 멤버
+     * @param stamp 계산 전에 잡은 버전 (stamp)
+     * @param response 응답
+     * @param computeNanos 멤버 조회부터 응답 생성까지 걸린 시간 (적중 시 절약 시간으로 기록)
+     */
+    public void put(FindFreeSlotsRequest request, List<String> cognitoSubs, long[] stamp,
+                    FindFreeSlotsResponse response, long computeNanos) {
+        if (!properties.isEnabled() || stamp == null) {
+            return;
+        }
+        entries.put(CacheKey.of(request), new CachedResult(response, List.copyOf(cognitoSubs),
+                request.getGroupId(), stamp, computeNanos, clock.getAsLong()));
+    }
+
+    private double hitRatio() {
+        long total = lookups.sum();
+        return total == 0 ? 0.0 : (double) hits.sum() / total;
+    }
+
+    /**
+     * 결과에 영향을 주는 요청 조건 (빈 목록은 null, 요일은 정렬, 추천 모드가 아니면 추천 조건은 무시)
+     * 멤버 순서는 부분 공강의 바쁜 멤버 순서에 영향을 주므로 그대로 둔다
+     */
+    private record CacheKey(Long groupId, List<String> userIds, String startDate, String endDate,
+                            Integer minDurationMinutes, LocalTime workingHoursStart, LocalTime workingHoursEnd,
+                            List<Integer> daysOfWeek, Integer minAvailableMembers, Integer suggestionLimit,
+                            SuggestionOrder rankBy, LocalTime preferredHoursStart, LocalTime preferredHoursEnd) {
+
+        static CacheKey of(FindFreeSlotsRequest request) {
+            List<String> userIds = request.getUserIds() != null && !request.getUserIds().isEmpty()
+                    ? List.copyOf(request.getUserIds())
+                    : null;
+            List<Integer> daysOfWeek = request.getDaysOfWeek() != null && !request.getDaysOfWeek().isEmpty()
+                    ? request.getDaysOfWeek().stream().distinct().sorted().toList()
+                    : null;
+            boolean suggestion = request.getSuggestionLimit() != null;
+
+            return new CacheKey(
+                    request.getGroupId(),
+                    userIds,
+                    request.getStartDate(),
+                    request.getEndDate(),
+                    request.getMinDurationMinutes(),
+                    request.getWorkingHoursStart(),
+                    request.getWorkingHoursEnd(),
+                    daysOfWeek,
+                    request.getMinAvailableMembers(),
+                    request.getSuggestionLimit(),
+                    suggestion ? (request.getRankBy() != null ? request.getRankBy() : SuggestionOrder.BEST_MATCH) : null,
+                    suggestion ? request.getPreferredHoursStart() : null,
+                    suggestion ? request.getPreferredHoursEnd() : null
+            );
+        }
+    }
+
+    private record CachedResult(FindFreeSlotsResponse response, List<String> members, Long groupId,
+                                long[] stamp, long computeNanos, long cachedAt) {
+    }
+}
@@ -28,7 +28,9 @@ public class ScheduleCoordinationController {
 
     @Operation(
             summary = "공강 시간 찾기",
-            description = "그룹 멤버들의 일정을 분석하여 모든 멤버가 비어있는 공강 시간을 찾습니다."
+            description = "그룹 멤버들의 일정을 분석하여 모든 멤버가 비어있는 공강 시간을 찾습니다. "
+                    + "suggestionLimit을 지정하면 선호 시간대/요청 시간 근접도/이른 날짜로 순위를 매긴 상위 K개만 반환합니다. "
+                    + "일정은 15분 단위로 바깥쪽으로 맞춰 계산하므로 공강 경계는 15분 단위입니다 (예: 10:05~10:50 일정은 10:00~11:00으로 봄)."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "공강 시간 조회 성공"),
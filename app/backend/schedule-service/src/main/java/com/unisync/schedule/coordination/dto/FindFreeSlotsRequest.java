@@ -1,6 +1,7 @@
 package com.unisync.schedule.coordination.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.unisync.schedule.coordination.model.SuggestionOrder;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -60,4 +61,38 @@ public class FindFreeSlotsRequest {
      * 1=월, 2=화, 3=수, 4=목, 5=금, 6=토, 7=일
      */
     private List<Integer> daysOfWeek;
+
+    /**
+     * 비어야 하는 최소 멤버 수 (optional, N)
+     * 대상 멤버 수보다 작으면 전원 대신 N명 이상 비는 공강을 바쁜 멤버와 함께 반환
+     */
+    @Min(value = 1, message = "최소 인원은 1명 이상이어야 합니다")
+    private Integer minAvailableMembers;
+
+    /**
+     * 추천 모드 개수 (optional, K)
+     * 지정하면 전체 공강 대신 순위가 매겨진 상위 K개만 반환
+     */
+    @Min(value = 1, message = "추천 개수는 1 이상이어야 합니다")
+    @Max(value = 50, message = "추천 개수는 50 이하여야 합니다")
+    private Integer suggestionLimit;
+
+    /**
+     * 추천 정렬 기준 (optional, 기본 BEST_MATCH)
+     */
+    private SuggestionOrder rankBy;
+
+    /**
+     * 선호 시간대 시작 (optional, 추천 점수에 반영)
+     * 형식: "HH:mm" (예: "14:00")
+     */
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime preferredHoursStart;
+
+    /**
+     * 선호 시간대 종료 (optional, 추천 점수에 반영)
+     * 형식: "HH:mm" (예: "17:00")
+     */
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime preferredHoursEnd;
 }
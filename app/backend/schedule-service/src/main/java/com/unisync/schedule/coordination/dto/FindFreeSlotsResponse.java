@@ -28,6 +28,16 @@ public class FindFreeSlotsResponse {
 
     private Integer totalFreeSlotsFound;
 
+    /**
+     * 추천 모드(suggestionLimit 지정)일 때 순위순 추천 공강 (이때 freeSlots는 비움)
+     */
+    private List<SlotSuggestionDto> suggestions;
+
+    /**
+     * 부분 공강 모드(minAvailableMembers < 멤버 수)일 때 N명 이상 비는 공강 (이때 freeSlots는 비움)
+     */
+    private List<QuorumSlotDto> quorumSlots;
+
     /**
      * Builder helper to set totalFreeSlotsFound from freeSlots size
      */
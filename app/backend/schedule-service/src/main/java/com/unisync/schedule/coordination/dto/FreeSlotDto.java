@@ -1,6 +1,7 @@
 package com.unisync.schedule.coordination.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.unisync.schedule.coordination.algorithm.IntervalBuffer;
 import com.unisync.schedule.coordination.algorithm.TimeInterval;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -42,4 +43,18 @@ public class FreeSlotDto {
                 .dayOfWeek(dayOfWeek.toString())  // "MONDAY" -> "Monday"로 변환 가능
                 .build();
     }
+
+    /**
+     * epoch-second 구간(IntervalBuffer)을 FreeSlotDto로 변환
+     */
+    public static FreeSlotDto of(long startEpochSecond, long endEpochSecond) {
+        LocalDateTime start = IntervalBuffer.toLocalDateTime(startEpochSecond);
+
+        return FreeSlotDto.builder()
+                .startTime(start)
+                .endTime(IntervalBuffer.toLocalDateTime(endEpochSecond))
+                .durationMinutes((endEpochSecond - startEpochSecond) / 60)
+                .dayOfWeek(start.getDayOfWeek().toString())
+                .build();
+    }
 }
@@ -0,0 +1,52 @@
+package com.unisync.schedule.coordination.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.unisync.schedule.coordination.algorithm.IntervalBuffer;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일부 멤버만 비는 공강 블록 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuorumSlotDto {
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime startTime;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime endTime;
+
+    private Long durationMinutes;
+
+    private String dayOfWeek;
+
+    private Integer availableMemberCount;
+
+    /**
+     * 이 구간에 일정이 있는 멤버 cognitoSub 목록
+     */
+    private List<String> busyMembers;
+
+    public static QuorumSlotDto of(long startEpochSecond, long endEpochSecond, int availableMemberCount,
+                                   List<String> busyMembers) {
+        LocalDateTime start = IntervalBuffer.toLocalDateTime(startEpochSecond);
+
+        return QuorumSlotDto.builder()
+                .startTime(start)
+                .endTime(IntervalBuffer.toLocalDateTime(endEpochSecond))
+                .durationMinutes((endEpochSecond - startEpochSecond) / 60)
+                .dayOfWeek(start.getDayOfWeek().toString())
+                .availableMemberCount(availableMemberCount)
+                .busyMembers(busyMembers)
+                .build();
+    }
+}
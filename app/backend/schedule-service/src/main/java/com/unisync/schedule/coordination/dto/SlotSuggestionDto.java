@@ -0,0 +1,59 @@
+package com.unisync.schedule.coordination.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.unisync.schedule.coordination.algorithm.IntervalBuffer;
+import com.unisync.schedule.coordination.algorithm.RankedSlot;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 추천 공강 DTO (순위순)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotSuggestionDto {
+
+    private Integer rank;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime startTime;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime endTime;
+
+    private Long durationMinutes;
+
+    private String dayOfWeek;
+
+    /**
+     * 추천 점수 (0~1, 높을수록 좋음)
+     */
+    private Double score;
+
+    /**
+     * 비는 멤버 수 / 바쁜 멤버 (일부 멤버만 비어도 되는 추천일 때만)
+     */
+    private Integer availableMemberCount;
+
+    private List<String> busyMembers;
+
+    public static SlotSuggestionDto of(int rank, RankedSlot slot) {
+        LocalDateTime start = IntervalBuffer.toLocalDateTime(slot.start());
+
+        return SlotSuggestionDto.builder()
+                .rank(rank)
+                .startTime(start)
+                .endTime(IntervalBuffer.toLocalDateTime(slot.end()))
+                .durationMinutes((slot.end() - slot.start()) / 60)
+                .dayOfWeek(start.getDayOfWeek().toString())
+                .score(Math.round(slot.score() * 1000) / 1000.0)
+                .build();
+    }
+}
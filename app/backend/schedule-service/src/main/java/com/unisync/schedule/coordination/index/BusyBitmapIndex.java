@@ -0,0 +1,491 @@
+package com.unisync.schedule.coordination.index;
+
+import com.unisync.schedule.common.config.BusyIndexProperties;
+import com.unisync.schedule.common.entity.Schedule;
+import com.unisync.schedule.common.recurrence.Occurrence;
+import com.unisync.schedule.common.recurrence.RecurrenceExpander;
+import com.unisync.schedule.common.repository.ScheduleRepository;
+import com.unisync.schedule.common.repository.ScheduleTimeProjection;
+import com.unisync.schedule.coordination.algorithm.IntervalBuffer;
+import com.unisync.schedule.coordination.algorithm.MemberBusy;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * 사용자/그룹별 busy 시간 bitmap 인덱스
+ *
+ * 소유자(사용자 cognitoSub, 그룹 ID)마다 주 단위 15분 bitmap(WeekBitmap)을 보관한다.
+ * 공강 찾기는 멤버 bitmap을 word 단위 OR한 뒤 busy bit 구간만 읽으므로 일정 엔티티를 다시 정렬/병합하지 않는다.
+ *
+ * - 없는 주는 조회 시 한 번의 기간 쿼리로 만든다 (반복 일정은 RecurrenceExpander로 전개)
+ * - 일정 생성/수정/삭제, Canvas 동기화 결과는 커밋 후 반영한다
+ *   (생성은 보관 중인 주에 bit를 OR, 수정/삭제는 해당 주를 버리고 다음 조회 때 재생성, 반복 일정은 소유자 전체를 버림)
+ * - 변경이 생기면 소유자 generation을 올려, 변경 전 데이터로 만들던 bitmap이 나중에 저장되지 않게 한다
+ * - 변경 트랜잭션 안에서 ScheduleVersions의 공유 소유자 버전을 올리고, 조회 시 bitmap을 만든 버전과 다르면 버린다
+ *   (인스턴스 로컬 인덱스지만 다른 인스턴스의 변경도 커밋 직후 조회부터 반영, 같은 버전으로 공강 찾기 결과 캐시도 무효화)
+ * - 커밋 후 로컬 반영(bit OR/주 폐기)은 bitmap이 바로 앞 버전일 때만 하고, 아니면 소유자 전체를 버린다
+ *
+ * 사용자 bitmap은 cognitoSub가 같은 모든 일정, 그룹 bitmap은 groupId가 같은 일정으로 만든다
+ * (ScheduleRepository.streamTimesByUsersOrGroupAndDateRange와 같은 기준).
+ */
+@Slf4j
+@Component
+public class BusyBitmapIndex {
+
+    private static final String USER_PREFIX = "user:";
+    private static final String GROUP_PREFIX = "group:";
+
+    private final ScheduleRepository scheduleRepository;
+    private final RecurrenceExpander recurrenceExpander;
+    private final ScheduleVersions scheduleVersions;
+    private final BusyIndexProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier clock;
+    private final Map<String, OwnerWeeks> owners;
+
+    public BusyBitmapIndex(ScheduleRepository scheduleRepository,
+                           RecurrenceExpander recurrenceExpander,
+                           ScheduleVersions scheduleVersions,
+                           BusyIndexProperties properties,
+                           MeterRegistry meterRegistry) {
+        this(scheduleRepository, recurrenceExpander, scheduleVersions, properties, meterRegistry,
+                System::currentTimeMillis);
+    }
+
+    BusyBitmapIndex(ScheduleRepository scheduleRepository,
+                    RecurrenceExpander recurrenceExpander,
+                    ScheduleVersions scheduleVersions,
+                    BusyIndexProperties properties,
+                    MeterRegistry meterRegistry,
+                    LongSupplier clock) {
+        this.scheduleRepository = scheduleRepository;
+        this.recurrenceExpander = recurrenceExpander;
+        this.scheduleVersions = scheduleVersions;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        int maxOwners = properties.getMaxOwners();
+        this.owners = Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, OwnerWeeks> eldest) {
+                return size() > maxOwners;
+            }
+        });
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 멤버 + 그룹의 busy 구간 (시작 순, 15분 단위)
+     *
+     * @param cognitoSubs 대상 멤버
+     * @param groupId 그룹 ID (nullable)
+     * @param startDate 검색 시작일
+     * @param endDate 검색 종료일
+     */
+    public IntervalBuffer busyIntervals(List<String> cognitoSubs, Long groupId,
+                                        LocalDate startDate, LocalDate endDate) {
+        long firstWeek = WeekBitmap.weekOf(IntervalBuffer.toEpochSecond(startDate.atStartOfDay()));
+        int weekCount = weekCount(firstWeek, endDate);
+
+        // 모든 소유자를 같은 주 배열에 OR
+        long[][] combined = emptyWeeks(weekCount);
+        Map<String, long[][]> targets = new LinkedHashMap<>();
+        cognitoSubs.forEach(cognitoSub -> targets.put(userKey(cognitoSub), combined));
+        if (groupId != null) {
+            targets.put(groupKey(groupId), combined);
+        }
+        collect(targets, firstWeek, weekCount);
+
+        return toBusyRuns(combined, firstWeek);
+    }
+
+    /**
+     * 멤버별 busy 구간과 그룹 busy 구간 (시작 순, 15분 단위, 일부 멤버만 비어도 되는 공강 찾기용)
+     *
+     * @param cognitoSubs 대상 멤버 (중복 없음)
+     * @param groupId 그룹 ID (nullable)
+     * @param startDate 검색 시작일
+     * @param endDate 검색 종료일
+     */
+    public MemberBusy memberBusyIntervals(List<String> cognitoSubs, Long groupId,
+                                          LocalDate startDate, LocalDate endDate) {
+        long firstWeek = WeekBitmap.weekOf(IntervalBuffer.toEpochSecond(startDate.atStartOfDay()));
+        int weekCount = weekCount(firstWeek, endDate);
+
+        Map<String, long[][]> targets = new LinkedHashMap<>();
+        cognitoSubs.forEach(cognitoSub -> targets.put(userKey(cognitoSub), emptyWeeks(weekCount)));
+        long[][] groupWeeks = emptyWeeks(weekCount);
+        if (groupId != null) {
+            targets.put(groupKey(groupId), groupWeeks);
+        }
+        collect(targets, firstWeek, weekCount);
+
+        List<IntervalBuffer> memberBusy = new ArrayList<>(cognitoSubs.size());
+        cognitoSubs.forEach(cognitoSub -> memberBusy.add(toBusyRuns(targets.get(userKey(cognitoSub)), firstWeek)));
+        return new MemberBusy(cognitoSubs, memberBusy, toBusyRuns(groupWeeks, firstWeek));
+    }
+
+    /**
+     * 소유자별 대상 주 배열에 보관 중인 bitmap을 OR하고, 빠진 주는 만들어 OR + 보관
+     */
+    private void collect(Map<String, long[][]> targets, long firstWeek, int weekCount) {
+        // 다른 인스턴스에서 바뀐 소유자를 알아내기 위한 공유 버전 (PK 조회 한 번)
+        Map<String, Long> versions = scheduleVersions.current(targets.keySet());
+
+        Map<String, Snapshot> missing = new LinkedHashMap<>();
+        targets.forEach((key, target) -> {
+            Snapshot snapshot = orCachedWeeks(key, versions.get(key), firstWeek, weekCount, target);
+            if (!snapshot.missingWeeks().isEmpty()) {
+                missing.put(key, snapshot);
+            }
+        });
+
+        if (!missing.isEmpty()) {
+            Map<String, Map<Long, long[]>> built = build(missing);
+            built.forEach((key, weeks) -> {
+                long[][] target = targets.get(key);
+                weeks.forEach((week, bits) -> WeekBitmap.or(target[(int) (week - firstWeek)], bits));
+                store(missing.get(key), weeks);
+            });
+        }
+    }
+
+    private static int weekCount(long firstWeek, LocalDate endDate) {
+        long lastWeek = WeekBitmap.weekOf(IntervalBuffer.toEpochSecond(endDate.atStartOfDay()));
+        return (int) (lastWeek - firstWeek + 1);
+    }
+
+    private static long[][] emptyWeeks(int weekCount) {
+        long[][] weeks = new long[weekCount][];
+        for (int i = 0; i < weekCount; i++) {
+            weeks[i] = WeekBitmap.empty();
+        }
+        return weeks;
+    }
+
+    private static IntervalBuffer toBusyRuns(long[][] weeks, long firstWeek) {
+        IntervalBuffer busy = new IntervalBuffer();
+        for (int i = 0; i < weeks.length; i++) {
+            WeekBitmap.appendBusyRuns(weeks[i], firstWeek + i, busy);
+        }
+        return busy;
+    }
+
+    /**
+     * 일정 변경 반영 (공유 버전은 호출자의 트랜잭션 안에서, 로컬 bitmap은 트랜잭션 안이면 커밋 후)
+     *
+     * @param before 변경 전 일정 (생성이면 null)
+     * @param after 변경 후 일정 (삭제면 null)
+     */
+    public void scheduleChanged(Footprint before, Footprint after) {
+        Set<String> keys = new TreeSet<>();
+        if (before != null) {
+            keys.addAll(ownerKeys(before));
+        }
+        if (after != null) {
+            keys.addAll(ownerKeys(after));
+        }
+        Map<String, Long> versions = incrementVersions(keys);
+
+        afterCommit(() -> versions.forEach((key, version) -> {
+            OwnerWeeks owner = owners.get(key);
+            if (owner != null) {
+                owner.advance(version, () -> {
+                    if (before != null && ownerKeys(before).contains(key)) {
+                        if (before.recurring()) {
+                            owner.clear();
+                        } else {
+                            owner.dropWeeks(before.start(), before.end());
+                        }
+                    }
+                    if (after != null && ownerKeys(after).contains(key)) {
+                        if (after.recurring()) {
+                            owner.clear();
+                        } else {
+                            owner.markBusy(after.start(), after.end());
+                        }
+                    }
+                });
+            }
+        }));
+    }
+
+    /**
+     * 소유자 bitmap 전체 폐기 (Canvas 동기화, 과목 비활성화, 그룹 삭제처럼 일정이 대량으로 바뀐 경우)
+     * 공유 버전은 호출자의 트랜잭션 안에서 올리고, 로컬 bitmap은 커밋 후 버린다
+     */
+    public void ownersChanged(Collection<String> cognitoSubs, Collection<Long> groupIds) {
+        Set<String> keys = new TreeSet<>();
+        cognitoSubs.forEach(cognitoSub -> keys.add(userKey(cognitoSub)));
+        groupIds.forEach(groupId -> keys.add(groupKey(groupId)));
+        incrementVersions(keys);
+
+        afterCommit(() -> keys.forEach(this::invalidate));
+    }
+
+    /**
+     * 소유자 공유 버전 증가 (정렬된 순서로 행 잠금을 잡아 교착을 피함)
+     */
+    private Map<String, Long> incrementVersions(Set<String> sortedKeys) {
+        Map<String, Long> versions = new LinkedHashMap<>();
+        sortedKeys.forEach(key -> versions.put(key, scheduleVersions.increment(key)));
+        return versions;
+    }
+
+    private Snapshot orCachedWeeks(String key, long version, long firstWeek, int weekCount, long[][] target) {
+        OwnerWeeks owner = owners.computeIfAbsent(key, k -> new OwnerWeeks());
+        long expireBefore = clock.getAsLong() - properties.getTtlSeconds() * 1000L;
+        List<Long> missingWeeks = new ArrayList<>();
+        long generation;
+
+        synchronized (owner) {
+            if (owner.version != version) {
+                // 다른 인스턴스(또는 아직 로컬 반영 전)의 변경: 보관 중인 주를 모두 버리고 이 버전으로 다시 생성
+                if (!owner.weeks.isEmpty()) {
+                    meterRegistry.counter("coordination.busy.index.invalidated").increment();
+                }
+                owner.clear();
+                owner.version = version;
+            }
+            generation = owner.generation;
+            for (int i = 0; i < weekCount; i++) {
+                CachedWeek cached = owner.weeks.get(firstWeek + i);
+                if (cached == null || cached.builtAt() < expireBefore) {
+                    missingWeeks.add(firstWeek + i);
+                } else {
+                    WeekBitmap.or(target[i], cached.bits());
+                }
+            }
+        }
+
+        meterRegistry.counter("coordination.busy.index.weeks", "result", "hit")
+                .increment(weekCount - missingWeeks.size());
+        meterRegistry.counter("coordination.busy.index.weeks", "result", "built").increment(missingWeeks.size());
+        return new Snapshot(owner, generation, missingWeeks);
+    }
+
+    /**
+     * 빠진 주를 소유자 종류별 기간 쿼리 한 번씩으로 생성
+     */
+    private Map<String, Map<Long, long[]>> build(Map<String, Snapshot> missing) {
+        long minWeek = Long.MAX_VALUE;
+        long maxWeek = Long.MIN_VALUE;
+        List<String> cognitoSubs = new ArrayList<>();
+        List<Long> groupIds = new ArrayList<>();
+
+        Map<String, Map<Long, long[]>> built = new HashMap<>();
+        for (Map.Entry<String, Snapshot> entry : missing.entrySet()) {
+            Map<Long, long[]> weeks = new HashMap<>();
+            for (Long week : entry.getValue().missingWeeks()) {
+                weeks.put(week, WeekBitmap.empty());
+                minWeek = Math.min(minWeek, week);
+                maxWeek = Math.max(maxWeek, week);
+            }
+            built.put(entry.getKey(), weeks);
+
+            String key = entry.getKey();
+            if (key.startsWith(USER_PREFIX)) {
+                cognitoSubs.add(key.substring(USER_PREFIX.length()));
+            } else {
+                groupIds.add(Long.parseLong(key.substring(GROUP_PREFIX.length())));
+            }
+        }
+
+        LocalDateTime rangeStart = IntervalBuffer.toLocalDateTime(WeekBitmap.weekStart(minWeek));
+        LocalDateTime rangeEnd = IntervalBuffer.toLocalDateTime(WeekBitmap.weekStart(maxWeek + 1));
+
+        // 시간 projection을 읽는 대로 bitmap에 표시 (엔티티 목록을 만들지 않음)
+        if (!cognitoSubs.isEmpty()) {
+            try (Stream<ScheduleTimeProjection> rows =
+                         scheduleRepository.streamTimesByCognitoSubsAndDateRange(cognitoSubs, rangeStart, rangeEnd)) {
+                rows.forEach(row -> markOccurrences(built.get(userKey(row.cognitoSub())), row, rangeStart, rangeEnd));
+            }
+        }
+        for (Long groupId : groupIds) {
+            Map<Long, long[]> weeks = built.get(groupKey(groupId));
+            try (Stream<ScheduleTimeProjection> rows =
+                         scheduleRepository.streamTimesByGroupIdAndDateRange(groupId, rangeStart, rangeEnd)) {
+                rows.forEach(row -> markOccurrences(weeks, row, rangeStart, rangeEnd));
+            }
+        }
+
+        log.debug("Busy bitmap 생성 - 소유자: {}, 주: {} ~ {}", missing.size(), minWeek, maxWeek);
+        return built;
+    }
+
+    private void markOccurrences(Map<Long, long[]> weeks, ScheduleTimeProjection row,
+                                 LocalDateTime rangeStart, LocalDateTime rangeEnd) {
+        if (weeks == null) {
+            return;
+        }
+        Iterator<Occurrence> occurrences = recurrenceExpander.occurrences(
+                row.startTime(), row.endTime(), row.recurrenceRule(), rangeStart, rangeEnd);
+        while (occurrences.hasNext()) {
+            Occurrence occurrence = occurrences.next();
+            markInto(weeks, IntervalBuffer.toEpochSecond(occurrence.start()),
+                    IntervalBuffer.toEpochSecond(occurrence.end()));
+        }
+    }
+
+    /**
+     * 구간이 걸치는 주 중 weeks에 있는 주에만 표시
+     */
+    private static void markInto(Map<Long, long[]> weeks, long start, long end) {
+        if (end <= start) {
+            return;
+        }
+        long lastWeek = WeekBitmap.weekOf(end - 1);
+        for (long week = WeekBitmap.weekOf(start); week <= lastWeek; week++) {
+            long[] bits = weeks.get(week);
+            if (bits != null) {
+                WeekBitmap.mark(bits, week, start, end);
+            }
+        }
+    }
+
+    private void store(Snapshot snapshot, Map<Long, long[]> weeks) {
+        OwnerWeeks owner = snapshot.owner();
+        long builtAt = clock.getAsLong();
+        synchronized (owner) {
+            // 생성 중에 일정이 바뀌었으면 버림 (다음 조회 때 다시 생성)
+            if (owner.generation != snapshot.generation()) {
+                return;
+            }
+            weeks.forEach((week, bits) -> owner.weeks.put(week, new CachedWeek(bits, builtAt)));
+        }
+    }
+
+    private void invalidate(String key) {
+        OwnerWeeks owner = owners.get(key);
+        if (owner != null) {
+            owner.clear();
+        }
+    }
+
+    private static List<String> ownerKeys(Footprint footprint) {
+        List<String> keys = new ArrayList<>(2);
+        if (footprint.cognitoSub() != null) {
+            keys.add(userKey(footprint.cognitoSub()));
+        }
+        if (footprint.groupId() != null) {
+            keys.add(groupKey(footprint.groupId()));
+        }
+        return keys;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    static String userKey(String cognitoSub) {
+        return USER_PREFIX + cognitoSub;
+    }
+
+    static String groupKey(Long groupId) {
+        return GROUP_PREFIX + groupId;
+    }
+
+    /**
+     * bitmap 반영에 필요한 일정 정보 (수정 전 값을 보존하기 위한 복사본)
+     */
+    public record Footprint(String cognitoSub, Long groupId, LocalDateTime start, LocalDateTime end,
+                            boolean recurring) {
+
+        public static Footprint of(Schedule schedule) {
+            String rule = schedule.getRecurrenceRule();
+            return new Footprint(schedule.getCognitoSub(), schedule.getGroupId(),
+                    schedule.getStartTime(), schedule.getEndTime(), rule != null && !rule.isBlank());
+        }
+    }
+
+    private record Snapshot(OwnerWeeks owner, long generation, List<Long> missingWeeks) {
+    }
+
+    private record CachedWeek(long[] bits, long builtAt) {
+    }
+
+    /**
+     * 소유자 한 명의 주별 bitmap (모든 접근은 이 객체로 동기화)
+     */
+    private static final class OwnerWeeks {
+
+        private final Map<Long, CachedWeek> weeks = new HashMap<>();
+        private long generation;
+
+        /**
+         * 보관 중인 주를 만든 시점의 공유 소유자 버전
+         */
+        private long version;
+
+        /**
+         * 커밋된 변경(version)을 로컬 bitmap에 반영
+         * bitmap이 바로 앞 버전이면 change로 부분 반영하고, 아니면(다른 인스턴스의 변경이 끼어 있음) 전체를 버린다
+         */
+        synchronized void advance(long version, Runnable change) {
+            if (this.version == version - 1) {
+                change.run();
+                this.version = version;
+            } else {
+                clear();
+            }
+        }
+
+        synchronized void clear() {
+            weeks.clear();
+            generation++;
+        }
+
+        synchronized void dropWeeks(LocalDateTime start, LocalDateTime end) {
+            long startSecond = IntervalBuffer.toEpochSecond(start);
+            long endSecond = Math.max(startSecond, IntervalBuffer.toEpochSecond(end));
+            for (long week = WeekBitmap.weekOf(startSecond); week <= WeekBitmap.weekOf(endSecond); week++) {
+                weeks.remove(week);
+            }
+            generation++;
+        }
+
+        synchronized void markBusy(LocalDateTime start, LocalDateTime end) {
+            long startSecond = IntervalBuffer.toEpochSecond(start);
+            long endSecond = IntervalBuffer.toEpochSecond(end);
+            if (endSecond > startSecond) {
+                for (long week = WeekBitmap.weekOf(startSecond); week <= WeekBitmap.weekOf(endSecond - 1); week++) {
+                    CachedWeek cached = weeks.get(week);
+                    if (cached != null) {
+                        WeekBitmap.mark(cached.bits(), week, startSecond, endSecond);
+                    }
+                }
+            }
+            generation++;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.unisync.schedule.coordination.index;
+
+import com.unisync.schedule.common.repository.ScheduleOwnerVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 소유자(사용자/그룹)별 일정 버전
+ *
+ * 일정이 바뀌면 같은 트랜잭션 안에서(BusyBitmapIndex를 거쳐) schedule_owner_versions의 소유자 버전을 1 올린다.
+ * 버전은 DB에 있으므로 어느 인스턴스에서 바뀐 일정이든 커밋 직후부터 모든 인스턴스가 같은 값을 본다.
+ *
+ * - BusyBitmapIndex는 조회 시 소유자 버전이 bitmap을 만든 버전과 다르면 bitmap을 버린다
+ * - 공강 찾기 결과 캐시는 계산 직전의 버전을 함께 저장하고, 조회 시 버전이 하나라도 다르면 버린다
+ * - 버전은 줄지 않으므로 한 번 바뀐 소유자가 이전 값으로 돌아가지 않는다
+ * - 조회는 대상 소유자 PK IN 쿼리 한 번
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleVersions {
+
+    private final ScheduleOwnerVersionRepository scheduleOwnerVersionRepository;
+
+    /**
+     * 멤버 + 그룹의 현재 버전 (멤버 순서, 그룹은 마지막)
+     *
+     * @param cognitoSubs 대상 멤버
+     * @param groupId 그룹 ID (nullable)
+     */
+    public long[] stamp(List<String> cognitoSubs, Long groupId) {
+        List<String> keys = new ArrayList<>(cognitoSubs.size() + 1);
+        cognitoSubs.forEach(cognitoSub -> keys.add(BusyBitmapIndex.userKey(cognitoSub)));
+        if (groupId != null) {
+            keys.add(BusyBitmapIndex.groupKey(groupId));
+        }
+        Map<String, Long> versions = current(keys);
+
+        long[] stamp = new long[cognitoSubs.size() + 1];
+        for (int i = 0; i < cognitoSubs.size(); i++) {
+            stamp[i] = versions.get(keys.get(i));
+        }
+        stamp[cognitoSubs.size()] = groupId != null ? versions.get(keys.get(cognitoSubs.size())) : 0L;
+        return stamp;
+    }
+
+    /**
+     * 소유자 키별 현재 버전 (한 번도 바뀌지 않은 소유자는 0)
+     */
+    Map<String, Long> current(Collection<String> ownerKeys) {
+        Map<String, Long> versions = new HashMap<>();
+        ownerKeys.forEach(key -> versions.put(key, 0L));
+        if (!ownerKeys.isEmpty()) {
+            scheduleOwnerVersionRepository.findAllById(ownerKeys)
+                    .forEach(row -> versions.put(row.getOwnerKey(), row.getVersion()));
+        }
+        return versions;
+    }
+
+    /**
+     * 소유자 버전 1 증가 (호출자의 트랜잭션 안에서, 롤백되면 함께 취소)
+     *
+     * @return 증가한 버전
+     */
+    long increment(String ownerKey) {
+        scheduleOwnerVersionRepository.increment(ownerKey);
+        return scheduleOwnerVersionRepository.findVersion(ownerKey);
+    }
+}
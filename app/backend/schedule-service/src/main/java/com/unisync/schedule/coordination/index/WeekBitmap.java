@@ -0,0 +1,96 @@
+package com.unisync.schedule.coordination.index;
+
+import com.unisync.schedule.coordination.algorithm.IntervalBuffer;
+
+import java.util.BitSet;
+
+/**
+ * 한 주(월요일 00:00부터 7일)의 busy 시간을 15분 단위 bit로 표현하는 유틸리티
+ *
+ * bit i는 [주 시작 + i * 15분, + 15분) 구간이며, 1이면 busy다.
+ * 한 주는 672 bit라 long 11개에 담긴다. 시각은 IntervalBuffer와 같은 epoch-second(UTC 간주)를 쓴다.
+ */
+public final class WeekBitmap {
+
+    static final long SLOT_SECONDS = 15 * 60L;
+    static final int SLOTS_PER_WEEK = 7 * 24 * 4;
+    static final int WORDS = (SLOTS_PER_WEEK + 63) / 64;
+    static final long SECONDS_PER_WEEK = SLOT_SECONDS * SLOTS_PER_WEEK;
+    private static final long SECONDS_PER_DAY = 86_400L;
+
+    private WeekBitmap() {
+    }
+
+    /**
+     * epoch-second가 속한 주 번호 (1970-01-01이 목요일이므로 3일 보정해 월요일 기준으로 맞춤)
+     */
+    public static long weekOf(long epochSecond) {
+        long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        return Math.floorDiv(epochDay + 3, 7L);
+    }
+
+    public static long weekStart(long week) {
+        return (week * 7 - 3) * SECONDS_PER_DAY;
+    }
+
+    public static long[] empty() {
+        return new long[WORDS];
+    }
+
+    /**
+     * [start, end)가 걸치는 15분 slot을 busy로 표시 (주 범위 밖은 무시)
+     *
+     * slot의 일부만 걸쳐도 slot 전체를 busy로 본다. 길이 0인 구간은 표시하지 않는다.
+     */
+    public static void mark(long[] bits, long week, long start, long end) {
+        if (end <= start) {
+            return;
+        }
+        long base = weekStart(week);
+        long from = Math.max(0, Math.floorDiv(start - base, SLOT_SECONDS));
+        long to = Math.min(SLOTS_PER_WEEK, Math.ceilDiv(end - base, SLOT_SECONDS));
+        if (from >= to) {
+            return;
+        }
+        setRange(bits, (int) from, (int) to);
+    }
+
+    /**
+     * target |= source (word 단위)
+     */
+    public static void or(long[] target, long[] source) {
+        for (int i = 0; i < WORDS; i++) {
+            target[i] |= source[i];
+        }
+    }
+
+    /**
+     * 연속된 busy bit 구간을 시작 순으로 out에 추가
+     */
+    public static void appendBusyRuns(long[] bits, long week, IntervalBuffer out) {
+        long base = weekStart(week);
+        BitSet set = BitSet.valueOf(bits);
+        for (int from = set.nextSetBit(0); from >= 0; from = set.nextSetBit(from)) {
+            int to = set.nextClearBit(from);
+            out.add(base + from * SLOT_SECONDS, base + to * SLOT_SECONDS);
+            from = to;
+        }
+    }
+
+    private static void setRange(long[] bits, int from, int to) {
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        long firstMask = -1L << (from & 63);
+        long lastMask = -1L >>> (63 - ((to - 1) & 63));
+
+        if (firstWord == lastWord) {
+            bits[firstWord] |= firstMask & lastMask;
+            return;
+        }
+        bits[firstWord] |= firstMask;
+        for (int i = firstWord + 1; i < lastWord; i++) {
+            bits[i] = -1L;
+        }
+        bits[lastWord] |= lastMask;
+    }
+}
@@ -0,0 +1,11 @@
+package com.unisync.schedule.coordination.model;
+
+/**
+ * 공강 추천 정렬 기준.
+ * EARLIEST: 가장 이른 공강부터 (K개를 찾으면 검색을 멈춤)
+ * BEST_MATCH: 선호 시간대, 요청 시간과의 근접도, 이른 날짜를 합친 점수 순
+ */
+public enum SuggestionOrder {
+    EARLIEST,
+    BEST_MATCH
+}
@@ -1,12 +1,20 @@
 package com.unisync.schedule.coordination.service;
 
-import com.unisync.schedule.common.entity.Schedule;
 import com.unisync.schedule.common.repository.ScheduleRepository;
+import com.unisync.schedule.common.repository.ScheduleTimeProjection;
 import com.unisync.schedule.coordination.algorithm.FreeSlotFinder;
+import com.unisync.schedule.coordination.algorithm.IntervalBuffer;
+import com.unisync.schedule.coordination.algorithm.MemberBusy;
+import com.unisync.schedule.coordination.algorithm.SuggestionCriteria;
+import com.unisync.schedule.coordination.cache.FreeSlotResultCache;
 import com.unisync.schedule.coordination.dto.FindFreeSlotsRequest;
 import com.unisync.schedule.coordination.dto.FindFreeSlotsResponse;
 import com.unisync.schedule.coordination.dto.FreeSlotDto;
+import com.unisync.schedule.coordination.dto.QuorumSlotDto;
 import com.unisync.schedule.coordination.dto.SearchPeriodDto;
+import com.unisync.schedule.coordination.dto.SlotSuggestionDto;
+import com.unisync.schedule.coordination.index.BusyBitmapIndex;
+import com.unisync.schedule.coordination.model.SuggestionOrder;
 import com.unisync.schedule.internal.client.UserServiceClient;
 import com.unisync.schedule.internal.service.GroupPermissionService;
 import lombok.RequiredArgsConstructor;
@@ -15,9 +23,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * 일정 조율 서비스
@@ -33,6 +41,8 @@ public class ScheduleCoordinationService {
     private final UserServiceClient userServiceClient;
     private final GroupPermissionService groupPermissionService;
     private final FreeSlotFinder freeSlotFinder;
+    private final BusyBitmapIndex busyBitmapIndex;
+    private final FreeSlotResultCache resultCache;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
@@ -51,7 +61,14 @@ public class ScheduleCoordinationService {
         // 1. 권한 확인: 요청자가 그룹 멤버인지 검증
         groupPermissionService.validateReadPermission(request.getGroupId(), cognitoSub);
 
-        // 2. 대상 멤버 결정
+        // 2. 같은 조건의 결과가 있고 멤버 일정이 그대로면 재사용 (멤버 조회/일정 쿼리 생략)
+        long started = System.nanoTime();
+        FindFreeSlotsResponse cached = resultCache.get(request);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 3. 대상 멤버 결정
         List<String> targetCognitoSubs;
         if (request.getUserIds() != null && !request.getUserIds().isEmpty()) {
             // 특정 멤버들만
@@ -63,42 +80,189 @@ public class ScheduleCoordinationService {
             log.debug("전체 그룹 멤버 기준 조회: {} 명", targetCognitoSubs.size());
         }
 
-        // 3. 일정 조회 (개인 일정 + 그룹 일정)
+        // 4. 일정 버전을 먼저 잡고 계산 (계산 중 바뀐 일정은 다음 조회에서 버려짐)
+        long[] stamp = resultCache.stamp(targetCognitoSubs, request.getGroupId());
+        FindFreeSlotsResponse response = search(request, targetCognitoSubs);
+        resultCache.put(request, targetCognitoSubs, stamp, response, System.nanoTime() - started);
+        return response;
+    }
+
+    /**
+     * 대상 멤버 기준 공강 계산 (모드별 분기)
+     */
+    private FindFreeSlotsResponse search(FindFreeSlotsRequest request, List<String> targetCognitoSubs) {
+        // 검색 기간 (일정은 각 경로에서 필요한 만큼만 조회)
         LocalDate startDate = LocalDate.parse(request.getStartDate(), DATE_FORMATTER);
         LocalDate endDate = LocalDate.parse(request.getEndDate(), DATE_FORMATTER);
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.atTime(23, 59, 59);
-
-        List<Schedule> schedules = scheduleRepository.findByUsersOrGroupAndDateRange(
-                targetCognitoSubs,
-                request.getGroupId(),
-                startDateTime,
-                endDateTime
-        );
 
-        log.debug("조회된 일정 개수: {}", schedules.size());
+        // 부분 공강 모드: N명 이상 비는 공강 (멤버별 busy를 sweep)
+        if (request.getMinAvailableMembers() != null) {
+            List<String> members = targetCognitoSubs.stream().distinct().toList();
+            if (request.getMinAvailableMembers() < members.size()) {
+                return findQuorumSlots(request, members, startDate, endDate);
+            }
+        }
+
+        // 추천 모드: 순위가 매겨진 상위 K개만 반환
+        if (request.getSuggestionLimit() != null) {
+            return suggestFreeSlots(request, targetCognitoSubs, startDate, endDate);
+        }
+
+        // 알고리즘 실행: 공강 시간 찾기
+        List<FreeSlotDto> freeSlots;
+        if (busyBitmapIndex.isEnabled()) {
+            // 멤버별 15분 bitmap OR → busy 구간
+            IntervalBuffer busy = busyBitmapIndex.busyIntervals(
+                    targetCognitoSubs, request.getGroupId(), startDate, endDate);
+            log.debug("Busy bitmap 구간 개수: {}", busy.size());
+
+            freeSlots = freeSlotFinder.findFreeSlotsFromBusy(
+                    busy,
+                    startDate,
+                    endDate,
+                    request.getMinDurationMinutes(),
+                    request.getWorkingHoursStart(),
+                    request.getWorkingHoursEnd(),
+                    request.getDaysOfWeek()
+            );
+        } else {
+            IntervalBuffer busy = streamBusyIntervals(targetCognitoSubs, request.getGroupId(), startDate, endDate);
+            log.debug("조회된 busy 구간 개수: {}", busy.size());
+
+            freeSlots = freeSlotFinder.findFreeSlotsFromBusy(
+                    busy,
+                    startDate,
+                    endDate,
+                    request.getMinDurationMinutes(),
+                    request.getWorkingHoursStart(),
+                    request.getWorkingHoursEnd(),
+                    request.getDaysOfWeek()
+            );
+        }
 
-        // 4. 알고리즘 실행: 공강 시간 찾기
-        List<FreeSlotDto> freeSlots = freeSlotFinder.findFreeSlots(
-                schedules,
+        // 응답 생성
+        return FindFreeSlotsResponse.builder()
+                .groupId(request.getGroupId())
+                .groupName(null)  // 향후 User-Service에서 조회 가능
+                .memberCount(targetCognitoSubs.size())
+                .searchPeriod(searchPeriod(request))
+                .freeSlots(freeSlots)
+                .build();
+    }
+
+    /**
+     * 추천 공강 top-K 응답 생성
+     */
+    private FindFreeSlotsResponse suggestFreeSlots(FindFreeSlotsRequest request, List<String> targetCognitoSubs,
+                                                   LocalDate startDate, LocalDate endDate) {
+        IntervalBuffer busy;
+        if (busyBitmapIndex.isEnabled()) {
+            busy = busyBitmapIndex.busyIntervals(targetCognitoSubs, request.getGroupId(), startDate, endDate);
+        } else {
+            busy = streamBusyIntervals(targetCognitoSubs, request.getGroupId(), startDate, endDate);
+        }
+
+        List<SlotSuggestionDto> suggestions = freeSlotFinder.suggestFromBusy(
+                busy,
                 startDate,
                 endDate,
                 request.getMinDurationMinutes(),
                 request.getWorkingHoursStart(),
                 request.getWorkingHoursEnd(),
-                request.getDaysOfWeek()
+                request.getDaysOfWeek(),
+                suggestionCriteria(request)
         );
 
-        // 5. 응답 생성
         return FindFreeSlotsResponse.builder()
                 .groupId(request.getGroupId())
-                .groupName(null)  // 향후 User-Service에서 조회 가능
+                .groupName(null)
                 .memberCount(targetCognitoSubs.size())
-                .searchPeriod(SearchPeriodDto.builder()
-                        .startDate(request.getStartDate())
-                        .endDate(request.getEndDate())
-                        .build())
-                .freeSlots(freeSlots)
+                .searchPeriod(searchPeriod(request))
+                .suggestions(suggestions)
+                .build();
+    }
+
+    /**
+     * N명 이상 비는 공강 응답 생성 (suggestionLimit이 있으면 비는 멤버 비율을 반영한 top-K)
+     */
+    private FindFreeSlotsResponse findQuorumSlots(FindFreeSlotsRequest request, List<String> members,
+                                                  LocalDate startDate, LocalDate endDate) {
+        MemberBusy busy;
+        if (busyBitmapIndex.isEnabled()) {
+            busy = busyBitmapIndex.memberBusyIntervals(members, request.getGroupId(), startDate, endDate);
+        } else {
+            try (Stream<ScheduleTimeProjection> rows = streamScheduleTimes(
+                    members, request.getGroupId(), startDate, endDate)) {
+                busy = freeSlotFinder.toMemberBusy(rows, members, request.getGroupId(), startDate, endDate);
+            }
+        }
+
+        FindFreeSlotsResponse.FindFreeSlotsResponseBuilder response = FindFreeSlotsResponse.builder()
+                .groupId(request.getGroupId())
+                .groupName(null)
+                .memberCount(members.size())
+                .searchPeriod(searchPeriod(request));
+
+        if (request.getSuggestionLimit() != null) {
+            return response.suggestions(freeSlotFinder.suggestQuorumSlots(
+                    busy,
+                    startDate,
+                    endDate,
+                    request.getMinDurationMinutes(),
+                    request.getWorkingHoursStart(),
+                    request.getWorkingHoursEnd(),
+                    request.getDaysOfWeek(),
+                    request.getMinAvailableMembers(),
+                    suggestionCriteria(request)
+            )).build();
+        }
+
+        List<QuorumSlotDto> quorumSlots = freeSlotFinder.findQuorumSlots(
+                busy,
+                startDate,
+                endDate,
+                request.getMinDurationMinutes(),
+                request.getWorkingHoursStart(),
+                request.getWorkingHoursEnd(),
+                request.getDaysOfWeek(),
+                request.getMinAvailableMembers()
+        );
+        return response.quorumSlots(quorumSlots).build();
+    }
+
+    /**
+     * 개인 일정 + 그룹 일정의 busy 구간 (시간 projection을 읽는 대로 변환)
+     */
+    private IntervalBuffer streamBusyIntervals(List<String> cognitoSubs, Long groupId,
+                                               LocalDate startDate, LocalDate endDate) {
+        try (Stream<ScheduleTimeProjection> rows = streamScheduleTimes(cognitoSubs, groupId, startDate, endDate)) {
+            return freeSlotFinder.toBusyIntervals(rows, startDate, endDate);
+        }
+    }
+
+    private Stream<ScheduleTimeProjection> streamScheduleTimes(List<String> cognitoSubs, Long groupId,
+                                                               LocalDate startDate, LocalDate endDate) {
+        return scheduleRepository.streamTimesByUsersOrGroupAndDateRange(
+                cognitoSubs,
+                groupId,
+                startDate.atStartOfDay(),
+                endDate.atTime(23, 59, 59)
+        );
+    }
+
+    private SuggestionCriteria suggestionCriteria(FindFreeSlotsRequest request) {
+        return new SuggestionCriteria(
+                request.getSuggestionLimit(),
+                request.getRankBy() != null ? request.getRankBy() : SuggestionOrder.BEST_MATCH,
+                request.getPreferredHoursStart(),
+                request.getPreferredHoursEnd()
+        );
+    }
+
+    private SearchPeriodDto searchPeriod(FindFreeSlotsRequest request) {
+        return SearchPeriodDto.builder()
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
                 .build();
     }
 }
@@ -4,12 +4,15 @@ import com.unisync.schedule.categories.service.CategoryService;
 import com.unisync.schedule.common.entity.Category;
 import com.unisync.schedule.common.repository.CategoryRepository;
 import com.unisync.schedule.common.repository.ScheduleRepository;
+import com.unisync.schedule.coordination.index.BusyBitmapIndex;
 import com.unisync.schedule.course.dto.CourseDisabledMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * Course 이벤트 처리 서비스
  * Course-Service에서 발행한 Course 이벤트를 처리
@@ -21,6 +24,7 @@ public class CourseService {
 
     private final ScheduleRepository scheduleRepository;
     private final CategoryRepository categoryRepository;
+    private final BusyBitmapIndex busyBitmapIndex;
 
     /**
      * Course 이벤트 처리
@@ -67,6 +71,7 @@ public class CourseService {
 
         scheduleRepository.deleteAllByCognitoSubAndCategoryId(
                 message.getCognitoSub(), category.getCategoryId());
+        busyBitmapIndex.ownersChanged(List.of(message.getCognitoSub()), List.of());
 
         log.info("✅ Deleted {} schedules for disabled course: courseId={}, categoryId={}, cognitoSub={}",
                 deletedCount, message.getCourseId(), category.getCategoryId(), message.getCognitoSub());
@@ -0,0 +1,63 @@
+package com.unisync.schedule.internal.client;
+
+import com.unisync.schedule.assignment.dto.UserAssignmentsBatchMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Optional;
+
+/**
+ * Course-Service Internal API 클라이언트
+ */
+@Component
+@Slf4j
+public class CourseServiceClient {
+
+    private final RestTemplate restTemplate;
+    private final String courseServiceUrl;
+
+    public CourseServiceClient(
+            RestTemplate restTemplate,
+            @Value("${services.course-service.url}") String courseServiceUrl
+    ) {
+        this.restTemplate = restTemplate;
+        this.courseServiceUrl = courseServiceUrl;
+    }
+
+    /**
+     * 사용자 assignments snapshot 조회 (delta 누락 복구용)
+     *
+     * @param cognitoSub 사용자 Cognito Sub
+     * @return snapshot (조회 실패 시 empty)
+     */
+    public Optional<UserAssignmentsBatchMessage> getAssignmentSnapshot(String cognitoSub) {
+        String url = courseServiceUrl + "/internal/v1/assignments/snapshot";
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Cognito-Sub", cognitoSub);
+
+        try {
+            log.debug("Course-Service assignments snapshot 조회: cognitoSub={}", cognitoSub);
+            UserAssignmentsBatchMessage snapshot = restTemplate.exchange(
+                    url,
+                    HttpMethod.GET,
+                    new HttpEntity<>(headers),
+                    UserAssignmentsBatchMessage.class
+            ).getBody();
+
+            log.debug("Course-Service assignments snapshot 조회 결과: cognitoSub={}, sequence={}",
+                    cognitoSub, snapshot != null ? snapshot.getSequence() : null);
+            return Optional.ofNullable(snapshot);
+        } catch (RestClientException e) {
+            log.error("Course-Service assignments snapshot 조회 실패: cognitoSub={}, error={}",
+                    cognitoSub, e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -1,14 +1,20 @@
 package com.unisync.schedule.internal.service;
 
+import com.unisync.schedule.common.entity.Schedule;
 import com.unisync.schedule.common.repository.CategoryRepository;
 import com.unisync.schedule.common.repository.ScheduleRepository;
 import com.unisync.schedule.common.repository.TodoRepository;
+import com.unisync.schedule.coordination.index.BusyBitmapIndex;
 import com.unisync.schedule.internal.dto.GroupDataDeleteResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 /**
  * 그룹 관련 Internal Service
  *
@@ -22,6 +28,7 @@ public class InternalGroupService {
     private final ScheduleRepository scheduleRepository;
     private final TodoRepository todoRepository;
     private final CategoryRepository categoryRepository;
+    private final BusyBitmapIndex busyBitmapIndex;
 
     /**
      * 그룹의 모든 데이터 삭제
@@ -49,7 +56,8 @@ public class InternalGroupService {
         }
 
         // 삭제 전 카운트
-        long scheduleCount = scheduleRepository.findByGroupId(groupId).size();
+        List<Schedule> groupSchedules = scheduleRepository.findByGroupId(groupId);
+        long scheduleCount = groupSchedules.size();
         long todoCount = todoRepository.findByGroupId(groupId).size();
         long categoryCount = categoryRepository.findByGroupId(groupId).size();
 
@@ -62,6 +70,13 @@ public class InternalGroupService {
         // 2. 일정 삭제
         if (hasSchedules) {
             scheduleRepository.deleteByGroupId(groupId);
+
+            // 그룹 일정은 작성자 bitmap에도 들어 있음
+            Set<String> creators = groupSchedules.stream()
+                    .map(Schedule::getCognitoSub)
+                    .filter(cognitoSub -> cognitoSub != null)
+                    .collect(Collectors.toSet());
+            busyBitmapIndex.ownersChanged(creators, List.of(groupId));
             log.debug("그룹 일정 삭제 완료: groupId={}, count={}", groupId, scheduleCount);
         }
 
@@ -1,6 +1,7 @@
 package com.unisync.schedule.schedules.controller;
 
 import com.unisync.schedule.common.entity.Schedule.ScheduleStatus;
+import com.unisync.schedule.schedules.dto.SchedulePageResponse;
 import com.unisync.schedule.schedules.dto.ScheduleRequest;
 import com.unisync.schedule.schedules.dto.ScheduleResponse;
 import com.unisync.schedule.schedules.dto.UpdateScheduleStatusRequest;
@@ -24,44 +25,53 @@ import java.util.List;
 @Tag(name = "Schedule", description = "일정 관리 API")
 public class ScheduleController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final ScheduleService scheduleService;
 
     @GetMapping
-    @Operation(summary = "일정 목록 조회", description = "사용자의 개인 일정 또는 그룹 일정 목록을 조회합니다. groupId가 있으면 그룹 일정, 없으면 개인 일정을 조회합니다.")
+    @Operation(summary = "일정 목록 조회", description = "사용자의 개인 일정 또는 그룹 일정 목록을 조회합니다. groupId가 있으면 그룹 일정, 없으면 개인 일정을 조회합니다. "
+            + "기간(startDate, endDate)이 없으면 시작 시각, ID 순으로 내려줍니다. cursor나 size를 주면 커서 페이지로 자르고, 다음 페이지가 있으면 X-Next-Cursor 헤더로 커서를 전달합니다.")
     public ResponseEntity<List<ScheduleResponse>> getSchedules(
             @Parameter(hidden = true) @RequestHeader("X-Cognito-Sub") String cognitoSub,
             @Parameter(description = "그룹 ID (선택)") @RequestParam(required = false) Long groupId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
             @RequestParam(required = false) ScheduleStatus status,
-            @RequestParam(required = false, defaultValue = "false") boolean includeGroups
+            @RequestParam(required = false, defaultValue = "false") boolean includeGroups,
+            @Parameter(description = "이전 응답의 X-Next-Cursor 헤더 값 (기간 조회가 아닐 때)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 500, cursor만 주면 100, 기간 조회가 아닐 때). cursor도 없으면 전체 목록") @RequestParam(required = false) Integer size
     ) {
-        List<ScheduleResponse> schedules;
-
-        if (groupId != null) {
-            // 그룹 일정 조회
-            if (startDate != null && endDate != null) {
+        if (startDate != null && endDate != null) {
+            // 기간 조회: 반복 일정을 기간 안의 occurrence로 전개하므로 페이지 없이 전체 반환
+            List<ScheduleResponse> schedules;
+            if (groupId != null) {
                 schedules = scheduleService.getSchedulesByGroupIdAndDateRange(groupId, cognitoSub, startDate, endDate, status);
+            } else if (includeGroups) {
+                schedules = scheduleService.getSchedulesIncludingGroups(cognitoSub, startDate, endDate, status);
             } else {
-                schedules = scheduleService.getSchedulesByGroupId(groupId, cognitoSub, status);
+                schedules = scheduleService.getSchedulesByDateRange(cognitoSub, startDate, endDate, status);
             }
+            return ResponseEntity.ok(schedules);
+        }
+
+        SchedulePageResponse page;
+        if (groupId != null) {
+            // 그룹 일정 조회
+            page = scheduleService.getSchedulesByGroupId(groupId, cognitoSub, status, cursor, size);
         } else if (includeGroups) {
             // 개인 + 사용자의 모든 그룹 일정 통합 조회
-            if (startDate != null && endDate != null) {
-                schedules = scheduleService.getSchedulesIncludingGroups(cognitoSub, startDate, endDate, status);
-            } else {
-                schedules = scheduleService.getSchedulesIncludingGroups(cognitoSub, status);
-            }
+            page = scheduleService.getSchedulesIncludingGroups(cognitoSub, status, cursor, size);
         } else {
             // 개인 일정 조회
-            if (startDate != null && endDate != null) {
-                schedules = scheduleService.getSchedulesByDateRange(cognitoSub, startDate, endDate, status);
-            } else {
-                schedules = scheduleService.getSchedulesByUserId(cognitoSub, status);
-            }
+            page = scheduleService.getSchedulesByUserId(cognitoSub, status, cursor, size);
         }
 
-        return ResponseEntity.ok(schedules);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getSchedules());
     }
 
     @GetMapping("/{scheduleId}")
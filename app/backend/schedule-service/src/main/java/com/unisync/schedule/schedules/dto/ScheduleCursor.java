@@ -0,0 +1,51 @@
+package com.unisync.schedule.schedules.dto;
+
+import com.unisync.schedule.common.entity.Schedule;
+import com.unisync.schedule.schedules.exception.InvalidScheduleException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 일정 목록 커서 (마지막으로 받은 일정의 시작 시각 + ID)
+ *
+ * 클라이언트에는 "2025-11-30T09:00_123"을 Base64 URL-safe로 인코딩한 불투명 문자열로 전달한다.
+ */
+public record ScheduleCursor(LocalDateTime startTime, Long scheduleId) {
+
+    /**
+     * 첫 페이지 (DATETIME 최솟값, ID 0): 모든 일정이 이 커서 뒤에 온다
+     */
+    public static final ScheduleCursor FIRST = new ScheduleCursor(LocalDateTime.of(1000, 1, 1, 0, 0), 0L);
+
+    private static final char SEPARATOR = '_';
+
+    public static ScheduleCursor of(Schedule last) {
+        return new ScheduleCursor(last.getStartTime(), last.getScheduleId());
+    }
+
+    public String encode() {
+        String raw = startTime.toString() + SEPARATOR + scheduleId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor 인코딩된 커서 (null/빈 문자열이면 FIRST)
+     */
+    public static ScheduleCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new ScheduleCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidScheduleException("유효하지 않은 커서입니다: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.unisync.schedule.schedules.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일정 목록 한 페이지
+ * 컨트롤러는 schedules를 본문으로, nextCursor를 X-Next-Cursor 헤더로 내려준다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SchedulePageResponse {
+
+    private List<ScheduleResponse> schedules;
+
+    /**
+     * 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+}
@@ -4,10 +4,16 @@ import com.unisync.schedule.common.entity.Schedule;
 import com.unisync.schedule.common.entity.Schedule.ScheduleSource;
 import com.unisync.schedule.common.entity.Schedule.ScheduleStatus;
 import com.unisync.schedule.common.exception.UnauthorizedAccessException;
+import com.unisync.schedule.common.recurrence.Occurrence;
+import com.unisync.schedule.common.recurrence.RecurrenceExpander;
 import com.unisync.schedule.common.repository.CategoryRepository;
 import com.unisync.schedule.common.repository.ScheduleRepository;
+import com.unisync.schedule.coordination.index.BusyBitmapIndex;
+import com.unisync.schedule.coordination.index.BusyBitmapIndex.Footprint;
 import com.unisync.schedule.internal.client.UserServiceClient;
 import com.unisync.schedule.internal.service.GroupPermissionService;
+import com.unisync.schedule.schedules.dto.ScheduleCursor;
+import com.unisync.schedule.schedules.dto.SchedulePageResponse;
 import com.unisync.schedule.schedules.dto.ScheduleRequest;
 import com.unisync.schedule.schedules.dto.ScheduleResponse;
 import com.unisync.schedule.schedules.exception.InvalidScheduleException;
@@ -16,12 +22,15 @@ import com.unisync.schedule.todos.dto.TodoWithSubtasksResponse;
 import com.unisync.schedule.todos.service.TodoService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.unisync.schedule.categories.exception.CategoryNotFoundException;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.function.Function;
@@ -33,11 +42,21 @@ import java.util.stream.Stream;
 @Slf4j
 public class ScheduleService {
 
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 500;
+
+    /**
+     * cursor/size 없이 요청하면 페이지를 나누지 않고 전부 준다 (pageSize + 1이 넘치지 않는 최댓값)
+     */
+    static final int UNPAGED = Integer.MAX_VALUE - 1;
+
     private final ScheduleRepository scheduleRepository;
     private final CategoryRepository categoryRepository;
     private final GroupPermissionService groupPermissionService;
     private final UserServiceClient userServiceClient;
     private final TodoService todoService;
+    private final RecurrenceExpander recurrenceExpander;
+    private final BusyBitmapIndex busyBitmapIndex;
 
     /**
      * 일정 생성
@@ -49,8 +68,9 @@ public class ScheduleService {
         // 그룹 일정인 경우 쓰기 권한 검증
         groupPermissionService.validateWritePermission(request.getGroupId(), cognitoSub);
 
-        // 날짜 유효성 검증
+        // 날짜/반복 규칙 유효성 검증
         validateScheduleDates(request.getStartTime(), request.getEndTime());
+        validateRecurrenceRule(request.getRecurrenceRule());
 
         // 카테고리 존재 여부 확인
         validateCategoryAccess(request.getCategoryId(), cognitoSub);
@@ -73,6 +93,7 @@ public class ScheduleService {
                 .build();
 
         Schedule savedSchedule = scheduleRepository.save(schedule);
+        busyBitmapIndex.scheduleChanged(null, Footprint.of(savedSchedule));
         log.info("일정 생성 완료 - scheduleId: {}", savedSchedule.getScheduleId());
 
         return ScheduleResponse.from(savedSchedule);
@@ -96,42 +117,46 @@ public class ScheduleService {
     }
 
     /**
-     * 사용자의 모든 일정 조회
+     * 사용자의 일정 조회 (시작 시각, ID 순 커서 페이지)
+     *
+     * cursor와 size가 모두 없으면 페이지를 나누지 않고 전부 준다.
+     *
+     * @param cursor 이전 페이지의 nextCursor (null이면 첫 페이지)
+     * @param size 페이지 크기 (cursor만 주면 DEFAULT_PAGE_SIZE, 최대 MAX_PAGE_SIZE)
      */
     @Transactional(readOnly = true)
-    public List<ScheduleResponse> getSchedulesByUserId(String cognitoSub) {
-        return getSchedulesByUserId(cognitoSub, null);
-    }
+    public SchedulePageResponse getSchedulesByUserId(String cognitoSub, ScheduleStatus status, String cursor, Integer size) {
+        log.info("사용자 일정 조회 - cognitoSub: {}, status: {}", cognitoSub, status);
 
-    /**
-     * 사용자의 모든 일정 조회 (상태 필터 포함)
-     */
-    @Transactional(readOnly = true)
-    public List<ScheduleResponse> getSchedulesByUserId(String cognitoSub, ScheduleStatus status) {
-        log.info("사용자 일정 전체 조회 - cognitoSub: {}, status: {}", cognitoSub, status);
+        ScheduleCursor after = ScheduleCursor.decode(cursor);
+        int pageSize = resolvePageSize(cursor, size);
 
-        List<Schedule> schedules = scheduleRepository.findByCognitoSub(cognitoSub);
+        List<Schedule> schedules = scheduleRepository.findPageByCognitoSub(
+                cognitoSub, status, after.startTime(), after.scheduleId(), Limit.of(pageSize + 1));
 
-        return schedules.stream()
-                .filter(schedule -> status == null || status.equals(schedule.getStatus()))
-                .map(ScheduleResponse::from)
-                .collect(Collectors.toList());
+        return toPage(schedules, pageSize);
     }
 
     /**
-     * 개인 + 사용자가 속한 모든 그룹 일정 통합 조회
+     * 개인 + 사용자가 속한 모든 그룹 일정 통합 조회 (시작 시각, ID 순 커서 페이지)
+     * 개인/그룹 일정을 UNION 쿼리 한 번으로 합치고 중복(내가 만든 그룹 일정)도 SQL에서 제거한다.
      */
     @Transactional(readOnly = true)
-    public List<ScheduleResponse> getSchedulesIncludingGroups(String cognitoSub, ScheduleStatus status) {
+    public SchedulePageResponse getSchedulesIncludingGroups(String cognitoSub, ScheduleStatus status, String cursor, Integer size) {
         log.info("개인 + 그룹 일정 통합 조회 - cognitoSub: {}, status: {}", cognitoSub, status);
-        List<Schedule> personal = scheduleRepository.findByCognitoSub(cognitoSub);
+
+        ScheduleCursor after = ScheduleCursor.decode(cursor);
+        int pageSize = resolvePageSize(cursor, size);
         List<Long> groupIds = userServiceClient.getUserGroupIds(cognitoSub);
 
-        List<Schedule> groups = groupIds.isEmpty()
-                ? List.of()
-                : scheduleRepository.findByGroupIdIn(groupIds);
+        List<Schedule> schedules = groupIds.isEmpty()
+                ? scheduleRepository.findPageByCognitoSub(
+                        cognitoSub, status, after.startTime(), after.scheduleId(), Limit.of(pageSize + 1))
+                : scheduleRepository.findPageByCognitoSubOrGroupIds(
+                        cognitoSub, groupIds, status != null ? status.name() : null,
+                        after.startTime(), after.scheduleId(), pageSize + 1);
 
-        return mergeAndFilter(personal, groups, status);
+        return toPage(schedules, pageSize);
     }
 
     /**
@@ -149,7 +174,7 @@ public class ScheduleService {
                 ? List.of()
                 : scheduleRepository.findByGroupIdsAndDateRange(groupIds, start, end);
 
-        return mergeAndFilter(personal, groups, status);
+        return expandWithinRange(mergeSchedules(personal, groups, status), start, end);
     }
 
     /**
@@ -172,36 +197,28 @@ public class ScheduleService {
 
         List<Schedule> schedules = scheduleRepository.findByCognitoSubAndDateRange(cognitoSub, start, end);
 
-        return schedules.stream()
+        return expandWithinRange(schedules.stream()
                 .filter(schedule -> status == null || status.equals(schedule.getStatus()))
-                .map(ScheduleResponse::from)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()), start, end);
     }
 
     /**
-     * 그룹 일정 조회
+     * 그룹 일정 조회 (시작 시각, ID 순 커서 페이지)
      */
     @Transactional(readOnly = true)
-    public List<ScheduleResponse> getSchedulesByGroupId(Long groupId, String cognitoSub) {
-        return getSchedulesByGroupId(groupId, cognitoSub, null);
-    }
-
-    /**
-     * 그룹 일정 조회 (상태 필터 포함)
-     */
-    @Transactional(readOnly = true)
-    public List<ScheduleResponse> getSchedulesByGroupId(Long groupId, String cognitoSub, ScheduleStatus status) {
-        log.info("그룹 일정 전체 조회 - groupId: {}, cognitoSub: {}, status: {}", groupId, cognitoSub, status);
+    public SchedulePageResponse getSchedulesByGroupId(Long groupId, String cognitoSub, ScheduleStatus status, String cursor, Integer size) {
+        log.info("그룹 일정 조회 - groupId: {}, cognitoSub: {}, status: {}", groupId, cognitoSub, status);
 
         // 그룹 읽기 권한 검증
         groupPermissionService.validateReadPermission(groupId, cognitoSub);
 
-        List<Schedule> schedules = scheduleRepository.findByGroupId(groupId);
+        ScheduleCursor after = ScheduleCursor.decode(cursor);
+        int pageSize = resolvePageSize(cursor, size);
 
-        return schedules.stream()
-                .filter(schedule -> status == null || status.equals(schedule.getStatus()))
-                .map(ScheduleResponse::from)
-                .collect(Collectors.toList());
+        List<Schedule> schedules = scheduleRepository.findPageByGroupId(
+                groupId, status, after.startTime(), after.scheduleId(), Limit.of(pageSize + 1));
+
+        return toPage(schedules, pageSize);
     }
 
     /**
@@ -227,10 +244,9 @@ public class ScheduleService {
 
         List<Schedule> schedules = scheduleRepository.findByGroupIdAndDateRange(groupId, start, end);
 
-        return schedules.stream()
+        return expandWithinRange(schedules.stream()
                 .filter(schedule -> status == null || status.equals(schedule.getStatus()))
-                .map(ScheduleResponse::from)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()), start, end);
     }
 
     /**
@@ -246,8 +262,9 @@ public class ScheduleService {
 
         validateScheduleOwnership(schedule, cognitoSub);
 
-        // 날짜 유효성 검증
+        // 날짜/반복 규칙 유효성 검증
         validateScheduleDates(request.getStartTime(), request.getEndTime());
+        validateRecurrenceRule(request.getRecurrenceRule());
 
         // 카테고리 변경 시 존재 여부 확인
         if (!schedule.getCategoryId().equals(request.getCategoryId())) {
@@ -255,6 +272,7 @@ public class ScheduleService {
         }
 
         // 일정 정보 업데이트
+        Footprint before = Footprint.of(schedule);
         schedule.setTitle(request.getTitle());
         schedule.setDescription(request.getDescription());
         schedule.setLocation(request.getLocation());
@@ -266,6 +284,7 @@ public class ScheduleService {
         schedule.setRecurrenceRule(request.getRecurrenceRule());
 
         Schedule updatedSchedule = scheduleRepository.save(schedule);
+        busyBitmapIndex.scheduleChanged(before, Footprint.of(updatedSchedule));
         log.info("일정 수정 완료 - scheduleId: {}", scheduleId);
 
         return ScheduleResponse.from(updatedSchedule);
@@ -307,6 +326,7 @@ public class ScheduleService {
         validateScheduleOwnership(schedule, cognitoSub);
 
         scheduleRepository.delete(schedule);
+        busyBitmapIndex.scheduleChanged(Footprint.of(schedule), null);
         log.info("일정 삭제 완료 - scheduleId: {}", scheduleId);
     }
 
@@ -323,6 +343,17 @@ public class ScheduleService {
         }
     }
 
+    /**
+     * 반복 규칙 유효성 검증
+     */
+    private void validateRecurrenceRule(String recurrenceRule) {
+        try {
+            recurrenceExpander.validate(recurrenceRule);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidScheduleException("반복 규칙이 올바르지 않습니다: " + e.getMessage());
+        }
+    }
+
     /**
      * 일정 소유권/권한 검증
      */
@@ -355,8 +386,36 @@ public class ScheduleService {
         }
     }
 
-    private List<ScheduleResponse> mergeAndFilter(List<Schedule> personal, List<Schedule> groups, ScheduleStatus status) {
-        return Stream.concat(personal.stream(), groups.stream())
+    private int resolvePageSize(String cursor, Integer size) {
+        if (size == null) {
+            return cursor == null ? UNPAGED : DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidScheduleException("페이지 크기는 1에서 " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        return size;
+    }
+
+    /**
+     * size + 1개까지 읽은 결과를 한 페이지로 자름 (남는 행이 있으면 마지막 일정으로 다음 커서 생성)
+     */
+    private SchedulePageResponse toPage(List<Schedule> schedules, int pageSize) {
+        String nextCursor = null;
+        if (schedules.size() > pageSize) {
+            schedules = schedules.subList(0, pageSize);
+            nextCursor = ScheduleCursor.of(schedules.get(pageSize - 1)).encode();
+        }
+
+        return SchedulePageResponse.builder()
+                .schedules(schedules.stream()
+                        .map(ScheduleResponse::from)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private List<Schedule> mergeSchedules(List<Schedule> personal, List<Schedule> groups, ScheduleStatus status) {
+        return new ArrayList<>(Stream.concat(personal.stream(), groups.stream())
                 .filter(schedule -> status == null || status.equals(schedule.getStatus()))
                 .sorted(Comparator.comparing(Schedule::getStartTime))
                 .collect(Collectors.toMap(
@@ -365,9 +424,41 @@ public class ScheduleService {
                         (existing, duplicate) -> existing,
                         LinkedHashMap::new
                 ))
-                .values()
-                .stream()
-                .map(ScheduleResponse::from)
-                .collect(Collectors.toList());
+                .values());
+    }
+
+    /**
+     * 기간 조회 결과를 occurrence 단위 응답으로 전개
+     *
+     * 반복 일정은 기간 안의 occurrence마다 응답 하나 (scheduleId는 같고 startTime/endTime만 다름).
+     * 반복이 없으면 기간과 겹칠 때만 원본 그대로 넣는다. 기간 조회 쿼리는 반복 규칙이 있는 행을 기간과 무관하게
+     * 돌려주므로, 규칙이 비었거나 해석할 수 없는 행도 여기서 기간으로 걸러야 한다.
+     */
+    private List<ScheduleResponse> expandWithinRange(List<Schedule> schedules, LocalDateTime start, LocalDateTime end) {
+        List<ScheduleResponse> responses = new ArrayList<>(schedules.size());
+        boolean expanded = false;
+
+        for (Schedule schedule : schedules) {
+            if (!recurrenceExpander.isRecurring(schedule)) {
+                if (schedule.getStartTime().isBefore(end) && schedule.getEndTime().isAfter(start)) {
+                    responses.add(ScheduleResponse.from(schedule));
+                }
+                continue;
+            }
+            expanded = true;
+            Iterator<Occurrence> occurrences = recurrenceExpander.occurrences(schedule, start, end);
+            while (occurrences.hasNext()) {
+                Occurrence occurrence = occurrences.next();
+                ScheduleResponse response = ScheduleResponse.from(schedule);
+                response.setStartTime(occurrence.start());
+                response.setEndTime(occurrence.end());
+                responses.add(response);
+            }
+        }
+
+        if (expanded) {
+            responses.sort(Comparator.comparing(ScheduleResponse::getStartTime));
+        }
+        return responses;
     }
 }
@@ -1,5 +1,7 @@
 package com.unisync.schedule.todos.controller;
 
+import com.unisync.schedule.todos.dto.BulkUpdateTodosRequest;
+import com.unisync.schedule.todos.dto.TodoPageResponse;
 import com.unisync.schedule.todos.dto.TodoRequest;
 import com.unisync.schedule.todos.dto.TodoResponse;
 import com.unisync.schedule.todos.dto.UpdateTodoProgressRequest;
@@ -24,10 +26,12 @@ import java.util.List;
 @Tag(name = "Todo", description = "할일 관리 API")
 public class TodoController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final TodoService todoService;
 
     @GetMapping
-    @Operation(summary = "할일 목록 조회")
+    @Operation(summary = "할일 목록 조회", description = "마감일, ID 순. cursor나 size를 주면 커서 페이지로 주고 다음 페이지가 있으면 X-Next-Cursor 헤더로 커서를 내려준다. 둘 다 없으면 전체 목록.")
     public ResponseEntity<List<TodoResponse>> getTodos(
             @Parameter(hidden = true) @RequestHeader("X-Cognito-Sub") String cognitoSub,
             @RequestParam(required = false) Long groupId,
@@ -35,18 +39,26 @@ public class TodoController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @RequestParam(required = false) String status,
-            @RequestParam(required = false) String priority
+            @RequestParam(required = false) String priority,
+            @Parameter(description = "이전 응답의 X-Next-Cursor 헤더 값") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 500, cursor만 주면 100). 생략하고 cursor도 없으면 전체 목록") @RequestParam(required = false) Integer size
     ) {
-        List<TodoResponse> todos = todoService.getTodos(
+        TodoPageResponse page = todoService.getTodos(
                 cognitoSub,
                 groupId,
                 includeGroups,
                 startDate,
                 endDate,
                 status,
-                priority
+                priority,
+                cursor,
+                size
         );
-        return ResponseEntity.ok(todos);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getTodos());
     }
 
     @GetMapping("/{todoId}")
@@ -111,6 +123,15 @@ public class TodoController {
         return ResponseEntity.ok(todoService.updateTodoProgress(todoId, request.getProgressPercentage(), cognitoSub));
     }
 
+    @PatchMapping("/bulk")
+    @Operation(summary = "할일 상태/진행률 일괄 변경")
+    public ResponseEntity<List<TodoResponse>> bulkUpdateTodos(
+            @Parameter(hidden = true) @RequestHeader("X-Cognito-Sub") String cognitoSub,
+            @Valid @RequestBody BulkUpdateTodosRequest request
+    ) {
+        return ResponseEntity.ok(todoService.bulkUpdateTodos(request.getItems(), cognitoSub));
+    }
+
     @DeleteMapping("/{todoId}")
     @Operation(summary = "할일 삭제")
     public ResponseEntity<Void> deleteTodo(
@@ -0,0 +1,51 @@
+package com.unisync.schedule.todos.dto;
+
+import com.unisync.schedule.common.entity.Todo.TodoStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "할일 상태/진행률 일괄 변경 요청")
+public class BulkUpdateTodosRequest {
+
+    @NotEmpty(message = "Items are required")
+    @Size(max = 100, message = "At most 100 items per request")
+    @Schema(description = "변경할 할일 목록 (요청 순서대로 응답)", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<@Valid Item> items;
+
+    /**
+     * 할일 1건 변경 (status 또는 progressPercentage 중 하나만 지정)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "할일 1건 변경 (status 또는 progressPercentage 중 하나)")
+    public static class Item {
+
+        @NotNull(message = "Todo ID is required")
+        @Schema(description = "할일 ID", example = "1", requiredMode = Schema.RequiredMode.REQUIRED)
+        private Long todoId;
+
+        @Schema(description = "변경할 상태", example = "DONE", allowableValues = {"TODO", "IN_PROGRESS", "DONE"})
+        private TodoStatus status;
+
+        @Min(value = 0, message = "Progress percentage must be at least 0")
+        @Max(value = 100, message = "Progress percentage must be at most 100")
+        @Schema(description = "진행률 (0-100)", example = "75", minimum = "0", maximum = "100")
+        private Integer progressPercentage;
+    }
+}
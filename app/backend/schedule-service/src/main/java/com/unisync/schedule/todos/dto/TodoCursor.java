@@ -0,0 +1,46 @@
+package com.unisync.schedule.todos.dto;
+
+import com.unisync.schedule.common.entity.Todo;
+import com.unisync.schedule.todos.exception.InvalidTodoException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 할일 목록 커서 (마지막으로 받은 할일의 마감일 + ID)
+ *
+ * 클라이언트에는 "2025-11-30_123"을 Base64 URL-safe로 인코딩한 불투명 문자열로 전달한다.
+ */
+public record TodoCursor(LocalDate dueDate, Long todoId) {
+
+    private static final char SEPARATOR = '_';
+
+    public static TodoCursor of(Todo last) {
+        return new TodoCursor(last.getDueDate(), last.getTodoId());
+    }
+
+    public String encode() {
+        String raw = dueDate.toString() + SEPARATOR + todoId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor 인코딩된 커서 (null/빈 문자열이면 첫 페이지로 보고 null 반환)
+     */
+    public static TodoCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new TodoCursor(
+                    LocalDate.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidTodoException("유효하지 않은 커서입니다: " + cursor);
+        }
+    }
+}
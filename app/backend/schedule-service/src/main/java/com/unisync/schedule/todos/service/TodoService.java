@@ -6,8 +6,13 @@ import com.unisync.schedule.common.entity.Todo.TodoStatus;
 import com.unisync.schedule.common.exception.UnauthorizedAccessException;
 import com.unisync.schedule.common.repository.CategoryRepository;
 import com.unisync.schedule.common.repository.TodoRepository;
+import com.unisync.schedule.common.repository.TodoRollupProjection;
+import com.unisync.schedule.common.repository.TodoSpecifications;
 import com.unisync.schedule.internal.service.GroupPermissionService;
 import com.unisync.schedule.internal.client.UserServiceClient;
+import com.unisync.schedule.todos.dto.BulkUpdateTodosRequest;
+import com.unisync.schedule.todos.dto.TodoCursor;
+import com.unisync.schedule.todos.dto.TodoPageResponse;
 import com.unisync.schedule.todos.dto.TodoRequest;
 import com.unisync.schedule.todos.dto.TodoResponse;
 import com.unisync.schedule.todos.dto.TodoWithSubtasksResponse;
@@ -16,19 +21,33 @@ import com.unisync.schedule.todos.exception.TodoNotFoundException;
 import com.unisync.schedule.categories.exception.CategoryNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TodoService {
 
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 500;
+
     private final TodoRepository todoRepository;
     private final CategoryRepository categoryRepository;
     private final GroupPermissionService groupPermissionService;
@@ -77,9 +96,10 @@ public class TodoService {
         Todo savedTodo = todoRepository.save(todo);
         log.info("할일 생성 완료 - todoId: {}", savedTodo.getTodoId());
 
-        // 부모 할일의 진행률 재계산
+        // 부모 할일부터 서브태스크 집계 반영 (진행률 0인 서브태스크 1개 추가)
         if (savedTodo.getParentTodoId() != null) {
-            updateParentProgress(savedTodo.getParentTodoId());
+            List<Long> ancestorIds = todoRepository.findAncestorIds(savedTodo.getParentTodoId());
+            rollUpSubtaskChange(ancestorIds, lockRollups(ancestorIds), 1, 0);
         }
 
         return TodoResponse.from(savedTodo);
@@ -114,46 +134,86 @@ public class TodoService {
 
     /**
      * 사용자/그룹/통합 조회
+     *
+     * 소유자/기간/상태/우선순위 조건은 모두 SQL로 내려가고, (마감일, ID) 순으로 준다.
+     * cursor나 size를 준 요청만 size개씩 자른 커서 페이지로 주고, 둘 다 없으면 기존처럼 전부 준다.
+     * 페이지는 size + 1개를 읽어 다음 페이지 유무를 판단하므로 COUNT 쿼리는 없다.
+     *
+     * @param cursor 이전 페이지의 nextCursor (null이면 첫 페이지)
+     * @param size 페이지 크기 (cursor만 주면 DEFAULT_PAGE_SIZE, 최대 MAX_PAGE_SIZE)
      */
     @Transactional(readOnly = true)
-    public List<TodoResponse> getTodos(
+    public TodoPageResponse getTodos(
             String cognitoSub,
             Long groupId,
             Boolean includeGroups,
             LocalDate startDate,
             LocalDate endDate,
             String status,
-            String priority
+            String priority,
+            String cursor,
+            Integer size
     ) {
-        List<Todo> todos;
+        TodoStatus statusFilter = parseStatus(status);
+        TodoPriority priorityFilter = parsePriority(priority);
+        TodoCursor after = TodoCursor.decode(cursor);
+        boolean paged = cursor != null || size != null;
+        int pageSize = resolvePageSize(size);
 
+        Specification<Todo> owner;
         if (groupId != null) {
             groupPermissionService.validateReadPermission(groupId, cognitoSub);
-            todos = fetchGroupTodos(groupId);
+            owner = TodoSpecifications.inGroup(groupId);
         } else if (Boolean.TRUE.equals(includeGroups)) {
             List<Long> groupIds = userServiceClient.getUserGroupIds(cognitoSub);
-            if (groupIds.isEmpty()) {
-                todos = fetchPersonalTodos(cognitoSub);
-            } else {
-                todos = todoRepository.findByCognitoSubOrGroupIdIn(cognitoSub, groupIds);
-            }
+            owner = groupIds.isEmpty()
+                    ? TodoSpecifications.personal(cognitoSub)
+                    : TodoSpecifications.personalOrInGroups(cognitoSub, groupIds);
         } else {
-            todos = fetchPersonalTodos(cognitoSub);
+            owner = TodoSpecifications.personal(cognitoSub);
         }
 
-        List<Todo> filtered = applyFilters(todos, startDate, endDate, status, priority);
-
-        return filtered.stream()
-                .map(TodoResponse::from)
-                .collect(Collectors.toList());
-    }
+        Specification<Todo> spec = Specification.allOf(Stream.of(
+                        owner,
+                        TodoSpecifications.startsOnOrAfter(startDate),
+                        TodoSpecifications.dueOnOrBefore(endDate),
+                        TodoSpecifications.hasStatus(statusFilter),
+                        TodoSpecifications.hasPriority(priorityFilter),
+                        after != null ? TodoSpecifications.after(after.dueDate(), after.todoId()) : null)
+                .filter(Objects::nonNull)
+                .toList());
+
+        List<Todo> todos = paged
+                ? todoRepository.findBy(spec, query -> query
+                        .sortBy(TodoSpecifications.KEYSET_ORDER)
+                        .limit(pageSize + 1)
+                        .all())
+                : todoRepository.findBy(spec, query -> query
+                        .sortBy(TodoSpecifications.KEYSET_ORDER)
+                        .all());
+
+        String nextCursor = null;
+        if (paged && todos.size() > pageSize) {
+            todos = todos.subList(0, pageSize);
+            nextCursor = TodoCursor.of(todos.get(pageSize - 1)).encode();
+        }
 
-    private List<Todo> fetchPersonalTodos(String cognitoSub) {
-        return todoRepository.findByCognitoSub(cognitoSub);
+        return TodoPageResponse.builder()
+                .todos(todos.stream()
+                        .map(TodoResponse::from)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .build();
     }
 
-    private List<Todo> fetchGroupTodos(Long groupId) {
-        return todoRepository.findByGroupId(groupId);
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidTodoException("페이지 크기는 1에서 " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        return size;
     }
 
     /**
@@ -193,20 +253,33 @@ public class TodoService {
 
     /**
      * 일정에 연결된 할일(서브태스크 포함) 조회
+     *
+     * 루트 할일과 모든 하위 서브태스크를 한 번에 조회한 뒤 부모 ID → 자식 목록으로 트리를 조립한다.
+     * (트리 깊이/노드 수와 무관하게 쿼리 1회)
      */
     @Transactional(readOnly = true)
     public List<TodoWithSubtasksResponse> getTodosByScheduleIdWithSubtasks(Long scheduleId) {
-        List<Todo> mainTodos = todoRepository.findByScheduleIdAndParentTodoIdIsNull(scheduleId);
+        List<Todo> tree = todoRepository.findTreeByScheduleId(scheduleId);
+
+        List<Todo> mainTodos = new ArrayList<>();
+        Map<Long, List<Todo>> subtasksByParentId = new HashMap<>();
+        for (Todo todo : tree) {
+            if (todo.getParentTodoId() == null) {
+                mainTodos.add(todo);
+            } else {
+                subtasksByParentId.computeIfAbsent(todo.getParentTodoId(), id -> new ArrayList<>()).add(todo);
+            }
+        }
 
         return mainTodos.stream()
-                .map(this::buildTodoWithSubtasks)
+                .map(todo -> buildTodoWithSubtasks(todo, subtasksByParentId))
                 .collect(Collectors.toList());
     }
 
-    private TodoWithSubtasksResponse buildTodoWithSubtasks(Todo todo) {
-        List<Todo> subtasks = todoRepository.findByParentTodoId(todo.getTodoId());
-        List<TodoWithSubtasksResponse> subtaskResponses = subtasks.stream()
-                .map(this::buildTodoWithSubtasks)
+    private TodoWithSubtasksResponse buildTodoWithSubtasks(Todo todo, Map<Long, List<Todo>> subtasksByParentId) {
+        List<TodoWithSubtasksResponse> subtaskResponses = subtasksByParentId
+                .getOrDefault(todo.getTodoId(), List.of()).stream()
+                .map(subtask -> buildTodoWithSubtasks(subtask, subtasksByParentId))
                 .collect(Collectors.toList());
 
         return TodoWithSubtasksResponse.from(todo, subtaskResponses);
@@ -264,23 +337,19 @@ public class TodoService {
 
         validateTodoOwnership(todo, cognitoSub);
 
-        // 상태 업데이트
-        todo.setStatus(status);
+        // 변경 전에 자신과 조상을 잠그고 잠근 값을 이전 진행률로 사용
+        List<Long> chain = findChain(todo);
+        Map<Long, TodoRollupProjection> rollups = lockRollups(chain);
+        int previousProgress = currentProgress(todo, rollups);
 
-        // 상태에 따라 진행률 자동 설정
-        if (status == TodoStatus.DONE) {
-            todo.setProgressPercentage(100);
-        } else if (status == TodoStatus.TODO) {
-            todo.setProgressPercentage(0);
-        }
+        // 상태 업데이트 (상태에 따라 진행률 자동 설정)
+        applyStatus(todo, status);
 
         Todo updatedTodo = todoRepository.save(todo);
         log.info("할일 상태 변경 완료 - todoId: {}, status: {}", todoId, status);
 
-        // 부모 할일의 진행률 재계산
-        if (updatedTodo.getParentTodoId() != null) {
-            updateParentProgress(updatedTodo.getParentTodoId());
-        }
+        // 부모 할일부터 진행률 변화량 반영
+        rollUpSubtaskChange(parentsOf(chain), rollups, 0, updatedTodo.getProgressPercentage() - previousProgress);
 
         return TodoResponse.from(updatedTodo);
     }
@@ -303,29 +372,119 @@ public class TodoService {
 
         validateTodoOwnership(todo, cognitoSub);
 
-        // 진행률 업데이트
-        todo.setProgressPercentage(progress);
+        // 변경 전에 자신과 조상을 잠그고 잠근 값을 이전 진행률로 사용
+        List<Long> chain = findChain(todo);
+        Map<Long, TodoRollupProjection> rollups = lockRollups(chain);
+        int previousProgress = currentProgress(todo, rollups);
 
-        // 진행률에 따라 상태 자동 변경
-        if (progress == 0) {
-            todo.setStatus(TodoStatus.TODO);
-        } else if (progress == 100) {
-            todo.setStatus(TodoStatus.DONE);
-        } else {
-            todo.setStatus(TodoStatus.IN_PROGRESS);
-        }
+        // 진행률 업데이트 (진행률에 따라 상태 자동 변경)
+        applyProgress(todo, progress);
 
         Todo updatedTodo = todoRepository.save(todo);
         log.info("할일 진행률 변경 완료 - todoId: {}, progress: {}%", todoId, progress);
 
-        // 부모 할일의 진행률 재계산
-        if (updatedTodo.getParentTodoId() != null) {
-            updateParentProgress(updatedTodo.getParentTodoId());
-        }
+        // 부모 할일부터 진행률 변화량 반영
+        rollUpSubtaskChange(parentsOf(chain), rollups, 0, progress - previousProgress);
 
         return TodoResponse.from(updatedTodo);
     }
 
+    /**
+     * 할일 상태/진행률 일괄 변경
+     *
+     * 체크리스트를 한꺼번에 정리하는 경우처럼 여러 할일을 한 요청으로 바꾼다.
+     * - 할일은 한 번에 조회하고, 그룹 권한은 그룹마다 한 번만 확인
+     * - 할일과 모든 조상은 단건 변경과 같이 한 번의 조회로 ID 순으로 잠금
+     * - 부모 진행률은 부모마다 변화량을 모아 한 번만 반영
+     * - 변경된 할일은 한 번에 저장 (JDBC 배치)
+     *
+     * @return 요청 순서대로 변경된 할일 (다른 할일의 조상이면 다시 집계한 진행률/상태)
+     */
+    @Transactional
+    public List<TodoResponse> bulkUpdateTodos(List<BulkUpdateTodosRequest.Item> items, String cognitoSub) {
+        log.info("할일 일괄 변경 요청 - cognitoSub: {}, count: {}", cognitoSub, items.size());
+
+        Set<Long> todoIds = new LinkedHashSet<>();
+        for (BulkUpdateTodosRequest.Item item : items) {
+            if ((item.getStatus() == null) == (item.getProgressPercentage() == null)) {
+                throw new InvalidTodoException("상태 또는 진행률 중 하나만 지정해야 합니다. ID: " + item.getTodoId());
+            }
+            if (item.getProgressPercentage() != null
+                    && (item.getProgressPercentage() < 0 || item.getProgressPercentage() > 100)) {
+                throw new InvalidTodoException("진행률은 0에서 100 사이여야 합니다.");
+            }
+            if (!todoIds.add(item.getTodoId())) {
+                throw new InvalidTodoException("같은 할일을 중복해서 변경할 수 없습니다. ID: " + item.getTodoId());
+            }
+        }
+
+        // 할일 조회 및 권한 확인 (그룹마다 한 번)
+        Map<Long, Todo> todosById = todoRepository.findAllById(todoIds).stream()
+                .collect(Collectors.toMap(Todo::getTodoId, todo -> todo));
+        Set<Long> checkedGroupIds = new HashSet<>();
+        for (Long todoId : todoIds) {
+            Todo todo = todosById.get(todoId);
+            if (todo == null) {
+                throw new TodoNotFoundException("할일을 찾을 수 없습니다. ID: " + todoId);
+            }
+            if (todo.getGroupId() == null || checkedGroupIds.add(todo.getGroupId())) {
+                validateTodoOwnership(todo, cognitoSub);
+            }
+        }
+
+        // 할일과 모든 조상을 한 번에 ID 순으로 잠금 (조상 ID는 부모마다 한 번 조회)
+        Map<Long, List<Long>> ancestorIdsByParentId = new HashMap<>();
+        Set<Long> lockIds = new HashSet<>(todoIds);
+        for (Todo todo : todosById.values()) {
+            if (todo.getParentTodoId() != null) {
+                lockIds.addAll(ancestorIdsByParentId.computeIfAbsent(
+                        todo.getParentTodoId(), todoRepository::findAncestorIds));
+            }
+        }
+        Map<Long, TodoRollupProjection> rollups = lockRollups(lockIds);
+
+        // 변경 적용 및 부모별 진행률 변화량 집계
+        List<Todo> updatedTodos = new ArrayList<>(items.size());
+        Map<Long, Integer> progressDeltaByParentId = new LinkedHashMap<>();
+        for (BulkUpdateTodosRequest.Item item : items) {
+            Todo todo = todosById.get(item.getTodoId());
+            int previousProgress = currentProgress(todo, rollups);
+
+            if (item.getStatus() != null) {
+                applyStatus(todo, item.getStatus());
+            } else {
+                applyProgress(todo, item.getProgressPercentage());
+            }
+            updatedTodos.add(todo);
+            // 다른 할일의 조상이면 이 값에서 이어서 집계
+            rollups.computeIfPresent(todo.getTodoId(),
+                    (todoId, rollup) -> rollup.withProgress(todo.getProgressPercentage(), todo.getStatus()));
+
+            int progressDelta = todo.getProgressPercentage() - previousProgress;
+            if (todo.getParentTodoId() != null && progressDelta != 0) {
+                progressDeltaByParentId.merge(todo.getParentTodoId(), progressDelta, Integer::sum);
+            }
+        }
+
+        todoRepository.saveAll(updatedTodos);
+        progressDeltaByParentId.forEach((parentTodoId, progressDelta) ->
+                rollUpSubtaskChange(ancestorIdsByParentId.get(parentTodoId), rollups, 0, progressDelta));
+        log.info("할일 일괄 변경 완료 - count: {}, 부모 {}개 반영", updatedTodos.size(), progressDeltaByParentId.size());
+
+        // 다른 할일의 조상이라 다시 집계된 할일은 반영한 값으로 응답
+        for (Todo todo : updatedTodos) {
+            TodoRollupProjection rollup = rollups.get(todo.getTodoId());
+            if (rollup.progressPercentage() != todo.getProgressPercentage() || rollup.status() != todo.getStatus()) {
+                todo.setProgressPercentage(rollup.progressPercentage());
+                todo.setStatus(rollup.status());
+            }
+        }
+
+        return updatedTodos.stream()
+                .map(TodoResponse::from)
+                .collect(Collectors.toList());
+    }
+
     /**
      * 할일 삭제
      */
@@ -339,6 +498,11 @@ public class TodoService {
 
         validateTodoOwnership(todo, cognitoSub);
 
+        // 삭제 전에 자신과 조상을 잠그고 잠근 값을 삭제할 진행률로 사용
+        List<Long> chain = findChain(todo);
+        Map<Long, TodoRollupProjection> rollups = lockRollups(chain);
+        int progress = currentProgress(todo, rollups);
+
         // 서브태스크가 있는 경우 함께 삭제
         List<Todo> subtasks = todoRepository.findByParentTodoId(todoId);
         if (!subtasks.isEmpty()) {
@@ -346,63 +510,143 @@ public class TodoService {
             todoRepository.deleteAll(subtasks);
         }
 
-        Long parentTodoId = todo.getParentTodoId();
-
         todoRepository.delete(todo);
         log.info("할일 삭제 완료 - todoId: {}", todoId);
 
-        // 부모 할일의 진행률 재계산
-        if (parentTodoId != null) {
-            updateParentProgress(parentTodoId);
-        }
+        // 부모 할일부터 서브태스크 집계 반영 (삭제한 서브태스크 1개와 그 진행률 제외)
+        rollUpSubtaskChange(parentsOf(chain), rollups, -1, -progress);
     }
 
     /**
-     * 부모 할일의 진행률 재계산
+     * 서브태스크 변경을 부모 → 조상 순으로 반영
+     *
+     * 각 할일은 직계 서브태스크 수(subtaskCount)와 진행률 합(subtaskProgressSum)을 들고 있어
+     * 형제 서브태스크를 다시 읽지 않고 변화량만 더해 평균 진행률을 구한다.
+     * 부모의 진행률이 바뀌면 그 변화량을 다시 위로 올리고, 평균이 그대로면 거기서 멈춘다.
+     *
+     * @param ancestorIds 변경된 서브태스크의 부모 → 루트 순 조상 ID (없으면 반영하지 않음)
+     * @param rollups 잠가 둔 집계 (ancestorIds를 모두 포함)
+     * @param countDelta 서브태스크 수 변화 (생성 +1, 삭제 -1)
+     * @param progressDelta 서브태스크 진행률 합 변화
      */
-    private void updateParentProgress(Long parentTodoId) {
-        Todo parentTodo = todoRepository.findById(parentTodoId).orElse(null);
-        if (parentTodo == null) {
+    private void rollUpSubtaskChange(List<Long> ancestorIds, Map<Long, TodoRollupProjection> rollups,
+                                     int countDelta, int progressDelta) {
+        if (ancestorIds.isEmpty() || (countDelta == 0 && progressDelta == 0)) {
             return;
         }
 
-        List<Todo> subtasks = todoRepository.findByParentTodoId(parentTodoId);
-        if (subtasks.isEmpty()) {
-            // 서브태스크가 없으면 진행률 유지
-            return;
+        int updated = propagateSubtaskChange(ancestorIds, rollups, countDelta, progressDelta);
+        log.info("부모 할일 진행률 반영 완료 - parentTodoId: {}, 갱신 {}건", ancestorIds.get(0), updated);
+    }
+
+    /**
+     * 서브태스크면 자신과 모든 조상 ID (자신 → 루트 순), 최상위 할일이면 빈 목록
+     */
+    private List<Long> findChain(Todo todo) {
+        if (todo.getParentTodoId() == null) {
+            return List.of();
         }
+        return todoRepository.findAncestorIds(todo.getTodoId());
+    }
 
-        // 서브태스크들의 평균 진행률 계산
-        int totalProgress = subtasks.stream()
-                .mapToInt(Todo::getProgressPercentage)
-                .sum();
-        int averageProgress = totalProgress / subtasks.size();
+    /**
+     * 자신 → 루트 순 ID에서 자신을 뺀 조상 ID
+     */
+    private static List<Long> parentsOf(List<Long> chain) {
+        return chain.isEmpty() ? chain : chain.subList(1, chain.size());
+    }
 
-        parentTodo.setProgressPercentage(averageProgress);
+    /**
+     * 잠가 둔 진행률 (잠그지 않은 최상위 할일은 엔티티 값)
+     */
+    private static int currentProgress(Todo todo, Map<Long, TodoRollupProjection> rollups) {
+        TodoRollupProjection rollup = rollups.get(todo.getTodoId());
+        return rollup != null ? rollup.progressPercentage() : todo.getProgressPercentage();
+    }
 
-        // 진행률에 따라 상태 자동 변경
-        if (averageProgress == 0) {
-            parentTodo.setStatus(TodoStatus.TODO);
-        } else if (averageProgress == 100) {
-            parentTodo.setStatus(TodoStatus.DONE);
-        } else {
-            parentTodo.setStatus(TodoStatus.IN_PROGRESS);
+    /**
+     * 집계/진행률을 한 번의 SELECT ... FOR UPDATE로 ID 순으로 잠그며 조회
+     *
+     * 단건/일괄 변경 모두 변경할 할일과 조상을 이 조회 한 번으로 잠그므로 잠그는 순서가 항상 ID 순으로 같아
+     * 서로 엇갈려 기다리지 않는다. 잠근 행은 트랜잭션이 끝날 때까지 다른 변경이 기다리므로,
+     * 이후 계산은 이 값을 기준으로 해도 형제 서브태스크의 동시 변경을 잃지 않는다.
+     */
+    private Map<Long, TodoRollupProjection> lockRollups(Collection<Long> todoIds) {
+        if (todoIds.isEmpty()) {
+            return new HashMap<>();
         }
+        return todoRepository.lockRollups(todoIds).stream()
+                .collect(Collectors.toMap(TodoRollupProjection::todoId, rollup -> rollup));
+    }
+
+    /**
+     * 변화량을 부모부터 조상으로 전파
+     *
+     * 잠가 둔 집계(rollups)에서 새 집계/진행률/상태를 계산하고, 바뀐 조상마다 UPDATE 한 번으로 반영한다.
+     * 조상마다 다시 조회하지 않으며, 계산한 값은 rollups에도 남겨 같은 트랜잭션의 다음 전파가 이어서 쓴다.
+     *
+     * @param ancestorIds 부모 → 루트 순 조상 ID
+     * @param rollups 잠가 둔 집계 (ancestorIds를 모두 포함)
+     * @return 집계를 갱신한 할일 수
+     */
+    private int propagateSubtaskChange(List<Long> ancestorIds, Map<Long, TodoRollupProjection> rollups,
+                                       int countDelta, int progressDelta) {
+        int updated = 0;
+        for (Long ancestorId : ancestorIds) {
+            TodoRollupProjection rollup = rollups.get(ancestorId).addSubtasks(countDelta, progressDelta);
+            int previousProgress = rollup.progressPercentage();
+            // 서브태스크가 없으면 진행률 유지
+            if (rollup.subtaskCount() > 0) {
+                int averageProgress = rollup.subtaskProgressSum() / rollup.subtaskCount();
+                rollup = rollup.withProgress(averageProgress, statusOf(averageProgress));
+            }
 
-        todoRepository.save(parentTodo);
-        log.info("부모 할일 진행률 재계산 완료 - parentTodoId: {}, progress: {}%", parentTodoId, averageProgress);
+            rollups.put(ancestorId, rollup);
+            todoRepository.updateRollup(ancestorId, rollup.subtaskCount(), rollup.subtaskProgressSum(),
+                    rollup.progressPercentage(), rollup.status());
+            updated++;
+
+            progressDelta = rollup.progressPercentage() - previousProgress;
+            if (progressDelta == 0) {
+                break;
+            }
+            countDelta = 0;
+        }
+        return updated;
     }
 
-    private List<Todo> applyFilters(List<Todo> todos, LocalDate startDate, LocalDate endDate, String status, String priority) {
-        TodoStatus statusFilter = parseStatus(status);
-        TodoPriority priorityFilter = parsePriority(priority);
+    /**
+     * 상태 설정 및 상태에 따라 진행률 자동 설정 (IN_PROGRESS는 진행률 유지)
+     */
+    private void applyStatus(Todo todo, TodoStatus status) {
+        todo.setStatus(status);
 
-        return todos.stream()
-                .filter(todo -> startDate == null || !todo.getStartDate().isBefore(startDate))
-                .filter(todo -> endDate == null || !todo.getDueDate().isAfter(endDate))
-                .filter(todo -> statusFilter == null || statusFilter.equals(todo.getStatus()))
-                .filter(todo -> priorityFilter == null || priorityFilter.equals(todo.getPriority()))
-                .collect(Collectors.toList());
+        if (status == TodoStatus.DONE) {
+            todo.setProgressPercentage(100);
+        } else if (status == TodoStatus.TODO) {
+            todo.setProgressPercentage(0);
+        }
+    }
+
+    /**
+     * 진행률 설정 및 진행률에 따라 상태 자동 변경
+     */
+    private void applyProgress(Todo todo, int progress) {
+        todo.setProgressPercentage(progress);
+        todo.setStatus(statusOf(progress));
+    }
+
+    /**
+     * 진행률에 따른 상태 (0% → TODO, 100% → DONE, 그 외 → IN_PROGRESS)
+     */
+    private static TodoStatus statusOf(int progress) {
+        if (progress == 0) {
+            return TodoStatus.TODO;
+        }
+        if (progress == 100) {
+            return TodoStatus.DONE;
+        }
+        return TodoStatus.IN_PROGRESS;
     }
 
     private TodoStatus parseStatus(String status) {
@@ -1,12 +1,18 @@
 package com.unisync.schedule.assignment.service;
 
-import com.unisync.schedule.assignment.dto.UserAssignmentsBatchMessage;
 import com.unisync.schedule.assignment.dto.UserAssignmentsBatchMessage.AssignmentPayload;
+import com.unisync.schedule.assignment.dto.UserAssignmentsBatchMessage;
 import com.unisync.schedule.categories.service.CategoryService;
-import com.unisync.schedule.common.entity.Schedule;
+import com.unisync.schedule.common.entity.AssignmentSyncState;
 import com.unisync.schedule.common.entity.Schedule.ScheduleSource;
 import com.unisync.schedule.common.entity.Schedule.ScheduleStatus;
+import com.unisync.schedule.common.entity.Schedule;
+import com.unisync.schedule.common.repository.AssignmentSyncStateRepository;
+import com.unisync.schedule.common.repository.ScheduleJdbcRepository;
 import com.unisync.schedule.common.repository.ScheduleRepository;
+import com.unisync.schedule.coordination.index.BusyBitmapIndex;
+import com.unisync.schedule.internal.client.CourseServiceClient;
+import com.unisync.shared.util.CanvasContentHash;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,9 +26,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -43,11 +55,23 @@ class AssignmentServiceTest {
     @Mock
     private CategoryService categoryService;
 
+    @Mock
+    private ScheduleJdbcRepository scheduleJdbcRepository;
+
+    @Mock
+    private AssignmentSyncStateRepository assignmentSyncStateRepository;
+
+    @Mock
+    private CourseServiceClient courseServiceClient;
+
+    @Mock
+    private BusyBitmapIndex busyBitmapIndex;
+
     @InjectMocks
     private AssignmentService assignmentService;
 
     @Captor
-    private ArgumentCaptor<Schedule> scheduleCaptor;
+    private ArgumentCaptor<List<Schedule>> schedulesCaptor;
 
     private UserAssignmentsBatchMessage validMessage;
     private Long canvasCategoryId;
@@ -102,25 +126,22 @@ class AssignmentServiceTest {
         given(scheduleRepository.findByCognitoSubAndSource("user-123", ScheduleSource.CANVAS))
             .willReturn(List.of(existingStale));
 
-        given(categoryService.getOrCreateCourseCategory(eq("user-123"), any(), any()))
-            .willReturn(canvasCategoryId);
-
-        given(scheduleRepository.save(any(Schedule.class)))
-            .willAnswer(invocation -> {
-                Schedule arg = invocation.getArgument(0);
-                arg.setScheduleId(arg.getScheduleId() == null ? 1L : arg.getScheduleId());
-                return arg;
-            });
+        given(categoryService.getOrCreateCourseCategories("user-123", Map.of(10L, "데이터구조", 11L, "알고리즘")))
+            .willReturn(Map.of(10L, canvasCategoryId, 11L, 101L));
 
         // when
         assignmentService.processAssignmentsBatch(validMessage);
 
-        // then
-        then(scheduleRepository).should(times(2)).save(scheduleCaptor.capture());
-        then(scheduleRepository).should(times(1)).delete(existingStale);
+        // then: 과목 카테고리 1회 일괄 조회, INSERT/DELETE 각 1회 배치
+        then(categoryService).should(times(1)).getOrCreateCourseCategories(anyString(), anyMap());
+        then(categoryService).should(never()).getOrCreateCourseCategory(anyString(), any(), any());
+        then(scheduleJdbcRepository).should(times(1)).batchInsert(schedulesCaptor.capture());
+        then(scheduleRepository).should(times(1)).deleteAllByScheduleIdIn(Set.of(99L));
+        then(scheduleRepository).should(never()).save(any(Schedule.class));
 
-        List<Schedule> saved = scheduleCaptor.getAllValues();
+        List<Schedule> saved = schedulesCaptor.getValue();
         assertThat(saved).hasSize(2);
+        assertThat(saved).extracting(Schedule::getCategoryId).containsExactly(canvasCategoryId, 101L);
         assertThat(saved.get(0).getSource()).isEqualTo(ScheduleSource.CANVAS);
         assertThat(saved.get(0).getIsAllDay()).isFalse();
         assertThat(saved.get(0).getTitle()).isEqualTo("중간고사 프로젝트");
@@ -158,8 +179,8 @@ class AssignmentServiceTest {
         assignmentService.processAssignmentsBatch(validMessage);
 
         // then
-        then(scheduleRepository).should(times(1)).delete(existing);
-        then(scheduleRepository).should(never()).save(any(Schedule.class));
+        then(scheduleRepository).should(times(1)).deleteAllByScheduleIdIn(Set.of(5L));
+        then(scheduleJdbcRepository).should(never()).batchInsert(anyList());
     }
 
     @Test
@@ -169,7 +190,219 @@ class AssignmentServiceTest {
 
         assignmentService.processAssignmentsBatch(validMessage);
 
+        then(scheduleJdbcRepository).should(never()).batchInsert(anyList());
+        then(scheduleRepository).should(never()).deleteAllByScheduleIdIn(any());
+    }
+
+    @Test
+    @DisplayName("content hash가 같은 기존 일정은 수정/저장하지 않음")
+    void processAssignmentsBatch_unchangedContentHash_skipsSave() {
+        AssignmentPayload payload = validMessage.getAssignments().get(0);
+        payload.setContentHash("hash-1");
+        validMessage.setAssignments(List.of(payload));
+
+        Schedule existing = Schedule.builder()
+            .scheduleId(7L)
+            .cognitoSub("user-123")
+            .categoryId(canvasCategoryId)
+            .title("중간고사 프로젝트")
+            .source(ScheduleSource.CANVAS)
+            .sourceId("canvas-assignment-456-user-123")
+            .sourceContentHash("hash-1")
+            .build();
+
+        given(scheduleRepository.findByCognitoSubAndSource("user-123", ScheduleSource.CANVAS))
+            .willReturn(List.of(existing));
+
+        // when
+        assignmentService.processAssignmentsBatch(validMessage);
+
+        // then
+        then(scheduleJdbcRepository).should(never()).batchInsert(anyList());
+        then(scheduleRepository).should(never()).deleteAllByScheduleIdIn(any());
+        then(categoryService).should(never()).getOrCreateCourseCategories(anyString(), anyMap());
+    }
+
+    @Test
+    @DisplayName("content hash가 없으면 Course-Service와 같은 필드(submissionTypes 포함)로 계산해 비교")
+    void processAssignmentsBatch_missingContentHash_hashesSameFieldsAsCourseService() {
+        AssignmentPayload payload = validMessage.getAssignments().get(0);
+        payload.setSubmissionTypes("online_upload");
+        validMessage.setAssignments(List.of(payload));
+
+        // Course-Service가 Assignment 저장 시 계산한 값 (Integer 배점)
+        String courseHash = CanvasContentHash.of("중간고사 프로젝트", "Spring Boot로 REST API 구현",
+            LocalDateTime.of(2025, 11, 15, 23, 59, 59), 100, "online_upload");
+        Schedule existing = Schedule.builder()
+            .scheduleId(7L)
+            .cognitoSub("user-123")
+            .categoryId(canvasCategoryId)
+            .title("중간고사 프로젝트")
+            .source(ScheduleSource.CANVAS)
+            .sourceId("canvas-assignment-456-user-123")
+            .sourceContentHash(courseHash)
+            .build();
+
+        given(scheduleRepository.findByCognitoSubAndSource("user-123", ScheduleSource.CANVAS))
+            .willReturn(List.of(existing));
+
+        // when
+        assignmentService.processAssignmentsBatch(validMessage);
+
+        // then: 내용이 같으므로 갱신하지 않음
+        assertThat(existing.getSourceContentHash()).isEqualTo(courseHash);
+        then(scheduleJdbcRepository).should(never()).batchInsert(anyList());
+    }
+
+    @Test
+    @DisplayName("content hash가 다르면 기존 일정을 갱신하고 hash를 저장")
+    void processAssignmentsBatch_changedContentHash_updatesSchedule() {
+        AssignmentPayload payload = validMessage.getAssignments().get(0);
+        payload.setContentHash("hash-2");
+        validMessage.setAssignments(List.of(payload));
+
+        Schedule existing = Schedule.builder()
+            .scheduleId(7L)
+            .cognitoSub("user-123")
+            .categoryId(canvasCategoryId)
+            .title("이전 제목")
+            .source(ScheduleSource.CANVAS)
+            .sourceId("canvas-assignment-456-user-123")
+            .sourceContentHash("hash-1")
+            .build();
+
+        given(scheduleRepository.findByCognitoSubAndSource("user-123", ScheduleSource.CANVAS))
+            .willReturn(List.of(existing));
+
+        // when
+        assignmentService.processAssignmentsBatch(validMessage);
+
+        // then: managed 엔티티 변경 → flush 시 배치 UPDATE, 별도 save/INSERT 없음
         then(scheduleRepository).should(never()).save(any(Schedule.class));
-        then(scheduleRepository).should(never()).delete(any(Schedule.class));
+        then(scheduleJdbcRepository).should(never()).batchInsert(anyList());
+        assertThat(existing.getTitle()).isEqualTo("중간고사 프로젝트");
+        assertThat(existing.getSourceContentHash()).isEqualTo("hash-2");
+    }
+
+    @Test
+    @DisplayName("delta - 직전 sequence 다음이면 변경분만 반영하고 sequence 갱신")
+    void processAssignmentsBatch_delta_appliesInOrder() {
+        AssignmentSyncState state = syncState(4L);
+        given(assignmentSyncStateRepository.findForUpdate("user-123")).willReturn(Optional.of(state));
+
+        Schedule removed = Schedule.builder()
+            .scheduleId(8L)
+            .cognitoSub("user-123")
+            .source(ScheduleSource.CANVAS)
+            .sourceId("canvas-assignment-500-user-123")
+            .build();
+        given(scheduleRepository.findBySourceAndSourceIdIn(eq(ScheduleSource.CANVAS), any()))
+            .willReturn(List.of(removed));
+        given(categoryService.getOrCreateCourseCategories(eq("user-123"), anyMap()))
+            .willReturn(Map.of(10L, canvasCategoryId));
+
+        UserAssignmentsBatchMessage delta = UserAssignmentsBatchMessage.builder()
+            .eventType(UserAssignmentsBatchMessage.EVENT_TYPE_DELTA)
+            .cognitoSub("user-123")
+            .sequence(5L)
+            .addedAssignments(List.of(validMessage.getAssignments().get(0)))
+            .removedCanvasAssignmentIds(List.of(500L))
+            .build();
+
+        // when
+        assignmentService.processAssignmentsBatch(delta);
+
+        // then
+        then(scheduleJdbcRepository).should(times(1)).batchInsert(schedulesCaptor.capture());
+        assertThat(schedulesCaptor.getValue()).extracting(Schedule::getSourceId)
+            .containsExactly("canvas-assignment-456-user-123");
+        then(scheduleRepository).should(times(1)).deleteAllByScheduleIdIn(Set.of(8L));
+        then(scheduleRepository).should(never()).findByCognitoSubAndSource(anyString(), any());
+        then(courseServiceClient).should(never()).getAssignmentSnapshot(anyString());
+        assertThat(state.getLastSequence()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("delta - 이미 반영한 sequence는 무시")
+    void processAssignmentsBatch_delta_skipsDuplicate() {
+        given(assignmentSyncStateRepository.findForUpdate("user-123")).willReturn(Optional.of(syncState(5L)));
+
+        UserAssignmentsBatchMessage delta = UserAssignmentsBatchMessage.builder()
+            .eventType(UserAssignmentsBatchMessage.EVENT_TYPE_DELTA)
+            .cognitoSub("user-123")
+            .sequence(5L)
+            .addedAssignments(validMessage.getAssignments())
+            .build();
+
+        assignmentService.processAssignmentsBatch(delta);
+
+        then(scheduleJdbcRepository).should(never()).batchInsert(anyList());
+        then(assignmentSyncStateRepository).should(never()).save(any());
+    }
+
+    @Test
+    @DisplayName("delta - sequence 누락 시 Course-Service snapshot으로 전체 복구")
+    void processAssignmentsBatch_deltaGap_fallsBackToSnapshot() {
+        AssignmentSyncState state = syncState(2L);
+        given(assignmentSyncStateRepository.findForUpdate("user-123")).willReturn(Optional.of(state));
+
+        validMessage.setSequence(9L);
+        given(courseServiceClient.getAssignmentSnapshot("user-123")).willReturn(Optional.of(validMessage));
+        given(scheduleRepository.findByCognitoSubAndSource("user-123", ScheduleSource.CANVAS))
+            .willReturn(List.of());
+        given(categoryService.getOrCreateCourseCategories(eq("user-123"), anyMap()))
+            .willReturn(Map.of(10L, canvasCategoryId, 11L, canvasCategoryId));
+
+        UserAssignmentsBatchMessage delta = UserAssignmentsBatchMessage.builder()
+            .eventType(UserAssignmentsBatchMessage.EVENT_TYPE_DELTA)
+            .cognitoSub("user-123")
+            .sequence(5L)
+            .changedAssignments(List.of())
+            .build();
+
+        // when
+        assignmentService.processAssignmentsBatch(delta);
+
+        // then
+        then(scheduleJdbcRepository).should(times(1)).batchInsert(schedulesCaptor.capture());
+        assertThat(schedulesCaptor.getValue()).hasSize(2);
+        then(scheduleRepository).should(never()).findBySourceAndSourceIdIn(any(), any());
+        assertThat(state.getLastSequence()).isEqualTo(9L);
+    }
+
+    @Test
+    @DisplayName("delta - snapshot 조회 실패 시 예외로 메시지를 재처리 대상으로 남김")
+    void processAssignmentsBatch_deltaGap_snapshotUnavailable_throws() {
+        given(assignmentSyncStateRepository.findForUpdate("user-123")).willReturn(Optional.empty());
+        given(courseServiceClient.getAssignmentSnapshot("user-123")).willReturn(Optional.empty());
+
+        UserAssignmentsBatchMessage delta = UserAssignmentsBatchMessage.builder()
+            .eventType(UserAssignmentsBatchMessage.EVENT_TYPE_DELTA)
+            .cognitoSub("user-123")
+            .sequence(3L)
+            .build();
+
+        assertThatThrownBy(() -> assignmentService.processAssignmentsBatch(delta))
+            .isInstanceOf(IllegalStateException.class);
+        then(scheduleJdbcRepository).should(never()).batchInsert(anyList());
+    }
+
+    @Test
+    @DisplayName("snapshot - 이미 더 최신 sequence를 반영했다면 무시")
+    void processAssignmentsBatch_staleSnapshot_skipped() {
+        given(assignmentSyncStateRepository.findForUpdate("user-123")).willReturn(Optional.of(syncState(6L)));
+        validMessage.setSequence(6L);
+
+        assignmentService.processAssignmentsBatch(validMessage);
+
+        then(scheduleRepository).should(never()).findByCognitoSubAndSource(anyString(), any());
+        then(scheduleJdbcRepository).should(never()).batchInsert(anyList());
+    }
+
+    private AssignmentSyncState syncState(long lastSequence) {
+        return AssignmentSyncState.builder()
+            .cognitoSub("user-123")
+            .lastSequence(lastSequence)
+            .build();
     }
 }
@@ -13,8 +13,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
@@ -62,6 +65,31 @@ class CategoryServiceTest {
         verify(groupPermissionService).validateReadPermission(5L, "member");
     }
 
+    @Test
+    void test_getOrCreateCourseCategories_looksUpOnceAndCreatesMissingTogether() {
+        Category existing = Category.builder()
+                .categoryId(7L)
+                .cognitoSub("sub")
+                .name("데이터구조")
+                .sourceType(CategorySourceType.CANVAS_COURSE.name())
+                .sourceId("10")
+                .build();
+        given(categoryRepository.findByCognitoSubAndSourceTypeAndSourceIdIn(
+                "sub", CategorySourceType.CANVAS_COURSE.name(), Set.of("10", "11")))
+                .willReturn(List.of(existing));
+        given(categoryRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<Category> created = invocation.getArgument(0);
+            created.forEach(category -> category.setCategoryId(8L));
+            return created;
+        });
+
+        Map<Long, Long> categoryIds = categoryService.getOrCreateCourseCategories(
+                "sub", Map.of(10L, "데이터구조", 11L, "알고리즘"));
+
+        assertThat(categoryIds).isEqualTo(Map.of(10L, 7L, 11L, 8L));
+        verify(categoryRepository, never()).findByCognitoSubAndSourceTypeAndSourceId(anyString(), anyString(), anyString());
+    }
+
     private Category sampleCategory(Long id, String cognitoSub, Long groupId) {
         return Category.builder()
                 .categoryId(id)
@@ -0,0 +1,103 @@
+package com.unisync.schedule.common.messaging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("KeyedSerialExecutor 테스트")
+class KeyedSerialExecutorTest {
+
+    private ExecutorService executor;
+    private KeyedSerialExecutor keyedExecutor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        keyedExecutor = new KeyedSerialExecutor(executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 키의 작업은 제출 순서대로 하나씩 실행됨")
+    void execute_sameKey_serial() throws Exception {
+        // given
+        List<Integer> order = new CopyOnWriteArrayList<>();
+
+        // when
+        List<CompletableFuture<Void>> futures = IntStream.range(0, 20)
+                .mapToObj(i -> keyedExecutor.execute("user-1", () -> {
+                    sleep(2);
+                    order.add(i);
+                }))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(order).containsExactlyElementsOf(IntStream.range(0, 20).boxed().toList());
+        assertThat(keyedExecutor.pendingKeys()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 키의 작업은 병렬로 실행됨")
+    void execute_differentKeys_parallel() throws Exception {
+        // given - 두 작업이 동시에 실행되어야만 latch가 풀림
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Runnable task = () -> {
+            bothStarted.countDown();
+            try {
+                bothStarted.await(2, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        // when
+        CompletableFuture<Void> first = keyedExecutor.execute("user-1", task);
+        CompletableFuture<Void> second = keyedExecutor.execute("user-2", task);
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(bothStarted.getCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("앞선 작업이 실패해도 같은 키의 다음 작업은 실행됨")
+    void execute_previousFailure_continues() throws Exception {
+        // given
+        CompletableFuture<Void> failed = keyedExecutor.execute("user-1", () -> {
+            throw new IllegalStateException("boom");
+        });
+
+        // when
+        List<String> executed = new CopyOnWriteArrayList<>();
+        keyedExecutor.execute("user-1", () -> executed.add("next")).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(executed).containsExactly("next");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.unisync.schedule.common.messaging;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ProcessedMessageLedger 테스트")
+class ProcessedMessageLedgerTest {
+
+    private AtomicLong now;
+    private ProcessedMessageLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(1_000);
+        ledger = new ProcessedMessageLedger(60_000, 3, now::get);
+    }
+
+    @Test
+    @DisplayName("처리한 messageId는 중복으로 판단")
+    void isDuplicate_sameMessageId() {
+        // given
+        ledger.record("m-1", null, null);
+
+        // when & then
+        assertThat(ledger.isDuplicate("m-1", null, null)).isTrue();
+        assertThat(ledger.isDuplicate("m-2", null, null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("키별로 처리한 최대 sequence 이하는 messageId가 달라도 중복")
+    void isDuplicate_sequenceHighWaterMark() {
+        // given
+        ledger.record("m-1", "user-1", 5L);
+        ledger.record("m-2", "user-1", 3L);
+
+        // when & then
+        assertThat(ledger.isDuplicate("m-9", "user-1", 5L)).isTrue();
+        assertThat(ledger.isDuplicate("m-9", "user-1", 4L)).isTrue();
+        assertThat(ledger.isDuplicate("m-9", "user-1", 6L)).isFalse();
+        assertThat(ledger.isDuplicate("m-9", "user-2", 1L)).isFalse();
+        assertThat(ledger.isDuplicate("m-9", "user-1", null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 제거되어 중복으로 판단하지 않음")
+    void evictExpired_afterTtl() {
+        // given
+        ledger.record("m-1", "user-1", 5L);
+
+        // when
+        now.addAndGet(60_000);
+
+        // then
+        assertThat(ledger.isDuplicate("m-1", "user-1", 5L)).isFalse();
+        assertThat(ledger.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("maxEntries를 넘으면 가장 오래된 항목부터 제거")
+    void record_trimsOldest() {
+        // given
+        ledger.record("m-1", null, null);
+        ledger.record("m-2", null, null);
+        ledger.record("m-3", null, null);
+
+        // when
+        ledger.record("m-4", null, null);
+
+        // then
+        assertThat(ledger.isDuplicate("m-1", null, null)).isFalse();
+        assertThat(ledger.isDuplicate("m-4", null, null)).isTrue();
+        assertThat(ledger.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("sequence 갱신 시 만료 시각도 연장")
+    void record_refreshesSequenceExpiry() {
+        // given
+        ledger.record("m-1", "user-1", 1L);
+        now.addAndGet(50_000);
+        ledger.record("m-2", "user-1", 2L);
+
+        // when
+        now.addAndGet(20_000);
+
+        // then - 첫 기록 기준으로는 만료, 갱신 기준으로는 유효
+        assertThat(ledger.isDuplicate("m-9", "user-1", 2L)).isTrue();
+    }
+}
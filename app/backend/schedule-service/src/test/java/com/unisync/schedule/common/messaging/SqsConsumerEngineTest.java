@@ -0,0 +1,353 @@
+package com.unisync.schedule.common.messaging;
+
+import com.unisync.schedule.common.config.SqsConsumerProperties;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResponse;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageSystemAttributeName;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("SqsConsumerEngine 테스트")
+class SqsConsumerEngineTest {
+
+    private static final String QUEUE_URL = "http://localhost:4566/000000000000/test-queue";
+
+    @Mock
+    private SqsAsyncClient sqsAsyncClient;
+
+    private SqsConsumerProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private RecordingHandler handler;
+    private List<String> deletedReceipts;
+    private SqsConsumerEngine<String> engine;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SqsConsumerProperties();
+        properties.setPollers(1);
+        properties.setWorkerThreads(4);
+        properties.setMaxInFlight(20);
+        properties.setMaxMessages(3);
+        properties.setWaitTimeSeconds(0);
+        properties.setIdlePollDelayMillis(50);
+        properties.setShutdownTimeoutSeconds(1);
+        properties.setAckFlushIntervalMillis(20);
+
+        meterRegistry = new SimpleMeterRegistry();
+        handler = new RecordingHandler();
+        engine = newEngine();
+
+        deletedReceipts = new CopyOnWriteArrayList<>();
+        given(sqsAsyncClient.deleteMessageBatch(any(DeleteMessageBatchRequest.class))).willAnswer(invocation -> {
+            DeleteMessageBatchRequest request = invocation.getArgument(0);
+            request.entries().forEach(entry -> deletedReceipts.add(entry.receiptHandle()));
+            return CompletableFuture.completedFuture(DeleteMessageBatchResponse.builder()
+                    .successful(request.entries().stream()
+                            .map(entry -> DeleteMessageBatchResultEntry.builder().id(entry.id()).build())
+                            .toList())
+                    .build());
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.stop();
+    }
+
+    @Test
+    @DisplayName("처리 성공 메시지는 삭제, 처리 실패 메시지는 남겨 둠")
+    void process_deleteOnlyOnSuccess() {
+        // given
+        givenReceive(List.of(message("1", "user-1:ok"), message("2", "user-2:fail")));
+
+        // when
+        engine.start();
+
+        // then
+        then(sqsAsyncClient).should(timeout(2000)).deleteMessageBatch(any(DeleteMessageBatchRequest.class));
+        then(sqsAsyncClient).should(after(200).times(1)).deleteMessageBatch(any(DeleteMessageBatchRequest.class));
+        assertThat(deletedReceipts).containsExactly("receipt-1");
+    }
+
+    @Test
+    @DisplayName("파싱 실패 메시지는 처리하지 않고 삭제")
+    void dispatch_parseFailure_deletes() {
+        // given
+        givenReceive(List.of(message("1", "not-a-valid-body")));
+
+        // when
+        engine.start();
+
+        // then
+        then(sqsAsyncClient).should(timeout(2000)).deleteMessageBatch(any(DeleteMessageBatchRequest.class));
+        assertThat(deletedReceipts).containsExactly("receipt-1");
+        assertThat(handler.handled).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 메시지는 수신 순서대로 처리")
+    void process_sameKey_inOrder() {
+        // given
+        givenReceive(List.of(message("1", "user-1:a"), message("2", "user-1:b"), message("3", "user-1:c")));
+
+        // when
+        engine.start();
+
+        // then
+        then(sqsAsyncClient).should(timeout(2000).atLeastOnce()).deleteMessageBatch(any(DeleteMessageBatchRequest.class));
+        engine.stop();
+        assertThat(handler.handled).containsExactly("user-1:a", "user-1:b", "user-1:c");
+        assertThat(deletedReceipts).containsExactlyInAnyOrder("receipt-1", "receipt-2", "receipt-3");
+    }
+
+    @Test
+    @DisplayName("가득 찬 배치를 받으면 대기 없이 다시 receive")
+    void pollLoop_fullBatch_repollsImmediately() {
+        // given - 첫 receive는 maxMessages(3)만큼 가득, 이후는 빈 응답
+        properties.setIdlePollDelayMillis(5_000);
+        given(sqsAsyncClient.receiveMessage(any(ReceiveMessageRequest.class)))
+                .willReturn(receiveResponse(List.of(
+                        message("1", "user-1:a"), message("2", "user-2:b"), message("3", "user-3:c"))))
+                .willReturn(receiveResponse(List.of()));
+
+        // when
+        engine.start();
+
+        // then - idle delay(5초) 안에 두 번째 receive가 호출됨
+        then(sqsAsyncClient).should(timeout(1000).times(2)).receiveMessage(any(ReceiveMessageRequest.class));
+    }
+
+    @Test
+    @DisplayName("처리 중 메시지가 maxInFlight에 도달하면 receive 요청 수를 줄임")
+    void pollOnce_backPressure() {
+        // given - maxInFlight 2, 처리는 끝나지 않음
+        properties.setMaxInFlight(2);
+        handler.blockForever = true;
+        engine = newEngine();
+        given(sqsAsyncClient.receiveMessage(any(ReceiveMessageRequest.class)))
+                .willReturn(receiveResponse(List.of(message("1", "user-1:a"), message("2", "user-2:b"))))
+                .willReturn(receiveResponse(List.of()));
+
+        // when
+        engine.start();
+
+        // then - 첫 receive 이후 슬롯이 없어 다음 receive는 호출되지 않음
+        ArgumentCaptor<ReceiveMessageRequest> captor = ArgumentCaptor.forClass(ReceiveMessageRequest.class);
+        then(sqsAsyncClient).should(after(300).times(1)).receiveMessage(captor.capture());
+        assertThat(captor.getValue().maxNumberOfMessages()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("처리 완료 메시지는 DeleteMessageBatch로 묶어 삭제")
+    void ack_batchedDelete() {
+        // given - flush 주기를 길게 두어 배치 크기로만 전송되게 함
+        properties.setAckFlushIntervalMillis(60_000);
+        properties.setMaxMessages(10);
+        engine = newEngine();
+        givenReceive(List.of(
+                message("1", "user-1:a"), message("2", "user-2:b"), message("3", "user-3:c"),
+                message("4", "user-4:d"), message("5", "user-5:e"), message("6", "user-6:f"),
+                message("7", "user-7:g"), message("8", "user-8:h"), message("9", "user-9:i"),
+                message("10", "user-10:j")));
+
+        // when
+        engine.start();
+
+        // then
+        ArgumentCaptor<DeleteMessageBatchRequest> captor = ArgumentCaptor.forClass(DeleteMessageBatchRequest.class);
+        then(sqsAsyncClient).should(timeout(2000)).deleteMessageBatch(captor.capture());
+        assertThat(captor.getValue().entries()).hasSize(10);
+        awaitCount(() -> meterRegistry.find("sqs.consumer.ack.latency").timer(), 10);
+        assertThat(meterRegistry.get("sqs.consumer.ack.latency").timer().count()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("두 번 이상 수신된 메시지는 재전달로 집계")
+    void receive_redeliveryMetric() {
+        // given
+        Message redelivered = message("1", "user-1:a").toBuilder()
+                .attributes(Map.of(MessageSystemAttributeName.APPROXIMATE_RECEIVE_COUNT, "3"))
+                .build();
+        Message first = message("2", "user-2:b").toBuilder()
+                .attributes(Map.of(MessageSystemAttributeName.APPROXIMATE_RECEIVE_COUNT, "1"))
+                .build();
+        givenReceive(List.of(redelivered, first));
+
+        // when
+        engine.start();
+
+        // then
+        then(sqsAsyncClient).should(timeout(2000).atLeastOnce()).deleteMessageBatch(any(DeleteMessageBatchRequest.class));
+        assertThat(meterRegistry.get("sqs.consumer.redelivered").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("sqs.consumer.receive.count").summary().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("처리가 길어지는 메시지는 visibility timeout을 연장")
+    void heartbeat_extendsVisibility() {
+        // given
+        properties.setHeartbeatIntervalSeconds(1);
+        properties.setVisibilityTimeoutSeconds(30);
+        handler.blockForever = true;
+        engine = newEngine();
+        given(sqsAsyncClient.changeMessageVisibilityBatch(any(ChangeMessageVisibilityBatchRequest.class)))
+                .willReturn(CompletableFuture.completedFuture(ChangeMessageVisibilityBatchResponse.builder()
+                        .successful(ChangeMessageVisibilityBatchResultEntry.builder().id("0").build())
+                        .build()));
+        givenReceive(List.of(message("1", "user-1:a")));
+
+        // when
+        engine.start();
+
+        // then
+        ArgumentCaptor<ChangeMessageVisibilityBatchRequest> captor =
+                ArgumentCaptor.forClass(ChangeMessageVisibilityBatchRequest.class);
+        then(sqsAsyncClient).should(timeout(3000)).changeMessageVisibilityBatch(captor.capture());
+        assertThat(captor.getValue().entries()).singleElement()
+                .satisfies(entry -> {
+                    assertThat(entry.receiptHandle()).isEqualTo("receipt-1");
+                    assertThat(entry.visibilityTimeout()).isEqualTo(30);
+                });
+    }
+
+    @Test
+    @DisplayName("receive 시 설정한 visibility timeout을 지정")
+    void pollOnce_requestsConfiguredVisibilityTimeout() {
+        // given
+        properties.setVisibilityTimeoutSeconds(90);
+        engine = newEngine();
+        givenReceive(List.of());
+
+        // when
+        engine.start();
+
+        // then
+        ArgumentCaptor<ReceiveMessageRequest> captor = ArgumentCaptor.forClass(ReceiveMessageRequest.class);
+        then(sqsAsyncClient).should(timeout(2000).atLeastOnce()).receiveMessage(captor.capture());
+        assertThat(captor.getValue().visibilityTimeout()).isEqualTo(90);
+    }
+
+    @Test
+    @DisplayName("heartbeat 주기가 visibility timeout의 절반보다 길면 생성 실패")
+    void constructor_heartbeatIntervalTooLong() {
+        properties.setVisibilityTimeoutSeconds(30);
+        properties.setHeartbeatIntervalSeconds(20);
+
+        assertThatThrownBy(this::newEngine)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("heartbeatIntervalSeconds");
+    }
+
+    @Test
+    @DisplayName("이미 처리한 messageId가 재전달되면 처리하지 않고 삭제")
+    void process_duplicateMessageId_skipped() {
+        // given - 같은 메시지가 두 번 수신됨
+        given(sqsAsyncClient.receiveMessage(any(ReceiveMessageRequest.class)))
+                .willReturn(receiveResponse(List.of(message("1", "user-1:a"))))
+                .willReturn(receiveResponse(List.of(message("1", "user-1:a"))))
+                .willReturn(receiveResponse(List.of()));
+
+        // when
+        engine.start();
+
+        // then
+        then(sqsAsyncClient).should(timeout(3000).atLeast(2)).deleteMessageBatch(any(DeleteMessageBatchRequest.class));
+        assertThat(handler.handled).containsExactly("user-1:a");
+        assertThat(meterRegistry.get("sqs.consumer.duplicates").counter().count()).isEqualTo(1);
+    }
+
+    /**
+     * 삭제 응답 콜백은 verify 이후 비동기로 기록될 수 있으므로 잠시 기다린다
+     */
+    private static void awaitCount(Supplier<Timer> timer, long expected) {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (System.currentTimeMillis() < deadline && (timer.get() == null || timer.get().count() < expected)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private SqsConsumerEngine<String> newEngine() {
+        return new SqsConsumerEngine<>("test", sqsAsyncClient, QUEUE_URL, handler, properties, meterRegistry);
+    }
+
+    private void givenReceive(List<Message> messages) {
+        given(sqsAsyncClient.receiveMessage(any(ReceiveMessageRequest.class)))
+                .willReturn(receiveResponse(messages))
+                .willReturn(receiveResponse(List.of()));
+    }
+
+    private static CompletableFuture<ReceiveMessageResponse> receiveResponse(List<Message> messages) {
+        return CompletableFuture.completedFuture(ReceiveMessageResponse.builder().messages(messages).build());
+    }
+
+    private static Message message(String id, String body) {
+        return Message.builder()
+                .messageId(id)
+                .receiptHandle("receipt-" + id)
+                .body(body)
+                .build();
+    }
+
+    /**
+     * "key:value" 본문을 받는 테스트용 Handler (value가 fail이면 처리 실패)
+     */
+    private static class RecordingHandler implements SqsMessageHandler<String> {
+
+        private final List<String> handled = new CopyOnWriteArrayList<>();
+        private volatile boolean blockForever = false;
+
+        @Override
+        public String parse(Message message) {
+            if (!message.body().contains(":")) {
+                throw new IllegalArgumentException("invalid body");
+            }
+            return message.body();
+        }
+
+        @Override
+        public String orderingKey(String event) {
+            return event.substring(0, event.indexOf(':'));
+        }
+
+        @Override
+        public void handle(String event) throws Exception {
+            if (blockForever) {
+                Thread.sleep(Long.MAX_VALUE);
+            }
+            if (event.endsWith(":fail")) {
+                throw new IllegalStateException("processing failed");
+            }
+            handled.add(event);
+        }
+    }
+}
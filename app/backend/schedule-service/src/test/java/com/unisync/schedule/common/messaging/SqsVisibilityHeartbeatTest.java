@@ -0,0 +1,127 @@
+package com.unisync.schedule.common.messaging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResponse;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.Message;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SqsVisibilityHeartbeat 테스트")
+class SqsVisibilityHeartbeatTest {
+
+    private static final int VISIBILITY_TIMEOUT_SECONDS = 60;
+    private static final int INTERVAL_SECONDS = 20;
+
+    @Mock
+    private SqsAsyncClient sqsAsyncClient;
+
+    private AtomicLong now;
+    private SqsVisibilityHeartbeat heartbeat;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(0);
+        heartbeat = new SqsVisibilityHeartbeat("test", sqsAsyncClient, "queue-url",
+                VISIBILITY_TIMEOUT_SECONDS, INTERVAL_SECONDS, new SimpleMeterRegistry(), now::get);
+    }
+
+    @Test
+    @DisplayName("tick은 interval의 1/4")
+    void tickSeconds_quarterOfInterval() {
+        assertThat(heartbeat.tickSeconds()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("tick 직후 수신한 메시지도 interval 안에 연장")
+    void extend_messageReceivedJustAfterTick() {
+        // given - 0초 tick 직후(1ms) 수신
+        given(sqsAsyncClient.changeMessageVisibilityBatch(any(ChangeMessageVisibilityBatchRequest.class)))
+                .willReturn(CompletableFuture.completedFuture(ChangeMessageVisibilityBatchResponse.builder()
+                        .successful(ChangeMessageVisibilityBatchResultEntry.builder().id("0").build())
+                        .build()));
+        heartbeat.extend();
+        now.set(TimeUnit.MILLISECONDS.toNanos(1));
+        heartbeat.track(message("1"));
+
+        // when - 5/10/15초 tick: 수신 후 15초가 되지 않아 아직 연장 대상 아님
+        for (int second = 5; second <= 15; second += 5) {
+            now.set(TimeUnit.SECONDS.toNanos(second));
+            heartbeat.extend();
+        }
+        then(sqsAsyncClient).shouldHaveNoInteractions();
+
+        // when - 20초 tick: interval(20초)이 되기 직전이지만 다음 tick(25초)에는 넘으므로 연장
+        now.set(TimeUnit.SECONDS.toNanos(20));
+        heartbeat.extend();
+
+        // then - 수신 후 interval 안에 연장 (visibility timeout 60초보다 충분히 이름)
+        ArgumentCaptor<ChangeMessageVisibilityBatchRequest> captor =
+                ArgumentCaptor.forClass(ChangeMessageVisibilityBatchRequest.class);
+        then(sqsAsyncClient).should().changeMessageVisibilityBatch(captor.capture());
+        assertThat(captor.getValue().entries()).singleElement()
+                .satisfies(entry -> {
+                    assertThat(entry.receiptHandle()).isEqualTo("receipt-1");
+                    assertThat(entry.visibilityTimeout()).isEqualTo(VISIBILITY_TIMEOUT_SECONDS);
+                });
+    }
+
+    @Test
+    @DisplayName("연장 후에는 다시 interval 주기로 연장")
+    void extend_afterExtension_waitsForNextInterval() {
+        // given
+        given(sqsAsyncClient.changeMessageVisibilityBatch(any(ChangeMessageVisibilityBatchRequest.class)))
+                .willReturn(CompletableFuture.completedFuture(ChangeMessageVisibilityBatchResponse.builder()
+                        .successful(ChangeMessageVisibilityBatchResultEntry.builder().id("0").build())
+                        .build()));
+        heartbeat.track(message("1"));
+        now.set(TimeUnit.SECONDS.toNanos(15));
+        heartbeat.extend();
+
+        // when - 연장 후 15초가 되기 전 tick은 건너뛰고, 15초가 된 tick에 다시 연장
+        for (int second = 20; second <= 30; second += 5) {
+            now.set(TimeUnit.SECONDS.toNanos(second));
+            heartbeat.extend();
+        }
+
+        // then
+        then(sqsAsyncClient).should(times(2)).changeMessageVisibilityBatch(any(ChangeMessageVisibilityBatchRequest.class));
+    }
+
+    @Test
+    @DisplayName("처리가 끝난 메시지는 연장하지 않음")
+    void extend_untracked_skipped() {
+        heartbeat.track(message("1"));
+        heartbeat.untrack(message("1"));
+
+        now.set(TimeUnit.SECONDS.toNanos(INTERVAL_SECONDS));
+        heartbeat.extend();
+
+        then(sqsAsyncClient).shouldHaveNoInteractions();
+        assertThat(heartbeat.trackedCount()).isZero();
+    }
+
+    private static Message message(String id) {
+        return Message.builder()
+                .messageId(id)
+                .receiptHandle("receipt-" + id)
+                .body("body")
+                .build();
+    }
+}
@@ -0,0 +1,80 @@
+package com.unisync.schedule.common.recurrence;
+
+import com.unisync.schedule.common.entity.Schedule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RecurrenceExpander 테스트")
+class RecurrenceExpanderTest {
+
+    private final RecurrenceExpander expander = new RecurrenceExpander();
+
+    @Test
+    @DisplayName("구간 시작에 걸친 occurrence도 포함")
+    void occurrences_includesOverlappingAtWindowStart() {
+        // 매일 23:00-01:00
+        Schedule schedule = schedule(LocalDateTime.of(2025, 11, 1, 23, 0), LocalDateTime.of(2025, 11, 2, 1, 0),
+                "FREQ=DAILY");
+
+        List<Occurrence> occurrences = collect(expander, schedule,
+                LocalDateTime.of(2025, 11, 10, 0, 0), LocalDateTime.of(2025, 11, 11, 0, 0));
+
+        assertThat(occurrences).containsExactly(
+                new Occurrence(LocalDateTime.of(2025, 11, 9, 23, 0), LocalDateTime.of(2025, 11, 10, 1, 0)),
+                new Occurrence(LocalDateTime.of(2025, 11, 10, 23, 0), LocalDateTime.of(2025, 11, 11, 1, 0)));
+    }
+
+    @Test
+    @DisplayName("반복 없는 일정은 겹칠 때만 원본 하나")
+    void occurrences_singleSchedule() {
+        Schedule schedule = schedule(LocalDateTime.of(2025, 11, 3, 10, 0), LocalDateTime.of(2025, 11, 3, 11, 0), null);
+
+        assertThat(collect(expander, schedule, LocalDateTime.of(2025, 11, 3, 0, 0), LocalDateTime.of(2025, 11, 4, 0, 0)))
+                .containsExactly(new Occurrence(schedule.getStartTime(), schedule.getEndTime()));
+        assertThat(collect(expander, schedule, LocalDateTime.of(2025, 11, 3, 11, 0), LocalDateTime.of(2025, 11, 4, 0, 0)))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("잘못된 규칙은 반복 없는 일정으로 처리하고, 같은 규칙은 한 번만 컴파일")
+    void compile_cachesRules() {
+        Schedule invalid = schedule(LocalDateTime.of(2025, 11, 3, 10, 0), LocalDateTime.of(2025, 11, 3, 11, 0),
+                "FREQ=SOMETIMES");
+        Schedule weekly = schedule(LocalDateTime.of(2025, 11, 3, 10, 0), LocalDateTime.of(2025, 11, 3, 11, 0),
+                "FREQ=WEEKLY");
+        Schedule sameRule = schedule(LocalDateTime.of(2025, 11, 4, 10, 0), LocalDateTime.of(2025, 11, 4, 11, 0),
+                "FREQ=WEEKLY");
+
+        assertThat(expander.isRecurring(invalid)).isFalse();
+        assertThat(expander.isRecurring(weekly)).isTrue();
+        assertThat(expander.isRecurring(sameRule)).isTrue();
+        assertThat(expander.compile("FREQ=WEEKLY")).containsSame(expander.compile("FREQ=WEEKLY").get());
+        assertThat(expander.cachedRuleCount()).isEqualTo(2);
+
+        assertThatThrownBy(() -> expander.validate("FREQ=SOMETIMES"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<Occurrence> collect(RecurrenceExpander expander, Schedule schedule,
+                                     LocalDateTime windowStart, LocalDateTime windowEnd) {
+        List<Occurrence> result = new ArrayList<>();
+        expander.occurrences(schedule, windowStart, windowEnd).forEachRemaining(result::add);
+        return result;
+    }
+
+    private Schedule schedule(LocalDateTime start, LocalDateTime end, String recurrenceRule) {
+        return Schedule.builder()
+                .scheduleId(1L)
+                .cognitoSub("user-a")
+                .startTime(start)
+                .endTime(end)
+                .recurrenceRule(recurrenceRule)
+                .build();
+    }
+}
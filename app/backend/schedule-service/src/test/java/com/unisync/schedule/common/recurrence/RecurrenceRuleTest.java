@@ -0,0 +1,155 @@
+package com.unisync.schedule.common.recurrence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RecurrenceRule 테스트")
+class RecurrenceRuleTest {
+
+    private static final LocalDateTime MONDAY_10 = LocalDateTime.of(2025, 11, 3, 10, 0);
+
+    @Test
+    @DisplayName("WEEKLY BYDAY - 구간 안의 요일만 생성")
+    void weeklyByDay() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,WE");
+
+        List<LocalDateTime> starts = collect(rule.startsBetween(MONDAY_10,
+                LocalDateTime.of(2025, 11, 10, 0, 0), LocalDateTime.of(2025, 11, 17, 0, 0)));
+
+        assertThat(starts).containsExactly(
+                LocalDateTime.of(2025, 11, 10, 10, 0),
+                LocalDateTime.of(2025, 11, 12, 10, 0));
+    }
+
+    @Test
+    @DisplayName("COUNT - 구간을 건너뛰어도 전체 횟수 기준으로 끝남")
+    void countAcrossSkippedPeriods() {
+        // 월/수/금 7회: 11/3, 5, 7, 10, 12, 14, 17
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,WE,FR;COUNT=7");
+
+        List<LocalDateTime> starts = collect(rule.startsBetween(MONDAY_10,
+                LocalDateTime.of(2025, 11, 13, 0, 0), LocalDateTime.of(2025, 12, 31, 0, 0)));
+
+        assertThat(starts).containsExactly(
+                LocalDateTime.of(2025, 11, 14, 10, 0),
+                LocalDateTime.of(2025, 11, 17, 10, 0));
+    }
+
+    @Test
+    @DisplayName("DTSTART가 BYDAY에 없어도 첫 occurrence로 포함")
+    void dtStartOutsideByDay() {
+        // 화요일 시작, 매주 목요일, 3회: 11/4(화), 11/6, 11/13
+        LocalDateTime tuesday = LocalDateTime.of(2025, 11, 4, 9, 0);
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=TH;COUNT=3");
+
+        List<LocalDateTime> starts = collect(rule.startsBetween(tuesday,
+                tuesday, LocalDateTime.of(2026, 1, 1, 0, 0)));
+
+        assertThat(starts).containsExactly(
+                tuesday,
+                LocalDateTime.of(2025, 11, 6, 9, 0),
+                LocalDateTime.of(2025, 11, 13, 9, 0));
+    }
+
+    @Test
+    @DisplayName("MONTHLY - 해당 일이 없는 달은 건너뜀")
+    void monthlySkipsMissingDays() {
+        LocalDateTime jan31 = LocalDateTime.of(2025, 1, 31, 18, 0);
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY");
+
+        List<LocalDateTime> starts = collect(rule.startsBetween(jan31,
+                LocalDateTime.of(2025, 2, 1, 0, 0), LocalDateTime.of(2025, 6, 1, 0, 0)));
+
+        assertThat(starts).containsExactly(
+                LocalDateTime.of(2025, 3, 31, 18, 0),
+                LocalDateTime.of(2025, 5, 31, 18, 0));
+    }
+
+    @Test
+    @DisplayName("UNTIL - 날짜만 주면 그날 끝까지 포함")
+    void untilDateInclusive() {
+        RecurrenceRule rule = RecurrenceRule.parse("RRULE:FREQ=DAILY;INTERVAL=2;UNTIL=20251107");
+
+        List<LocalDateTime> starts = collect(rule.startsBetween(MONDAY_10,
+                MONDAY_10, LocalDateTime.of(2025, 12, 1, 0, 0)));
+
+        assertThat(starts).containsExactly(
+                MONDAY_10,
+                LocalDateTime.of(2025, 11, 5, 10, 0),
+                LocalDateTime.of(2025, 11, 7, 10, 0));
+    }
+
+    @Test
+    @DisplayName("먼 미래 구간도 바로 건너뛰어 계산")
+    void farWindowSeeksDirectly() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY");
+
+        List<LocalDateTime> starts = collect(rule.startsBetween(MONDAY_10,
+                LocalDateTime.of(2125, 11, 3, 0, 0), LocalDateTime.of(2125, 11, 5, 0, 0)));
+
+        assertThat(starts).containsExactly(
+                LocalDateTime.of(2125, 11, 3, 10, 0),
+                LocalDateTime.of(2125, 11, 4, 10, 0));
+    }
+
+    @Test
+    @DisplayName("구간 조회 결과는 처음부터 전부 나열한 결과의 부분과 같음")
+    void windowMatchesFullEnumeration() {
+        List<String> rules = List.of(
+                "FREQ=DAILY;INTERVAL=3;COUNT=40",
+                "FREQ=WEEKLY;INTERVAL=2;BYDAY=TU,SA;COUNT=25",
+                "FREQ=WEEKLY;BYDAY=SU;UNTIL=20260301T000000Z",
+                "FREQ=MONTHLY;COUNT=20",
+                "FREQ=YEARLY;COUNT=6");
+        List<LocalDateTime> dtStarts = List.of(
+                MONDAY_10,
+                LocalDateTime.of(2025, 8, 31, 23, 30),
+                LocalDateTime.of(2024, 2, 29, 7, 0));
+        LocalDateTime horizon = LocalDateTime.of(2060, 1, 1, 0, 0);
+
+        for (String text : rules) {
+            RecurrenceRule rule = RecurrenceRule.parse(text);
+            for (LocalDateTime dtStart : dtStarts) {
+                List<LocalDateTime> all = collect(rule.startsBetween(dtStart, dtStart, horizon));
+
+                for (int offset = 0; offset < 800; offset += 37) {
+                    LocalDateTime from = dtStart.plusDays(offset).minusHours(5);
+                    LocalDateTime to = from.plusDays(20);
+                    List<LocalDateTime> expected = all.stream()
+                            .filter(start -> !start.isBefore(from) && start.isBefore(to))
+                            .toList();
+
+                    assertThat(collect(rule.startsBetween(dtStart, from, to)))
+                            .as("%s from %s window %s", text, dtStart, from)
+                            .isEqualTo(expected);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 규칙은 예외")
+    void parse_rejectsUnsupported() {
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=HOURLY"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=1MO"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;COUNT=3;UNTIL=20251201"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("INTERVAL=2"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<LocalDateTime> collect(Iterator<LocalDateTime> iterator) {
+        List<LocalDateTime> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+        return result;
+    }
+}
@@ -0,0 +1,112 @@
+package com.unisync.schedule.common.repository;
+
+import com.unisync.schedule.common.entity.Schedule;
+import com.unisync.schedule.common.entity.Schedule.ScheduleSource;
+import com.unisync.schedule.common.entity.Schedule.ScheduleStatus;
+import com.unisync.schedule.schedules.dto.ScheduleCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 기본 설정의 MySQLDialect 대신 내장 H2에 맞는 Dialect 사용
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@DisplayName("ScheduleRepository 커서 페이지 테스트")
+class ScheduleRepositoryTest {
+
+    private static final String USER = "user-123";
+    private static final LocalDateTime NINE = LocalDateTime.of(2025, 11, 3, 9, 0);
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Test
+    @DisplayName("사용자 일정을 상태로 거르고 (시작 시각, ID) 순으로 이어서 조회")
+    void findPageByCognitoSub_filtersStatusAndContinuesFromCursor() {
+        // given
+        Schedule a = scheduleRepository.save(schedule(USER, null, NINE.plusHours(1), ScheduleStatus.TODO));
+        Schedule b = scheduleRepository.save(schedule(USER, null, NINE, ScheduleStatus.TODO));
+        Schedule c = scheduleRepository.save(schedule(USER, null, NINE.plusHours(1), ScheduleStatus.TODO));
+        scheduleRepository.save(schedule(USER, null, NINE, ScheduleStatus.DONE));
+        scheduleRepository.save(schedule("other", null, NINE, ScheduleStatus.TODO));
+
+        // when
+        List<Schedule> first = scheduleRepository.findPageByCognitoSub(USER, ScheduleStatus.TODO,
+                ScheduleCursor.FIRST.startTime(), ScheduleCursor.FIRST.scheduleId(), Limit.of(2));
+        ScheduleCursor cursor = ScheduleCursor.of(first.get(1));
+        List<Schedule> second = scheduleRepository.findPageByCognitoSub(USER, ScheduleStatus.TODO,
+                cursor.startTime(), cursor.scheduleId(), Limit.of(2));
+
+        // then: 같은 시작 시각은 ID 순
+        assertThat(first).extracting(Schedule::getScheduleId).containsExactly(b.getScheduleId(), a.getScheduleId());
+        assertThat(second).extracting(Schedule::getScheduleId).containsExactly(c.getScheduleId());
+    }
+
+    @Test
+    @DisplayName("개인 + 그룹 UNION 페이지: 내가 만든 그룹 일정은 한 번만, 다른 그룹 일정은 제외")
+    void findPageByCognitoSubOrGroupIds_mergesWithoutDuplicates() {
+        // given
+        Schedule personal = scheduleRepository.save(schedule(USER, null, NINE.plusHours(2), ScheduleStatus.TODO));
+        Schedule ownGroup = scheduleRepository.save(schedule(USER, 7L, NINE, ScheduleStatus.TODO));
+        Schedule memberGroup = scheduleRepository.save(schedule("other", 7L, NINE.plusHours(1), ScheduleStatus.TODO));
+        Schedule later = scheduleRepository.save(schedule("other", 7L, NINE.plusHours(3), ScheduleStatus.TODO));
+        scheduleRepository.save(schedule("other", 8L, NINE, ScheduleStatus.TODO));
+        scheduleRepository.save(schedule(USER, null, NINE, ScheduleStatus.DONE));
+
+        // when
+        List<Schedule> first = scheduleRepository.findPageByCognitoSubOrGroupIds(USER, List.of(7L), "TODO",
+                ScheduleCursor.FIRST.startTime(), ScheduleCursor.FIRST.scheduleId(), 3);
+        ScheduleCursor cursor = ScheduleCursor.of(first.get(2));
+        List<Schedule> second = scheduleRepository.findPageByCognitoSubOrGroupIds(USER, List.of(7L), "TODO",
+                cursor.startTime(), cursor.scheduleId(), 3);
+
+        // then
+        assertThat(first).extracting(Schedule::getScheduleId)
+                .containsExactly(ownGroup.getScheduleId(), memberGroup.getScheduleId(), personal.getScheduleId());
+        assertThat(second).extracting(Schedule::getScheduleId).containsExactly(later.getScheduleId());
+    }
+
+    @Test
+    @DisplayName("상태 조건이 없으면 모든 상태 포함")
+    void findPageByCognitoSubOrGroupIds_withoutStatus() {
+        scheduleRepository.save(schedule(USER, null, NINE, ScheduleStatus.TODO));
+        scheduleRepository.save(schedule(USER, null, NINE.plusHours(1), ScheduleStatus.DONE));
+
+        List<Schedule> page = scheduleRepository.findPageByCognitoSubOrGroupIds(USER, List.of(7L), null,
+                ScheduleCursor.FIRST.startTime(), ScheduleCursor.FIRST.scheduleId(), 10);
+
+        assertThat(page).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("페이지 없이 전체 조회할 때의 최대 LIMIT도 UNION 쿼리에 그대로 쓸 수 있음")
+    void findPageByCognitoSubOrGroupIds_withMaxLimit() {
+        scheduleRepository.save(schedule(USER, null, NINE, ScheduleStatus.TODO));
+        scheduleRepository.save(schedule("other", 7L, NINE, ScheduleStatus.TODO));
+
+        List<Schedule> all = scheduleRepository.findPageByCognitoSubOrGroupIds(USER, List.of(7L), null,
+                ScheduleCursor.FIRST.startTime(), ScheduleCursor.FIRST.scheduleId(), Integer.MAX_VALUE);
+
+        assertThat(all).hasSize(2);
+    }
+
+    private static Schedule schedule(String cognitoSub, Long groupId, LocalDateTime start, ScheduleStatus status) {
+        return Schedule.builder()
+                .cognitoSub(cognitoSub)
+                .groupId(groupId)
+                .categoryId(1L)
+                .title("schedule")
+                .startTime(start)
+                .endTime(start.plusMinutes(30))
+                .isAllDay(false)
+                .status(status)
+                .source(ScheduleSource.USER)
+                .build();
+    }
+}
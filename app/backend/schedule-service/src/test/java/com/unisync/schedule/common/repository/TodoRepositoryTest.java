@@ -0,0 +1,168 @@
+package com.unisync.schedule.common.repository;
+
+import com.unisync.schedule.common.entity.Todo;
+import com.unisync.schedule.common.entity.Todo.TodoPriority;
+import com.unisync.schedule.common.entity.Todo.TodoStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 기본 설정의 MySQLDialect 대신 내장 H2에 맞는 Dialect 사용
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@DisplayName("TodoRepository 쿼리 테스트")
+class TodoRepositoryTest {
+
+    private static final String USER = "user-123";
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Test
+    @DisplayName("소유자/기간/상태 조건을 SQL로 걸고 (마감일, ID) 순으로 커서 페이지를 이어서 조회")
+    void findBy_filtersAndPagesByKeyset() {
+        // given
+        Todo a = todoRepository.save(todo(USER, null, LocalDate.of(2025, 3, 2), TodoStatus.TODO));
+        Todo b = todoRepository.save(todo(USER, null, LocalDate.of(2025, 3, 1), TodoStatus.TODO));
+        Todo c = todoRepository.save(todo(USER, null, LocalDate.of(2025, 3, 2), TodoStatus.TODO));
+        todoRepository.save(todo(USER, null, LocalDate.of(2025, 3, 3), TodoStatus.DONE));   // 상태 불일치
+        todoRepository.save(todo(USER, null, LocalDate.of(2025, 4, 1), TodoStatus.TODO));   // 기간 밖
+        todoRepository.save(todo(USER, 7L, LocalDate.of(2025, 3, 1), TodoStatus.TODO));     // 그룹 할일
+        todoRepository.save(todo("other", null, LocalDate.of(2025, 3, 1), TodoStatus.TODO)); // 다른 사용자
+
+        Specification<Todo> filters = Specification.allOf(
+                TodoSpecifications.personal(USER),
+                TodoSpecifications.dueOnOrBefore(LocalDate.of(2025, 3, 31)),
+                TodoSpecifications.hasStatus(TodoStatus.TODO));
+
+        // when
+        List<Todo> first = page(filters, 2);
+        Todo last = first.get(first.size() - 1);
+        List<Todo> second = page(filters.and(TodoSpecifications.after(last.getDueDate(), last.getTodoId())), 2);
+
+        // then: 같은 마감일은 ID 순
+        assertThat(first).extracting(Todo::getTodoId).containsExactly(b.getTodoId(), a.getTodoId());
+        assertThat(second).extracting(Todo::getTodoId).containsExactly(c.getTodoId());
+    }
+
+    @Test
+    @DisplayName("개인 + 그룹 통합 조건은 다른 그룹 할일을 제외")
+    void findBy_personalOrInGroups() {
+        Todo personal = todoRepository.save(todo(USER, null, LocalDate.of(2025, 3, 1), TodoStatus.TODO));
+        Todo group = todoRepository.save(todo("other", 7L, LocalDate.of(2025, 3, 2), TodoStatus.TODO));
+        todoRepository.save(todo(USER, 8L, LocalDate.of(2025, 3, 3), TodoStatus.TODO));
+
+        List<Todo> todos = page(TodoSpecifications.personalOrInGroups(USER, List.of(7L)), 10);
+
+        assertThat(todos).extracting(Todo::getTodoId).containsExactly(personal.getTodoId(), group.getTodoId());
+    }
+
+    @Test
+    @DisplayName("일정 할일 트리 - schedule_id가 없는 손자 서브태스크까지 한 번에 조회")
+    void findTreeByScheduleId_threeLevels() {
+        // given: 루트 → 자식 2개 → 손자 (서브태스크는 schedule_id 없음)
+        Todo root = todoRepository.save(scheduleTodo(10L, null));
+        Todo child = todoRepository.save(scheduleTodo(null, root.getTodoId()));
+        Todo sibling = todoRepository.save(scheduleTodo(null, root.getTodoId()));
+        Todo grandchild = todoRepository.save(scheduleTodo(null, child.getTodoId()));
+        Todo otherRoot = todoRepository.save(scheduleTodo(20L, null));
+        todoRepository.save(scheduleTodo(null, otherRoot.getTodoId()));
+        // 다른 할일의 서브태스크가 같은 일정에 걸려 있어도 루트로 보지 않음
+        todoRepository.save(scheduleTodo(10L, otherRoot.getTodoId()));
+
+        // when
+        List<Todo> tree = todoRepository.findTreeByScheduleId(10L);
+
+        // then
+        assertThat(tree).extracting(Todo::getTodoId).containsExactly(
+                root.getTodoId(), child.getTodoId(), sibling.getTodoId(), grandchild.getTodoId());
+    }
+
+    @Test
+    @DisplayName("조상 체인 - 자신부터 루트까지 가까운 순서로 조회")
+    void findAncestorIds_selfToRoot() {
+        // given: 루트 → 중간 → 잎 (ID 순서와 깊이 순서가 다르도록 루트를 나중에 연결)
+        Todo leaf = todoRepository.save(scheduleTodo(null, null));
+        Todo middle = todoRepository.save(scheduleTodo(null, null));
+        Todo root = todoRepository.save(scheduleTodo(10L, null));
+        leaf.setParentTodoId(middle.getTodoId());
+        middle.setParentTodoId(root.getTodoId());
+        todoRepository.save(scheduleTodo(null, middle.getTodoId())); // 형제는 포함하지 않음
+        todoRepository.flush();
+
+        // when
+        List<Long> chain = todoRepository.findAncestorIds(leaf.getTodoId());
+
+        // then
+        assertThat(chain).containsExactly(leaf.getTodoId(), middle.getTodoId(), root.getTodoId());
+        assertThat(todoRepository.findAncestorIds(root.getTodoId())).containsExactly(root.getTodoId());
+    }
+
+    @Test
+    @DisplayName("집계 잠금 조회 - 로드된 엔티티가 아닌 DB 값을 ID 순으로 조회")
+    void lockRollups_readsDatabaseValuesInIdOrder() {
+        // given: 엔티티를 로드한 뒤 집계만 SQL로 갱신
+        Todo first = todoRepository.save(scheduleTodo(null, null));
+        Todo second = todoRepository.save(scheduleTodo(null, null));
+        todoRepository.updateRollup(first.getTodoId(), 2, 150, 75, TodoStatus.IN_PROGRESS);
+
+        // when
+        List<TodoRollupProjection> rollups = todoRepository.lockRollups(List.of(second.getTodoId(), first.getTodoId()));
+
+        // then
+        assertThat(rollups).containsExactly(
+                new TodoRollupProjection(first.getTodoId(), 2, 150, 75, TodoStatus.IN_PROGRESS),
+                new TodoRollupProjection(second.getTodoId(), 0, 0, 0, TodoStatus.TODO));
+    }
+
+    @Test
+    @DisplayName("집계를 SQL로 갱신한 뒤 오래된 엔티티를 저장해도 집계를 덮어쓰지 않음")
+    void updateRollup_notOverwrittenByStaleEntity() {
+        // given: 집계가 0인 상태로 로드된 엔티티
+        Todo parent = todoRepository.save(scheduleTodo(null, null));
+
+        // when: 다른 곳에서 집계를 갱신한 뒤, 로드해 둔 엔티티의 다른 컬럼을 바꿔 저장
+        todoRepository.updateRollup(parent.getTodoId(), 2, 150, 75, TodoStatus.IN_PROGRESS);
+        parent.setTitle("renamed");
+        todoRepository.saveAndFlush(parent);
+
+        // then: 진행률/상태는 엔티티 값, 집계는 SQL로 갱신한 값
+        assertThat(todoRepository.lockRollups(List.of(parent.getTodoId())))
+                .containsExactly(new TodoRollupProjection(parent.getTodoId(), 2, 150, 0, TodoStatus.TODO));
+    }
+
+    private List<Todo> page(Specification<Todo> spec, int size) {
+        return todoRepository.findBy(spec, query -> query
+                .sortBy(TodoSpecifications.KEYSET_ORDER)
+                .limit(size)
+                .all());
+    }
+
+    private static Todo scheduleTodo(Long scheduleId, Long parentTodoId) {
+        Todo todo = todo(USER, null, LocalDate.of(2025, 3, 1), TodoStatus.TODO);
+        todo.setScheduleId(scheduleId);
+        todo.setParentTodoId(parentTodoId);
+        return todo;
+    }
+
+    private static Todo todo(String cognitoSub, Long groupId, LocalDate dueDate, TodoStatus status) {
+        return Todo.builder()
+                .cognitoSub(cognitoSub)
+                .groupId(groupId)
+                .categoryId(1L)
+                .title("todo")
+                .startDate(dueDate.minusDays(1))
+                .dueDate(dueDate)
+                .status(status)
+                .priority(TodoPriority.MEDIUM)
+                .progressPercentage(0)
+                .isAiGenerated(false)
+                .build();
+    }
+}
@@ -1,6 +1,9 @@
 package com.unisync.schedule.coordination.algorithm;
 
+import com.unisync.schedule.common.config.ParallelSearchProperties;
 import com.unisync.schedule.common.entity.Schedule;
+import com.unisync.schedule.common.recurrence.RecurrenceExpander;
+import com.unisync.schedule.common.repository.ScheduleTimeProjection;
 import com.unisync.schedule.coordination.dto.FreeSlotDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +15,8 @@ import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -22,7 +27,7 @@ class FreeSlotFinderTest {
 
     @BeforeEach
     void setUp() {
-        freeSlotFinder = new FreeSlotFinder();
+        freeSlotFinder = new FreeSlotFinder(new RecurrenceExpander(), new ParallelSearchProperties(), ForkJoinPool.commonPool());
     }
 
     // =======================================================================
@@ -305,6 +310,30 @@ class FreeSlotFinderTest {
         assertThat(filtered).isEmpty();
     }
 
+    @Test
+    @DisplayName("근무 시간 필터링 - 여러 날에 걸친 공강은 날마다 잘림")
+    void applyWorkingHours_splitsMultiDaySlot() {
+        // given: 화 14:00 ~ 목 10:00
+        List<TimeInterval> freeIntervals = List.of(
+                new TimeInterval(
+                        LocalDateTime.of(2025, 11, 25, 14, 0),
+                        LocalDateTime.of(2025, 11, 27, 10, 0)
+                )
+        );
+
+        // when
+        List<TimeInterval> filtered = freeSlotFinder.applyWorkingHours(
+                freeIntervals, LocalTime.of(9, 0), LocalTime.of(18, 0), 60
+        );
+
+        // then
+        assertThat(filtered).containsExactly(
+                new TimeInterval(LocalDateTime.of(2025, 11, 25, 14, 0), LocalDateTime.of(2025, 11, 25, 18, 0)),
+                new TimeInterval(LocalDateTime.of(2025, 11, 26, 9, 0), LocalDateTime.of(2025, 11, 26, 18, 0)),
+                new TimeInterval(LocalDateTime.of(2025, 11, 27, 9, 0), LocalDateTime.of(2025, 11, 27, 10, 0))
+        );
+    }
+
     // =======================================================================
     // filterByDaysOfWeek 테스트
     // =======================================================================
@@ -395,6 +424,79 @@ class FreeSlotFinderTest {
         assertThat(freeSlots.get(0).getDurationMinutes()).isEqualTo(540);  // 9시간
     }
 
+    @Test
+    @DisplayName("공강 찾기 - 여러 날 기간이면 허용 요일마다 근무 시간 공강")
+    void findFreeSlots_multiDayRange() {
+        // given: 화~목, 일정 없음, 화/목만 허용
+        LocalDate startDate = LocalDate.of(2025, 11, 25);
+        LocalDate endDate = LocalDate.of(2025, 11, 27);
+
+        // when
+        List<FreeSlotDto> freeSlots = freeSlotFinder.findFreeSlots(
+                new ArrayList<>(), startDate, endDate, 60,
+                LocalTime.of(9, 0), LocalTime.of(18, 0), Arrays.asList(2, 4)
+        );
+
+        // then
+        assertThat(freeSlots).hasSize(2);
+        assertThat(freeSlots.get(0).getStartTime()).isEqualTo(LocalDateTime.of(2025, 11, 25, 9, 0));
+        assertThat(freeSlots.get(0).getEndTime()).isEqualTo(LocalDateTime.of(2025, 11, 25, 18, 0));
+        assertThat(freeSlots.get(1).getStartTime()).isEqualTo(LocalDateTime.of(2025, 11, 27, 9, 0));
+        assertThat(freeSlots.get(1).getEndTime()).isEqualTo(LocalDateTime.of(2025, 11, 27, 18, 0));
+    }
+
+    @Test
+    @DisplayName("공강 찾기 - 반복 일정은 매 occurrence가 busy")
+    void findFreeSlots_recurringSchedule() {
+        // given: 11월 3일(월)부터 매주 화/목 10:00-12:00
+        Schedule lecture = new Schedule();
+        lecture.setScheduleId(10L);
+        lecture.setCognitoSub("user-a");
+        lecture.setStartTime(LocalDateTime.of(2025, 11, 4, 10, 0));
+        lecture.setEndTime(LocalDateTime.of(2025, 11, 4, 12, 0));
+        lecture.setRecurrenceRule("FREQ=WEEKLY;BYDAY=TU,TH");
+
+        // when: 11월 25일(화) ~ 27일(목)
+        List<FreeSlotDto> freeSlots = freeSlotFinder.findFreeSlots(
+                List.of(lecture), LocalDate.of(2025, 11, 25), LocalDate.of(2025, 11, 27), 60,
+                LocalTime.of(9, 0), LocalTime.of(18, 0), null
+        );
+
+        // then
+        assertThat(freeSlots).extracting(FreeSlotDto::getStartTime).containsExactly(
+                LocalDateTime.of(2025, 11, 25, 9, 0),
+                LocalDateTime.of(2025, 11, 25, 12, 0),
+                LocalDateTime.of(2025, 11, 26, 9, 0),
+                LocalDateTime.of(2025, 11, 27, 9, 0),
+                LocalDateTime.of(2025, 11, 27, 12, 0)
+        );
+        assertThat(freeSlots.get(0).getEndTime()).isEqualTo(LocalDateTime.of(2025, 11, 25, 10, 0));
+    }
+
+    @Test
+    @DisplayName("projection stream - 반복 일정은 펼치고 길이 0인 일정은 제외")
+    void toBusyIntervals_fromProjectionStream() {
+        // given
+        Stream<ScheduleTimeProjection> rows = Stream.of(
+                new ScheduleTimeProjection(LocalDateTime.of(2025, 11, 4, 10, 0),
+                        LocalDateTime.of(2025, 11, 4, 12, 0), "user-a", null, "FREQ=WEEKLY;BYDAY=TU,TH"),
+                new ScheduleTimeProjection(LocalDateTime.of(2025, 11, 26, 23, 59),
+                        LocalDateTime.of(2025, 11, 26, 23, 59), "user-b", null, null),
+                new ScheduleTimeProjection(LocalDateTime.of(2025, 11, 26, 14, 0),
+                        LocalDateTime.of(2025, 11, 26, 15, 0), null, 7L, null));
+
+        // when
+        IntervalBuffer busy = freeSlotFinder.toBusyIntervals(rows,
+                LocalDate.of(2025, 11, 25), LocalDate.of(2025, 11, 27));
+        PrimitiveIntervalEngine.merge(busy);
+
+        // then
+        assertThat(busy.toTimeIntervals()).containsExactly(
+                new TimeInterval(LocalDateTime.of(2025, 11, 25, 10, 0), LocalDateTime.of(2025, 11, 25, 12, 0)),
+                new TimeInterval(LocalDateTime.of(2025, 11, 26, 14, 0), LocalDateTime.of(2025, 11, 26, 15, 0)),
+                new TimeInterval(LocalDateTime.of(2025, 11, 27, 10, 0), LocalDateTime.of(2025, 11, 27, 12, 0)));
+    }
+
     // =======================================================================
     // Helper methods
     // =======================================================================
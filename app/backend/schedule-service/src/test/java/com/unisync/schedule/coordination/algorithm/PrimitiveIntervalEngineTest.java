@@ -0,0 +1,190 @@
+package com.unisync.schedule.coordination.algorithm;
+
+import com.unisync.schedule.common.config.ParallelSearchProperties;
+import com.unisync.schedule.common.recurrence.RecurrenceExpander;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PrimitiveIntervalEngine 테스트")
+class PrimitiveIntervalEngineTest {
+
+    private final FreeSlotFinder freeSlotFinder = new FreeSlotFinder(new RecurrenceExpander(), new ParallelSearchProperties(), ForkJoinPool.commonPool());
+
+    @Test
+    @DisplayName("병합 - 겹치거나 인접한 구간을 하나로, 떨어진 구간은 그대로")
+    void merge_overlappingAndAdjacent() {
+        // given
+        IntervalBuffer buffer = new IntervalBuffer();
+        buffer.add(at(14, 0), at(15, 0));
+        buffer.add(at(9, 0), at(11, 0));
+        buffer.add(at(11, 0), at(12, 0));  // 인접
+        buffer.add(at(10, 0), at(10, 30)); // 포함
+
+        // when
+        PrimitiveIntervalEngine.merge(buffer);
+
+        // then
+        assertThat(buffer.toTimeIntervals()).containsExactly(
+                new TimeInterval(at(9, 0), at(12, 0)),
+                new TimeInterval(at(14, 0), at(15, 0)));
+    }
+
+    @Test
+    @DisplayName("요일 계산 - epoch-second에서 ISO 요일")
+    void dayOfWeek_matchesLocalDate() {
+        for (int day = 0; day < 14; day++) {
+            LocalDateTime dateTime = LocalDate.of(2025, 11, 24).plusDays(day).atTime(13, 0);
+            assertThat(PrimitiveIntervalEngine.dayOfWeek(IntervalBuffer.toEpochSecond(dateTime)))
+                    .isEqualTo(dateTime.getDayOfWeek().getValue());
+        }
+        // epoch 이전 날짜
+        LocalDateTime before = LocalDateTime.of(1969, 12, 31, 23, 0);
+        assertThat(PrimitiveIntervalEngine.dayOfWeek(IntervalBuffer.toEpochSecond(before)))
+                .isEqualTo(before.getDayOfWeek().getValue());
+    }
+
+    @Test
+    @DisplayName("차등 테스트 - 무작위 일정에서 TimeInterval 기준 구현과 같은 결과")
+    void differential_matchesReferenceImplementation() {
+        Random random = new Random(42);
+        LocalDate startDate = LocalDate.of(2025, 9, 1);
+
+        for (int round = 0; round < 200; round++) {
+            int days = 1 + random.nextInt(30);
+            LocalDate endDate = startDate.plusDays(days - 1);
+            int count = random.nextInt(200);
+            int minDuration = 1 + random.nextInt(120);
+            boolean withWorkingHours = round % 4 != 0;
+            LocalTime workStart = withWorkingHours ? LocalTime.of(random.nextInt(12), random.nextInt(4) * 15) : null;
+            LocalTime workEnd = withWorkingHours
+                    ? LocalTime.of(12 + random.nextInt(12), random.nextInt(60), random.nextInt(60)) : null;
+            // 근무 시간 없는 경우는 요일 필터 없이 extractFreeIntervals와 비교
+            List<Integer> daysOfWeek = withWorkingHours && random.nextBoolean() ? List.of(1, 3, 5) : null;
+
+            List<long[]> raw = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                // 검색 범위 앞뒤로 걸치는 일정 포함
+                long start = IntervalBuffer.toEpochSecond(startDate.atStartOfDay().minusDays(1))
+                        + random.nextInt((days + 2) * 86_400);
+                // 가끔 여러 날에 걸친 긴 일정 / 길이 0인 일정
+                long length = switch (random.nextInt(10)) {
+                    case 0 -> 0;
+                    case 1 -> random.nextInt(3 * 86_400);
+                    default -> random.nextInt(6 * 3600);
+                };
+                // 일정이 드물어 여러 날 이어지는 공강이 생기는 라운드
+                if (round % 3 == 0 && i >= count / 10) {
+                    break;
+                }
+                raw.add(new long[]{start, start + length});
+            }
+
+            // 기준 구현
+            List<TimeInterval> reference = new ArrayList<>();
+            raw.forEach(r -> reference.add(new TimeInterval(
+                    IntervalBuffer.toLocalDateTime(r[0]), IntervalBuffer.toLocalDateTime(r[1]))));
+            List<TimeInterval> mergedReference = freeSlotFinder.mergeIntervals(reference);
+            List<TimeInterval> freeReference = freeSlotFinder.extractFreeIntervals(mergedReference,
+                    startDate.atStartOfDay(), endDate.atTime(23, 59, 59), minDuration);
+            List<TimeInterval> expectedFree = freeReference;
+            if (withWorkingHours) {
+                expectedFree = freeSlotFinder.applyWorkingHours(freeReference, workStart, workEnd, minDuration);
+            }
+            if (daysOfWeek != null) {
+                expectedFree = freeSlotFinder.filterByDaysOfWeek(expectedFree, daysOfWeek);
+            }
+
+            // primitive 구현
+            IntervalBuffer busy = new IntervalBuffer();
+            raw.forEach(r -> busy.add(r[0], r[1]));
+            PrimitiveIntervalEngine.merge(busy);
+            assertThat(busy.toTimeIntervals()).as("merge round %d", round).isEqualTo(mergedReference);
+
+            long searchStart = IntervalBuffer.toEpochSecond(startDate.atStartOfDay());
+            long searchEnd = IntervalBuffer.toEpochSecond(endDate.atTime(23, 59, 59));
+            IntervalBuffer free = PrimitiveIntervalEngine.extractFree(busy, searchStart, searchEnd, minDuration);
+            assertThat(free.toTimeIntervals()).as("extract round %d", round).isEqualTo(freeReference);
+
+            IntervalBuffer windowed = PrimitiveIntervalEngine.freeWithinDailyWindows(busy, searchStart, searchEnd,
+                    workStart, workEnd, daysOfWeek, minDuration);
+            assertThat(windowed.toTimeIntervals()).as("daily windows round %d", round).isEqualTo(expectedFree);
+        }
+    }
+
+    @Test
+    @DisplayName("일별 창 - 여러 날에 걸친 공강이 날마다 근무 시간으로 잘림")
+    void freeWithinDailyWindows_multiDayGap() {
+        // given: 월 10:00-11:00, 목 15:00-16:00 사이 화/수는 통째로 빔
+        IntervalBuffer busy = new IntervalBuffer();
+        busy.add(LocalDateTime.of(2025, 11, 24, 10, 0), LocalDateTime.of(2025, 11, 24, 11, 0));
+        busy.add(LocalDateTime.of(2025, 11, 27, 15, 0), LocalDateTime.of(2025, 11, 27, 16, 0));
+
+        // when
+        IntervalBuffer free = PrimitiveIntervalEngine.freeWithinDailyWindows(busy,
+                IntervalBuffer.toEpochSecond(LocalDateTime.of(2025, 11, 24, 0, 0)),
+                IntervalBuffer.toEpochSecond(LocalDateTime.of(2025, 11, 27, 23, 59, 59)),
+                LocalTime.of(9, 0), LocalTime.of(18, 0), List.of(1, 2, 4), 60);
+
+        // then: 수요일은 요일 필터로 제외
+        assertThat(free.toTimeIntervals()).containsExactly(
+                new TimeInterval(LocalDateTime.of(2025, 11, 24, 9, 0), LocalDateTime.of(2025, 11, 24, 10, 0)),
+                new TimeInterval(LocalDateTime.of(2025, 11, 24, 11, 0), LocalDateTime.of(2025, 11, 24, 18, 0)),
+                new TimeInterval(LocalDateTime.of(2025, 11, 25, 9, 0), LocalDateTime.of(2025, 11, 25, 18, 0)),
+                new TimeInterval(LocalDateTime.of(2025, 11, 27, 9, 0), LocalDateTime.of(2025, 11, 27, 15, 0)),
+                new TimeInterval(LocalDateTime.of(2025, 11, 27, 16, 0), LocalDateTime.of(2025, 11, 27, 18, 0)));
+    }
+
+    @Test
+    @DisplayName("일별 창 - 근무 시간 없이 요일만 지정하면 허용 요일의 하루 전체가 창")
+    void freeWithinDailyWindows_daysOfWeekOnly() {
+        // given: 월~수 전체가 빔, 월/화만 허용
+        IntervalBuffer busy = new IntervalBuffer();
+
+        // when
+        IntervalBuffer free = PrimitiveIntervalEngine.freeWithinDailyWindows(busy,
+                IntervalBuffer.toEpochSecond(LocalDateTime.of(2025, 11, 24, 0, 0)),
+                IntervalBuffer.toEpochSecond(LocalDateTime.of(2025, 11, 26, 23, 59, 59)),
+                null, null, List.of(1, 2), 60);
+
+        // then: 이어진 월/화는 하나의 공강
+        assertThat(free.toTimeIntervals()).containsExactly(
+                new TimeInterval(LocalDateTime.of(2025, 11, 24, 0, 0), LocalDateTime.of(2025, 11, 26, 0, 0)));
+    }
+
+    @Test
+    @DisplayName("일별 창 - maxSlots개를 찾으면 멈추고 전체 결과의 앞부분과 같음")
+    void freeWithinDailyWindows_stopsAfterMaxSlots() {
+        // given: 매일 12:00-13:00 busy
+        IntervalBuffer busy = new IntervalBuffer();
+        for (int day = 0; day < 14; day++) {
+            LocalDateTime noon = LocalDateTime.of(2025, 11, 24, 12, 0).plusDays(day);
+            busy.add(noon, noon.plusHours(1));
+        }
+        long searchStart = IntervalBuffer.toEpochSecond(LocalDateTime.of(2025, 11, 24, 0, 0));
+        long searchEnd = IntervalBuffer.toEpochSecond(LocalDateTime.of(2025, 12, 7, 23, 59, 59));
+
+        // when
+        IntervalBuffer all = PrimitiveIntervalEngine.freeWithinDailyWindows(busy, searchStart, searchEnd,
+                LocalTime.of(9, 0), LocalTime.of(18, 0), null, 60);
+        IntervalBuffer first = PrimitiveIntervalEngine.freeWithinDailyWindows(busy, searchStart, searchEnd,
+                LocalTime.of(9, 0), LocalTime.of(18, 0), null, 60, 5);
+
+        // then
+        assertThat(all.size()).isEqualTo(28);
+        assertThat(first.toTimeIntervals()).isEqualTo(all.toTimeIntervals().subList(0, 5));
+    }
+
+    private LocalDateTime at(int hour, int minute) {
+        return LocalDateTime.of(2025, 11, 25, hour, minute);
+    }
+}
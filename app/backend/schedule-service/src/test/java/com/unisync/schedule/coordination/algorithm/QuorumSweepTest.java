@@ -0,0 +1,261 @@
+package com.unisync.schedule.coordination.algorithm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("QuorumSweep 테스트")
+class QuorumSweepTest {
+
+    private static final long DAY = 86_400L;
+    private static final long SLOT = 900L;
+
+    @Test
+    @DisplayName("3명 중 2명 이상 - 바쁜 멤버 합집합이 1명 이하인 가장 긴 구간과 그 멤버")
+    void sweep_twoOfThree() {
+        // given: A 9-11, B 10-12, C 10:30-11:30
+        List<IntervalBuffer> members = List.of(
+                busy(at(9, 0), at(11, 0)),
+                busy(at(10, 0), at(12, 0)),
+                busy(at(10, 30), at(11, 30)));
+        IntervalBuffer allowed = busy(at(8, 0), at(13, 0));
+
+        // when
+        QuorumWindows result = QuorumSweep.sweep(members, allowed, 1, 30);
+
+        // then: 10:00-11:30은 2명 이상 바쁨, 나머지는 바쁜 멤버가 바뀌어도 1명 이내라 이어짐
+        assertThat(result.windows().toTimeIntervals()).containsExactly(
+                new TimeInterval(at(8, 0), at(10, 0)),
+                new TimeInterval(at(11, 30), at(13, 0)));
+        assertThat(result.busyMembers()).containsExactly(new int[]{0}, new int[]{1});
+    }
+
+    @Test
+    @DisplayName("한 멤버가 창 앞부분만 바빠도 나머지 멤버가 비면 최소 시간을 채우는 구간으로 이어짐")
+    void sweep_memberBusyAtStart_keepsWholeWindow() {
+        // given: A는 10:30까지 바쁘고 B, C는 10:00-11:30 내내 빔
+        List<IntervalBuffer> members = List.of(
+                busy(at(9, 0), at(10, 30)),
+                new IntervalBuffer(),
+                new IntervalBuffer());
+        IntervalBuffer allowed = busy(at(10, 0), at(11, 30));
+
+        // when: 3명 중 2명, 90분
+        QuorumWindows result = QuorumSweep.sweep(members, allowed, 1, 90);
+
+        // then
+        assertThat(result.windows().toTimeIntervals()).containsExactly(
+                new TimeInterval(at(10, 0), at(11, 30)));
+        assertThat(result.busyMembers()).containsExactly(new int[]{0});
+    }
+
+    @Test
+    @DisplayName("바쁜 멤버가 다른 가장 긴 구간은 서로 겹칠 수 있음")
+    void sweep_maximalWindowsMayOverlap() {
+        // given: A 10:00-10:30, B 11:00-11:30, C는 빔
+        List<IntervalBuffer> members = List.of(
+                busy(at(10, 0), at(10, 30)),
+                busy(at(11, 0), at(11, 30)),
+                new IntervalBuffer());
+
+        // when
+        QuorumWindows result = QuorumSweep.sweep(members, busy(at(10, 0), at(12, 0)), 1, 30);
+
+        // then: A와 B를 함께 포함하는 구간은 없음
+        assertThat(result.windows().toTimeIntervals()).containsExactly(
+                new TimeInterval(at(10, 0), at(11, 0)),
+                new TimeInterval(at(10, 30), at(12, 0)));
+        assertThat(result.busyMembers()).containsExactly(new int[]{0}, new int[]{1});
+    }
+
+    @Test
+    @DisplayName("같은 멤버의 겹치거나 맞닿은 일정은 한 명으로 셈")
+    void sweep_overlappingOwnSchedulesCountOnce() {
+        // given: A 9-10, 9:30-11, 11-12 (겹침 + 맞닿음)
+        IntervalBuffer a = busy(at(9, 0), at(10, 0));
+        a.add(at(9, 30), at(11, 0));
+        a.add(at(11, 0), at(12, 0));
+        List<IntervalBuffer> members = List.of(a, new IntervalBuffer());
+
+        // when
+        QuorumWindows result = QuorumSweep.sweep(members, busy(at(8, 0), at(13, 0)), 1, 15);
+
+        // then: 바쁜 멤버가 A 한 명뿐이므로 창 전체가 하나로
+        assertThat(result.windows().toTimeIntervals()).containsExactly(
+                new TimeInterval(at(8, 0), at(13, 0)));
+        assertThat(result.busyMembers().get(0)).containsExactly(0);
+    }
+
+    @Test
+    @DisplayName("차등 테스트 - 전원(N=M)이면 전체 병합 엔진과 같은 공강")
+    void differential_allMembersMatchesMergedEngine() {
+        Random random = new Random(17);
+        long searchStart = IntervalBuffer.toEpochSecond(LocalDateTime.of(2025, 9, 1, 0, 0));
+
+        for (int round = 0; round < 200; round++) {
+            int days = 1 + random.nextInt(14);
+            long searchEnd = searchStart + days * DAY - 1;
+            int memberCount = 1 + random.nextInt(8);
+            int minDuration = 1 + random.nextInt(120);
+            LocalTime workStart = round % 3 == 0 ? null : LocalTime.of(random.nextInt(12), 0);
+            LocalTime workEnd = workStart == null ? null : LocalTime.of(12 + random.nextInt(12), 0);
+            List<Integer> daysOfWeek = random.nextBoolean() ? List.of(1, 2, 4, 6) : null;
+
+            List<IntervalBuffer> members = randomMembers(random, memberCount, searchStart, days, 30);
+            IntervalBuffer shared = randomBusy(random, random.nextInt(5), searchStart, days);
+
+            // 기준: 멤버 + 그룹 busy를 모두 병합
+            IntervalBuffer all = new IntervalBuffer();
+            members.forEach(m -> copy(m, all));
+            copy(shared, all);
+            PrimitiveIntervalEngine.merge(all);
+            IntervalBuffer expected = PrimitiveIntervalEngine.freeWithinDailyWindows(all, searchStart, searchEnd,
+                    workStart, workEnd, daysOfWeek, minDuration);
+
+            // sweep
+            PrimitiveIntervalEngine.merge(shared);
+            IntervalBuffer allowed = PrimitiveIntervalEngine.freeWithinDailyWindows(shared, searchStart, searchEnd,
+                    workStart, workEnd, daysOfWeek, minDuration);
+            QuorumWindows result = QuorumSweep.sweep(members, allowed, 0, minDuration);
+
+            assertThat(result.windows().toTimeIntervals()).as("round %d", round)
+                    .isEqualTo(expected.toTimeIntervals());
+        }
+    }
+
+    @Test
+    @DisplayName("차등 테스트 - 15분 격자 전수 검사와 같은 가장 긴 구간/바쁜 멤버")
+    void differential_matchesGridBruteForce() {
+        Random random = new Random(23);
+        long searchStart = IntervalBuffer.toEpochSecond(LocalDateTime.of(2025, 9, 1, 0, 0));
+
+        for (int round = 0; round < 200; round++) {
+            int days = 1 + random.nextInt(5);
+            int memberCount = 1 + random.nextInt(8);
+            int maxBusy = random.nextInt(memberCount + 1);
+            int minDuration = 15 * (1 + random.nextInt(8));
+
+            List<IntervalBuffer> members = randomMembers(random, memberCount, searchStart, days, 20);
+            // 허용 창: 매일 08:00-20:00
+            IntervalBuffer allowed = new IntervalBuffer();
+            for (int d = 0; d < days; d++) {
+                allowed.add(searchStart + d * DAY + 8 * 3600, searchStart + d * DAY + 20 * 3600);
+            }
+
+            QuorumWindows result = QuorumSweep.sweep(members, allowed, maxBusy, minDuration);
+
+            // 기준: 창 안의 15분 칸 구간 [i, j]를 모두 보고, 바쁜 멤버 합집합이 maxBusy명 이하이면서
+            // 양쪽으로 한 칸도 늘릴 수 없는 구간만 남김
+            List<long[]> expectedWindows = new ArrayList<>();
+            List<int[]> expectedMembers = new ArrayList<>();
+            for (int w = 0; w < allowed.size(); w++) {
+                int slots = (int) ((allowed.end(w) - allowed.start(w)) / SLOT);
+                List<Set<Integer>> sets = new ArrayList<>();
+                for (int i = 0; i < slots; i++) {
+                    sets.add(busySet(members, allowed.start(w) + i * SLOT));
+                }
+                for (int i = 0; i < slots; i++) {
+                    Set<Integer> union = new TreeSet<>();
+                    int last = -1;
+                    for (int j = i; j < slots; j++) {
+                        union.addAll(sets.get(j));
+                        if (union.size() > maxBusy) {
+                            break;
+                        }
+                        last = j;
+                    }
+                    if (last < 0 || (i > 0 && unionSize(sets, i - 1, last) <= maxBusy)) {
+                        continue;
+                    }
+                    long start = allowed.start(w) + i * SLOT;
+                    long end = allowed.start(w) + (last + 1) * SLOT;
+                    if (end - start >= minDuration * 60L) {
+                        Set<Integer> windowMembers = new TreeSet<>();
+                        for (int k = i; k <= last; k++) {
+                            windowMembers.addAll(sets.get(k));
+                        }
+                        expectedWindows.add(new long[]{start, end});
+                        expectedMembers.add(windowMembers.stream().mapToInt(Integer::intValue).toArray());
+                    }
+                }
+            }
+
+            assertThat(result.size()).as("round %d", round).isEqualTo(expectedWindows.size());
+            for (int i = 0; i < result.size(); i++) {
+                assertThat(new long[]{result.windows().start(i), result.windows().end(i)})
+                        .as("round %d window %d", round, i).containsExactly(expectedWindows.get(i));
+                assertThat(result.busyMembers().get(i)).as("round %d members %d", round, i)
+                        .containsExactly(expectedMembers.get(i));
+            }
+        }
+    }
+
+    private static int unionSize(List<Set<Integer>> sets, int from, int to) {
+        Set<Integer> union = new TreeSet<>();
+        for (int k = from; k <= to; k++) {
+            union.addAll(sets.get(k));
+        }
+        return union.size();
+    }
+
+    private static Set<Integer> busySet(List<IntervalBuffer> members, long t) {
+        Set<Integer> set = new TreeSet<>();
+        for (int m = 0; m < members.size(); m++) {
+            IntervalBuffer busy = members.get(m);
+            for (int i = 0; i < busy.size(); i++) {
+                if (busy.start(i) <= t && t < busy.end(i)) {
+                    set.add(m);
+                    break;
+                }
+            }
+        }
+        return set;
+    }
+
+    /**
+     * 15분 격자에 맞춘 멤버별 무작위 일정 (길이 0 없음)
+     */
+    private static List<IntervalBuffer> randomMembers(Random random, int memberCount, long searchStart,
+                                                      int days, int maxPerMember) {
+        List<IntervalBuffer> members = new ArrayList<>();
+        for (int m = 0; m < memberCount; m++) {
+            members.add(randomBusy(random, random.nextInt(maxPerMember), searchStart, days));
+        }
+        return members;
+    }
+
+    private static IntervalBuffer randomBusy(Random random, int count, long searchStart, int days) {
+        IntervalBuffer busy = new IntervalBuffer();
+        long slots = (days + 1) * DAY / SLOT;
+        for (int i = 0; i < count; i++) {
+            long start = searchStart - DAY / 2 + SLOT * random.nextInt((int) slots);
+            busy.add(start, start + SLOT * (1 + random.nextInt(16)));
+        }
+        return busy;
+    }
+
+    private static void copy(IntervalBuffer from, IntervalBuffer to) {
+        for (int i = 0; i < from.size(); i++) {
+            to.add(from.start(i), from.end(i));
+        }
+    }
+
+    private static IntervalBuffer busy(LocalDateTime start, LocalDateTime end) {
+        IntervalBuffer buffer = new IntervalBuffer();
+        buffer.add(start, end);
+        return buffer;
+    }
+
+    private static LocalDateTime at(int hour, int minute) {
+        return LocalDateTime.of(2025, 11, 25, hour, minute);
+    }
+}
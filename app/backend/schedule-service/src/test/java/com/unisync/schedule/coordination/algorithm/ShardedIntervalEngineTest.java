@@ -0,0 +1,165 @@
+package com.unisync.schedule.coordination.algorithm;
+
+import com.unisync.schedule.common.config.ParallelSearchProperties;
+import com.unisync.schedule.common.entity.Schedule;
+import com.unisync.schedule.common.recurrence.RecurrenceExpander;
+import com.unisync.schedule.coordination.dto.FreeSlotDto;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ShardedIntervalEngine 테스트")
+class ShardedIntervalEngineTest {
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void setUpPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void tearDownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("shard 경계 - 경계를 넘는 공강은 이어 붙이고 최소 지속 시간은 이어 붙인 뒤 적용")
+    void stitchesFreeSlotAcrossShardBoundary() {
+        // given: 월요일 시작, 1일 shard, 화 22:00 ~ 수 01:00만 busy
+        long searchStart = epoch(LocalDateTime.of(2025, 11, 24, 0, 0));
+        long searchEnd = epoch(LocalDateTime.of(2025, 11, 26, 23, 59, 59));
+        IntervalBuffer busy = new IntervalBuffer();
+        busy.add(LocalDateTime.of(2025, 11, 25, 22, 0), LocalDateTime.of(2025, 11, 26, 1, 0));
+
+        // when
+        IntervalBuffer free = ShardedIntervalEngine.freeWithinDailyWindows(busy, searchStart, searchEnd,
+                null, null, null, 60, 1, pool);
+
+        // then: 월/화 경계에서 나뉘지 않음
+        assertThat(free.toTimeIntervals()).containsExactly(
+                new TimeInterval(LocalDateTime.of(2025, 11, 24, 0, 0), LocalDateTime.of(2025, 11, 25, 22, 0)),
+                new TimeInterval(LocalDateTime.of(2025, 11, 26, 1, 0), LocalDateTime.of(2025, 11, 26, 23, 59, 59)));
+    }
+
+    @Test
+    @DisplayName("shard 경계 - 경계 시각의 길이 0 busy는 순차 계산과 같이 공강을 나눔")
+    void zeroLengthBusyAtShardBoundary_splitsFreeSlot() {
+        // given
+        long searchStart = epoch(LocalDateTime.of(2025, 11, 24, 0, 0));
+        long searchEnd = epoch(LocalDateTime.of(2025, 11, 25, 23, 59, 59));
+        IntervalBuffer busy = new IntervalBuffer();
+        busy.add(LocalDateTime.of(2025, 11, 25, 0, 0), LocalDateTime.of(2025, 11, 25, 0, 0));
+
+        // when
+        IntervalBuffer parallel = ShardedIntervalEngine.freeWithinDailyWindows(busy, searchStart, searchEnd,
+                null, null, null, 30, 1, pool);
+        PrimitiveIntervalEngine.merge(busy);
+        IntervalBuffer sequential = PrimitiveIntervalEngine.freeWithinDailyWindows(busy, searchStart, searchEnd,
+                null, null, null, 30);
+
+        // then
+        assertThat(parallel.toTimeIntervals())
+                .hasSize(2)
+                .isEqualTo(sequential.toTimeIntervals());
+    }
+
+    @Test
+    @DisplayName("차등 테스트 - 무작위 일정/shard 크기에서 순차 계산과 같은 결과")
+    void differential_matchesSequentialEngine() {
+        Random random = new Random(7);
+        LocalDate startDate = LocalDate.of(2025, 9, 1);
+
+        for (int round = 0; round < 300; round++) {
+            int days = 1 + random.nextInt(120);
+            LocalDate endDate = startDate.plusDays(days - 1);
+            int count = random.nextInt(round % 5 == 0 ? 20 : 2_000);
+            int minDuration = 1 + random.nextInt(120);
+            int shardDays = 1 + random.nextInt(10);
+            boolean withWorkingHours = round % 3 != 0;
+            LocalTime workStart = withWorkingHours ? LocalTime.of(random.nextInt(12), random.nextInt(4) * 15) : null;
+            LocalTime workEnd = withWorkingHours
+                    ? LocalTime.of(12 + random.nextInt(12), random.nextInt(60), random.nextInt(60)) : null;
+            List<Integer> daysOfWeek = random.nextBoolean() ? List.of(1, 2, 3, 6) : null;
+
+            long origin = epoch(startDate.atStartOfDay().minusDays(1));
+            IntervalBuffer busy = new IntervalBuffer();
+            for (int i = 0; i < count; i++) {
+                // 자정(shard 경계)에 딱 맞는 일정 / 길이 0인 일정 / 여러 shard에 걸친 긴 일정 포함
+                long start = random.nextInt(4) == 0
+                        ? origin + random.nextInt(days + 2) * 86_400L
+                        : origin + random.nextInt((days + 2) * 86_400);
+                long length = switch (random.nextInt(10)) {
+                    case 0 -> 0;
+                    case 1 -> random.nextInt(20 * 86_400);
+                    case 2 -> random.nextInt(4) * 86_400L;
+                    default -> random.nextInt(6 * 3600);
+                };
+                busy.add(start, start + length);
+            }
+
+            long searchStart = epoch(startDate.atStartOfDay());
+            long searchEnd = epoch(endDate.atTime(23, 59, 59));
+
+            IntervalBuffer parallel = ShardedIntervalEngine.freeWithinDailyWindows(busy, searchStart, searchEnd,
+                    workStart, workEnd, daysOfWeek, minDuration, shardDays, pool);
+
+            PrimitiveIntervalEngine.merge(busy);
+            IntervalBuffer sequential = PrimitiveIntervalEngine.freeWithinDailyWindows(busy, searchStart, searchEnd,
+                    workStart, workEnd, daysOfWeek, minDuration);
+
+            assertThat(parallel.toTimeIntervals()).as("round %d", round).isEqualTo(sequential.toTimeIntervals());
+        }
+    }
+
+    @Test
+    @DisplayName("FreeSlotFinder - 임계값을 넘으면 병렬 경로로 계산해도 결과가 같음")
+    void freeSlotFinder_parallelPathMatchesSequential() {
+        // given
+        ParallelSearchProperties sequentialProperties = new ParallelSearchProperties();
+        sequentialProperties.setEnabled(false);
+        ParallelSearchProperties parallelProperties = new ParallelSearchProperties();
+        parallelProperties.setMinIntervals(1);
+        parallelProperties.setShardDays(2);
+
+        RecurrenceExpander expander = new RecurrenceExpander();
+        FreeSlotFinder sequentialFinder = new FreeSlotFinder(expander, sequentialProperties, pool);
+        FreeSlotFinder parallelFinder = new FreeSlotFinder(expander, parallelProperties, pool);
+
+        Random random = new Random(11);
+        LocalDate startDate = LocalDate.of(2025, 9, 1);
+        LocalDate endDate = LocalDate.of(2025, 12, 20);
+        List<Schedule> schedules = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            LocalDateTime start = startDate.atStartOfDay().plusMinutes(15L * random.nextInt(96 * 110));
+            schedules.add(Schedule.builder()
+                    .startTime(start)
+                    .endTime(start.plusMinutes(15L * (1 + random.nextInt(16))))
+                    .build());
+        }
+
+        // when
+        List<FreeSlotDto> expected = sequentialFinder.findFreeSlots(schedules, startDate, endDate, 60,
+                LocalTime.of(9, 0), LocalTime.of(22, 0), List.of(1, 2, 3, 4, 5));
+        List<FreeSlotDto> actual = parallelFinder.findFreeSlots(schedules, startDate, endDate, 60,
+                LocalTime.of(9, 0), LocalTime.of(22, 0), List.of(1, 2, 3, 4, 5));
+
+        // then
+        assertThat(actual).isNotEmpty().usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    private static long epoch(LocalDateTime dateTime) {
+        return IntervalBuffer.toEpochSecond(dateTime);
+    }
+}
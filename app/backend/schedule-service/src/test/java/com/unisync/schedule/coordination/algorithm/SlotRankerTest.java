@@ -0,0 +1,94 @@
+package com.unisync.schedule.coordination.algorithm;
+
+import com.unisync.schedule.coordination.model.SuggestionOrder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SlotRanker 테스트")
+class SlotRankerTest {
+
+    private static final long SEARCH_START = IntervalBuffer.toEpochSecond(LocalDateTime.of(2025, 11, 24, 0, 0));
+    private static final long SEARCH_END = IntervalBuffer.toEpochSecond(LocalDateTime.of(2025, 11, 30, 23, 59, 59));
+
+    @Test
+    @DisplayName("BEST_MATCH - 선호 시간대를 덮고 요청 시간에 가까운 공강이 먼저")
+    void bestMatch_prefersPreferredHoursAndTightFit() {
+        // given
+        IntervalBuffer free = new IntervalBuffer();
+        free.add(LocalDateTime.of(2025, 11, 24, 9, 0), LocalDateTime.of(2025, 11, 24, 11, 0));   // 이르지만 선호 시간대 밖
+        free.add(LocalDateTime.of(2025, 11, 25, 9, 0), LocalDateTime.of(2025, 11, 25, 18, 0));   // 선호 시간대 포함, 너무 김
+        free.add(LocalDateTime.of(2025, 11, 26, 14, 0), LocalDateTime.of(2025, 11, 26, 16, 0));  // 선호 시간대, 딱 맞음
+
+        SuggestionCriteria criteria = new SuggestionCriteria(2, SuggestionOrder.BEST_MATCH,
+                LocalTime.of(14, 0), LocalTime.of(17, 0));
+
+        // when
+        List<RankedSlot> ranked = SlotRanker.topK(free, SEARCH_START, SEARCH_END, 120, criteria);
+
+        // then
+        assertThat(ranked).extracting(RankedSlot::start).containsExactly(
+                IntervalBuffer.toEpochSecond(LocalDateTime.of(2025, 11, 26, 14, 0)),
+                IntervalBuffer.toEpochSecond(LocalDateTime.of(2025, 11, 25, 9, 0)));
+        assertThat(ranked.get(0).score()).isGreaterThan(ranked.get(1).score());
+    }
+
+    @Test
+    @DisplayName("EARLIEST - 앞에서부터 K개")
+    void earliest_takesFirstK() {
+        // given
+        IntervalBuffer free = new IntervalBuffer();
+        for (int day = 0; day < 5; day++) {
+            free.add(LocalDateTime.of(2025, 11, 24 + day, 9, 0), LocalDateTime.of(2025, 11, 24 + day, 18, 0));
+        }
+
+        // when
+        List<RankedSlot> ranked = SlotRanker.topK(free, SEARCH_START, SEARCH_END, 60,
+                new SuggestionCriteria(3, SuggestionOrder.EARLIEST, null, null));
+
+        // then
+        assertThat(ranked).extracting(RankedSlot::start).containsExactly(free.start(0), free.start(1), free.start(2));
+    }
+
+    @Test
+    @DisplayName("BEST_MATCH - 무작위 공강에서 전체 정렬 후 앞 K개와 같음")
+    void bestMatch_matchesFullSort() {
+        Random random = new Random(3);
+        for (int round = 0; round < 100; round++) {
+            IntervalBuffer free = new IntervalBuffer();
+            long cursor = SEARCH_START;
+            int count = random.nextInt(300);
+            for (int i = 0; i < count; i++) {
+                cursor += 900L * (1 + random.nextInt(8));
+                long end = cursor + 900L * (1 + random.nextInt(40));
+                free.add(cursor, end);
+                cursor = end;
+            }
+            int k = 1 + random.nextInt(10);
+            SuggestionCriteria criteria = new SuggestionCriteria(k, SuggestionOrder.BEST_MATCH,
+                    LocalTime.of(13, 0), LocalTime.of(15, 30));
+
+            List<RankedSlot> ranked = SlotRanker.topK(free, SEARCH_START, SEARCH_END, 60, criteria);
+
+            // 기준: 모든 공강 점수를 매겨 전체 정렬
+            List<RankedSlot> all = new ArrayList<>();
+            for (int i = 0; i < free.size(); i++) {
+                IntervalBuffer one = new IntervalBuffer();
+                one.add(free.start(i), free.end(i));
+                all.addAll(SlotRanker.topK(one, SEARCH_START, SEARCH_END, 60, criteria));
+            }
+            all.sort(Comparator.comparingDouble(RankedSlot::score).reversed()
+                    .thenComparingLong(RankedSlot::start));
+
+            assertThat(ranked).as("round %d", round).isEqualTo(all.subList(0, Math.min(k, all.size())));
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.unisync.schedule.coordination.cache;
+
+import com.unisync.schedule.common.config.BusyIndexProperties;
+import com.unisync.schedule.common.config.ResultCacheProperties;
+import com.unisync.schedule.common.entity.Schedule;
+import com.unisync.schedule.common.recurrence.RecurrenceExpander;
+import com.unisync.schedule.common.repository.ScheduleRepository;
+import com.unisync.schedule.coordination.dto.FindFreeSlotsRequest;
+import com.unisync.schedule.coordination.dto.FindFreeSlotsResponse;
+import com.unisync.schedule.coordination.index.BusyBitmapIndex;
+import com.unisync.schedule.coordination.index.BusyBitmapIndex.Footprint;
+import com.unisync.schedule.coordination.index.InMemoryScheduleVersions;
+import com.unisync.schedule.coordination.index.ScheduleVersions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("FreeSlotResultCache 테스트")
+class FreeSlotResultCacheTest {
+
+    private static final List<String> MEMBERS = List.of("user-a", "user-b");
+
+    private final InMemoryScheduleVersions versionStore = new InMemoryScheduleVersions();
+    private final ScheduleVersions scheduleVersions = versionStore.newInstance();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private ResultCacheProperties properties;
+    private FreeSlotResultCache cache;
+    private BusyBitmapIndex busyBitmapIndex;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ResultCacheProperties();
+        cache = new FreeSlotResultCache(scheduleVersions, properties, meterRegistry, now::get);
+        // 일정 변경 알림은 BusyBitmapIndex를 거쳐 버전에 반영됨
+        busyBitmapIndex = new BusyBitmapIndex(Mockito.mock(ScheduleRepository.class), new RecurrenceExpander(),
+                scheduleVersions, new BusyIndexProperties(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 조건이면 적중하고 아낀 계산 시간을 기록")
+    void get_hitsSameRequest() {
+        // given
+        FindFreeSlotsResponse response = response();
+        cache.put(request(), MEMBERS, cache.stamp(MEMBERS, 1L), response, TimeUnit.MILLISECONDS.toNanos(40));
+
+        // when
+        FindFreeSlotsResponse cached = cache.get(request());
+
+        // then
+        assertThat(cached).isSameAs(response);
+        assertThat(meterRegistry.counter("coordination.result.cache", "result", "hit").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.timer("coordination.result.cache.saved").totalTime(TimeUnit.MILLISECONDS))
+                .isEqualTo(40.0);
+        assertThat(meterRegistry.get("coordination.result.cache.hit.ratio").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("요일 순서/중복, 추천 모드가 아닐 때의 추천 조건은 키에 영향 없음")
+    void get_normalizesRequest() {
+        // given
+        FindFreeSlotsRequest stored = request();
+        stored.setDaysOfWeek(List.of(5, 1, 3));
+        cache.put(stored, MEMBERS, cache.stamp(MEMBERS, 1L), response(), 0L);
+
+        FindFreeSlotsRequest lookup = request();
+        lookup.setDaysOfWeek(List.of(1, 3, 5, 3));
+        lookup.setPreferredHoursStart(LocalTime.of(14, 0));
+
+        // when & then
+        assertThat(cache.get(lookup)).isNotNull();
+
+        lookup.setMinDurationMinutes(30);
+        assertThat(cache.get(lookup)).isNull();
+    }
+
+    @Test
+    @DisplayName("멤버 일정이 바뀌면(커밋 후 버전 증가) 버리고 다시 계산")
+    void get_missesAfterMemberScheduleChanged() {
+        // given
+        cache.put(request(), MEMBERS, cache.stamp(MEMBERS, 1L), response(), 0L);
+
+        // when: 멤버가 아닌 사용자 변경은 영향 없음
+        busyBitmapIndex.scheduleChanged(null, Footprint.of(schedule("user-z", null)));
+        assertThat(cache.get(request())).isNotNull();
+
+        // when: 멤버 일정 변경
+        busyBitmapIndex.scheduleChanged(null, Footprint.of(schedule("user-b", null)));
+
+        // then
+        assertThat(cache.get(request())).isNull();
+        assertThat(meterRegistry.counter("coordination.result.cache", "result", "stale").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 바뀐 멤버 일정도 공유 버전으로 바로 버림")
+    void get_missesAfterChangeOnOtherInstance() {
+        // given
+        cache.put(request(), MEMBERS, cache.stamp(MEMBERS, 1L), response(), 0L);
+
+        // when: 같은 DB를 보는 다른 인스턴스의 일정 변경
+        BusyBitmapIndex otherInstance = new BusyBitmapIndex(Mockito.mock(ScheduleRepository.class),
+                new RecurrenceExpander(), versionStore.newInstance(), new BusyIndexProperties(), meterRegistry);
+        otherInstance.scheduleChanged(null, Footprint.of(schedule("user-a", null)));
+
+        // then
+        assertThat(cache.get(request())).isNull();
+    }
+
+    @Test
+    @DisplayName("그룹 일정이 바뀌어도 버림")
+    void get_missesAfterGroupScheduleChanged() {
+        cache.put(request(), MEMBERS, cache.stamp(MEMBERS, 1L), response(), 0L);
+
+        busyBitmapIndex.ownersChanged(List.of(), List.of(1L));
+
+        assertThat(cache.get(request())).isNull();
+    }
+
+    @Test
+    @DisplayName("계산 중에 바뀐 일정은 계산 전 버전과 달라 다음 조회에서 버려짐")
+    void get_missesWhenChangedDuringCompute() {
+        long[] stamp = cache.stamp(MEMBERS, 1L);
+        busyBitmapIndex.scheduleChanged(null, Footprint.of(schedule("user-a", null)));
+        cache.put(request(), MEMBERS, stamp, response(), 0L);
+
+        assertThat(cache.get(request())).isNull();
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 버림")
+    void get_expiresAfterTtl() {
+        cache.put(request(), MEMBERS, cache.stamp(MEMBERS, 1L), response(), 0L);
+
+        now.addAndGet(properties.getTtlSeconds() * 1000L + 1);
+
+        assertThat(cache.get(request())).isNull();
+    }
+
+    @Test
+    @DisplayName("maxEntries를 넘으면 가장 오래 안 쓴 결과부터 제거")
+    void put_evictsLeastRecentlyUsed() {
+        // given
+        properties.setMaxEntries(2);
+        cache = new FreeSlotResultCache(scheduleVersions, properties, meterRegistry, now::get);
+        FindFreeSlotsRequest first = request();
+        FindFreeSlotsRequest second = request();
+        second.setMinDurationMinutes(30);
+        FindFreeSlotsRequest third = request();
+        third.setMinDurationMinutes(90);
+
+        cache.put(first, MEMBERS, cache.stamp(MEMBERS, 1L), response(), 0L);
+        cache.put(second, MEMBERS, cache.stamp(MEMBERS, 1L), response(), 0L);
+        cache.get(first);
+
+        // when
+        cache.put(third, MEMBERS, cache.stamp(MEMBERS, 1L), response(), 0L);
+
+        // then
+        assertThat(cache.get(first)).isNotNull();
+        assertThat(cache.get(second)).isNull();
+        assertThat(cache.get(third)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("비활성화면 저장/조회하지 않음")
+    void disabled_neverHits() {
+        properties.setEnabled(false);
+        cache.put(request(), MEMBERS, cache.stamp(MEMBERS, 1L), response(), 0L);
+
+        assertThat(cache.get(request())).isNull();
+    }
+
+    private static FindFreeSlotsRequest request() {
+        return FindFreeSlotsRequest.builder()
+                .groupId(1L)
+                .startDate("2025-11-25")
+                .endDate("2025-11-30")
+                .minDurationMinutes(60)
+                .build();
+    }
+
+    private static FindFreeSlotsResponse response() {
+        return FindFreeSlotsResponse.builder()
+                .groupId(1L)
+                .memberCount(MEMBERS.size())
+                .freeSlots(List.of())
+                .build();
+    }
+
+    private static Schedule schedule(String cognitoSub, Long groupId) {
+        return Schedule.builder()
+                .cognitoSub(cognitoSub)
+                .groupId(groupId)
+                .startTime(LocalDateTime.of(2025, 11, 26, 9, 0))
+                .endTime(LocalDateTime.of(2025, 11, 26, 10, 0))
+                .build();
+    }
+}
@@ -0,0 +1,263 @@
+package com.unisync.schedule.coordination.index;
+
+import com.unisync.schedule.common.config.BusyIndexProperties;
+import com.unisync.schedule.common.config.ParallelSearchProperties;
+import com.unisync.schedule.common.entity.Schedule;
+import com.unisync.schedule.common.recurrence.RecurrenceExpander;
+import com.unisync.schedule.common.repository.ScheduleRepository;
+import com.unisync.schedule.common.repository.ScheduleTimeProjection;
+import com.unisync.schedule.coordination.algorithm.FreeSlotFinder;
+import com.unisync.schedule.coordination.algorithm.IntervalBuffer;
+import com.unisync.schedule.coordination.algorithm.MemberBusy;
+import com.unisync.schedule.coordination.algorithm.TimeInterval;
+import com.unisync.schedule.coordination.dto.FreeSlotDto;
+import com.unisync.schedule.coordination.index.BusyBitmapIndex.Footprint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BusyBitmapIndex 테스트")
+class BusyBitmapIndexTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 11, 24);
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    private final RecurrenceExpander recurrenceExpander = new RecurrenceExpander();
+    private final InMemoryScheduleVersions versionStore = new InMemoryScheduleVersions();
+    private final ScheduleVersions scheduleVersions = versionStore.newInstance();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private BusyIndexProperties properties;
+    private BusyBitmapIndex index;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BusyIndexProperties();
+        index = new BusyBitmapIndex(scheduleRepository, recurrenceExpander, scheduleVersions, properties,
+                meterRegistry, now::get);
+    }
+
+    @Test
+    @DisplayName("멤버 + 그룹 bitmap OR - busy 구간은 두 소유자 일정의 합집합")
+    void busyIntervals_unionOfMembersAndGroup() {
+        // given
+        given(scheduleRepository.streamTimesByCognitoSubsAndDateRange(eq(List.of("user-a", "user-b")), any(), any()))
+                .willAnswer(rows(
+                        schedule("user-a", null, MONDAY.atTime(9, 0), MONDAY.atTime(10, 0)),
+                        schedule("user-b", null, MONDAY.atTime(9, 30), MONDAY.atTime(11, 0))));
+        given(scheduleRepository.streamTimesByGroupIdAndDateRange(eq(7L), any(), any()))
+                .willAnswer(rows(schedule("user-c", 7L, MONDAY.atTime(14, 0), MONDAY.atTime(15, 0))));
+
+        // when
+        IntervalBuffer busy = index.busyIntervals(List.of("user-a", "user-b"), 7L, MONDAY, MONDAY);
+
+        // then
+        assertThat(busy.toTimeIntervals()).containsExactly(
+                new TimeInterval(MONDAY.atTime(9, 0), MONDAY.atTime(11, 0)),
+                new TimeInterval(MONDAY.atTime(14, 0), MONDAY.atTime(15, 0)));
+    }
+
+    @Test
+    @DisplayName("멤버별 busy - 멤버마다 따로, 그룹 일정은 shared로")
+    void memberBusyIntervals_separatesMembersAndGroup() {
+        // given
+        given(scheduleRepository.streamTimesByCognitoSubsAndDateRange(eq(List.of("user-a", "user-b")), any(), any()))
+                .willAnswer(rows(
+                        schedule("user-a", null, MONDAY.atTime(9, 0), MONDAY.atTime(10, 0)),
+                        schedule("user-b", null, MONDAY.atTime(9, 30), MONDAY.atTime(11, 0))));
+        given(scheduleRepository.streamTimesByGroupIdAndDateRange(eq(7L), any(), any()))
+                .willAnswer(rows(schedule("user-c", 7L, MONDAY.atTime(14, 0), MONDAY.atTime(15, 0))));
+
+        // when
+        MemberBusy busy = index.memberBusyIntervals(List.of("user-a", "user-b"), 7L, MONDAY, MONDAY);
+
+        // then
+        assertThat(busy.members()).containsExactly("user-a", "user-b");
+        assertThat(busy.busy().get(0).toTimeIntervals())
+                .containsExactly(new TimeInterval(MONDAY.atTime(9, 0), MONDAY.atTime(10, 0)));
+        assertThat(busy.busy().get(1).toTimeIntervals())
+                .containsExactly(new TimeInterval(MONDAY.atTime(9, 30), MONDAY.atTime(11, 0)));
+        assertThat(busy.shared().toTimeIntervals())
+                .containsExactly(new TimeInterval(MONDAY.atTime(14, 0), MONDAY.atTime(15, 0)));
+
+        // 같은 주는 합집합 조회에서도 캐시를 재사용
+        index.busyIntervals(List.of("user-a", "user-b"), 7L, MONDAY, MONDAY);
+        then(scheduleRepository).should(times(1)).streamTimesByCognitoSubsAndDateRange(anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("캐시된 주는 다시 조회하지 않고, TTL이 지나면 다시 생성")
+    void busyIntervals_reusesCachedWeeksUntilTtl() {
+        given(scheduleRepository.streamTimesByCognitoSubsAndDateRange(anyList(), any(), any())).willAnswer(rows());
+
+        index.busyIntervals(List.of("user-a"), null, MONDAY, MONDAY.plusDays(2));
+        index.busyIntervals(List.of("user-a"), null, MONDAY.plusDays(1), MONDAY.plusDays(3));
+        then(scheduleRepository).should(times(1)).streamTimesByCognitoSubsAndDateRange(anyList(), any(), any());
+
+        now.addAndGet(properties.getTtlSeconds() * 1000L + 1);
+        index.busyIntervals(List.of("user-a"), null, MONDAY, MONDAY);
+        then(scheduleRepository).should(times(2)).streamTimesByCognitoSubsAndDateRange(anyList(), any(), any());
+        assertThat(meterRegistry.counter("coordination.busy.index.weeks", "result", "hit").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("일정 생성은 캐시된 주에 bit를 더하고, 삭제는 해당 주만 다시 생성")
+    void scheduleChanged_marksAndDropsWeeks() {
+        // given: 빈 상태로 캐시
+        given(scheduleRepository.streamTimesByCognitoSubsAndDateRange(anyList(), any(), any())).willAnswer(rows());
+        index.busyIntervals(List.of("user-a"), null, MONDAY, MONDAY);
+
+        // when: 생성 → DB 조회 없이 반영
+        Schedule created = schedule("user-a", null, MONDAY.atTime(13, 0), MONDAY.atTime(14, 0));
+        index.scheduleChanged(null, Footprint.of(created));
+
+        // then
+        assertThat(index.busyIntervals(List.of("user-a"), null, MONDAY, MONDAY).toTimeIntervals())
+                .containsExactly(new TimeInterval(MONDAY.atTime(13, 0), MONDAY.atTime(14, 0)));
+        then(scheduleRepository).should(times(1)).streamTimesByCognitoSubsAndDateRange(anyList(), any(), any());
+
+        // when: 삭제 → 그 주를 버리고 다시 생성, 소유자 버전도 올라감
+        long[] stamp = scheduleVersions.stamp(List.of("user-a"), null);
+        index.scheduleChanged(Footprint.of(created), null);
+        assertThat(scheduleVersions.stamp(List.of("user-a"), null)).isNotEqualTo(stamp);
+        assertThat(index.busyIntervals(List.of("user-a"), null, MONDAY, MONDAY).isEmpty()).isTrue();
+        then(scheduleRepository).should(times(2)).streamTimesByCognitoSubsAndDateRange(anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 일정 변경은 공유 버전이 바뀌어 다음 조회에서 다시 생성")
+    void busyIntervals_rebuildsAfterChangeOnOtherInstance() {
+        // given: 이 인스턴스는 빈 주를 캐시
+        List<Schedule> rows = new ArrayList<>();
+        given(scheduleRepository.streamTimesByCognitoSubsAndDateRange(anyList(), any(), any()))
+                .willAnswer(invocation -> rows(rows).answer(invocation));
+        index.busyIntervals(List.of("user-a"), null, MONDAY, MONDAY);
+
+        // when: 같은 DB를 보는 다른 인스턴스에서 일정 생성
+        Schedule created = schedule("user-a", null, MONDAY.atTime(13, 0), MONDAY.atTime(14, 0));
+        rows.add(created);
+        BusyBitmapIndex otherInstance = new BusyBitmapIndex(scheduleRepository, recurrenceExpander,
+                versionStore.newInstance(), properties, meterRegistry, now::get);
+        otherInstance.scheduleChanged(null, Footprint.of(created));
+
+        // then: TTL 전이어도 바로 반영
+        assertThat(index.busyIntervals(List.of("user-a"), null, MONDAY, MONDAY).toTimeIntervals())
+                .containsExactly(new TimeInterval(MONDAY.atTime(13, 0), MONDAY.atTime(14, 0)));
+        then(scheduleRepository).should(times(2)).streamTimesByCognitoSubsAndDateRange(anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스 변경이 끼어 있으면 로컬 변경도 부분 반영하지 않고 버림")
+    void scheduleChanged_afterOtherInstanceChange_dropsOwner() {
+        // given
+        List<Schedule> rows = new ArrayList<>();
+        given(scheduleRepository.streamTimesByCognitoSubsAndDateRange(anyList(), any(), any()))
+                .willAnswer(invocation -> rows(rows).answer(invocation));
+        index.busyIntervals(List.of("user-a"), null, MONDAY, MONDAY);
+
+        Schedule elsewhere = schedule("user-a", null, MONDAY.atTime(9, 0), MONDAY.atTime(10, 0));
+        rows.add(elsewhere);
+        versionStore.userChangedElsewhere("user-a");
+
+        // when: 이 인스턴스의 생성 (bitmap은 바로 앞 버전이 아님)
+        Schedule local = schedule("user-a", null, MONDAY.atTime(13, 0), MONDAY.atTime(14, 0));
+        rows.add(local);
+        index.scheduleChanged(null, Footprint.of(local));
+
+        // then: 두 변경이 모두 보임
+        assertThat(index.busyIntervals(List.of("user-a"), null, MONDAY, MONDAY).toTimeIntervals()).containsExactly(
+                new TimeInterval(MONDAY.atTime(9, 0), MONDAY.atTime(10, 0)),
+                new TimeInterval(MONDAY.atTime(13, 0), MONDAY.atTime(14, 0)));
+    }
+
+    @Test
+    @DisplayName("반복 일정은 기간 안의 occurrence가 모두 busy")
+    void busyIntervals_expandsRecurringSchedules() {
+        Schedule lecture = schedule("user-a", null, LocalDateTime.of(2025, 9, 1, 10, 0),
+                LocalDateTime.of(2025, 9, 1, 12, 0));
+        lecture.setRecurrenceRule("FREQ=WEEKLY;BYDAY=MO,WE");
+        given(scheduleRepository.streamTimesByCognitoSubsAndDateRange(anyList(), any(), any())).willAnswer(rows(lecture));
+
+        IntervalBuffer busy = index.busyIntervals(List.of("user-a"), null, MONDAY, MONDAY.plusDays(2));
+
+        assertThat(busy.toTimeIntervals()).containsExactly(
+                new TimeInterval(MONDAY.atTime(10, 0), MONDAY.atTime(12, 0)),
+                new TimeInterval(MONDAY.plusDays(2).atTime(10, 0), MONDAY.plusDays(2).atTime(12, 0)));
+    }
+
+    @Test
+    @DisplayName("차등 테스트 - 15분 정렬 일정이면 일정 기반 계산과 같은 공강")
+    void differential_matchesScheduleBasedSearch() {
+        FreeSlotFinder finder = new FreeSlotFinder(recurrenceExpander, new ParallelSearchProperties(), ForkJoinPool.commonPool());
+        Random random = new Random(7);
+        List<String> members = List.of("user-a", "user-b", "user-c");
+
+        for (int round = 0; round < 30; round++) {
+            LocalDate startDate = MONDAY.plusDays(random.nextInt(14));
+            LocalDate endDate = startDate.plusDays(random.nextInt(20));
+
+            List<Schedule> schedules = new ArrayList<>();
+            for (int i = 0; i < 60; i++) {
+                LocalDateTime start = startDate.minusDays(1).atStartOfDay()
+                        .plusMinutes(15L * random.nextInt(96 * 23));
+                LocalDateTime end = start.plusMinutes(15L * random.nextInt(24));
+                schedules.add(schedule(members.get(random.nextInt(3)), null, start, end));
+            }
+
+            BusyBitmapIndex fresh = new BusyBitmapIndex(scheduleRepository, recurrenceExpander, scheduleVersions,
+                    properties, meterRegistry, now::get);
+            given(scheduleRepository.streamTimesByCognitoSubsAndDateRange(anyList(), any(), any())).willAnswer(rows(schedules));
+
+            List<FreeSlotDto> expected = finder.findFreeSlots(schedules, startDate, endDate, 30,
+                    LocalTime.of(9, 0), LocalTime.of(18, 0), List.of(1, 2, 3, 4, 5));
+            List<FreeSlotDto> actual = finder.findFreeSlotsFromBusy(
+                    fresh.busyIntervals(members, null, startDate, endDate), startDate, endDate, 30,
+                    LocalTime.of(9, 0), LocalTime.of(18, 0), List.of(1, 2, 3, 4, 5));
+
+            assertThat(actual).as("round %d", round).isEqualTo(expected);
+        }
+    }
+
+    /**
+     * stream은 한 번만 소비되므로 호출마다 새 projection stream을 반환
+     */
+    private static Answer<Stream<ScheduleTimeProjection>> rows(Schedule... schedules) {
+        return rows(List.of(schedules));
+    }
+
+    private static Answer<Stream<ScheduleTimeProjection>> rows(List<Schedule> schedules) {
+        return invocation -> schedules.stream().map(s -> new ScheduleTimeProjection(
+                s.getStartTime(), s.getEndTime(), s.getCognitoSub(), s.getGroupId(), s.getRecurrenceRule()));
+    }
+
+    private Schedule schedule(String cognitoSub, Long groupId, LocalDateTime start, LocalDateTime end) {
+        return Schedule.builder()
+                .cognitoSub(cognitoSub)
+                .groupId(groupId)
+                .startTime(start)
+                .endTime(end)
+                .build();
+    }
+}
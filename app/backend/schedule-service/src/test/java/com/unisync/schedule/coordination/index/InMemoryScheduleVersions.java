@@ -0,0 +1,56 @@
+package com.unisync.schedule.coordination.index;
+
+import com.unisync.schedule.common.entity.ScheduleOwnerVersion;
+import com.unisync.schedule.common.repository.ScheduleOwnerVersionRepository;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+
+/**
+ * DB 대신 메모리 Map에 소유자 버전을 두는 테스트용 ScheduleVersions
+ *
+ * 여러 인스턴스가 같은 DB를 보는 상황은 같은 store로 ScheduleVersions를 여러 개 만들어 흉내 낸다.
+ */
+public final class InMemoryScheduleVersions {
+
+    private final Map<String, Long> store = new ConcurrentHashMap<>();
+
+    /**
+     * 같은 store를 보는 ScheduleVersions (인스턴스 하나에 해당)
+     */
+    public ScheduleVersions newInstance() {
+        ScheduleOwnerVersionRepository repository = Mockito.mock(ScheduleOwnerVersionRepository.class);
+        lenient().when(repository.increment(anyString())).thenAnswer(invocation -> {
+            store.merge(invocation.getArgument(0), 1L, Long::sum);
+            return 1;
+        });
+        lenient().when(repository.findVersion(anyString()))
+                .thenAnswer(invocation -> store.getOrDefault(invocation.<String>getArgument(0), 0L));
+        lenient().when(repository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            Iterable<String> keys = invocation.getArgument(0);
+            List<ScheduleOwnerVersion> rows = new ArrayList<>();
+            keys.forEach(key -> {
+                Long version = store.get(key);
+                if (version != null) {
+                    rows.add(ScheduleOwnerVersion.builder().ownerKey(key).version(version).build());
+                }
+            });
+            return rows;
+        });
+        return new ScheduleVersions(repository);
+    }
+
+    /**
+     * 다른 인스턴스에서 사용자 일정이 바뀐 것처럼 버전만 올림
+     */
+    public void userChangedElsewhere(String cognitoSub) {
+        store.merge(BusyBitmapIndex.userKey(cognitoSub), 1L, Long::sum);
+    }
+}
@@ -0,0 +1,75 @@
+package com.unisync.schedule.coordination.index;
+
+import com.unisync.schedule.coordination.algorithm.IntervalBuffer;
+import com.unisync.schedule.coordination.algorithm.TimeInterval;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("WeekBitmap 테스트")
+class WeekBitmapTest {
+
+    @Test
+    @DisplayName("주 번호 - 월요일 00:00에 바뀜")
+    void weekOf_startsOnMonday() {
+        LocalDate monday = LocalDate.of(2025, 11, 24);
+        assertThat(monday.getDayOfWeek()).isEqualTo(DayOfWeek.MONDAY);
+
+        long week = WeekBitmap.weekOf(second(monday.atStartOfDay()));
+        assertThat(WeekBitmap.weekStart(week)).isEqualTo(second(monday.atStartOfDay()));
+        assertThat(WeekBitmap.weekOf(second(monday.atStartOfDay().minusSeconds(1)))).isEqualTo(week - 1);
+        assertThat(WeekBitmap.weekOf(second(monday.plusDays(6).atTime(23, 59, 59)))).isEqualTo(week);
+    }
+
+    @Test
+    @DisplayName("표시 - 15분 slot 경계로 바깥쪽 반올림, 주 경계에서 잘림")
+    void mark_roundsOutwardAndClipsToWeek() {
+        long week = WeekBitmap.weekOf(second(LocalDateTime.of(2025, 11, 24, 0, 0)));
+        long[] bits = WeekBitmap.empty();
+
+        WeekBitmap.mark(bits, week, second(LocalDateTime.of(2025, 11, 24, 10, 10)),
+                second(LocalDateTime.of(2025, 11, 24, 10, 50)));
+        // 일요일 23:00 ~ 다음 주 월요일 01:00
+        WeekBitmap.mark(bits, week, second(LocalDateTime.of(2025, 11, 30, 23, 0)),
+                second(LocalDateTime.of(2025, 12, 1, 1, 0)));
+        // 길이 0
+        WeekBitmap.mark(bits, week, second(LocalDateTime.of(2025, 11, 25, 9, 0)),
+                second(LocalDateTime.of(2025, 11, 25, 9, 0)));
+
+        IntervalBuffer busy = new IntervalBuffer();
+        WeekBitmap.appendBusyRuns(bits, week, busy);
+
+        assertThat(busy.toTimeIntervals()).containsExactly(
+                new TimeInterval(LocalDateTime.of(2025, 11, 24, 10, 0), LocalDateTime.of(2025, 11, 24, 11, 0)),
+                new TimeInterval(LocalDateTime.of(2025, 11, 30, 23, 0), LocalDateTime.of(2025, 12, 1, 0, 0)));
+    }
+
+    @Test
+    @DisplayName("OR - word 경계를 넘는 구간도 합쳐짐")
+    void or_combinesAcrossWordBoundaries() {
+        long week = WeekBitmap.weekOf(second(LocalDateTime.of(2025, 11, 24, 0, 0)));
+        long[] a = WeekBitmap.empty();
+        long[] b = WeekBitmap.empty();
+        // slot 60~70 (월 15:00~17:30), slot 70~200
+        WeekBitmap.mark(a, week, second(LocalDateTime.of(2025, 11, 24, 15, 0)),
+                second(LocalDateTime.of(2025, 11, 24, 17, 30)));
+        WeekBitmap.mark(b, week, second(LocalDateTime.of(2025, 11, 24, 17, 30)),
+                second(LocalDateTime.of(2025, 11, 26, 2, 0)));
+
+        WeekBitmap.or(a, b);
+        IntervalBuffer busy = new IntervalBuffer();
+        WeekBitmap.appendBusyRuns(a, week, busy);
+
+        assertThat(busy.toTimeIntervals()).containsExactly(
+                new TimeInterval(LocalDateTime.of(2025, 11, 24, 15, 0), LocalDateTime.of(2025, 11, 26, 2, 0)));
+    }
+
+    private long second(LocalDateTime dateTime) {
+        return IntervalBuffer.toEpochSecond(dateTime);
+    }
+}
@@ -1,11 +1,19 @@
 package com.unisync.schedule.coordination.service;
 
-import com.unisync.schedule.common.entity.Schedule;
 import com.unisync.schedule.common.repository.ScheduleRepository;
+import com.unisync.schedule.common.repository.ScheduleTimeProjection;
 import com.unisync.schedule.coordination.algorithm.FreeSlotFinder;
+import com.unisync.schedule.coordination.algorithm.IntervalBuffer;
+import com.unisync.schedule.coordination.algorithm.MemberBusy;
+import com.unisync.schedule.coordination.algorithm.SuggestionCriteria;
+import com.unisync.schedule.coordination.cache.FreeSlotResultCache;
 import com.unisync.schedule.coordination.dto.FindFreeSlotsRequest;
 import com.unisync.schedule.coordination.dto.FindFreeSlotsResponse;
 import com.unisync.schedule.coordination.dto.FreeSlotDto;
+import com.unisync.schedule.coordination.dto.QuorumSlotDto;
+import com.unisync.schedule.coordination.dto.SlotSuggestionDto;
+import com.unisync.schedule.coordination.index.BusyBitmapIndex;
+import com.unisync.schedule.coordination.model.SuggestionOrder;
 import com.unisync.schedule.internal.client.UserServiceClient;
 import com.unisync.schedule.internal.service.GroupPermissionService;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +30,7 @@ import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -43,6 +52,12 @@ class ScheduleCoordinationServiceTest {
     @Mock
     private FreeSlotFinder freeSlotFinder;
 
+    @Mock
+    private BusyBitmapIndex busyBitmapIndex;
+
+    @Mock
+    private FreeSlotResultCache resultCache;
+
     @InjectMocks
     private ScheduleCoordinationService coordinationService;
 
@@ -68,7 +83,8 @@ class ScheduleCoordinationServiceTest {
     void findFreeSlots_success_allMembers() {
         // given
         List<String> allMembers = Arrays.asList("user-a", "user-b", "user-c");
-        List<Schedule> schedules = createTestSchedules();
+        Stream<ScheduleTimeProjection> rows = createTestRows().stream();
+        IntervalBuffer busy = new IntervalBuffer();
         List<FreeSlotDto> mockFreeSlots = createMockFreeSlots();
 
         // 권한 검증 통과
@@ -77,14 +93,17 @@ class ScheduleCoordinationServiceTest {
         // 전체 멤버 조회
         given(userServiceClient.getGroupMemberCognitoSubs(groupId)).willReturn(allMembers);
 
-        // 일정 조회
-        given(scheduleRepository.findByUsersOrGroupAndDateRange(
+        // 일정 시간 stream 조회 → busy 구간
+        given(scheduleRepository.streamTimesByUsersOrGroupAndDateRange(
                 anyList(), eq(groupId), any(LocalDateTime.class), any(LocalDateTime.class)
-        )).willReturn(schedules);
+        )).willReturn(rows);
+        given(freeSlotFinder.toBusyIntervals(
+                rows, LocalDate.of(2025, 11, 25), LocalDate.of(2025, 11, 30)
+        )).willReturn(busy);
 
         // 알고리즘 실행
-        given(freeSlotFinder.findFreeSlots(
-                eq(schedules),
+        given(freeSlotFinder.findFreeSlotsFromBusy(
+                eq(busy),
                 any(LocalDate.class),
                 any(LocalDate.class),
                 eq(120),
@@ -107,11 +126,11 @@ class ScheduleCoordinationServiceTest {
 
         then(groupPermissionService).should().validateReadPermission(groupId, cognitoSub);
         then(userServiceClient).should().getGroupMemberCognitoSubs(groupId);
-        then(scheduleRepository).should().findByUsersOrGroupAndDateRange(
+        then(scheduleRepository).should().streamTimesByUsersOrGroupAndDateRange(
                 eq(allMembers), eq(groupId), any(LocalDateTime.class), any(LocalDateTime.class)
         );
-        then(freeSlotFinder).should().findFreeSlots(
-                eq(schedules), any(LocalDate.class), any(LocalDate.class),
+        then(freeSlotFinder).should().findFreeSlotsFromBusy(
+                eq(busy), any(LocalDate.class), any(LocalDate.class),
                 eq(120), isNull(), isNull(), isNull()
         );
     }
@@ -123,16 +142,15 @@ class ScheduleCoordinationServiceTest {
         List<String> selectedMembers = Arrays.asList("user-a", "user-b");
         request.setUserIds(selectedMembers);
 
-        List<Schedule> schedules = createTestSchedules();
         List<FreeSlotDto> mockFreeSlots = createMockFreeSlots();
 
         willDoNothing().given(groupPermissionService).validateReadPermission(groupId, cognitoSub);
 
-        given(scheduleRepository.findByUsersOrGroupAndDateRange(
+        given(scheduleRepository.streamTimesByUsersOrGroupAndDateRange(
                 eq(selectedMembers), eq(groupId), any(LocalDateTime.class), any(LocalDateTime.class)
-        )).willReturn(schedules);
-
-        given(freeSlotFinder.findFreeSlots(
+        )).willReturn(createTestRows().stream());
+        given(freeSlotFinder.toBusyIntervals(any(), any(), any())).willReturn(new IntervalBuffer());
+        given(freeSlotFinder.findFreeSlotsFromBusy(
                 any(), any(), any(), anyInt(), any(), any(), any()
         )).willReturn(mockFreeSlots);
 
@@ -142,7 +160,7 @@ class ScheduleCoordinationServiceTest {
         // then
         assertThat(response.getMemberCount()).isEqualTo(2);
         then(userServiceClient).should(never()).getGroupMemberCognitoSubs(any());
-        then(scheduleRepository).should().findByUsersOrGroupAndDateRange(
+        then(scheduleRepository).should().streamTimesByUsersOrGroupAndDateRange(
                 eq(selectedMembers), eq(groupId), any(LocalDateTime.class), any(LocalDateTime.class)
         );
     }
@@ -156,15 +174,16 @@ class ScheduleCoordinationServiceTest {
         request.setDaysOfWeek(Arrays.asList(1, 3, 5));  // 월, 수, 금
 
         List<String> allMembers = Arrays.asList("user-a", "user-b");
-        List<Schedule> schedules = createTestSchedules();
+        IntervalBuffer busy = new IntervalBuffer();
         List<FreeSlotDto> mockFreeSlots = createMockFreeSlots();
 
         willDoNothing().given(groupPermissionService).validateReadPermission(groupId, cognitoSub);
         given(userServiceClient.getGroupMemberCognitoSubs(groupId)).willReturn(allMembers);
-        given(scheduleRepository.findByUsersOrGroupAndDateRange(
+        given(scheduleRepository.streamTimesByUsersOrGroupAndDateRange(
                 anyList(), anyLong(), any(), any()
-        )).willReturn(schedules);
-        given(freeSlotFinder.findFreeSlots(
+        )).willReturn(createTestRows().stream());
+        given(freeSlotFinder.toBusyIntervals(any(), any(), any())).willReturn(busy);
+        given(freeSlotFinder.findFreeSlotsFromBusy(
                 any(), any(), any(), anyInt(), any(), any(), anyList()
         )).willReturn(mockFreeSlots);
 
@@ -173,8 +192,8 @@ class ScheduleCoordinationServiceTest {
 
         // then
         assertThat(response).isNotNull();
-        then(freeSlotFinder).should().findFreeSlots(
-                eq(schedules),
+        then(freeSlotFinder).should().findFreeSlotsFromBusy(
+                eq(busy),
                 any(LocalDate.class),
                 any(LocalDate.class),
                 eq(120),
@@ -189,15 +208,15 @@ class ScheduleCoordinationServiceTest {
     void findFreeSlots_success_noFreeSlots() {
         // given
         List<String> allMembers = Arrays.asList("user-a");
-        List<Schedule> schedules = createTestSchedules();
         List<FreeSlotDto> emptyFreeSlots = new ArrayList<>();
 
         willDoNothing().given(groupPermissionService).validateReadPermission(groupId, cognitoSub);
         given(userServiceClient.getGroupMemberCognitoSubs(groupId)).willReturn(allMembers);
-        given(scheduleRepository.findByUsersOrGroupAndDateRange(
+        given(scheduleRepository.streamTimesByUsersOrGroupAndDateRange(
                 anyList(), anyLong(), any(), any()
-        )).willReturn(schedules);
-        given(freeSlotFinder.findFreeSlots(
+        )).willReturn(createTestRows().stream());
+        given(freeSlotFinder.toBusyIntervals(any(), any(), any())).willReturn(new IntervalBuffer());
+        given(freeSlotFinder.findFreeSlotsFromBusy(
                 any(), any(), any(), anyInt(), any(), any(), any()
         )).willReturn(emptyFreeSlots);
 
@@ -222,33 +241,190 @@ class ScheduleCoordinationServiceTest {
                 .hasMessageContaining("권한");
 
         then(userServiceClient).should(never()).getGroupMemberCognitoSubs(any());
-        then(scheduleRepository).should(never()).findByUsersOrGroupAndDateRange(
+        then(scheduleRepository).should(never()).streamTimesByUsersOrGroupAndDateRange(
                 anyList(), anyLong(), any(), any()
         );
     }
 
+    @Test
+    @DisplayName("공강 시간 찾기 - 캐시 적중 시 멤버 조회와 일정 조회 없이 반환")
+    void findFreeSlots_cacheHit() {
+        // given
+        FindFreeSlotsResponse cached = FindFreeSlotsResponse.builder()
+                .groupId(groupId)
+                .memberCount(2)
+                .freeSlots(createMockFreeSlots())
+                .build();
+        given(resultCache.get(request)).willReturn(cached);
+
+        // when
+        FindFreeSlotsResponse response = coordinationService.findFreeSlots(request, cognitoSub);
+
+        // then
+        assertThat(response).isSameAs(cached);
+        then(groupPermissionService).should().validateReadPermission(groupId, cognitoSub);
+        then(userServiceClient).shouldHaveNoInteractions();
+        then(scheduleRepository).shouldHaveNoInteractions();
+        then(busyBitmapIndex).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("공강 시간 찾기 - 계산 전에 잡은 일정 버전으로 결과를 캐시에 저장")
+    void findFreeSlots_cacheMiss_storesWithStamp() {
+        // given
+        List<String> allMembers = Arrays.asList("user-a", "user-b");
+        long[] stamp = {3L, 5L, 0L};
+        given(userServiceClient.getGroupMemberCognitoSubs(groupId)).willReturn(allMembers);
+        given(resultCache.stamp(allMembers, groupId)).willReturn(stamp);
+        given(busyBitmapIndex.isEnabled()).willReturn(true);
+        given(busyBitmapIndex.busyIntervals(any(), any(), any(), any())).willReturn(new IntervalBuffer());
+        given(freeSlotFinder.findFreeSlotsFromBusy(any(), any(), any(), anyInt(), any(), any(), any()))
+                .willReturn(createMockFreeSlots());
+
+        // when
+        FindFreeSlotsResponse response = coordinationService.findFreeSlots(request, cognitoSub);
+
+        // then
+        then(resultCache).should().put(eq(request), eq(allMembers), eq(stamp), eq(response), anyLong());
+    }
+
+    @Test
+    @DisplayName("공강 시간 찾기 - busy bitmap 인덱스 사용 시 일정 엔티티를 조회하지 않음")
+    void findFreeSlots_usesBusyBitmapIndex() {
+        // given
+        List<String> allMembers = Arrays.asList("user-a", "user-b");
+        IntervalBuffer busy = new IntervalBuffer();
+        busy.add(LocalDateTime.of(2025, 11, 25, 9, 0), LocalDateTime.of(2025, 11, 25, 11, 0));
+        List<FreeSlotDto> mockFreeSlots = createMockFreeSlots();
+
+        given(userServiceClient.getGroupMemberCognitoSubs(groupId)).willReturn(allMembers);
+        given(busyBitmapIndex.isEnabled()).willReturn(true);
+        given(busyBitmapIndex.busyIntervals(allMembers, groupId,
+                LocalDate.of(2025, 11, 25), LocalDate.of(2025, 11, 30))).willReturn(busy);
+        given(freeSlotFinder.findFreeSlotsFromBusy(
+                eq(busy), eq(LocalDate.of(2025, 11, 25)), eq(LocalDate.of(2025, 11, 30)),
+                eq(120), isNull(), isNull(), isNull()
+        )).willReturn(mockFreeSlots);
+
+        // when
+        FindFreeSlotsResponse response = coordinationService.findFreeSlots(request, cognitoSub);
+
+        // then
+        assertThat(response.getFreeSlots()).isEqualTo(mockFreeSlots);
+        then(scheduleRepository).shouldHaveNoInteractions();
+        then(freeSlotFinder).should(never()).toBusyIntervals(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("공강 추천 - suggestionLimit 지정 시 상위 K개만 반환")
+    void findFreeSlots_suggestionMode() {
+        // given
+        request.setSuggestionLimit(3);
+        request.setPreferredHoursStart(LocalTime.of(14, 0));
+        request.setPreferredHoursEnd(LocalTime.of(17, 0));
+        List<String> allMembers = Arrays.asList("user-a", "user-b");
+        IntervalBuffer busy = new IntervalBuffer();
+        List<SlotSuggestionDto> suggestions = List.of(SlotSuggestionDto.builder()
+                .rank(1)
+                .startTime(LocalDateTime.of(2025, 11, 26, 14, 0))
+                .endTime(LocalDateTime.of(2025, 11, 26, 16, 0))
+                .durationMinutes(120L)
+                .score(0.98)
+                .build());
+
+        given(userServiceClient.getGroupMemberCognitoSubs(groupId)).willReturn(allMembers);
+        given(busyBitmapIndex.isEnabled()).willReturn(true);
+        given(busyBitmapIndex.busyIntervals(allMembers, groupId,
+                LocalDate.of(2025, 11, 25), LocalDate.of(2025, 11, 30))).willReturn(busy);
+        given(freeSlotFinder.suggestFromBusy(
+                eq(busy), eq(LocalDate.of(2025, 11, 25)), eq(LocalDate.of(2025, 11, 30)),
+                eq(120), isNull(), isNull(), isNull(),
+                eq(new SuggestionCriteria(3, SuggestionOrder.BEST_MATCH, LocalTime.of(14, 0), LocalTime.of(17, 0)))
+        )).willReturn(suggestions);
+
+        // when
+        FindFreeSlotsResponse response = coordinationService.findFreeSlots(request, cognitoSub);
+
+        // then
+        assertThat(response.getSuggestions()).isEqualTo(suggestions);
+        assertThat(response.getFreeSlots()).isNull();
+        assertThat(response.getMemberCount()).isEqualTo(2);
+        then(freeSlotFinder).should(never()).findFreeSlotsFromBusy(any(), any(), any(), anyInt(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("부분 공강 - minAvailableMembers가 멤버 수보다 작으면 멤버별 busy로 sweep")
+    void findFreeSlots_quorumMode() {
+        // given
+        request.setMinAvailableMembers(2);
+        List<String> allMembers = Arrays.asList("user-a", "user-b", "user-c", "user-a");
+        List<String> distinctMembers = List.of("user-a", "user-b", "user-c");
+        MemberBusy memberBusy = new MemberBusy(distinctMembers,
+                List.of(new IntervalBuffer(), new IntervalBuffer(), new IntervalBuffer()), new IntervalBuffer());
+        List<QuorumSlotDto> quorumSlots = List.of(QuorumSlotDto.builder()
+                .startTime(LocalDateTime.of(2025, 11, 25, 9, 0))
+                .endTime(LocalDateTime.of(2025, 11, 25, 12, 0))
+                .availableMemberCount(2)
+                .busyMembers(List.of("user-c"))
+                .build());
+
+        given(userServiceClient.getGroupMemberCognitoSubs(groupId)).willReturn(allMembers);
+        given(busyBitmapIndex.isEnabled()).willReturn(true);
+        given(busyBitmapIndex.memberBusyIntervals(distinctMembers, groupId,
+                LocalDate.of(2025, 11, 25), LocalDate.of(2025, 11, 30))).willReturn(memberBusy);
+        given(freeSlotFinder.findQuorumSlots(
+                eq(memberBusy), eq(LocalDate.of(2025, 11, 25)), eq(LocalDate.of(2025, 11, 30)),
+                eq(120), isNull(), isNull(), isNull(), eq(2)
+        )).willReturn(quorumSlots);
+
+        // when
+        FindFreeSlotsResponse response = coordinationService.findFreeSlots(request, cognitoSub);
+
+        // then
+        assertThat(response.getQuorumSlots()).isEqualTo(quorumSlots);
+        assertThat(response.getFreeSlots()).isNull();
+        assertThat(response.getMemberCount()).isEqualTo(3);
+        then(busyBitmapIndex).should(never()).busyIntervals(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("부분 공강 - minAvailableMembers가 멤버 수 이상이면 전원 공강으로 처리")
+    void findFreeSlots_quorumNotLessThanMembers_usesAllMembersSearch() {
+        // given
+        request.setMinAvailableMembers(2);
+        List<String> allMembers = Arrays.asList("user-a", "user-b");
+        IntervalBuffer busy = new IntervalBuffer();
+        given(userServiceClient.getGroupMemberCognitoSubs(groupId)).willReturn(allMembers);
+        given(busyBitmapIndex.isEnabled()).willReturn(true);
+        given(busyBitmapIndex.busyIntervals(allMembers, groupId,
+                LocalDate.of(2025, 11, 25), LocalDate.of(2025, 11, 30))).willReturn(busy);
+        given(freeSlotFinder.findFreeSlotsFromBusy(any(), any(), any(), anyInt(), any(), any(), any()))
+                .willReturn(createMockFreeSlots());
+
+        // when
+        FindFreeSlotsResponse response = coordinationService.findFreeSlots(request, cognitoSub);
+
+        // then
+        assertThat(response.getFreeSlots()).hasSize(2);
+        assertThat(response.getQuorumSlots()).isNull();
+        then(busyBitmapIndex).should(never()).memberBusyIntervals(any(), any(), any(), any());
+    }
+
     // =======================================================================
     // Helper methods
     // =======================================================================
 
-    private List<Schedule> createTestSchedules() {
-        List<Schedule> schedules = new ArrayList<>();
-
-        Schedule s1 = new Schedule();
-        s1.setScheduleId(1L);
-        s1.setCognitoSub("user-a");
-        s1.setStartTime(LocalDateTime.of(2025, 11, 25, 9, 0));
-        s1.setEndTime(LocalDateTime.of(2025, 11, 25, 11, 0));
-        schedules.add(s1);
+    private List<ScheduleTimeProjection> createTestRows() {
+        List<ScheduleTimeProjection> rows = new ArrayList<>();
 
-        Schedule s2 = new Schedule();
-        s2.setScheduleId(2L);
-        s2.setCognitoSub("user-b");
-        s2.setStartTime(LocalDateTime.of(2025, 11, 25, 14, 0));
-        s2.setEndTime(LocalDateTime.of(2025, 11, 25, 16, 0));
-        schedules.add(s2);
+        rows.add(new ScheduleTimeProjection(
+                LocalDateTime.of(2025, 11, 25, 9, 0), LocalDateTime.of(2025, 11, 25, 11, 0),
+                "user-a", null, null));
+        rows.add(new ScheduleTimeProjection(
+                LocalDateTime.of(2025, 11, 25, 14, 0), LocalDateTime.of(2025, 11, 25, 16, 0),
+                "user-b", null, null));
 
-        return schedules;
+        return rows;
     }
 
     private List<FreeSlotDto> createMockFreeSlots() {
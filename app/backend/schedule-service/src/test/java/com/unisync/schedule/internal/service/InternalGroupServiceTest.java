@@ -6,6 +6,7 @@ import com.unisync.schedule.common.entity.Todo;
 import com.unisync.schedule.common.repository.CategoryRepository;
 import com.unisync.schedule.common.repository.ScheduleRepository;
 import com.unisync.schedule.common.repository.TodoRepository;
+import com.unisync.schedule.coordination.index.BusyBitmapIndex;
 import com.unisync.schedule.internal.dto.GroupDataDeleteResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -32,6 +33,9 @@ class InternalGroupServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private BusyBitmapIndex busyBitmapIndex;
+
     @InjectMocks
     private InternalGroupService internalGroupService;
 
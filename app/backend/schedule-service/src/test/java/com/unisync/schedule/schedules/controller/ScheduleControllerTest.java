@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.unisync.schedule.common.entity.Schedule.ScheduleSource;
 import com.unisync.schedule.common.entity.Schedule.ScheduleStatus;
+import com.unisync.schedule.schedules.dto.SchedulePageResponse;
 import com.unisync.schedule.schedules.dto.ScheduleRequest;
 import com.unisync.schedule.schedules.dto.ScheduleResponse;
 import com.unisync.schedule.schedules.dto.UpdateScheduleStatusRequest;
@@ -82,8 +83,8 @@ class ScheduleControllerTest {
                         .build()
         );
 
-        given(scheduleService.getSchedulesByUserId(COGNITO_SUB, null))
-                .willReturn(schedules);
+        given(scheduleService.getSchedulesByUserId(COGNITO_SUB, null, null, null))
+                .willReturn(SchedulePageResponse.builder().schedules(schedules).build());
 
         // When & Then
         mockMvc.perform(get("/v1/schedules")
@@ -92,9 +93,10 @@ class ScheduleControllerTest {
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(2))
                 .andExpect(jsonPath("$[0].title").value("중간고사 프로젝트"))
-                        .andExpect(jsonPath("$[1].title").value("기말 발표"));
+                .andExpect(jsonPath("$[1].title").value("기말 발표"))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
 
-        then(scheduleService).should().getSchedulesByUserId(COGNITO_SUB, null);
+        then(scheduleService).should().getSchedulesByUserId(COGNITO_SUB, null, null, null);
     }
 
     @Test
@@ -144,8 +146,8 @@ class ScheduleControllerTest {
                         .build()
         );
 
-        given(scheduleService.getSchedulesByGroupId(groupId, COGNITO_SUB, null))
-                .willReturn(schedules);
+        given(scheduleService.getSchedulesByGroupId(groupId, COGNITO_SUB, null, null, null))
+                .willReturn(SchedulePageResponse.builder().schedules(schedules).build());
 
         // When & Then
         mockMvc.perform(get("/v1/schedules")
@@ -157,14 +159,14 @@ class ScheduleControllerTest {
                 .andExpect(jsonPath("$[0].title").value("그룹 회의"))
                 .andExpect(jsonPath("$[1].title").value("그룹 스터디"));
 
-        then(scheduleService).should().getSchedulesByGroupId(groupId, COGNITO_SUB, null);
+        then(scheduleService).should().getSchedulesByGroupId(groupId, COGNITO_SUB, null, null, null);
     }
 
     @Test
     @DisplayName("GET /v1/schedules?includeGroups=true - 개인+그룹 일정 통합 조회")
     void getSchedules_IncludeGroups() throws Exception {
-        given(scheduleService.getSchedulesIncludingGroups(COGNITO_SUB, null))
-                .willReturn(Collections.emptyList());
+        given(scheduleService.getSchedulesIncludingGroups(COGNITO_SUB, (ScheduleStatus) null, null, null))
+                .willReturn(SchedulePageResponse.builder().schedules(Collections.emptyList()).build());
 
         mockMvc.perform(get("/v1/schedules")
                         .header("X-Cognito-Sub", COGNITO_SUB)
@@ -172,7 +174,30 @@ class ScheduleControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray());
 
-        then(scheduleService).should().getSchedulesIncludingGroups(COGNITO_SUB, null);
+        then(scheduleService).should().getSchedulesIncludingGroups(COGNITO_SUB, (ScheduleStatus) null, null, null);
+    }
+
+    @Test
+    @DisplayName("GET /v1/schedules?includeGroups=true&cursor=... - 다음 페이지가 있으면 X-Next-Cursor 헤더로 커서 전달")
+    void getSchedules_IncludeGroups_WithNextCursor() throws Exception {
+        List<ScheduleResponse> schedules = Collections.singletonList(
+                ScheduleResponse.builder()
+                        .scheduleId(3L)
+                        .title("두 번째 페이지")
+                        .build()
+        );
+        given(scheduleService.getSchedulesIncludingGroups(COGNITO_SUB, ScheduleStatus.TODO, "prev-cursor", 1))
+                .willReturn(SchedulePageResponse.builder().schedules(schedules).nextCursor("next-cursor").build());
+
+        mockMvc.perform(get("/v1/schedules")
+                        .header("X-Cognito-Sub", COGNITO_SUB)
+                        .param("includeGroups", "true")
+                        .param("status", "TODO")
+                        .param("cursor", "prev-cursor")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(header().string("X-Next-Cursor", "next-cursor"));
     }
 
     @Test
@@ -197,8 +222,8 @@ class ScheduleControllerTest {
     @DisplayName("GET /v1/schedules?groupId=123&includeGroups=true - groupId가 우선 적용")
     void getSchedules_GroupIdOverridesIncludeGroups() throws Exception {
         Long groupId = 123L;
-        given(scheduleService.getSchedulesByGroupId(eq(groupId), eq(COGNITO_SUB), eq(null)))
-                .willReturn(Collections.emptyList());
+        given(scheduleService.getSchedulesByGroupId(eq(groupId), eq(COGNITO_SUB), eq(null), eq(null), eq(null)))
+                .willReturn(SchedulePageResponse.builder().schedules(Collections.emptyList()).build());
 
         mockMvc.perform(get("/v1/schedules")
                         .header("X-Cognito-Sub", COGNITO_SUB)
@@ -207,8 +232,8 @@ class ScheduleControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray());
 
-        then(scheduleService).should().getSchedulesByGroupId(groupId, COGNITO_SUB, null);
-        then(scheduleService).should(never()).getSchedulesIncludingGroups(anyString(), any());
+        then(scheduleService).should().getSchedulesByGroupId(groupId, COGNITO_SUB, null, null, null);
+        then(scheduleService).should(never()).getSchedulesIncludingGroups(anyString(), (ScheduleStatus) any(), any(), any());
     }
 
     @Test
@@ -246,8 +271,8 @@ class ScheduleControllerTest {
     @DisplayName("GET /v1/schedules?groupId=123&status=DONE - 그룹 일정 상태 필터 조회")
     void getSchedules_ByGroupIdWithStatus() throws Exception {
         Long groupId = 123L;
-        given(scheduleService.getSchedulesByGroupId(groupId, COGNITO_SUB, ScheduleStatus.DONE))
-                .willReturn(Collections.emptyList());
+        given(scheduleService.getSchedulesByGroupId(groupId, COGNITO_SUB, ScheduleStatus.DONE, null, null))
+                .willReturn(SchedulePageResponse.builder().schedules(Collections.emptyList()).build());
 
         mockMvc.perform(get("/v1/schedules")
                         .header("X-Cognito-Sub", COGNITO_SUB)
@@ -256,7 +281,7 @@ class ScheduleControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray());
 
-        then(scheduleService).should().getSchedulesByGroupId(groupId, COGNITO_SUB, ScheduleStatus.DONE);
+        then(scheduleService).should().getSchedulesByGroupId(groupId, COGNITO_SUB, ScheduleStatus.DONE, null, null);
     }
 
     @Test
@@ -264,7 +289,7 @@ class ScheduleControllerTest {
     void getSchedules_ByGroupId_Unauthorized() throws Exception {
         Long groupId = 123L;
         willThrow(new com.unisync.schedule.common.exception.UnauthorizedAccessException("권한 없음"))
-                .given(scheduleService).getSchedulesByGroupId(groupId, COGNITO_SUB, null);
+                .given(scheduleService).getSchedulesByGroupId(groupId, COGNITO_SUB, null, null, null);
 
         mockMvc.perform(get("/v1/schedules")
                         .header("X-Cognito-Sub", COGNITO_SUB)
@@ -272,7 +297,7 @@ class ScheduleControllerTest {
                 .andExpect(status().isForbidden())
                 .andExpect(jsonPath("$.errorCode").value("UNAUTHORIZED_ACCESS"));
 
-        then(scheduleService).should().getSchedulesByGroupId(groupId, COGNITO_SUB, null);
+        then(scheduleService).should().getSchedulesByGroupId(groupId, COGNITO_SUB, null, null, null);
     }
 
     // ========================================
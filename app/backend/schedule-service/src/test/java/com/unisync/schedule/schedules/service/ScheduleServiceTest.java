@@ -1,11 +1,18 @@
 package com.unisync.schedule.schedules.service;
 
 import com.unisync.schedule.common.entity.Schedule;
+import com.unisync.schedule.common.entity.Schedule.ScheduleStatus;
+import com.unisync.schedule.common.recurrence.RecurrenceExpander;
 import com.unisync.schedule.common.repository.CategoryRepository;
 import com.unisync.schedule.common.repository.ScheduleRepository;
+import com.unisync.schedule.coordination.index.BusyBitmapIndex;
 import com.unisync.schedule.internal.client.UserServiceClient;
 import com.unisync.schedule.internal.service.GroupPermissionService;
+import com.unisync.schedule.schedules.dto.ScheduleCursor;
+import com.unisync.schedule.schedules.dto.SchedulePageResponse;
+import com.unisync.schedule.schedules.dto.ScheduleRequest;
 import com.unisync.schedule.schedules.dto.ScheduleResponse;
+import com.unisync.schedule.schedules.exception.InvalidScheduleException;
 import com.unisync.schedule.schedules.exception.ScheduleNotFoundException;
 import com.unisync.schedule.todos.dto.TodoWithSubtasksResponse;
 import com.unisync.schedule.todos.service.TodoService;
@@ -13,7 +20,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -21,6 +30,7 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
@@ -45,6 +55,12 @@ class ScheduleServiceTest {
     @Mock
     private TodoService todoService;
 
+    @Mock
+    private BusyBitmapIndex busyBitmapIndex;
+
+    @Spy
+    private RecurrenceExpander recurrenceExpander = new RecurrenceExpander();
+
     @InjectMocks
     private ScheduleService scheduleService;
 
@@ -82,6 +98,133 @@ class ScheduleServiceTest {
         assertThrows(ScheduleNotFoundException.class, () -> scheduleService.getScheduleById(999L, "user-123"));
     }
 
+    @Test
+    void test_getSchedulesByDateRange_expandsRecurringSchedule() {
+        // 매주 월/수 10:00-11:00, 11월 3일(월) 시작
+        Schedule weekly = Schedule.builder()
+                .scheduleId(9L)
+                .cognitoSub("user-123")
+                .categoryId(1L)
+                .title("Lecture")
+                .startTime(LocalDateTime.of(2025, 11, 3, 10, 0))
+                .endTime(LocalDateTime.of(2025, 11, 3, 11, 0))
+                .recurrenceRule("FREQ=WEEKLY;BYDAY=MO,WE")
+                .build();
+        Schedule single = personalSchedule();
+        single.setStartTime(LocalDateTime.of(2025, 11, 25, 9, 0));
+        single.setEndTime(LocalDateTime.of(2025, 11, 25, 9, 30));
+
+        LocalDateTime start = LocalDateTime.of(2025, 11, 24, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2025, 11, 27, 0, 0);
+        given(scheduleRepository.findByCognitoSubAndDateRange("user-123", start, end))
+                .willReturn(List.of(weekly, single));
+
+        List<ScheduleResponse> responses = scheduleService.getSchedulesByDateRange("user-123", start, end);
+
+        assertThat(responses).extracting(ScheduleResponse::getStartTime).containsExactly(
+                LocalDateTime.of(2025, 11, 24, 10, 0),
+                LocalDateTime.of(2025, 11, 25, 9, 0),
+                LocalDateTime.of(2025, 11, 26, 10, 0));
+        assertThat(responses.get(2).getScheduleId()).isEqualTo(9L);
+        assertThat(responses.get(2).getEndTime()).isEqualTo(LocalDateTime.of(2025, 11, 26, 11, 0));
+    }
+
+    @Test
+    void test_getSchedulesByDateRange_blankOrInvalidRule_keepsOnlyOverlappingRows() {
+        // 반복 규칙이 있어 기간과 무관하게 조회된 행 중 규칙이 비었거나 해석할 수 없는 행
+        Schedule blankBefore = personalSchedule();
+        blankBefore.setStartTime(LocalDateTime.of(2025, 11, 3, 10, 0));
+        blankBefore.setEndTime(LocalDateTime.of(2025, 11, 3, 11, 0));
+        blankBefore.setRecurrenceRule(" ");
+        Schedule invalidBefore = groupSchedule();
+        invalidBefore.setStartTime(LocalDateTime.of(2025, 11, 10, 10, 0));
+        invalidBefore.setEndTime(LocalDateTime.of(2025, 11, 10, 11, 0));
+        invalidBefore.setRecurrenceRule("NOT-A-RULE");
+        Schedule invalidInside = personalSchedule();
+        invalidInside.setScheduleId(6L);
+        invalidInside.setStartTime(LocalDateTime.of(2025, 11, 25, 9, 0));
+        invalidInside.setEndTime(LocalDateTime.of(2025, 11, 25, 9, 30));
+        invalidInside.setRecurrenceRule("NOT-A-RULE");
+
+        LocalDateTime start = LocalDateTime.of(2025, 11, 24, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2025, 11, 27, 0, 0);
+        given(scheduleRepository.findByCognitoSubAndDateRange("user-123", start, end))
+                .willReturn(List.of(blankBefore, invalidBefore, invalidInside));
+
+        List<ScheduleResponse> responses = scheduleService.getSchedulesByDateRange("user-123", start, end);
+
+        assertThat(responses).extracting(ScheduleResponse::getScheduleId).containsExactly(6L);
+    }
+
+    @Test
+    void test_getSchedulesIncludingGroups_usesSingleUnionQueryAndReturnsNextCursor() {
+        Schedule first = personalSchedule();
+        Schedule second = groupSchedule();
+        Schedule extra = groupSchedule();
+        extra.setScheduleId(8L);
+        given(userServiceClient.getUserGroupIds("user-123")).willReturn(List.of(20L));
+        given(scheduleRepository.findPageByCognitoSubOrGroupIds("user-123", List.of(20L), "TODO",
+                ScheduleCursor.FIRST.startTime(), ScheduleCursor.FIRST.scheduleId(), 3))
+                .willReturn(List.of(first, second, extra));
+
+        SchedulePageResponse page = scheduleService.getSchedulesIncludingGroups("user-123", ScheduleStatus.TODO, null, 2);
+
+        assertThat(page.getSchedules()).extracting(ScheduleResponse::getScheduleId).containsExactly(5L, 7L);
+        assertThat(ScheduleCursor.decode(page.getNextCursor())).isEqualTo(ScheduleCursor.of(second));
+        verify(scheduleRepository, never()).findPageByCognitoSub(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void test_getSchedulesIncludingGroups_withoutGroups_readsPersonalPageFromCursor() {
+        Schedule schedule = personalSchedule();
+        ScheduleCursor after = new ScheduleCursor(LocalDateTime.of(2025, 11, 1, 9, 0), 3L);
+        given(userServiceClient.getUserGroupIds("user-123")).willReturn(List.of());
+        given(scheduleRepository.findPageByCognitoSub("user-123", null, after.startTime(), after.scheduleId(),
+                Limit.of(ScheduleService.DEFAULT_PAGE_SIZE + 1)))
+                .willReturn(List.of(schedule));
+
+        SchedulePageResponse page = scheduleService.getSchedulesIncludingGroups("user-123", null, after.encode(), null);
+
+        assertThat(page.getSchedules()).hasSize(1);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void test_getSchedulesByUserId_withoutCursorAndSize_returnsAllWithoutCursor() {
+        Schedule schedule = personalSchedule();
+        given(scheduleRepository.findPageByCognitoSub("user-123", null, ScheduleCursor.FIRST.startTime(),
+                ScheduleCursor.FIRST.scheduleId(), Limit.of(ScheduleService.UNPAGED + 1)))
+                .willReturn(List.of(schedule));
+
+        SchedulePageResponse page = scheduleService.getSchedulesByUserId("user-123", null, null, null);
+
+        assertThat(page.getSchedules()).hasSize(1);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void test_getSchedulesByUserId_withInvalidCursorOrSize_throwsException() {
+        assertThrows(InvalidScheduleException.class,
+                () -> scheduleService.getSchedulesByUserId("user-123", null, "not-a-cursor", null));
+        assertThrows(InvalidScheduleException.class,
+                () -> scheduleService.getSchedulesByUserId("user-123", null, null, ScheduleService.MAX_PAGE_SIZE + 1));
+        verify(scheduleRepository, never()).findPageByCognitoSub(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void test_createSchedule_invalidRecurrenceRule_throwsException() {
+        ScheduleRequest request = ScheduleRequest.builder()
+                .title("Lecture")
+                .categoryId(1L)
+                .startTime(LocalDateTime.of(2025, 11, 3, 10, 0))
+                .endTime(LocalDateTime.of(2025, 11, 3, 11, 0))
+                .recurrenceRule("FREQ=HOURLY")
+                .build();
+
+        assertThrows(InvalidScheduleException.class, () -> scheduleService.createSchedule(request, "user-123"));
+        verify(scheduleRepository, never()).save(any());
+    }
+
     private Schedule personalSchedule() {
         return Schedule.builder()
                 .scheduleId(5L)
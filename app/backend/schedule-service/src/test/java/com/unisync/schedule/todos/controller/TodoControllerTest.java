@@ -5,6 +5,8 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.unisync.schedule.common.entity.Todo.TodoPriority;
 import com.unisync.schedule.common.entity.Todo.TodoStatus;
 // Note: TodoResponse uses String for status/priority, not enum
+import com.unisync.schedule.todos.dto.BulkUpdateTodosRequest;
+import com.unisync.schedule.todos.dto.TodoPageResponse;
 import com.unisync.schedule.todos.dto.TodoRequest;
 import com.unisync.schedule.todos.dto.TodoResponse;
 import com.unisync.schedule.todos.dto.UpdateTodoProgressRequest;
@@ -81,8 +83,8 @@ class TodoControllerTest {
                         .build()
         );
 
-        given(todoService.getTodos(COGNITO_SUB, null, false, null, null, null, null))
-                .willReturn(todos);
+        given(todoService.getTodos(COGNITO_SUB, null, false, null, null, null, null, null, null))
+                .willReturn(TodoPageResponse.builder().todos(todos).build());
 
         // When & Then
         mockMvc.perform(get("/v1/todos")
@@ -91,9 +93,10 @@ class TodoControllerTest {
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(2))
                 .andExpect(jsonPath("$[0].title").value("과제 제출"))
-                .andExpect(jsonPath("$[1].title").value("독서"));
+                .andExpect(jsonPath("$[1].title").value("독서"))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
 
-        then(todoService).should().getTodos(COGNITO_SUB, null, false, null, null, null, null);
+        then(todoService).should().getTodos(COGNITO_SUB, null, false, null, null, null, null, null, null);
     }
 
     @Test
@@ -107,8 +110,8 @@ class TodoControllerTest {
                         .build()
         );
 
-        given(todoService.getTodos(eq(COGNITO_SUB), eq(null), eq(false), any(LocalDate.class), any(LocalDate.class), eq(null), eq(null)))
-                .willReturn(todos);
+        given(todoService.getTodos(eq(COGNITO_SUB), eq(null), eq(false), any(LocalDate.class), any(LocalDate.class), eq(null), eq(null), eq(null), eq(null)))
+                .willReturn(TodoPageResponse.builder().todos(todos).build());
 
         // When & Then
         mockMvc.perform(get("/v1/todos")
@@ -118,7 +121,31 @@ class TodoControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(1));
 
-        then(todoService).should().getTodos(eq(COGNITO_SUB), eq(null), eq(false), any(LocalDate.class), any(LocalDate.class), eq(null), eq(null));
+        then(todoService).should().getTodos(eq(COGNITO_SUB), eq(null), eq(false), any(LocalDate.class), any(LocalDate.class), eq(null), eq(null), eq(null), eq(null));
+    }
+
+    @Test
+    @DisplayName("GET /v1/todos - 다음 페이지가 있으면 X-Next-Cursor 헤더로 커서 전달")
+    void getTodos_WithNextCursor() throws Exception {
+        // Given
+        List<TodoResponse> todos = Collections.singletonList(
+                TodoResponse.builder()
+                        .todoId(1L)
+                        .title("첫 페이지")
+                        .build()
+        );
+
+        given(todoService.getTodos(COGNITO_SUB, null, false, null, null, null, null, "prev-cursor", 1))
+                .willReturn(TodoPageResponse.builder().todos(todos).nextCursor("next-cursor").build());
+
+        // When & Then
+        mockMvc.perform(get("/v1/todos")
+                        .header("X-Cognito-Sub", COGNITO_SUB)
+                        .param("cursor", "prev-cursor")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(header().string("X-Next-Cursor", "next-cursor"));
     }
 
     // ========================================
@@ -377,6 +404,61 @@ class TodoControllerTest {
         then(todoService).should().updateTodoProgress(eq(1L), eq(75), eq(COGNITO_SUB));
     }
 
+    // ========================================
+    // PATCH /v1/todos/bulk 테스트
+    // ========================================
+
+    @Test
+    @DisplayName("PATCH /v1/todos/bulk - 일괄 변경 성공")
+    void bulkUpdateTodos_Success() throws Exception {
+        // Given
+        List<BulkUpdateTodosRequest.Item> items = List.of(
+                BulkUpdateTodosRequest.Item.builder().todoId(1L).status(TodoStatus.DONE).build(),
+                BulkUpdateTodosRequest.Item.builder().todoId(2L).progressPercentage(50).build()
+        );
+        BulkUpdateTodosRequest request = new BulkUpdateTodosRequest(items);
+
+        List<TodoResponse> responses = List.of(
+                TodoResponse.builder().todoId(1L).status(TodoStatus.DONE).progressPercentage(100).build(),
+                TodoResponse.builder().todoId(2L).status(TodoStatus.IN_PROGRESS).progressPercentage(50).build()
+        );
+
+        given(todoService.bulkUpdateTodos(eq(items), eq(COGNITO_SUB))).willReturn(responses);
+
+        // When & Then
+        mockMvc.perform(patch("/v1/todos/bulk")
+                        .header("X-Cognito-Sub", COGNITO_SUB)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].status").value("DONE"))
+                .andExpect(jsonPath("$[1].progressPercentage").value(50));
+
+        then(todoService).should().bulkUpdateTodos(eq(items), eq(COGNITO_SUB));
+    }
+
+    @Test
+    @DisplayName("PATCH /v1/todos/bulk - 빈 목록이나 범위를 벗어난 진행률은 400")
+    void bulkUpdateTodos_InvalidRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(patch("/v1/todos/bulk")
+                        .header("X-Cognito-Sub", COGNITO_SUB)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BulkUpdateTodosRequest(List.of()))))
+                .andExpect(status().isBadRequest());
+
+        BulkUpdateTodosRequest outOfRange = new BulkUpdateTodosRequest(List.of(
+                BulkUpdateTodosRequest.Item.builder().todoId(1L).progressPercentage(150).build()));
+        mockMvc.perform(patch("/v1/todos/bulk")
+                        .header("X-Cognito-Sub", COGNITO_SUB)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(outOfRange)))
+                .andExpect(status().isBadRequest());
+
+        then(todoService).shouldHaveNoInteractions();
+    }
+
     // ========================================
     // DELETE /v1/todos/{todoId} 테스트
     // ========================================
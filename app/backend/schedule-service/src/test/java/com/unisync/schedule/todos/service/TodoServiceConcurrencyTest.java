@@ -0,0 +1,154 @@
+package com.unisync.schedule.todos.service;
+
+import com.unisync.schedule.common.entity.Todo;
+import com.unisync.schedule.common.entity.Todo.TodoPriority;
+import com.unisync.schedule.common.entity.Todo.TodoStatus;
+import com.unisync.schedule.common.repository.TodoRepository;
+import com.unisync.schedule.internal.client.UserServiceClient;
+import com.unisync.schedule.internal.service.GroupPermissionService;
+import com.unisync.schedule.todos.dto.BulkUpdateTodosRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 형제 서브태스크가 동시에 바뀔 때 부모/조상 집계가 변화량을 잃지 않는지 검증
+ * 스레드마다 별도 트랜잭션으로 커밋해야 하므로 테스트 트랜잭션을 쓰지 않고 끝나면 직접 지운다.
+ */
+// 기본 설정의 MySQLDialect 대신 내장 H2에 맞는 Dialect 사용
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(TodoService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("TodoService 서브태스크 집계 동시성 테스트")
+class TodoServiceConcurrencyTest {
+
+    private static final String USER = "user-123";
+    private static final int SIBLINGS = 8;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @MockBean
+    private GroupPermissionService groupPermissionService;
+
+    @MockBean
+    private UserServiceClient userServiceClient;
+
+    @AfterEach
+    void tearDown() {
+        todoRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("형제 서브태스크 진행률을 동시에 바꿔도 부모와 조부모 집계에 모두 반영")
+    void updateTodoProgress_concurrentSiblings_keepsEveryDelta() throws Exception {
+        // given: 조부모 ← 부모 ← 서브태스크 8개 (모두 0%)
+        Todo grandparent = todoRepository.save(todo(null, 1));
+        Todo parent = todoRepository.save(todo(grandparent.getTodoId(), SIBLINGS));
+        List<Long> siblingIds = new ArrayList<>();
+        for (int i = 0; i < SIBLINGS; i++) {
+            siblingIds.add(todoRepository.save(todo(parent.getTodoId(), 0)).getTodoId());
+        }
+
+        // when: 서브태스크마다 다른 스레드에서 동시에 100%로 변경
+        List<Callable<?>> tasks = new ArrayList<>();
+        for (Long siblingId : siblingIds) {
+            tasks.add(() -> todoService.updateTodoProgress(siblingId, 100, USER));
+        }
+        runConcurrently(tasks);
+
+        // then
+        assertThat(todoRepository.findById(parent.getTodoId()).orElseThrow())
+                .extracting(Todo::getSubtaskCount, Todo::getSubtaskProgressSum, Todo::getProgressPercentage, Todo::getStatus)
+                .containsExactly(SIBLINGS, SIBLINGS * 100, 100, TodoStatus.DONE);
+        assertThat(todoRepository.findById(grandparent.getTodoId()).orElseThrow())
+                .extracting(Todo::getSubtaskCount, Todo::getSubtaskProgressSum, Todo::getProgressPercentage, Todo::getStatus)
+                .containsExactly(1, 100, 100, TodoStatus.DONE);
+    }
+
+    @Test
+    @DisplayName("일괄 변경과 단건 변경이 같은 조상을 동시에 잠가도 교착 없이 모두 반영")
+    void bulkAndSingleUpdates_concurrentOnSameAncestors_completeWithoutDeadlock() throws Exception {
+        // given: 조부모 ← 부모 ← 서브태스크 8개 (모두 0%)
+        Todo grandparent = todoRepository.save(todo(null, 1));
+        Todo parent = todoRepository.save(todo(grandparent.getTodoId(), SIBLINGS));
+        List<Long> siblingIds = new ArrayList<>();
+        for (int i = 0; i < SIBLINGS; i++) {
+            siblingIds.add(todoRepository.save(todo(parent.getTodoId(), 0)).getTodoId());
+        }
+
+        // when: 부모와 서브태스크를 함께 바꾸는 일괄 변경(요청 순서를 뒤집어서)과 서브태스크 단건 변경을 동시에 실행
+        List<BulkUpdateTodosRequest.Item> bulkItems = new ArrayList<>();
+        bulkItems.add(BulkUpdateTodosRequest.Item.builder().todoId(parent.getTodoId()).status(TodoStatus.DONE).build());
+        for (Long siblingId : siblingIds.subList(0, SIBLINGS / 2).reversed()) {
+            bulkItems.add(BulkUpdateTodosRequest.Item.builder().todoId(siblingId).status(TodoStatus.DONE).build());
+        }
+        List<Callable<?>> tasks = new ArrayList<>();
+        tasks.add(() -> todoService.bulkUpdateTodos(bulkItems, USER));
+        for (Long siblingId : siblingIds.subList(SIBLINGS / 2, SIBLINGS)) {
+            tasks.add(() -> todoService.updateTodoStatus(siblingId, TodoStatus.DONE, USER));
+        }
+        runConcurrently(tasks);
+
+        // then
+        assertThat(todoRepository.findById(parent.getTodoId()).orElseThrow())
+                .extracting(Todo::getSubtaskCount, Todo::getSubtaskProgressSum, Todo::getProgressPercentage, Todo::getStatus)
+                .containsExactly(SIBLINGS, SIBLINGS * 100, 100, TodoStatus.DONE);
+        assertThat(todoRepository.findById(grandparent.getTodoId()).orElseThrow())
+                .extracting(Todo::getSubtaskCount, Todo::getSubtaskProgressSum, Todo::getProgressPercentage, Todo::getStatus)
+                .containsExactly(1, 100, 100, TodoStatus.DONE);
+    }
+
+    private static void runConcurrently(List<Callable<?>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Callable<?> task : tasks) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+    }
+
+    private static Todo todo(Long parentTodoId, int subtaskCount) {
+        return Todo.builder()
+                .cognitoSub(USER)
+                .categoryId(1L)
+                .title("todo")
+                .startDate(LocalDate.of(2025, 3, 1))
+                .dueDate(LocalDate.of(2025, 3, 2))
+                .status(TodoStatus.TODO)
+                .priority(TodoPriority.MEDIUM)
+                .progressPercentage(0)
+                .parentTodoId(parentTodoId)
+                .subtaskCount(subtaskCount)
+                .isAiGenerated(false)
+                .build();
+    }
+}
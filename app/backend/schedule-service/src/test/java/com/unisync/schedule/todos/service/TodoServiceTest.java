@@ -7,32 +7,46 @@ import com.unisync.schedule.common.entity.Todo.TodoPriority;
 import com.unisync.schedule.common.entity.Todo.TodoStatus;
 import com.unisync.schedule.common.repository.CategoryRepository;
 import com.unisync.schedule.common.repository.TodoRepository;
+import com.unisync.schedule.common.repository.TodoRollupProjection;
 import com.unisync.schedule.internal.client.UserServiceClient;
 import com.unisync.schedule.internal.service.GroupPermissionService;
+import com.unisync.schedule.todos.dto.BulkUpdateTodosRequest;
+import com.unisync.schedule.todos.dto.TodoCursor;
+import com.unisync.schedule.todos.dto.TodoPageResponse;
 import com.unisync.schedule.todos.dto.TodoRequest;
 import com.unisync.schedule.todos.dto.TodoResponse;
 import com.unisync.schedule.todos.dto.TodoWithSubtasksResponse;
 import com.unisync.schedule.todos.exception.InvalidTodoException;
+import com.unisync.schedule.todos.exception.TodoNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -92,22 +106,58 @@ class TodoServiceTest {
         Todo group = sampleTodo(2L, "user-123", 10L, LocalDate.of(2025, 1, 3), LocalDate.of(2025, 1, 4), TodoStatus.DONE, TodoPriority.HIGH);
 
         given(userServiceClient.getUserGroupIds("user-123")).willReturn(groupIds);
-        given(todoRepository.findByCognitoSubOrGroupIdIn("user-123", groupIds)).willReturn(List.of(personal, group));
+        given(todoRepository.findBy(anySpecification(), any())).willReturn(List.of(personal, group));
 
-        List<TodoResponse> responses = todoService.getTodos("user-123", null, true, null, null, null, null);
+        TodoPageResponse page = todoService.getTodos("user-123", null, true, null, null, null, null, null, null);
 
-        assertThat(responses).hasSize(2);
-        assertThat(responses).extracting(TodoResponse::getTodoId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(page.getTodos()).extracting(TodoResponse::getTodoId).containsExactly(1L, 2L);
+        assertThat(page.getNextCursor()).isNull();
+        verify(todoRepository, never()).findByCognitoSub(any());
         verify(todoRepository, never()).findByGroupId(anyLong());
     }
 
+    @Test
+    void test_getTodos_readsOneExtraRowAndReturnsCursorOfLastTodo() {
+        Todo first = sampleTodo(1L, "user-123", null, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 2), TodoStatus.TODO, TodoPriority.MEDIUM);
+        Todo second = sampleTodo(2L, "user-123", null, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 3), TodoStatus.TODO, TodoPriority.MEDIUM);
+        Todo extra = sampleTodo(3L, "user-123", null, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 3), TodoStatus.TODO, TodoPriority.MEDIUM);
+        given(todoRepository.findBy(anySpecification(), any())).willReturn(List.of(first, second, extra));
+
+        TodoPageResponse page = todoService.getTodos("user-123", null, false, null, null, null, null, null, 2);
+
+        assertThat(page.getTodos()).extracting(TodoResponse::getTodoId).containsExactly(1L, 2L);
+        assertThat(TodoCursor.decode(page.getNextCursor())).isEqualTo(new TodoCursor(LocalDate.of(2025, 1, 3), 2L));
+    }
+
+    @Test
+    void test_getTodos_withoutCursorAndSize_returnsAllTodosWithoutCursor() {
+        List<Todo> todos = new ArrayList<>();
+        for (long id = 1; id <= TodoService.DEFAULT_PAGE_SIZE + 1; id++) {
+            todos.add(sampleTodo(id, "user-123", null, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 2), TodoStatus.TODO, TodoPriority.MEDIUM));
+        }
+        given(todoRepository.findBy(anySpecification(), any())).willReturn(todos);
+
+        TodoPageResponse page = todoService.getTodos("user-123", null, false, null, null, null, null, null, null);
+
+        assertThat(page.getTodos()).hasSize(TodoService.DEFAULT_PAGE_SIZE + 1);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
     @Test
     void test_getTodos_withInvalidStatus_throwsInvalidTodoException() {
-        Todo personal = sampleTodo(1L, "user-123", null, LocalDate.now(), LocalDate.now(), TodoStatus.TODO, TodoPriority.MEDIUM);
-        given(todoRepository.findByCognitoSub("user-123")).willReturn(List.of(personal));
+        assertThrows(InvalidTodoException.class,
+                () -> todoService.getTodos("user-123", null, false, null, null, "INVALID_STATUS", null, null, null));
+        verify(todoRepository, never()).findBy(anySpecification(), any());
+    }
 
+    @Test
+    void test_getTodos_withInvalidCursorOrSize_throwsInvalidTodoException() {
+        assertThrows(InvalidTodoException.class,
+                () -> todoService.getTodos("user-123", null, false, null, null, null, null, "not-a-cursor", null));
+        assertThrows(InvalidTodoException.class,
+                () -> todoService.getTodos("user-123", null, false, null, null, null, null, null, 0));
         assertThrows(InvalidTodoException.class,
-                () -> todoService.getTodos("user-123", null, false, null, null, "INVALID_STATUS", null));
+                () -> todoService.getTodos("user-123", null, false, null, null, null, null, null, TodoService.MAX_PAGE_SIZE + 1));
     }
 
     @Test
@@ -117,9 +167,7 @@ class TodoServiceTest {
         Todo child = sampleTodo(2L, "user-123", null, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 1), TodoStatus.IN_PROGRESS, TodoPriority.LOW);
         child.setParentTodoId(1L);
 
-        given(todoRepository.findByScheduleIdAndParentTodoIdIsNull(100L)).willReturn(List.of(root));
-        given(todoRepository.findByParentTodoId(1L)).willReturn(List.of(child));
-        given(todoRepository.findByParentTodoId(2L)).willReturn(List.of());
+        given(todoRepository.findTreeByScheduleId(100L)).willReturn(List.of(root, child));
 
         List<TodoWithSubtasksResponse> responses = todoService.getTodosByScheduleIdWithSubtasks(100L);
 
@@ -129,6 +177,34 @@ class TodoServiceTest {
         assertThat(rootResponse.getDeadline()).isEqualTo(root.getDeadline());
         assertThat(rootResponse.getSubtasks()).hasSize(1);
         assertThat(rootResponse.getSubtasks().get(0).getTodoId()).isEqualTo(2L);
+        assertThat(rootResponse.getSubtasks().get(0).getSubtasks()).isEmpty();
+    }
+
+    @Test
+    void test_getTodosByScheduleIdWithSubtasks_assemblesDeepForestFromSingleQuery() {
+        // 루트 2개, 1 → 3 → 5 → 6 (깊이 3), 1 → 4, 2 → 7
+        Todo root1 = sampleTodo(1L, "user-123", null, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 2), TodoStatus.TODO, TodoPriority.MEDIUM);
+        Todo root2 = sampleTodo(2L, "user-123", null, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 2), TodoStatus.TODO, TodoPriority.MEDIUM);
+        Todo sub3 = subtask(3L, 1L);
+        Todo sub4 = subtask(4L, 1L);
+        Todo sub5 = subtask(5L, 3L);
+        Todo sub6 = subtask(6L, 5L);
+        Todo sub7 = subtask(7L, 2L);
+        given(todoRepository.findTreeByScheduleId(100L))
+                .willReturn(List.of(root1, root2, sub3, sub4, sub5, sub6, sub7));
+
+        List<TodoWithSubtasksResponse> responses = todoService.getTodosByScheduleIdWithSubtasks(100L);
+
+        assertThat(responses).extracting(TodoWithSubtasksResponse::getTodoId).containsExactly(1L, 2L);
+        TodoWithSubtasksResponse first = responses.get(0);
+        assertThat(first.getSubtasks()).extracting(TodoWithSubtasksResponse::getTodoId).containsExactly(3L, 4L);
+        TodoWithSubtasksResponse depth2 = first.getSubtasks().get(0).getSubtasks().get(0);
+        assertThat(depth2.getTodoId()).isEqualTo(5L);
+        assertThat(depth2.getSubtasks()).extracting(TodoWithSubtasksResponse::getTodoId).containsExactly(6L);
+        assertThat(responses.get(1).getSubtasks()).extracting(TodoWithSubtasksResponse::getTodoId).containsExactly(7L);
+
+        // 노드마다 서브태스크를 다시 조회하지 않음
+        verify(todoRepository, never()).findByParentTodoId(anyLong());
     }
 
     @Test
@@ -146,6 +222,243 @@ class TodoServiceTest {
         assertThrows(CategoryNotFoundException.class, () -> todoService.createTodo(request, "user-123"));
     }
 
+    @Test
+    void test_updateTodoProgress_rollsUpThroughAncestorsWithoutReloadingSiblings() {
+        // 1 ← 2 ← 3: 2는 서브태스크 2개(합 50 → 150), 1은 서브태스크 3개(합 75 → 125)
+        Todo child = subtask(3L, 2L);
+        given(todoRepository.findById(3L)).willReturn(Optional.of(child));
+        given(todoRepository.save(child)).willReturn(child);
+        given(todoRepository.findAncestorIds(3L)).willReturn(List.of(3L, 2L, 1L));
+        given(todoRepository.lockRollups(List.of(3L, 2L, 1L))).willReturn(List.of(
+                rollup(1L, 3, 75, 25, TodoStatus.IN_PROGRESS),
+                rollup(2L, 2, 50, 25, TodoStatus.IN_PROGRESS),
+                rollup(3L, 0, 0, 0, TodoStatus.TODO)));
+
+        todoService.updateTodoProgress(3L, 100, "user-123");
+
+        // 부모: 150 / 2 = 75 (25 → 75), 조부모: 125 / 3 = 41 (조상마다 다시 조회하지 않고 UPDATE 한 번씩)
+        // 자신과 조상은 변경 전에 한 번에 잠금
+        InOrder inOrder = inOrder(todoRepository);
+        inOrder.verify(todoRepository).lockRollups(List.of(3L, 2L, 1L));
+        inOrder.verify(todoRepository).save(child);
+        inOrder.verify(todoRepository).updateRollup(2L, 2, 150, 75, TodoStatus.IN_PROGRESS);
+        inOrder.verify(todoRepository).updateRollup(1L, 3, 125, 41, TodoStatus.IN_PROGRESS);
+        verify(todoRepository, times(1)).lockRollups(any());
+        verify(todoRepository, never()).findByParentTodoId(anyLong());
+    }
+
+    @Test
+    void test_updateTodoProgress_stopsWhenParentAverageUnchanged() {
+        // 부모: 서브태스크 3개 합 30 → 31 (평균 10 그대로)
+        Todo child = subtask(3L, 2L);
+        child.setProgressPercentage(10);
+        given(todoRepository.findById(3L)).willReturn(Optional.of(child));
+        given(todoRepository.save(child)).willReturn(child);
+        given(todoRepository.findAncestorIds(3L)).willReturn(List.of(3L, 2L, 1L));
+        given(todoRepository.lockRollups(List.of(3L, 2L, 1L))).willReturn(List.of(
+                rollup(1L, 1, 10, 10, TodoStatus.IN_PROGRESS),
+                rollup(2L, 3, 30, 10, TodoStatus.IN_PROGRESS),
+                rollup(3L, 0, 0, 10, TodoStatus.IN_PROGRESS)));
+
+        todoService.updateTodoProgress(3L, 11, "user-123");
+
+        verify(todoRepository).updateRollup(2L, 3, 31, 10, TodoStatus.IN_PROGRESS);
+        verify(todoRepository, never()).updateRollup(eq(1L), anyInt(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void test_updateTodoProgress_usesLockedProgressInsteadOfLoadedEntity() {
+        // 엔티티는 0%로 로드됐지만 잠그는 사이 다른 요청이 60%로 바꿔 커밋함
+        Todo child = subtask(3L, 2L);
+        given(todoRepository.findById(3L)).willReturn(Optional.of(child));
+        given(todoRepository.save(child)).willReturn(child);
+        given(todoRepository.findAncestorIds(3L)).willReturn(List.of(3L, 2L));
+        given(todoRepository.lockRollups(List.of(3L, 2L))).willReturn(List.of(
+                rollup(2L, 2, 60, 30, TodoStatus.IN_PROGRESS),
+                rollup(3L, 0, 0, 60, TodoStatus.IN_PROGRESS)));
+
+        todoService.updateTodoProgress(3L, 100, "user-123");
+
+        // 부모 합: 60 + (100 - 60) = 100, 평균 50
+        verify(todoRepository).updateRollup(2L, 2, 100, 50, TodoStatus.IN_PROGRESS);
+    }
+
+    @Test
+    void test_updateTodoProgress_rootTodo_skipsLocking() {
+        Todo root = subtask(1L, null);
+        given(todoRepository.findById(1L)).willReturn(Optional.of(root));
+        given(todoRepository.save(root)).willReturn(root);
+
+        todoService.updateTodoProgress(1L, 50, "user-123");
+
+        verify(todoRepository, never()).findAncestorIds(anyLong());
+        verify(todoRepository, never()).lockRollups(any());
+    }
+
+    @Test
+    void test_updateTodoStatus_inProgressKeepsProgress_skipsRollUp() {
+        Todo child = subtask(3L, 2L);
+        child.setProgressPercentage(40);
+        given(todoRepository.findById(3L)).willReturn(Optional.of(child));
+        given(todoRepository.save(child)).willReturn(child);
+        given(todoRepository.findAncestorIds(3L)).willReturn(List.of(3L, 2L));
+        given(todoRepository.lockRollups(List.of(3L, 2L))).willReturn(List.of(
+                rollup(2L, 1, 40, 40, TodoStatus.IN_PROGRESS),
+                rollup(3L, 0, 0, 40, TodoStatus.TODO)));
+
+        todoService.updateTodoStatus(3L, TodoStatus.IN_PROGRESS, "user-123");
+
+        verify(todoRepository, never()).updateRollup(anyLong(), anyInt(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void test_createTodo_withParent_incrementsSubtaskCount() {
+        // 부모: 서브태스크 1개(100%) → 2개, 평균 50
+        Todo parent = subtask(2L, null);
+        given(todoRepository.findById(2L)).willReturn(Optional.of(parent));
+        given(todoRepository.save(any(Todo.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(todoRepository.findAncestorIds(2L)).willReturn(List.of(2L));
+        given(todoRepository.lockRollups(List.of(2L))).willReturn(List.of(rollup(2L, 1, 100, 100, TodoStatus.DONE)));
+
+        TodoRequest request = TodoRequest.builder()
+                .title("Subtask")
+                .startDate(LocalDate.of(2025, 2, 1))
+                .dueDate(LocalDate.of(2025, 2, 1))
+                .categoryId(1L)
+                .priority(TodoPriority.LOW)
+                .parentTodoId(2L)
+                .build();
+
+        TodoResponse response = todoService.createTodo(request, "user-123");
+
+        assertThat(response.getParentTodoId()).isEqualTo(2L);
+        verify(todoRepository).updateRollup(2L, 2, 100, 50, TodoStatus.IN_PROGRESS);
+    }
+
+    @Test
+    void test_deleteTodo_subtractsCountAndProgress() {
+        // 부모: 서브태스크 2개(합 100) 중 100%짜리 삭제 → 1개, 0%
+        Todo child = subtask(3L, 2L);
+        child.setProgressPercentage(100);
+        given(todoRepository.findById(3L)).willReturn(Optional.of(child));
+        given(todoRepository.findByParentTodoId(3L)).willReturn(List.of());
+        given(todoRepository.findAncestorIds(3L)).willReturn(List.of(3L, 2L));
+        given(todoRepository.lockRollups(List.of(3L, 2L))).willReturn(List.of(
+                rollup(2L, 2, 100, 50, TodoStatus.IN_PROGRESS),
+                rollup(3L, 0, 0, 100, TodoStatus.DONE)));
+
+        todoService.deleteTodo(3L, "user-123");
+
+        verify(todoRepository).delete(child);
+        verify(todoRepository).updateRollup(2L, 1, 0, 0, TodoStatus.TODO);
+    }
+
+    @Test
+    void test_deleteTodo_lastSubtask_keepsParentProgress() {
+        Todo child = subtask(3L, 2L);
+        child.setProgressPercentage(100);
+        given(todoRepository.findById(3L)).willReturn(Optional.of(child));
+        given(todoRepository.findByParentTodoId(3L)).willReturn(List.of());
+        given(todoRepository.findAncestorIds(3L)).willReturn(List.of(3L, 2L, 1L));
+        given(todoRepository.lockRollups(List.of(3L, 2L, 1L))).willReturn(List.of(
+                rollup(1L, 1, 100, 100, TodoStatus.DONE),
+                rollup(2L, 1, 100, 100, TodoStatus.DONE),
+                rollup(3L, 0, 0, 100, TodoStatus.DONE)));
+
+        todoService.deleteTodo(3L, "user-123");
+
+        // 서브태스크가 없으면 진행률을 유지하고 조부모까지 올리지 않음
+        verify(todoRepository).updateRollup(2L, 0, 0, 100, TodoStatus.DONE);
+        verify(todoRepository, never()).updateRollup(eq(1L), anyInt(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void test_bulkUpdateTodos_checksEachGroupOnceAndRollsUpEachParentOnce() {
+        // 그룹 10의 할일 3개(1, 2는 부모 5의 서브태스크) + 개인 할일 4
+        Todo first = subtask(1L, 5L);
+        Todo second = subtask(2L, 5L);
+        Todo third = subtask(3L, null);
+        Todo personal = subtask(4L, null);
+        for (Todo todo : List.of(first, second, third)) {
+            todo.setGroupId(10L);
+        }
+        given(todoRepository.findAllById(any())).willReturn(List.of(first, second, third, personal));
+        given(todoRepository.findAncestorIds(5L)).willReturn(List.of(5L));
+        given(todoRepository.lockRollups(any())).willReturn(List.of(
+                rollup(1L, 0, 0, 0, TodoStatus.TODO),
+                rollup(2L, 0, 0, 0, TodoStatus.TODO),
+                rollup(3L, 0, 0, 0, TodoStatus.TODO),
+                rollup(4L, 0, 0, 0, TodoStatus.TODO),
+                rollup(5L, 2, 0, 0, TodoStatus.TODO)));
+
+        List<TodoResponse> responses = todoService.bulkUpdateTodos(List.of(
+                BulkUpdateTodosRequest.Item.builder().todoId(2L).status(TodoStatus.DONE).build(),
+                BulkUpdateTodosRequest.Item.builder().todoId(1L).progressPercentage(50).build(),
+                BulkUpdateTodosRequest.Item.builder().todoId(3L).status(TodoStatus.DONE).build(),
+                BulkUpdateTodosRequest.Item.builder().todoId(4L).progressPercentage(30).build()
+        ), "user-123");
+
+        // 요청 순서대로 응답
+        assertThat(responses).extracting(TodoResponse::getTodoId).containsExactly(2L, 1L, 3L, 4L);
+        assertThat(first.getStatus()).isEqualTo(TodoStatus.IN_PROGRESS);
+        assertThat(personal.getProgressPercentage()).isEqualTo(30);
+
+        // 부모: 두 서브태스크 변화량(100 + 50)을 한 번에 더하고 150 / 2 = 75
+        verify(todoRepository, times(1)).updateRollup(5L, 2, 150, 75, TodoStatus.IN_PROGRESS);
+
+        verify(groupPermissionService, times(1)).validateWritePermission(10L, "user-123");
+        verify(todoRepository, times(1)).findAncestorIds(5L);
+        // 할일과 조상을 한 번에 잠금
+        verify(todoRepository, times(1)).lockRollups(Set.of(1L, 2L, 3L, 4L, 5L));
+        verify(todoRepository).saveAll(List.of(second, first, third, personal));
+        verify(todoRepository, never()).save(any(Todo.class));
+    }
+
+    @Test
+    void test_bulkUpdateTodos_itemIsAncestorOfAnotherItem_returnsReaggregatedProgress() {
+        // 부모 5(서브태스크 2개, 합 0)와 그 서브태스크 6을 함께 변경
+        Todo parent = subtask(5L, null);
+        Todo child = subtask(6L, 5L);
+        given(todoRepository.findAllById(any())).willReturn(List.of(parent, child));
+        given(todoRepository.findAncestorIds(5L)).willReturn(List.of(5L));
+        given(todoRepository.lockRollups(any())).willReturn(List.of(
+                rollup(5L, 2, 0, 0, TodoStatus.TODO),
+                rollup(6L, 0, 0, 0, TodoStatus.TODO)));
+
+        List<TodoResponse> responses = todoService.bulkUpdateTodos(List.of(
+                BulkUpdateTodosRequest.Item.builder().todoId(5L).progressPercentage(80).build(),
+                BulkUpdateTodosRequest.Item.builder().todoId(6L).progressPercentage(40).build()
+        ), "user-123");
+
+        // 부모는 서브태스크 평균으로 다시 집계: 40 / 2 = 20
+        verify(todoRepository).updateRollup(5L, 2, 40, 20, TodoStatus.IN_PROGRESS);
+        assertThat(responses).extracting(TodoResponse::getTodoId, TodoResponse::getProgressPercentage)
+                .containsExactly(tuple(5L, 20), tuple(6L, 40));
+    }
+
+    @Test
+    void test_bulkUpdateTodos_withMissingTodo_throwsTodoNotFound() {
+        given(todoRepository.findAllById(any())).willReturn(List.of(subtask(1L, null)));
+
+        assertThrows(TodoNotFoundException.class, () -> todoService.bulkUpdateTodos(List.of(
+                BulkUpdateTodosRequest.Item.builder().todoId(1L).status(TodoStatus.DONE).build(),
+                BulkUpdateTodosRequest.Item.builder().todoId(2L).status(TodoStatus.DONE).build()
+        ), "user-123"));
+        verify(todoRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void test_bulkUpdateTodos_withAmbiguousOrDuplicateItem_throwsInvalidTodoException() {
+        assertThrows(InvalidTodoException.class, () -> todoService.bulkUpdateTodos(List.of(
+                BulkUpdateTodosRequest.Item.builder().todoId(1L).status(TodoStatus.DONE).progressPercentage(10).build()
+        ), "user-123"));
+        assertThrows(InvalidTodoException.class, () -> todoService.bulkUpdateTodos(List.of(
+                BulkUpdateTodosRequest.Item.builder().todoId(1L).status(TodoStatus.DONE).build(),
+                BulkUpdateTodosRequest.Item.builder().todoId(1L).progressPercentage(10).build()
+        ), "user-123"));
+        verify(todoRepository, never()).findAllById(any());
+    }
+
     private Todo sampleTodo(Long id, String cognitoSub, Long groupId, LocalDate start, LocalDate due, TodoStatus status, TodoPriority priority) {
         return Todo.builder()
                 .todoId(id)
@@ -162,4 +475,20 @@ class TodoServiceTest {
                 .isAiGenerated(false)
                 .build();
     }
+
+    private Todo subtask(Long todoId, Long parentTodoId) {
+        Todo todo = sampleTodo(todoId, "user-123", null, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 1), TodoStatus.TODO, TodoPriority.LOW);
+        todo.setParentTodoId(parentTodoId);
+        return todo;
+    }
+
+    private static TodoRollupProjection rollup(Long todoId, int subtaskCount, int subtaskProgressSum, int progress,
+                                               TodoStatus status) {
+        return new TodoRollupProjection(todoId, subtaskCount, subtaskProgressSum, progress, status);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Specification<Todo> anySpecification() {
+        return any(Specification.class);
+    }
 }
@@ -27,4 +27,14 @@ dependencies {
 
     // Validation
     api("jakarta.validation:jakarta.validation-api:3.0.2")
+
+    // Test
+    testImplementation(platform("org.junit:junit-bom:5.12.2"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testImplementation("org.assertj:assertj-core:3.27.6")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+tasks.test {
+    useJUnitPlatform()
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.unisync.shared.util;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+
+/**
+ * Canvas 과제 내용 fingerprint 계산 유틸리티.
+ *
+ * <p>title, description, dueAt, pointsPossible, submissionTypes를 정규화하여 SHA-256 hex(64자)로 변환합니다.
+ * course-service(Assignment)와 schedule-service(Schedule)가 같은 규칙으로 계산하므로,
+ * 저장된 값과 비교하여 내용이 바뀌지 않은 레코드의 UPDATE/이벤트 발행을 건너뛸 수 있습니다.</p>
+ *
+ * <p>정규화 규칙:</p>
+ * <ul>
+ *   <li>dueAt: 초 단위로 자른 ISO_LOCAL_DATE_TIME</li>
+ *   <li>pointsPossible: 숫자 값 기준 (100, 100.0 → "100")</li>
+ *   <li>null과 빈 문자열은 구분</li>
+ * </ul>
+ */
+public final class CanvasContentHash {
+
+    /** 해시 문자열 길이 (SHA-256 hex) */
+    public static final int LENGTH = 64;
+
+    private static final char FIELD_SEPARATOR = '\u001F';
+    private static final char NULL_MARKER = '\u0000';
+
+    private CanvasContentHash() {
+    }
+
+    /**
+     * 과제 내용 fingerprint 계산
+     *
+     * @return SHA-256 hex 문자열 (64자)
+     */
+    public static String of(String title,
+                            String description,
+                            LocalDateTime dueAt,
+                            Number pointsPossible,
+                            String submissionTypes) {
+        StringBuilder canonical = new StringBuilder(64 + (description != null ? description.length() : 0));
+        append(canonical, title);
+        append(canonical, description);
+        append(canonical, dueAt != null
+                ? dueAt.truncatedTo(ChronoUnit.SECONDS).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+                : null);
+        append(canonical, pointsPossible != null
+                ? new BigDecimal(pointsPossible.toString()).stripTrailingZeros().toPlainString()
+                : null);
+        append(canonical, submissionTypes);
+
+        return HexFormat.of().formatHex(sha256().digest(canonical.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void append(StringBuilder canonical, String value) {
+        if (value == null) {
+            canonical.append(NULL_MARKER);
+        } else {
+            canonical.append(value);
+        }
+        canonical.append(FIELD_SEPARATOR);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 구현체는 SHA-256을 제공해야 한다
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
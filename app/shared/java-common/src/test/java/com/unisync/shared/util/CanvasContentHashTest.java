@@ -0,0 +1,73 @@
+package com.unisync.shared.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CanvasContentHash 테스트")
+class CanvasContentHashTest {
+
+    private static final LocalDateTime DUE_AT = LocalDateTime.of(2025, 3, 1, 23, 59, 0);
+
+    @Test
+    @DisplayName("SHA-256 hex 64자로 계산하고 같은 입력은 같은 값")
+    void of_sameInput_sameHash() {
+        String hash = CanvasContentHash.of("과제 1", "설명", DUE_AT, 100, "online_upload");
+
+        assertThat(hash).hasSize(CanvasContentHash.LENGTH).matches("[0-9a-f]{64}");
+        assertThat(CanvasContentHash.of("과제 1", "설명", DUE_AT, 100, "online_upload")).isEqualTo(hash);
+    }
+
+    @Test
+    @DisplayName("필드마다 값이 바뀌면 다른 값")
+    void of_anyFieldChanged_differentHash() {
+        String hash = CanvasContentHash.of("과제 1", "설명", DUE_AT, 100, "online_upload");
+
+        assertThat(CanvasContentHash.of("과제 2", "설명", DUE_AT, 100, "online_upload")).isNotEqualTo(hash);
+        assertThat(CanvasContentHash.of("과제 1", "설명 수정", DUE_AT, 100, "online_upload")).isNotEqualTo(hash);
+        assertThat(CanvasContentHash.of("과제 1", "설명", DUE_AT.plusMinutes(1), 100, "online_upload")).isNotEqualTo(hash);
+        assertThat(CanvasContentHash.of("과제 1", "설명", DUE_AT, 50, "online_upload")).isNotEqualTo(hash);
+        assertThat(CanvasContentHash.of("과제 1", "설명", DUE_AT, 100, "online_text_entry")).isNotEqualTo(hash);
+    }
+
+    @Test
+    @DisplayName("필드 경계를 구분 (값을 옆 필드로 옮기거나 순서를 바꾸면 다른 값)")
+    void of_fieldBoundaries_distinguished() {
+        assertThat(CanvasContentHash.of("ab", "c", DUE_AT, 100, null))
+                .isNotEqualTo(CanvasContentHash.of("a", "bc", DUE_AT, 100, null));
+        assertThat(CanvasContentHash.of("A", "B", DUE_AT, 100, null))
+                .isNotEqualTo(CanvasContentHash.of("B", "A", DUE_AT, 100, null));
+    }
+
+    @Test
+    @DisplayName("null과 빈 문자열을 구분")
+    void of_nullAndEmpty_distinguished() {
+        assertThat(CanvasContentHash.of("과제", null, DUE_AT, 100, null))
+                .isNotEqualTo(CanvasContentHash.of("과제", "", DUE_AT, 100, null));
+        assertThat(CanvasContentHash.of("과제", "설명", DUE_AT, 100, null))
+                .isNotEqualTo(CanvasContentHash.of("과제", "설명", DUE_AT, 100, ""));
+    }
+
+    @Test
+    @DisplayName("모든 필드가 null이어도 계산")
+    void of_allNull_computesHash() {
+        assertThat(CanvasContentHash.of(null, null, null, null, null)).hasSize(CanvasContentHash.LENGTH);
+        assertThat(CanvasContentHash.of(null, null, null, null, null))
+                .isNotEqualTo(CanvasContentHash.of("", null, null, null, null));
+    }
+
+    @Test
+    @DisplayName("서비스 간 입력 형식이 달라도 같은 값 (course: Integer 배점/파싱한 마감일, schedule: Double 배점/초 단위 문자열)")
+    void of_courseAndScheduleInputs_sameHash() {
+        // course-service: Canvas 응답을 파싱한 마감일(나노초 포함 가능)과 Integer 배점
+        String courseHash = CanvasContentHash.of("과제", "설명", DUE_AT.withNano(123_000_000), 100, "online_upload,online_url");
+        // schedule-service: 이벤트의 초 단위 ISO 문자열과 Double 배점
+        String scheduleHash = CanvasContentHash.of("과제", "설명", LocalDateTime.parse("2025-03-01T23:59:00"), 100.0,
+                "online_upload,online_url");
+
+        assertThat(scheduleHash).isEqualTo(courseHash);
+    }
+}